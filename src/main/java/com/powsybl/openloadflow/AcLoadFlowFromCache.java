@@ -9,7 +9,6 @@ package com.powsybl.openloadflow;
 
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.*;
-import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.openloadflow.ac.AcLoadFlowContext;
 import com.powsybl.openloadflow.ac.AcLoadFlowParameters;
 import com.powsybl.openloadflow.ac.AcLoadFlowResult;
@@ -21,6 +20,7 @@ import com.powsybl.openloadflow.network.LfTopoConfig;
 import com.powsybl.openloadflow.network.impl.LfLegBranch;
 import com.powsybl.openloadflow.network.impl.LfNetworkList;
 import com.powsybl.openloadflow.network.impl.Networks;
+import com.powsybl.openloadflow.util.Lists2;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,18 +37,15 @@ public class AcLoadFlowFromCache {
 
     private final Network network;
 
-    private final LoadFlowParameters parameters;
-
     private final OpenLoadFlowParameters parametersExt;
 
     private final AcLoadFlowParameters acParameters;
 
     private final ReportNode reportNode;
 
-    public AcLoadFlowFromCache(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt,
-                               AcLoadFlowParameters acParameters, ReportNode reportNode) {
+    public AcLoadFlowFromCache(Network network, OpenLoadFlowParameters parametersExt, AcLoadFlowParameters acParameters,
+                               ReportNode reportNode) {
         this.network = Objects.requireNonNull(network);
-        this.parameters = Objects.requireNonNull(parameters);
         this.parametersExt = Objects.requireNonNull(parametersExt);
         this.acParameters = Objects.requireNonNull(acParameters);
         this.reportNode = Objects.requireNonNull(reportNode);
@@ -123,14 +120,15 @@ public class AcLoadFlowFromCache {
         return new AcLoadFlowResult(context.getNetwork(), 0, 0, AcSolverStatus.CONVERGED, OuterLoopResult.stable(), 0d, 0d);
     }
 
-    public List<AcLoadFlowResult> run() {
-        NetworkCache.Entry entry = NetworkCache.INSTANCE.get(network, parameters);
+    /**
+     * Run the load flows from a network cache entry, got from {@link NetworkCache#get} and released by the caller.
+     */
+    public List<AcLoadFlowResult> run(NetworkCache.Entry entry) {
+        Objects.requireNonNull(entry);
         List<AcLoadFlowContext> contexts = entry.getContexts();
         if (contexts == null) {
             contexts = initContexts(entry);
         }
-        return contexts.stream()
-                .map(AcLoadFlowFromCache::run)
-                .collect(Collectors.toList());
+        return Lists2.parallelMap(contexts, AcLoadFlowFromCache::run, acParameters.getComponentSolvingThreadCount());
     }
 }
@@ -0,0 +1,263 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.iidm.network.Injection;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.math.matrix.MatrixFactory;
+import com.powsybl.math.matrix.SparseMatrixFactory;
+import com.powsybl.openloadflow.dc.DcLoadFlowContext;
+import com.powsybl.openloadflow.dc.DcLoadFlowEngine;
+import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
+import com.powsybl.openloadflow.dc.DcTargetVector;
+import com.powsybl.openloadflow.dc.equations.DcEquationType;
+import com.powsybl.openloadflow.dc.equations.DcVariableType;
+import com.powsybl.openloadflow.equations.EquationSystem;
+import com.powsybl.openloadflow.equations.TargetVector;
+import com.powsybl.openloadflow.graph.EvenShiloachGraphDecrementalConnectivityFactory;
+import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.network.impl.LfLoadImpl;
+import com.powsybl.openloadflow.network.impl.LfNetworkList;
+import com.powsybl.openloadflow.network.impl.Networks;
+import com.powsybl.openloadflow.network.util.ActivePowerDistribution;
+import com.powsybl.openloadflow.util.PerUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * DC load flows of many injection scenarios on a fixed topology, typically the snapshots of a time series. The network
+ * is loaded and the DC matrix factorized only once. Scenarios are then processed by blocks: the target vector of each
+ * scenario of a block, after slack distribution, is a column of a right hand side solved at once against the
+ * factorized matrix, and branch flows are sent to a consumer, scenario by scenario.
+ * <p>
+ * Only the main connected component is computed and outer loops are not run, so phase control and area interchange
+ * control are not simulated. This class is not thread safe.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class DcBatchLoadFlow implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DcBatchLoadFlow.class);
+
+    public static final int DEFAULT_BLOCK_SIZE = 256;
+
+    /**
+     * Result of a scenario.
+     *
+     * @param index index of the scenario in the stream
+     * @param success false if the slack could not be distributed or the linear system not solved, flows being NaN
+     * @param activePower1 active power flows on side 1 in MW, in the order of {@link #getBranchIds()}
+     * @param distributedActivePower active power distributed by the slack distribution in MW
+     * @param slackBusActivePowerMismatch active power mismatch remaining on slack bus in MW
+     */
+    public record ScenarioResult(int index, boolean success, double[] activePower1, double distributedActivePower,
+                                 double slackBusActivePowerMismatch) {
+    }
+
+    private final Network network;
+
+    private final int blockSize;
+
+    private final DcLoadFlowContext context;
+
+    private final List<LfBranch> branches;
+
+    private final List<String> branchIds;
+
+    // per unit initial active power of each load, indexed by load id, to update aggregated loads
+    private final Map<String, Double> initialLoadTargetP = new HashMap<>();
+
+    // per unit initial participation to slack distribution of each load whose participation is its absolute active
+    // power, indexed by load id, to update the participation of aggregated loads
+    private final Map<String, Double> initialLoadAbsVariableTargetP = new HashMap<>();
+
+    // per unit initial participation to slack distribution of each aggregated load, to restore it after a scenario
+    private final Map<LfLoad, Double> initialAbsVariableTargetP = new HashMap<>();
+
+    public DcBatchLoadFlow(Network network, LoadFlowParameters parameters) {
+        this(network, parameters, new SparseMatrixFactory(), DEFAULT_BLOCK_SIZE, ReportNode.NO_OP);
+    }
+
+    public DcBatchLoadFlow(Network network, LoadFlowParameters parameters, MatrixFactory matrixFactory, int blockSize,
+                           ReportNode reportNode) {
+        this.network = Objects.requireNonNull(network);
+        Objects.requireNonNull(parameters);
+        Objects.requireNonNull(matrixFactory);
+        Objects.requireNonNull(reportNode);
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+        this.blockSize = blockSize;
+
+        DcLoadFlowParameters dcParameters = OpenLoadFlowParameters.createDcParameters(network, parameters, OpenLoadFlowParameters.get(parameters),
+                                                                                      matrixFactory, new EvenShiloachGraphDecrementalConnectivityFactory<>(),
+                                                                                      false);
+        LfNetwork lfNetwork;
+        try (LfNetworkList lfNetworks = Networks.load(network, dcParameters.getNetworkParameters(), new LfTopoConfig(), reportNode)) {
+            lfNetwork = lfNetworks.getLargest().orElseThrow(() -> new PowsyblException("Empty network"));
+        }
+        if (lfNetwork.getValidity() != LfNetwork.Validity.VALID) {
+            throw new PowsyblException("Main connected component of network '" + network.getId() + "' is not valid");
+        }
+        context = new DcLoadFlowContext(lfNetwork, dcParameters);
+
+        branches = lfNetwork.getBranches();
+        branchIds = branches.stream().map(LfBranch::getId).toList();
+        boolean distributedOnConformLoad = dcParameters.getNetworkParameters().isDistributedOnConformLoad();
+        for (LfBus bus : lfNetwork.getBuses()) {
+            for (LfLoad load : bus.getLoads()) {
+                initialAbsVariableTargetP.put(load, load.getAbsVariableTargetP());
+                for (String originalId : load.getOriginalIds()) {
+                    Load iidmLoad = network.getLoad(originalId);
+                    if (iidmLoad != null) {
+                        initialLoadTargetP.put(originalId, iidmLoad.getP0() / PerUnit.SB);
+                        // on conform loads, participation is the variable part of the load detail, not updated by scenarios
+                        if (!distributedOnConformLoad && !LfLoadImpl.isLoadNotParticipating(iidmLoad)) {
+                            initialLoadAbsVariableTargetP.put(originalId, LfLoadImpl.getAbsVariableTargetPPerUnit(iidmLoad, false));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    public List<String> getBranchIds() {
+        return branchIds;
+    }
+
+    /**
+     * Update generators and loads active power targets of a scenario, other ones keeping their initial targets. The
+     * participation of loads to slack distribution is updated accordingly, as in a load flow of the scenario network.
+     *
+     * @param activePowerTargets active power targets in MW indexed by generator or load id
+     */
+    private void applyScenario(Map<String, Double> activePowerTargets) {
+        LfNetwork lfNetwork = context.getNetwork();
+        for (Map.Entry<String, Double> e : activePowerTargets.entrySet()) {
+            String id = e.getKey();
+            double targetP = e.getValue() / PerUnit.SB;
+            LfGenerator generator = lfNetwork.getGeneratorById(id);
+            if (generator != null) {
+                generator.setTargetP(targetP);
+                continue;
+            }
+            LfLoad load = lfNetwork.getLoadById(id);
+            if (load != null && initialLoadTargetP.containsKey(id)) {
+                // a load may be aggregated with other loads of the same bus
+                load.setTargetP(load.getTargetP() + targetP - initialLoadTargetP.get(id));
+                Double loadAbsVariableTargetP = initialLoadAbsVariableTargetP.get(id);
+                if (loadAbsVariableTargetP != null) {
+                    load.setAbsVariableTargetP(load.getAbsVariableTargetP() + Math.abs(targetP) - loadAbsVariableTargetP);
+                }
+            } else if (!(network.getIdentifiable(id) instanceof Injection<?>)) {
+                throw new PowsyblException("Injection '" + id + "' not found");
+            }
+            // otherwise, injection is out of the main connected component
+        }
+    }
+
+    private void restoreInitialTargets() {
+        DcLoadFlowFromCache.restoreInitialActivePowerTargets(context.getNetwork());
+        initialAbsVariableTargetP.forEach(LfLoad::setAbsVariableTargetP);
+    }
+
+    private ScenarioResult createResult(int index, boolean success, double[] activePower1, double distributedActivePower,
+                                        double slackBusActivePowerMismatch) {
+        return new ScenarioResult(index, success, activePower1, distributedActivePower * PerUnit.SB, slackBusActivePowerMismatch * PerUnit.SB);
+    }
+
+    private void runBlock(List<Map<String, Double>> scenarios, int firstIndex, Consumer<ScenarioResult> resultConsumer) {
+        LfNetwork lfNetwork = context.getNetwork();
+        EquationSystem<DcVariableType, DcEquationType> equationSystem = context.getEquationSystem();
+        DcLoadFlowParameters parameters = context.getParameters();
+        int rowCount = equationSystem.getIndex().getSortedEquationsToSolve().size();
+
+        // target vectors of the block, after slack distribution, in column major order
+        double[] targets = new double[rowCount * scenarios.size()];
+        boolean[] distributionSuccess = new boolean[scenarios.size()];
+        double[] distributedActivePower = new double[scenarios.size()];
+        double[] slackBusActivePowerMismatch = new double[scenarios.size()];
+        ActivePowerDistribution activePowerDistribution = ActivePowerDistribution.create(parameters.getBalanceType(), false,
+                                                                                         parameters.getNetworkParameters().isUseActiveLimits());
+        for (int i = 0; i < scenarios.size(); i++) {
+            applyScenario(scenarios.get(i));
+            distributionSuccess[i] = true;
+            if (parameters.isDistributedSlack()) {
+                double mismatch = DcLoadFlowEngine.getActivePowerMismatch(lfNetwork.getBuses());
+                var result = activePowerDistribution.run(lfNetwork, mismatch);
+                var resultWbh = ActivePowerDistribution.handleDistributionFailureBehavior(parameters.getSlackDistributionFailureBehavior(),
+                                                                                          lfNetwork.getReferenceGenerator(), mismatch, result,
+                                                                                          "Failed to distribute slack bus active power mismatch, %.2f MW remains");
+                distributionSuccess[i] = !resultWbh.failed();
+                distributedActivePower[i] = mismatch - resultWbh.remainingMismatch();
+            }
+            slackBusActivePowerMismatch[i] = DcLoadFlowEngine.getActivePowerMismatch(lfNetwork.getBuses());
+            double[] target = TargetVector.createArray(lfNetwork, equationSystem, DcTargetVector::init);
+            System.arraycopy(target, 0, targets, i * rowCount, rowCount);
+            restoreInitialTargets();
+        }
+
+        DenseMatrix states = new DenseMatrix(rowCount, scenarios.size(), targets);
+        boolean solverSuccess = DcLoadFlowEngine.solve(states, context.getJacobianMatrix(), lfNetwork.getReportNode());
+
+        for (int i = 0; i < scenarios.size(); i++) {
+            double[] activePower1 = new double[branches.size()];
+            boolean success = solverSuccess && distributionSuccess[i];
+            if (success) {
+                double[] x = new double[rowCount];
+                for (int row = 0; row < rowCount; row++) {
+                    x[row] = states.get(row, i);
+                }
+                equationSystem.getStateVector().set(x);
+                for (int b = 0; b < branches.size(); b++) {
+                    activePower1[b] = branches.get(b).getP1().eval() * PerUnit.SB;
+                }
+            } else {
+                Arrays.fill(activePower1, Double.NaN);
+            }
+            resultConsumer.accept(createResult(firstIndex + i, success, activePower1, distributedActivePower[i], slackBusActivePowerMismatch[i]));
+        }
+    }
+
+    /**
+     * Run the DC load flow of each scenario of a stream.
+     *
+     * @param scenarios active power targets in MW indexed by generator or load id, one map per scenario
+     * @param resultConsumer consumer of the results, called in the order of the scenarios
+     */
+    public void run(Stream<Map<String, Double>> scenarios, Consumer<ScenarioResult> resultConsumer) {
+        Objects.requireNonNull(scenarios);
+        Objects.requireNonNull(resultConsumer);
+        Iterator<Map<String, Double>> it = scenarios.iterator();
+        int firstIndex = 0;
+        List<Map<String, Double>> block = new ArrayList<>(blockSize);
+        while (it.hasNext()) {
+            block.add(it.next());
+            if (block.size() == blockSize || !it.hasNext()) {
+                runBlock(block, firstIndex, resultConsumer);
+                firstIndex += block.size();
+                block.clear();
+            }
+        }
+        LOGGER.info("DC load flow run on {} scenarios of network {}", firstIndex, context.getNetwork());
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openloadflow.dc.DcLoadFlowContext;
+import com.powsybl.openloadflow.dc.DcLoadFlowEngine;
+import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
+import com.powsybl.openloadflow.dc.DcLoadFlowResult;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.LfTopoConfig;
+import com.powsybl.openloadflow.network.impl.LfNetworkList;
+import com.powsybl.openloadflow.network.impl.Networks;
+import com.powsybl.openloadflow.util.Lists2;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Run DC load flows on the network and the factorized matrix kept in the network cache, so that after injection
+ * changes, only the target vector is updated and the linear system solved again.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class DcLoadFlowFromCache {
+
+    private final Network network;
+
+    private final DcLoadFlowParameters dcParameters;
+
+    private final ReportNode reportNode;
+
+    public DcLoadFlowFromCache(Network network, DcLoadFlowParameters dcParameters, ReportNode reportNode) {
+        this.network = Objects.requireNonNull(network);
+        this.dcParameters = Objects.requireNonNull(dcParameters);
+        this.reportNode = Objects.requireNonNull(reportNode);
+    }
+
+    private List<DcLoadFlowContext> initContexts(NetworkCache.Entry entry) {
+        List<DcLoadFlowContext> contexts;
+
+        // Because of caching, we only need to switch back to working variant but not to remove the variant, thus
+        // WorkingVariantReverter is used instead of DefaultVariantCleaner
+        try (LfNetworkList lfNetworkList = Networks.load(network, dcParameters.getNetworkParameters(), new LfTopoConfig(),
+                LfNetworkList.WorkingVariantReverter::new, reportNode)) {
+            contexts = lfNetworkList.getList()
+                    .stream()
+                    .map(n -> new DcLoadFlowContext(n, dcParameters))
+                    .toList();
+            entry.setDcContexts(contexts);
+            LfNetworkList.VariantCleaner variantCleaner = lfNetworkList.getVariantCleaner();
+            if (variantCleaner != null) {
+                entry.setTmpVariantId(variantCleaner.getTmpVariantId());
+            }
+        }
+        return contexts;
+    }
+
+    /**
+     * Slack distribution of a previous run has modified generators and loads active power targets, so they have
+     * to be restored for the mismatch to be distributed again from the initial targets.
+     */
+    static void restoreInitialActivePowerTargets(LfNetwork network) {
+        // reactive power targets are not used in DC
+        network.restoreInitialActivePowerTargets(false);
+    }
+
+    private static DcLoadFlowResult run(DcLoadFlowContext context) {
+        if (context.getNetwork().getValidity() != LfNetwork.Validity.VALID) {
+            return DcLoadFlowResult.createNoCalculationResult(context.getNetwork());
+        }
+        restoreInitialActivePowerTargets(context.getNetwork());
+        return new DcLoadFlowEngine(context)
+                .run();
+    }
+
+    /**
+     * Run the load flows from a network cache entry, got from {@link NetworkCache#get} and released by the caller.
+     */
+    public List<DcLoadFlowResult> run(NetworkCache.Entry entry) {
+        Objects.requireNonNull(entry);
+        List<DcLoadFlowContext> contexts = entry.getDcContexts();
+        if (contexts == null) {
+            contexts = initContexts(entry);
+        }
+        return Lists2.parallelMap(contexts, DcLoadFlowFromCache::run, dcParameters.getComponentSolvingThreadCount());
+    }
+}
@@ -13,13 +13,18 @@ import com.powsybl.iidm.network.extensions.ControlUnit;
 import com.powsybl.iidm.network.extensions.ControlZone;
 import com.powsybl.iidm.network.extensions.PilotPoint;
 import com.powsybl.iidm.network.extensions.SecondaryVoltageControl;
+import com.powsybl.iidm.network.util.HvdcUtils;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.openloadflow.ac.AcLoadFlowContext;
 import com.powsybl.openloadflow.ac.AcLoadFlowResult;
 import com.powsybl.openloadflow.ac.solver.AcSolverStatus;
+import com.powsybl.openloadflow.dc.DcLoadFlowContext;
+import com.powsybl.openloadflow.lf.AbstractLoadFlowContext;
+import com.powsybl.openloadflow.lf.LoadFlowContext;
 import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.network.action.AbstractLfBranchAction;
 import com.powsybl.openloadflow.network.impl.AbstractLfGenerator;
+import com.powsybl.openloadflow.network.impl.LfBranchImpl;
 import com.powsybl.openloadflow.network.impl.LfLegBranch;
 import com.powsybl.openloadflow.network.util.PreviousValueVoltageInitializer;
 import com.powsybl.openloadflow.util.PerUnit;
@@ -40,6 +45,15 @@ public enum NetworkCache {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NetworkCache.class);
 
+    public static final int DEFAULT_MAX_ENTRY_COUNT = 32;
+
+    public static final long DEFAULT_MAX_ESTIMATED_SIZE = Long.MAX_VALUE;
+
+    // notified attributes when an injection is connected or disconnected
+    private static final Set<String> CONNECTION_ATTRIBUTES = Set.of("beginConnect", "endConnect", "beginDisconnect", "endDisconnect", "connected");
+
+    private static final Set<String> LINE_PI_MODEL_ATTRIBUTES = Set.of("r", "x", "g1", "b1", "g2", "b2");
+
     public static class Entry extends DefaultNetworkListener {
 
         private final WeakReference<Network> networkRef;
@@ -51,7 +65,13 @@ public enum NetworkCache {
 
         private List<AcLoadFlowContext> contexts;
 
-        private boolean pause = false;
+        // only injection changes are supported in DC
+        private List<DcLoadFlowContext> dcContexts;
+
+        private volatile boolean pause = false;
+
+        // guarded by the cache lock
+        private int useCount = 0;
 
         public Entry(Network network, LoadFlowParameters parameters) {
             Objects.requireNonNull(network);
@@ -80,6 +100,22 @@ public enum NetworkCache {
             this.contexts = contexts;
         }
 
+        public List<DcLoadFlowContext> getDcContexts() {
+            return dcContexts;
+        }
+
+        public void setDcContexts(List<DcLoadFlowContext> dcContexts) {
+            this.dcContexts = dcContexts;
+        }
+
+        private boolean hasContexts() {
+            return contexts != null || dcContexts != null;
+        }
+
+        private List<? extends LoadFlowContext<?, ?, ?>> getLoadFlowContexts() {
+            return contexts != null ? contexts : dcContexts;
+        }
+
         public LoadFlowParameters getParameters() {
             return parameters;
         }
@@ -88,6 +124,24 @@ public enum NetworkCache {
             this.pause = pause;
         }
 
+        /**
+         * Rough estimation in bytes of the memory used by the equation systems and the Jacobian matrices of the
+         * contexts of this entry.
+         */
+        public long getEstimatedSize() {
+            return getEstimatedSize(contexts) + getEstimatedSize(dcContexts);
+        }
+
+        private static long getEstimatedSize(List<? extends AbstractLoadFlowContext<?, ?, ?>> contexts) {
+            long estimatedSize = 0;
+            if (contexts != null) {
+                for (AbstractLoadFlowContext<?, ?, ?> context : contexts) {
+                    estimatedSize += context.getEstimatedSize();
+                }
+            }
+            return estimatedSize;
+        }
+
         private void reset() {
             if (contexts != null) {
                 for (AcLoadFlowContext context : contexts) {
@@ -95,6 +149,12 @@ public enum NetworkCache {
                 }
                 contexts = null;
             }
+            if (dcContexts != null) {
+                for (DcLoadFlowContext context : dcContexts) {
+                    context.close();
+                }
+                dcContexts = null;
+            }
         }
 
         private void onStructureChange() {
@@ -102,9 +162,20 @@ public enum NetworkCache {
             reset();
         }
 
+        private static boolean isCreationWithoutImpact(Identifiable<?> identifiable) {
+            // a new substation or voltage level is empty and a new injection which is not connected is not part of
+            // any bus, so that the load flow is only impacted later when something is connected to them
+            return switch (identifiable.getType()) {
+                case SUBSTATION, VOLTAGE_LEVEL -> true;
+                default -> identifiable instanceof Injection<?> injection && !injection.getTerminal().isConnected();
+            };
+        }
+
         @Override
         public void onCreation(Identifiable identifiable) {
-            onStructureChange();
+            if (!isCreationWithoutImpact(identifiable)) {
+                onStructureChange();
+            }
         }
 
         @Override
@@ -112,17 +183,24 @@ public enum NetworkCache {
             onStructureChange();
         }
 
-        private static Optional<Bus> getBus(Injection<?> injection, AcLoadFlowContext context) {
+        private static Optional<Bus> getBus(Injection<?> injection, LoadFlowContext<?, ?, ?> context) {
             return Optional.ofNullable(context.getParameters().getNetworkParameters().isBreakers()
                     ? injection.getTerminal().getBusBreakerView().getBus()
                     : injection.getTerminal().getBusView().getBus());
         }
 
-        private static Optional<LfBus> getLfBus(Injection<?> injection, AcLoadFlowContext context) {
+        private static Optional<LfBus> getLfBus(Injection<?> injection, LoadFlowContext<?, ?, ?> context) {
             return getBus(injection, context)
                     .map(bus -> context.getNetwork().getBusById(bus.getId()));
         }
 
+        private static Optional<LfBus> getConnectableLfBus(Injection<?> injection, LoadFlowContext<?, ?, ?> context) {
+            return Optional.ofNullable(context.getParameters().getNetworkParameters().isBreakers()
+                            ? injection.getTerminal().getBusBreakerView().getConnectableBus()
+                            : injection.getTerminal().getBusView().getConnectableBus())
+                    .map(bus -> context.getNetwork().getBusById(bus.getId()));
+        }
+
         enum CacheUpdateStatus {
             UNSUPPORTED_UPDATE,
             ELEMENT_UPDATED,
@@ -130,12 +208,12 @@ public enum NetworkCache {
             ELEMENT_NOT_FOUND
         }
 
-        record CacheUpdateResult(CacheUpdateStatus status, AcLoadFlowContext context) {
+        record CacheUpdateResult(CacheUpdateStatus status, LoadFlowContext<?, ?, ?> context) {
             static CacheUpdateResult unsupportedUpdate() {
                 return new CacheUpdateResult(CacheUpdateStatus.UNSUPPORTED_UPDATE, null);
             }
 
-            static CacheUpdateResult elementUpdated(AcLoadFlowContext context) {
+            static CacheUpdateResult elementUpdated(LoadFlowContext<?, ?, ?> context) {
                 return new CacheUpdateResult(CacheUpdateStatus.ELEMENT_UPDATED, context);
             }
 
@@ -148,8 +226,32 @@ public enum NetworkCache {
             }
         }
 
-        private CacheUpdateResult onInjectionUpdate(Injection<?> injection, BiFunction<AcLoadFlowContext, LfBus, CacheUpdateResult> handler) {
-            for (AcLoadFlowContext context : contexts) {
+        private static void setNetworkUpdated(LoadFlowContext<?, ?, ?> context) {
+            // a DC load flow is always run again, as it is only solving with the factorized matrix
+            if (context instanceof AcLoadFlowContext acContext) {
+                acContext.setNetworkUpdated(true);
+            }
+        }
+
+        /**
+         * An injection or impedance change modifies the active power mismatch and the reactive power of generators, so
+         * that, as without cache, the slack has to be distributed again from the initial targets, and buses switched
+         * PV -> PQ by the reactive limits of a previous run have to be PV again.
+         */
+        private void restoreInitialTargets(LoadFlowContext<?, ?, ?> context) {
+            LfNetwork lfNetwork = context.getNetwork();
+            lfNetwork.restoreInitialActivePowerTargets(OpenLoadFlowParameters.get(parameters).isLoadPowerFactorConstant());
+            for (LfBus bus : lfNetwork.getBuses()) {
+                if (bus.getQLimitType().isPresent()) {
+                    bus.setGeneratorVoltageControlEnabled(true);
+                    bus.setGenerationTargetQ(0);
+                    bus.setQLimitType(null);
+                }
+            }
+        }
+
+        private CacheUpdateResult onInjectionUpdate(Injection<?> injection, BiFunction<LoadFlowContext<?, ?, ?>, LfBus, CacheUpdateResult> handler) {
+            for (LoadFlowContext<?, ?, ?> context : getLoadFlowContexts()) {
                 LfBus lfBus = getLfBus(injection, context).orElse(null);
                 if (lfBus != null) {
                     return handler.apply(context, lfBus);
@@ -158,7 +260,7 @@ public enum NetworkCache {
             return CacheUpdateResult.elementNotFound();
         }
 
-        private static CacheUpdateResult updateLfGeneratorTargetP(String id, double oldValue, double newValue, AcLoadFlowContext context, LfBus lfBus) {
+        private static CacheUpdateResult updateLfGeneratorTargetP(String id, double oldValue, double newValue, LoadFlowContext<?, ?, ?> context, LfBus lfBus) {
             double valueShift = newValue - oldValue;
             LfGenerator lfGenerator = lfBus.getNetwork().getGeneratorById(id);
             double newTargetP = lfGenerator.getInitialTargetP() + valueShift / PerUnit.SB;
@@ -202,6 +304,82 @@ public enum NetworkCache {
             });
         }
 
+        private CacheUpdateResult onLoadUpdate(Load load, String attribute, Object oldValue, Object newValue) {
+            for (LoadFlowContext<?, ?, ?> context : getLoadFlowContexts()) {
+                // a disconnected load has to be found too, so we rely on the connectable bus
+                LfBus lfBus = getConnectableLfBus(load, context).orElse(null);
+                if (lfBus != null) {
+                    LfLoad lfLoad = lfBus.getLoads().stream()
+                            .filter(l -> l.getOriginalIds().contains(load.getId()))
+                            .findFirst()
+                            .orElse(null);
+                    if (lfLoad == null) {
+                        // the load was not connected when the network has been loaded, this is a structural change
+                        // only if it is now connected
+                        return load.getTerminal().isConnected() ? CacheUpdateResult.unsupportedUpdate() : CacheUpdateResult.ignoreUpdate();
+                    }
+                    restoreInitialTargets(context);
+                    switch (attribute) {
+                        case "p0" -> lfLoad.updateOriginalLoadTarget(load.getId(), (double) newValue - (double) oldValue, 0);
+                        case "q0" -> lfLoad.updateOriginalLoadTarget(load.getId(), 0, (double) newValue - (double) oldValue);
+                        default -> lfLoad.updateOriginalLoadConnection(load.getId(), load.getTerminal().isConnected());
+                    }
+                    return CacheUpdateResult.elementUpdated(context);
+                }
+            }
+            return CacheUpdateResult.elementNotFound();
+        }
+
+        private CacheUpdateResult onLineUpdate(Line line) {
+            for (AcLoadFlowContext context : contexts) {
+                LfBranch lfBranch = context.getNetwork().getBranchById(line.getId());
+                if (lfBranch != null) {
+                    if (lfBranch instanceof LfBranchImpl lfBranchImpl
+                            && lfBranchImpl.updateLinePiModel(context.getParameters().getNetworkParameters())) {
+                        restoreInitialTargets(context);
+                        return CacheUpdateResult.elementUpdated(context);
+                    }
+                    LOGGER.info("Line {} impedance change cannot be applied to the network cache", line.getId());
+                    return CacheUpdateResult.unsupportedUpdate();
+                }
+            }
+            return CacheUpdateResult.elementNotFound();
+        }
+
+        private CacheUpdateResult onHvdcLineUpdate(HvdcLine hvdcLine) {
+            CacheUpdateResult result = CacheUpdateResult.elementNotFound();
+            for (HvdcConverterStation<?> station : List.of(hvdcLine.getConverterStation1(), hvdcLine.getConverterStation2())) {
+                if (station.getHvdcType() != HvdcConverterStation.HvdcType.VSC) {
+                    // LCC converter stations are merged into loads
+                    return CacheUpdateResult.unsupportedUpdate();
+                }
+                CacheUpdateResult stationResult = onInjectionUpdate(station, (context, lfBus) -> {
+                    LfHvdc lfHvdc = context.getNetwork().getHvdcById(hvdcLine.getId());
+                    if (lfHvdc != null && lfHvdc.isAcEmulation()) {
+                        // active power set point is part of the AC emulation equations
+                        return CacheUpdateResult.unsupportedUpdate();
+                    }
+                    restoreInitialTargets(context);
+                    LfGenerator lfStation = context.getNetwork().getGeneratorById(station.getId());
+                    double newTargetP = HvdcUtils.getConverterStationTargetP(station) / PerUnit.SB;
+                    lfStation.setTargetP(newTargetP);
+                    lfStation.setInitialTargetP(newTargetP);
+                    return CacheUpdateResult.elementUpdated(context);
+                });
+                if (stationResult.status() == CacheUpdateStatus.UNSUPPORTED_UPDATE) {
+                    return stationResult;
+                }
+                if (stationResult.status() == CacheUpdateStatus.ELEMENT_UPDATED) {
+                    if (result.status() == CacheUpdateStatus.ELEMENT_UPDATED) {
+                        // converter stations are in 2 different components
+                        setNetworkUpdated(result.context());
+                    }
+                    result = stationResult;
+                }
+            }
+            return result;
+        }
+
         private CacheUpdateResult onShuntUpdate(ShuntCompensator shunt, String attribute) {
             return onInjectionUpdate(shunt, (context, lfBus) -> {
                 if (attribute.equals("sectionCount")) {
@@ -264,7 +442,15 @@ public enum NetworkCache {
                 LfNetwork lfNetwork = context.getNetwork();
                 LfBranch lfBranch = lfNetwork.getBranchById(twtId);
                 if (lfBranch != null) {
+                    if (!(lfBranch.getPiModel() instanceof PiModelArray)) {
+                        LOGGER.info("Tap changer of transformer {} has not been retained: not supported", twtId);
+                        return CacheUpdateResult.unsupportedUpdate();
+                    }
                     lfBranch.getPiModel().setTapPosition(newTapPosition);
+                    // impedance and admittances of the new tap have to be used by equation terms
+                    for (LfNetworkListener listener : lfNetwork.getListeners()) {
+                        listener.onBranchPiModelChange(lfBranch);
+                    }
                     return CacheUpdateResult.elementUpdated(context);
                 }
             }
@@ -274,15 +460,36 @@ public enum NetworkCache {
         void processUpdateResult(Identifiable<?> identifiable, String attribute, CacheUpdateResult result) {
             switch (result.status) {
                 case UNSUPPORTED_UPDATE -> reset();
-                case ELEMENT_UPDATED -> result.context.setNetworkUpdated(true);
+                case ELEMENT_UPDATED -> setNetworkUpdated(result.context);
                 case IGNORE_UPDATE -> { /* nothing to do */ }
                 case ELEMENT_NOT_FOUND -> LOGGER.warn("Cannot update attribute '{}' of element '{}' (type={})", attribute, identifiable.getId(), identifiable.getType());
             }
         }
 
+        private CacheUpdateResult onDcUpdate(Identifiable<?> identifiable, String attribute, Object oldValue, Object newValue) {
+            return switch (identifiable.getType()) {
+                case GENERATOR -> switch (attribute) {
+                    case "targetP" -> onInjectionUpdate((Generator) identifiable, (context, lfBus)
+                            -> updateLfGeneratorTargetP(identifiable.getId(), (double) oldValue, (double) newValue, context, lfBus));
+                    case "targetV", "targetQ", "voltageRegulatorOn" -> CacheUpdateResult.ignoreUpdate(); // no impact in DC
+                    default -> CacheUpdateResult.unsupportedUpdate();
+                };
+                case BATTERY -> attribute.equals("targetP")
+                        ? onBatteryUpdate((Battery) identifiable, attribute, oldValue, newValue)
+                        : CacheUpdateResult.unsupportedUpdate();
+                case LOAD -> attribute.equals("p0") || attribute.equals("q0") || CONNECTION_ATTRIBUTES.contains(attribute)
+                        ? onLoadUpdate((Load) identifiable, attribute, oldValue, newValue)
+                        : CacheUpdateResult.unsupportedUpdate();
+                case HVDC_LINE -> attribute.equals("activePowerSetpoint")
+                        ? onHvdcLineUpdate((HvdcLine) identifiable)
+                        : CacheUpdateResult.unsupportedUpdate();
+                default -> CacheUpdateResult.unsupportedUpdate();
+            };
+        }
+
         @Override
         public void onUpdate(Identifiable identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
-            if (contexts == null || pause) {
+            if (!hasContexts() || pause) {
                 return;
             }
             CacheUpdateResult result = CacheUpdateResult.unsupportedUpdate(); // by default to be safe
@@ -298,7 +505,9 @@ public enum NetworkCache {
                      "p3",
                      "q3" -> result = CacheUpdateResult.ignoreUpdate(); // ignore because it is related to state update and won't affect LF calculation
                 default -> {
-                    if (identifiable.getType() == IdentifiableType.GENERATOR) {
+                    if (dcContexts != null) {
+                        result = onDcUpdate(identifiable, attribute, oldValue, newValue);
+                    } else if (identifiable.getType() == IdentifiableType.GENERATOR) {
                         Generator generator = (Generator) identifiable;
                         if (attribute.equals("targetV") || attribute.equals("targetP")) {
                             result = onGeneratorUpdate(generator, attribute, oldValue, newValue);
@@ -308,6 +517,19 @@ public enum NetworkCache {
                         if (attribute.equals("targetP")) {
                             result = onBatteryUpdate(battery, attribute, oldValue, newValue);
                         }
+                    } else if (identifiable.getType() == IdentifiableType.LOAD) {
+                        Load load = (Load) identifiable;
+                        if (attribute.equals("p0") || attribute.equals("q0") || CONNECTION_ATTRIBUTES.contains(attribute)) {
+                            result = onLoadUpdate(load, attribute, oldValue, newValue);
+                        }
+                    } else if (identifiable.getType() == IdentifiableType.LINE) {
+                        if (LINE_PI_MODEL_ATTRIBUTES.contains(attribute)) {
+                            result = onLineUpdate((Line) identifiable);
+                        }
+                    } else if (identifiable.getType() == IdentifiableType.HVDC_LINE) {
+                        if (attribute.equals("activePowerSetpoint")) {
+                            result = onHvdcLineUpdate((HvdcLine) identifiable);
+                        }
                     } else if (identifiable.getType() == IdentifiableType.SHUNT_COMPENSATOR) {
                         ShuntCompensator shunt = (ShuntCompensator) identifiable;
                         if (attribute.equals("sectionCount")) {
@@ -319,7 +541,7 @@ public enum NetworkCache {
                     } else if (identifiable.getType() == IdentifiableType.TWO_WINDINGS_TRANSFORMER) {
                         if (attribute.equals("ratioTapChanger.regulationValue")) {
                             result = onTransformerTargetVoltageUpdate(identifiable.getId(), (double) newValue);
-                        } else if (attribute.equals("ratioTapChanger.tapPosition")) {
+                        } else if (attribute.equals("ratioTapChanger.tapPosition") || attribute.equals("phaseTapChanger.tapPosition")) {
                             result = onTransformerTapPositionUpdate(identifiable.getId(), (int) newValue);
                         }
                     } else if (identifiable.getType() == IdentifiableType.THREE_WINDINGS_TRANSFORMER) {
@@ -327,7 +549,8 @@ public enum NetworkCache {
                             if (attribute.equals("ratioTapChanger" + side.getNum() + ".regulationValue")) {
                                 result = onTransformerTargetVoltageUpdate(LfLegBranch.getId(identifiable.getId(), side.getNum()), (double) newValue);
                                 break;
-                            } else if (attribute.equals("ratioTapChanger" + side.getNum() + ".tapPosition")) {
+                            } else if (attribute.equals("ratioTapChanger" + side.getNum() + ".tapPosition")
+                                    || attribute.equals("phaseTapChanger" + side.getNum() + ".tapPosition")) {
                                 result = onTransformerTapPositionUpdate(LfLegBranch.getId(identifiable.getId(), side.getNum()), (int) newValue);
                                 break;
                             }
@@ -341,12 +564,12 @@ public enum NetworkCache {
 
         @Override
         public void onExtensionUpdate(Extension<?> extension, String attribute, String variantId, Object oldValue, Object newValue) {
-            if (contexts == null || pause) {
+            if (!hasContexts() || pause) {
                 return;
             }
 
             CacheUpdateResult result = CacheUpdateResult.unsupportedUpdate();
-            if ("secondaryVoltageControl".equals(extension.getName())) {
+            if (contexts != null && "secondaryVoltageControl".equals(extension.getName())) {
                 SecondaryVoltageControl svc = (SecondaryVoltageControl) extension;
                 result = onSecondaryVoltageControlExtensionUpdate(svc, attribute, newValue);
             }
@@ -436,40 +659,224 @@ public enum NetworkCache {
         }
     }
 
-    private final List<Entry> entries = new ArrayList<>();
+    private static final class EntryKey {
+
+        private final WeakReference<Network> networkRef;
+
+        private final String variantId;
+
+        private final int hashCode;
+
+        private EntryKey(Network network, String variantId) {
+            this.networkRef = new WeakReference<>(network);
+            this.variantId = variantId;
+            this.hashCode = 31 * System.identityHashCode(network) + variantId.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EntryKey other)) {
+                return false;
+            }
+            // network identity, a dead network is only equal to itself
+            Network network = networkRef.get();
+            return network != null && network == other.networkRef.get() && variantId.equals(other.variantId);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    // in least recently used order, only updated by get so that looking up an entry does not change it
+    private final Map<EntryKey, Entry> entries = new LinkedHashMap<>();
 
     private final Lock lock = new ReentrantLock();
 
-    private void evictDeadEntries() {
-        Iterator<Entry> it = entries.iterator();
+    private int maxEntryCount = DEFAULT_MAX_ENTRY_COUNT;
+
+    private long maxEstimatedSize = DEFAULT_MAX_ESTIMATED_SIZE;
+
+    private long hitCount = 0;
+
+    private long missCount = 0;
+
+    private long evictionCount = 0;
+
+    private static EntryKey createKey(Network network) {
+        return new EntryKey(network, network.getVariantManager().getWorkingVariantId());
+    }
+
+    private static void close(Entry entry) {
+        // release all resources
+        entry.close();
+        Network network = entry.getNetworkRef().get();
+        if (network != null) {
+            network.removeListener(entry);
+        }
+    }
+
+    private void evictEntries() {
+        Iterator<Entry> it = entries.values().iterator();
         while (it.hasNext()) {
             Entry entry = it.next();
             if (entry.getNetworkRef().get() == null) {
-                // release all resources
-                entry.close();
+                close(entry);
                 it.remove();
+                evictionCount++;
                 LOGGER.info("Dead network removed from cache ({} remains)", entries.size());
             }
         }
+
+        // then least recently used entries not being used, until being under limits
+        long estimatedSize = getEstimatedSizeNoLock();
+        it = entries.values().iterator();
+        while ((entries.size() > maxEntryCount || estimatedSize > maxEstimatedSize) && it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.useCount == 0) {
+                long entryEstimatedSize = entry.getEstimatedSize();
+                estimatedSize -= entryEstimatedSize;
+                close(entry);
+                it.remove();
+                evictionCount++;
+                if (entryEstimatedSize > maxEstimatedSize) {
+                    LOGGER.warn("Network cache evicted because its estimated size {} exceeds the maximum estimated size {} ({} remains)",
+                            entryEstimatedSize, maxEstimatedSize, entries.size());
+                } else {
+                    LOGGER.info("Least recently used network cache evicted ({} remains)", entries.size());
+                }
+            }
+        }
+    }
+
+    private long getEstimatedSizeNoLock() {
+        long estimatedSize = 0;
+        for (Entry entry : entries.values()) {
+            estimatedSize += entry.getEstimatedSize();
+        }
+        return estimatedSize;
+    }
+
+    public int getMaxEntryCount() {
+        lock.lock();
+        try {
+            return maxEntryCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void setMaxEntryCount(int maxEntryCount) {
+        if (maxEntryCount < 1) {
+            throw new IllegalArgumentException("Invalid max entry count: " + maxEntryCount);
+        }
+        lock.lock();
+        try {
+            this.maxEntryCount = maxEntryCount;
+            evictEntries();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getMaxEstimatedSize() {
+        lock.lock();
+        try {
+            return maxEstimatedSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Set the maximum estimated size in bytes of all the entries, see {@link Entry#getEstimatedSize()}.
+     */
+    public void setMaxEstimatedSize(long maxEstimatedSize) {
+        if (maxEstimatedSize < 0) {
+            throw new IllegalArgumentException("Invalid max estimated size: " + maxEstimatedSize);
+        }
+        lock.lock();
+        try {
+            this.maxEstimatedSize = maxEstimatedSize;
+            evictEntries();
+        } finally {
+            lock.unlock();
+        }
     }
 
     public int getEntryCount() {
         lock.lock();
         try {
-            evictDeadEntries();
+            evictEntries();
             return entries.size();
         } finally {
             lock.unlock();
         }
     }
 
+    public long getEstimatedSize() {
+        lock.lock();
+        try {
+            return getEstimatedSizeNoLock();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of {@link #get(Network, LoadFlowParameters)} calls returning an entry with valid contexts.
+     */
+    public long getHitCount() {
+        lock.lock();
+        try {
+            return hitCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of {@link #get(Network, LoadFlowParameters)} calls returning a new or an invalidated entry.
+     */
+    public long getMissCount() {
+        lock.lock();
+        try {
+            return missCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of entries removed because of a dead network, a parameters change, or to stay under the maximum entry
+     * count or size.
+     */
+    public long getEvictionCount() {
+        lock.lock();
+        try {
+            return evictionCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public Optional<Entry> findEntry(Network network) {
-        String variantId = network.getVariantManager().getWorkingVariantId();
-        return entries.stream()
-                .filter(e -> e.getNetworkRef().get() == network && e.getWorkingVariantId().equals(variantId))
-                .findFirst();
+        lock.lock();
+        try {
+            return Optional.ofNullable(entries.get(createKey(network)));
+        } finally {
+            lock.unlock();
+        }
     }
 
+    /**
+     * Get the entry of the working variant of the network, creating it if needed. The entry cannot be evicted
+     * until {@link #release(Entry)}.
+     */
     public Entry get(Network network, LoadFlowParameters parameters) {
         Objects.requireNonNull(network);
         Objects.requireNonNull(parameters);
@@ -477,30 +884,43 @@ public enum NetworkCache {
         Entry entry;
         lock.lock();
         try {
-            evictDeadEntries();
-
-            entry = findEntry(network).orElse(null);
+            EntryKey key = createKey(network);
+            entry = entries.get(key);
 
             // invalid cache if parameters have changed
             // TODO to refine later by comparing in detail parameters that have changed
             if (entry != null && !OpenLoadFlowParameters.equals(parameters, entry.getParameters())) {
-                // release all resources
-                entry.close();
-                entries.remove(entry);
+                close(entry);
+                entries.remove(key);
                 entry = null;
+                evictionCount++;
                 LOGGER.info("Network cache evicted because of parameters change");
             }
 
             if (entry == null) {
                 entry = new Entry(network, OpenLoadFlowParameters.clone(parameters));
-                entries.add(entry);
+                entry.useCount++;
+                entries.put(key, entry);
                 network.addListener(entry);
+                missCount++;
+                evictEntries();
 
                 LOGGER.info("Network cache created for network '{}' and variant '{}'",
                         network.getId(), network.getVariantManager().getWorkingVariantId());
 
                 return entry;
             }
+
+            // most recently used
+            entries.remove(key);
+            entries.put(key, entry);
+            entry.useCount++;
+            if (entry.hasContexts()) {
+                hitCount++;
+            } else {
+                missCount++;
+            }
+            evictEntries();
         } finally {
             lock.unlock();
         }
@@ -516,6 +936,9 @@ public enum NetworkCache {
                     context.getParameters().setVoltageInitializer(new PreviousValueVoltageInitializer(true));
                 }
             }
+        } else if (entry.getDcContexts() != null) {
+            LOGGER.info("Network cache reused for network '{}' and variant '{}'",
+                    network.getId(), network.getVariantManager().getWorkingVariantId());
         } else {
             LOGGER.info("Network cache cannot be reused for network '{}' because invalided", network.getId());
         }
@@ -523,13 +946,34 @@ public enum NetworkCache {
         return entry;
     }
 
+    /**
+     * Release an entry previously got, so that it can be evicted again. Its estimated size, which has probably grown
+     * since, is taken into account, an entry larger than the maximum estimated size being evicted right away. So the
+     * network must have been updated from the entry, with the entry paused, before releasing it.
+     */
+    public void release(Entry entry) {
+        Objects.requireNonNull(entry);
+        lock.lock();
+        try {
+            if (entry.useCount > 0) {
+                entry.useCount--;
+            }
+            evictEntries();
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public void clear() {
         lock.lock();
         try {
-            for (var entry : entries) {
-                entry.close();
+            for (var entry : entries.values()) {
+                close(entry);
             }
             entries.clear();
+            hitCount = 0;
+            missCount = 0;
+            evictionCount = 0;
         } finally {
             lock.unlock();
         }
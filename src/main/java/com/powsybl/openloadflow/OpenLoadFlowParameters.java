@@ -295,6 +295,12 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
 
     public static final String DISABLE_INCONSISTENT_VOLTAGE_CONTROLS_PARAM_NAME = "disableInconsistentVoltageControls";
 
+    public static final String NETWORK_LOADING_THREAD_COUNT_PARAM_NAME = "networkLoadingThreadCount";
+
+    public static final String COMPONENT_SOLVING_THREAD_COUNT_PARAM_NAME = "componentSolvingThreadCount";
+
+    public static final String STATE_STORE_PARAM_NAME = "stateStore";
+
     public static <E extends Enum<E>> List<Object> getEnumPossibleValues(Class<E> enumClass) {
         return EnumSet.allOf(enumClass).stream().map(Enum::name).collect(Collectors.toList());
     }
@@ -439,7 +445,10 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
         new Parameter(AREA_INTERCHANGE_P_MAX_MISMATCH_PARAM_NAME, ParameterType.DOUBLE, "Area interchange max active power mismatch", AREA_INTERCHANGE_P_MAX_MISMATCH_DEFAULT_VALUE, ParameterScope.FUNCTIONAL, SLACK_DISTRIBUTION_CATEGORY_KEY),
         new Parameter(VOLTAGE_REMOTE_CONTROL_ROBUST_MODE_PARAM_NAME, ParameterType.BOOLEAN, "Generator voltage remote control robust mode", VOLTAGE_REMOTE_CONTROL_ROBUST_MODE_DEFAULT_VALUE, ParameterScope.FUNCTIONAL, GENERATOR_VOLTAGE_CONTROL_CATEGORY_KEY),
         new Parameter(FORCE_TARGET_Q_IN_REACTIVE_LIMITS_PARAM_NAME, ParameterType.BOOLEAN, "Force targetQ in the reactive limit diagram", FORCE_TARGET_Q_IN_REACTIVE_LIMITS_DEFAULT_VALUE, ParameterScope.FUNCTIONAL, REACTIVE_POWER_CONTROL_CATEGORY_KEY),
-        new Parameter(DISABLE_INCONSISTENT_VOLTAGE_CONTROLS_PARAM_NAME, ParameterType.BOOLEAN, "Disable inconsistent voltage controls", LfNetworkParameters.DISABLE_INCONSISTENT_VOLTAGE_CONTROLS_DEFAULT_VALUE, ParameterScope.FUNCTIONAL, GENERATOR_VOLTAGE_CONTROL_CATEGORY_KEY)
+        new Parameter(DISABLE_INCONSISTENT_VOLTAGE_CONTROLS_PARAM_NAME, ParameterType.BOOLEAN, "Disable inconsistent voltage controls", LfNetworkParameters.DISABLE_INCONSISTENT_VOLTAGE_CONTROLS_DEFAULT_VALUE, ParameterScope.FUNCTIONAL, GENERATOR_VOLTAGE_CONTROL_CATEGORY_KEY),
+        new Parameter(NETWORK_LOADING_THREAD_COUNT_PARAM_NAME, ParameterType.INTEGER, "Number of threads used to create the networks of the connected and synchronous components", LfNetworkParameters.LOADING_THREAD_COUNT_DEFAULT_VALUE, ParameterScope.TECHNICAL, PERFORMANCE_CATEGORY_KEY),
+        new Parameter(COMPONENT_SOLVING_THREAD_COUNT_PARAM_NAME, ParameterType.INTEGER, "Number of threads used to solve the networks of the connected and synchronous components", AbstractLoadFlowParameters.DEFAULT_COMPONENT_SOLVING_THREAD_COUNT, ParameterScope.TECHNICAL, PERFORMANCE_CATEGORY_KEY),
+        new Parameter(STATE_STORE_PARAM_NAME, ParameterType.BOOLEAN, "Store bus voltages and branch flows of the networks in contiguous arrays", LfNetworkParameters.STATE_STORE_DEFAULT_VALUE, ParameterScope.TECHNICAL, PERFORMANCE_CATEGORY_KEY)
     );
 
     public enum VoltageInitModeOverride {
@@ -629,6 +638,12 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
 
     private boolean disableInconsistentVoltageControls = LfNetworkParameters.DISABLE_INCONSISTENT_VOLTAGE_CONTROLS_DEFAULT_VALUE;
 
+    private int networkLoadingThreadCount = LfNetworkParameters.LOADING_THREAD_COUNT_DEFAULT_VALUE;
+
+    private int componentSolvingThreadCount = AbstractLoadFlowParameters.DEFAULT_COMPONENT_SOLVING_THREAD_COUNT;
+
+    private boolean stateStore = LfNetworkParameters.STATE_STORE_DEFAULT_VALUE;
+
     public static double checkParameterValue(double parameterValue, boolean condition, String parameterName) {
         if (!condition) {
             throw new IllegalArgumentException("Invalid value for parameter " + parameterName + ": " + parameterValue);
@@ -1381,6 +1396,33 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
         return this;
     }
 
+    public int getNetworkLoadingThreadCount() {
+        return networkLoadingThreadCount;
+    }
+
+    public OpenLoadFlowParameters setNetworkLoadingThreadCount(int networkLoadingThreadCount) {
+        this.networkLoadingThreadCount = LfNetworkParameters.checkLoadingThreadCount(networkLoadingThreadCount);
+        return this;
+    }
+
+    public int getComponentSolvingThreadCount() {
+        return componentSolvingThreadCount;
+    }
+
+    public OpenLoadFlowParameters setComponentSolvingThreadCount(int componentSolvingThreadCount) {
+        this.componentSolvingThreadCount = AbstractLoadFlowParameters.checkComponentSolvingThreadCount(componentSolvingThreadCount);
+        return this;
+    }
+
+    public boolean isStateStore() {
+        return stateStore;
+    }
+
+    public OpenLoadFlowParameters setStateStore(boolean stateStore) {
+        this.stateStore = stateStore;
+        return this;
+    }
+
     public static OpenLoadFlowParameters load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -1460,7 +1502,10 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .setAreaInterchangeControl(config.getBooleanProperty(AREA_INTERCHANGE_CONTROL_PARAM_NAME, AREA_INTERCHANGE_CONTROL_DEFAULT_VALUE))
                 .setAreaInterchangeControlAreaType(config.getStringProperty(AREA_INTERCHANGE_CONTROL_AREA_TYPE_PARAM_NAME, LfNetworkParameters.AREA_INTERCHANGE_CONTROL_AREA_TYPE_DEFAULT_VALUE))
                 .setAreaInterchangePMaxMismatch(config.getDoubleProperty(AREA_INTERCHANGE_P_MAX_MISMATCH_PARAM_NAME, AREA_INTERCHANGE_P_MAX_MISMATCH_DEFAULT_VALUE))
-                .setDisableInconsistentVoltageControls(config.getBooleanProperty(DISABLE_INCONSISTENT_VOLTAGE_CONTROLS_PARAM_NAME, LfNetworkParameters.DISABLE_INCONSISTENT_VOLTAGE_CONTROLS_DEFAULT_VALUE)));
+                .setDisableInconsistentVoltageControls(config.getBooleanProperty(DISABLE_INCONSISTENT_VOLTAGE_CONTROLS_PARAM_NAME, LfNetworkParameters.DISABLE_INCONSISTENT_VOLTAGE_CONTROLS_DEFAULT_VALUE))
+                .setNetworkLoadingThreadCount(config.getIntProperty(NETWORK_LOADING_THREAD_COUNT_PARAM_NAME, LfNetworkParameters.LOADING_THREAD_COUNT_DEFAULT_VALUE))
+                .setComponentSolvingThreadCount(config.getIntProperty(COMPONENT_SOLVING_THREAD_COUNT_PARAM_NAME, AbstractLoadFlowParameters.DEFAULT_COMPONENT_SOLVING_THREAD_COUNT))
+                .setStateStore(config.getBooleanProperty(STATE_STORE_PARAM_NAME, LfNetworkParameters.STATE_STORE_DEFAULT_VALUE)));
         return parameters;
     }
 
@@ -1627,11 +1672,17 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .ifPresent(prop -> this.setForceTargetQInReactiveLimits(Boolean.parseBoolean(prop)));
         Optional.ofNullable(properties.get(DISABLE_INCONSISTENT_VOLTAGE_CONTROLS_PARAM_NAME))
                 .ifPresent(prop -> this.setDisableInconsistentVoltageControls(Boolean.parseBoolean(prop)));
+        Optional.ofNullable(properties.get(NETWORK_LOADING_THREAD_COUNT_PARAM_NAME))
+                .ifPresent(prop -> this.setNetworkLoadingThreadCount(Integer.parseInt(prop)));
+        Optional.ofNullable(properties.get(COMPONENT_SOLVING_THREAD_COUNT_PARAM_NAME))
+                .ifPresent(prop -> this.setComponentSolvingThreadCount(Integer.parseInt(prop)));
+        Optional.ofNullable(properties.get(STATE_STORE_PARAM_NAME))
+                .ifPresent(prop -> this.setStateStore(Boolean.parseBoolean(prop)));
         return this;
     }
 
     public Map<String, Object> toMap() {
-        Map<String, Object> map = new LinkedHashMap<>(71);
+        Map<String, Object> map = new LinkedHashMap<>(72);
         map.put(SLACK_BUS_SELECTION_MODE_PARAM_NAME, slackBusSelectionMode);
         map.put(SLACK_BUSES_IDS_PARAM_NAME, slackBusesIds);
         map.put(SLACK_DISTRIBUTION_FAILURE_BEHAVIOR_PARAM_NAME, slackDistributionFailureBehavior);
@@ -1706,6 +1757,9 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
         map.put(VOLTAGE_REMOTE_CONTROL_ROBUST_MODE_PARAM_NAME, voltageRemoteControlRobustMode);
         map.put(FORCE_TARGET_Q_IN_REACTIVE_LIMITS_PARAM_NAME, forceTargetQInReactiveLimits);
         map.put(DISABLE_INCONSISTENT_VOLTAGE_CONTROLS_PARAM_NAME, disableInconsistentVoltageControls);
+        map.put(NETWORK_LOADING_THREAD_COUNT_PARAM_NAME, networkLoadingThreadCount);
+        map.put(COMPONENT_SOLVING_THREAD_COUNT_PARAM_NAME, componentSolvingThreadCount);
+        map.put(STATE_STORE_PARAM_NAME, stateStore);
         return map;
     }
 
@@ -1864,7 +1918,9 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .setAreaInterchangeControl(parametersExt.isAreaInterchangeControl())
                 .setAreaInterchangeControlAreaType(parametersExt.getAreaInterchangeControlAreaType())
                 .setForceTargetQInReactiveLimits(parametersExt.isForceTargetQInReactiveLimits())
-                .setDisableInconsistentVoltageControls(parametersExt.isDisableInconsistentVoltageControls());
+                .setDisableInconsistentVoltageControls(parametersExt.isDisableInconsistentVoltageControls())
+                .setLoadingThreadCount(parametersExt.getNetworkLoadingThreadCount())
+                .setStateStore(parametersExt.isStateStore());
     }
 
     public static AcLoadFlowParameters createAcParameters(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt,
@@ -1925,7 +1981,8 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .setSolverFactory(solverFactory, parameters)
                 .setVoltageRemoteControlRobustMode(parametersExt.isVoltageRemoteControlRobustMode())
                 .setMinRealisticVoltage(parametersExt.minRealisticVoltage)
-                .setMaxRealisticVoltage(parametersExt.maxRealisticVoltage);
+                .setMaxRealisticVoltage(parametersExt.maxRealisticVoltage)
+                .setComponentSolvingThreadCount(parametersExt.getComponentSolvingThreadCount());
     }
 
     public static DcLoadFlowParameters createDcParameters(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt,
@@ -1974,7 +2031,9 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .setReferenceBusSelector(ReferenceBusSelector.fromMode(parametersExt.getReferenceBusSelectionMode()))
                 .setAreaInterchangeControl(parametersExt.isAreaInterchangeControl())
                 .setAreaInterchangeControlAreaType(parametersExt.getAreaInterchangeControlAreaType())
-                .setDisableInconsistentVoltageControls(parametersExt.isDisableInconsistentVoltageControls());
+                .setDisableInconsistentVoltageControls(parametersExt.isDisableInconsistentVoltageControls())
+                .setLoadingThreadCount(parametersExt.getNetworkLoadingThreadCount())
+                .setStateStore(parametersExt.isStateStore());
 
         var equationSystemCreationParameters = new DcEquationSystemCreationParameters()
                 .setUpdateFlows(true)
@@ -1994,7 +2053,8 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .setOuterLoops(createDcOuterLoops(parameters, parametersExt))
                 .setMaxOuterLoopIterations(parametersExt.getMaxOuterLoopIterations())
                 .setSlackBusPMaxMismatch(parametersExt.getSlackBusPMaxMismatch())
-                .setAreaInterchangePMaxMismatch(parametersExt.getAreaInterchangePMaxMismatch());
+                .setAreaInterchangePMaxMismatch(parametersExt.getAreaInterchangePMaxMismatch())
+                .setComponentSolvingThreadCount(parametersExt.getComponentSolvingThreadCount());
     }
 
     public static boolean equals(LoadFlowParameters parameters1, LoadFlowParameters parameters2) {
@@ -2105,7 +2165,10 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 extension1.getAreaInterchangePMaxMismatch() == extension2.getAreaInterchangePMaxMismatch() &&
                 extension1.isVoltageRemoteControlRobustMode() == extension2.isVoltageRemoteControlRobustMode() &&
                 extension1.isForceTargetQInReactiveLimits() == extension2.isForceTargetQInReactiveLimits() &&
-                extension1.isDisableInconsistentVoltageControls() == extension2.isDisableInconsistentVoltageControls();
+                extension1.isDisableInconsistentVoltageControls() == extension2.isDisableInconsistentVoltageControls() &&
+                extension1.getNetworkLoadingThreadCount() == extension2.getNetworkLoadingThreadCount() &&
+                extension1.getComponentSolvingThreadCount() == extension2.getComponentSolvingThreadCount() &&
+                extension1.isStateStore() == extension2.isStateStore();
     }
 
     public static LoadFlowParameters clone(LoadFlowParameters parameters) {
@@ -2204,7 +2267,10 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                     .setAreaInterchangePMaxMismatch(extension.getAreaInterchangePMaxMismatch())
                     .setVoltageRemoteControlRobustMode(extension.isVoltageRemoteControlRobustMode())
                     .setForceTargetQInReactiveLimits(extension.isForceTargetQInReactiveLimits())
-                    .setDisableInconsistentVoltageControls(extension.isDisableInconsistentVoltageControls());
+                    .setDisableInconsistentVoltageControls(extension.isDisableInconsistentVoltageControls())
+                    .setNetworkLoadingThreadCount(extension.getNetworkLoadingThreadCount())
+                    .setComponentSolvingThreadCount(extension.getComponentSolvingThreadCount())
+                    .setStateStore(extension.isStateStore());
 
             if (extension2 != null) {
                 parameters2.addExtension(OpenLoadFlowParameters.class, extension2);
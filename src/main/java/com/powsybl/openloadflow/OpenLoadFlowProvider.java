@@ -48,6 +48,7 @@ import org.slf4j.LoggerFactory;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.powsybl.openloadflow.OpenLoadFlowParameters.MODULE_SPECIFIC_PARAMETERS;
@@ -101,9 +102,10 @@ public class OpenLoadFlowProvider implements LoadFlowProvider {
     }
 
     private void updateAcState(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt,
-                               AcLoadFlowResult result, AcLoadFlowParameters acParameters, boolean atLeastOneComponentHasToBeUpdated) {
-        if (parametersExt.isNetworkCacheEnabled()) {
-            NetworkCache.INSTANCE.findEntry(network).orElseThrow().setPause(true);
+                               AcLoadFlowResult result, AcLoadFlowParameters acParameters, boolean atLeastOneComponentHasToBeUpdated,
+                               NetworkCache.Entry cacheEntry) {
+        if (cacheEntry != null) {
+            cacheEntry.setPause(true);
         }
         try {
             // update network state
@@ -127,13 +129,35 @@ public class OpenLoadFlowProvider implements LoadFlowProvider {
                 computeZeroImpedanceFlows(result.getNetwork(), LoadFlowModel.AC);
             }
         } finally {
-            if (parametersExt.isNetworkCacheEnabled()) {
-                NetworkCache.INSTANCE.findEntry(network).orElseThrow().setPause(false);
+            if (cacheEntry != null) {
+                cacheEntry.setPause(false);
             }
         }
     }
 
+    /**
+     * Run a load flow, keeping the network cache entry if enabled until the network is updated, so that it cannot be
+     * evicted before being paused.
+     */
+    private LoadFlowResult runWithCacheEntry(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt,
+                                             Function<NetworkCache.Entry, LoadFlowResult> runner) {
+        if (!parametersExt.isNetworkCacheEnabled()) {
+            return runner.apply(null);
+        }
+        NetworkCache.Entry cacheEntry = NetworkCache.INSTANCE.get(network, parameters);
+        try {
+            return runner.apply(cacheEntry);
+        } finally {
+            NetworkCache.INSTANCE.release(cacheEntry);
+        }
+    }
+
     private LoadFlowResult runAc(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt, ReportNode reportNode) {
+        return runWithCacheEntry(network, parameters, parametersExt, cacheEntry -> runAc(network, parameters, parametersExt, cacheEntry, reportNode));
+    }
+
+    private LoadFlowResult runAc(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt,
+                                 NetworkCache.Entry cacheEntry, ReportNode reportNode) {
         GraphConnectivityFactory<LfBus, LfBranch> selectedConnectivityFactory = getConnectivityFactory(parametersExt);
         AcLoadFlowParameters acParameters = OpenLoadFlowParameters.createAcParameters(network, parameters, parametersExt, matrixFactory, selectedConnectivityFactory);
         acParameters.setDetailedReport(parametersExt.getReportedFeatures().contains(OpenLoadFlowParameters.ReportedFeatures.NEWTON_RAPHSON_LOAD_FLOW));
@@ -143,9 +167,9 @@ public class OpenLoadFlowProvider implements LoadFlowProvider {
         }
 
         List<AcLoadFlowResult> results;
-        if (parametersExt.isNetworkCacheEnabled()) {
-            results = new AcLoadFlowFromCache(network, parameters, parametersExt, acParameters, reportNode)
-                    .run();
+        if (cacheEntry != null) {
+            results = new AcLoadFlowFromCache(network, parametersExt, acParameters, reportNode)
+                    .run(cacheEntry);
         } else {
             try (LfNetworkList lfNetworkList = Networks.load(network, acParameters.getNetworkParameters(), new LfTopoConfig(), reportNode)) {
                 results = AcloadFlowEngine.run(lfNetworkList.getList(), acParameters);
@@ -169,7 +193,7 @@ public class OpenLoadFlowProvider implements LoadFlowProvider {
 
         List<LoadFlowResult.ComponentResult> componentResults = new ArrayList<>(results.size());
         for (AcLoadFlowResult result : results) {
-            updateAcState(network, parameters, parametersExt, result, acParameters, atLeastOneComponentHasToBeUpdated);
+            updateAcState(network, parameters, parametersExt, result, acParameters, atLeastOneComponentHasToBeUpdated, cacheEntry);
 
             ReferenceBusAndSlackBusesResults referenceBusAndSlackBusesResults = buildReferenceBusAndSlackBusesResults(result);
             final var status = result.toComponentResultStatus();
@@ -213,16 +237,37 @@ public class OpenLoadFlowProvider implements LoadFlowProvider {
     }
 
     private LoadFlowResult runDc(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt, ReportNode reportNode) {
+        return runWithCacheEntry(network, parameters, parametersExt, cacheEntry -> runDc(network, parameters, parametersExt, cacheEntry, reportNode));
+    }
+
+    private LoadFlowResult runDc(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt,
+                                 NetworkCache.Entry cacheEntry, ReportNode reportNode) {
 
         var dcParameters = OpenLoadFlowParameters.createDcParameters(network, parameters, parametersExt, matrixFactory, connectivityFactory, forcePhaseControlOffAndAddAngle1Var);
         dcParameters.getNetworkParameters()
-                .setCacheEnabled(false); // force not caching as not supported in DC LF
+                .setCacheEnabled(parametersExt.isNetworkCacheEnabled());
 
-        List<DcLoadFlowResult> results = DcLoadFlowEngine.run(network, new LfNetworkLoaderImpl(), dcParameters, reportNode);
+        List<DcLoadFlowResult> results;
+        if (cacheEntry != null) {
+            results = new DcLoadFlowFromCache(network, dcParameters, reportNode)
+                    .run(cacheEntry);
+        } else {
+            results = DcLoadFlowEngine.run(network, new LfNetworkLoaderImpl(), dcParameters, reportNode);
+        }
 
-        Networks.resetState(network);
+        List<LoadFlowResult.ComponentResult> componentsResult;
+        if (cacheEntry != null) {
+            cacheEntry.setPause(true);
+        }
+        try {
+            Networks.resetState(network);
 
-        List<LoadFlowResult.ComponentResult> componentsResult = results.stream().map(r -> processResult(network, r, parameters, parametersExt, dcParameters.getNetworkParameters().isBreakers())).toList();
+            componentsResult = results.stream().map(r -> processResult(network, r, parameters, parametersExt, dcParameters.getNetworkParameters().isBreakers())).toList();
+        } finally {
+            if (cacheEntry != null) {
+                cacheEntry.setPause(false);
+            }
+        }
         boolean ok = results.stream().anyMatch(DcLoadFlowResult::isSuccess);
         return new LoadFlowResultImpl(ok, Collections.emptyMap(), null, componentsResult);
     }
@@ -13,6 +13,7 @@ import com.powsybl.openloadflow.ac.equations.AcVariableType;
 import com.powsybl.openloadflow.equations.EquationSystem;
 import com.powsybl.openloadflow.equations.JacobianMatrix;
 import com.powsybl.openloadflow.network.AbstractLfNetworkListener;
+import com.powsybl.openloadflow.network.LfBranch;
 import com.powsybl.openloadflow.network.LfLoad;
 import com.powsybl.openloadflow.network.LfNetwork;
 import com.powsybl.openloadflow.network.LfNetworkListener;
@@ -41,6 +42,11 @@ public class AcJacobianMatrix extends JacobianMatrix<AcVariableType, AcEquationT
         public void onLoadReactivePowerTargetChange(LfLoad load, double oldTargetQ, double newTargetQ) {
             onLoadTargetChange(load);
         }
+
+        @Override
+        public void onBranchPiModelChange(LfBranch branch) {
+            updateStatus(Status.VALUES_INVALID);
+        }
     };
 
     public AcJacobianMatrix(EquationSystem<AcVariableType, AcEquationType> equationSystem, MatrixFactory matrixFactory,
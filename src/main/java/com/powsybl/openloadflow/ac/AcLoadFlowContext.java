@@ -49,6 +49,7 @@ public class AcLoadFlowContext extends AbstractLoadFlowContext<AcVariableType, A
             var creator = parameters.isAsymmetrical() ? new AsymmetricalAcEquationSystemCreator(network, parameters.getEquationSystemCreationParameters())
                                                       : new AcEquationSystemCreator(network, parameters.getEquationSystemCreationParameters());
             equationSystem = creator.create();
+            registerStateVectorUpdater(AcVariableType.BUS_V, AcVariableType.BUS_PHI);
         }
         return equationSystem;
     }
@@ -20,8 +20,10 @@ import com.powsybl.openloadflow.lf.LoadFlowEngine;
 import com.powsybl.openloadflow.lf.outerloop.OuterLoopResult;
 import com.powsybl.openloadflow.lf.outerloop.OuterLoopStatus;
 import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.LfNetworkStateStore;
 import com.powsybl.openloadflow.network.util.PreviousValueVoltageInitializer;
 import com.powsybl.openloadflow.network.util.VoltageInitializer;
+import com.powsybl.openloadflow.util.Lists2;
 import com.powsybl.openloadflow.util.Reports;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.apache.commons.lang3.tuple.Pair;
@@ -296,6 +298,12 @@ public class AcloadFlowEngine implements LoadFlowEngine<AcVariableType, AcEquati
     }
 
     private AcLoadFlowResult buildAcLoadFlowResult(RunningContext runningContext, OuterLoopResult outerLoopFinalResult, double distributedActivePower) {
+        LfNetworkStateStore stateStore = context.getNetwork().getStateStore();
+        if (stateStore != null) {
+            // so that stored flows are the ones of the solved state
+            stateStore.updateFlows();
+        }
+
         AcLoadFlowResult result = new AcLoadFlowResult(context.getNetwork(),
                                                        runningContext.outerLoopTotalIterations,
                                                        runningContext.nrTotalIterations.getValue(),
@@ -315,16 +323,15 @@ public class AcloadFlowEngine implements LoadFlowEngine<AcVariableType, AcEquati
     }
 
     public static List<AcLoadFlowResult> run(List<LfNetwork> lfNetworks, AcLoadFlowParameters parameters) {
-        return lfNetworks.stream()
-                .map(n -> {
-                    if (n.getValidity() == LfNetwork.Validity.VALID) {
-                        try (AcLoadFlowContext context = new AcLoadFlowContext(n, parameters)) {
-                            return new AcloadFlowEngine(context)
-                                    .run();
-                        }
-                    }
-                    return AcLoadFlowResult.createNoCalculationResult(n);
-                })
-                .toList();
+        // each component has its own context, so components can be solved independently
+        return Lists2.parallelMap(lfNetworks, n -> {
+            if (n.getValidity() == LfNetwork.Validity.VALID) {
+                try (AcLoadFlowContext context = new AcLoadFlowContext(n, parameters)) {
+                    return new AcloadFlowEngine(context)
+                            .run();
+                }
+            }
+            return AcLoadFlowResult.createNoCalculationResult(n);
+        }, parameters.getComponentSolvingThreadCount());
     }
 }
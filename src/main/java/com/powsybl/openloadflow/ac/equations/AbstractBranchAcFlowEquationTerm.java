@@ -16,14 +16,14 @@ import com.powsybl.openloadflow.network.PiModel;
  */
 abstract class AbstractBranchAcFlowEquationTerm extends AbstractElementEquationTerm<LfBranch, AcVariableType, AcEquationType> {
 
-    protected final double b1;
-    protected final double b2;
-    protected final double g1;
-    protected final double g2;
-    protected final double y;
-    protected final double ksi;
-    protected final double g12;
-    protected final double b12;
+    protected double b1;
+    protected double b2;
+    protected double g1;
+    protected double g2;
+    protected double y;
+    protected double ksi;
+    protected double g12;
+    protected double b12;
 
     protected AbstractBranchAcFlowEquationTerm(LfBranch branch) {
         super(branch);
@@ -31,6 +31,14 @@ abstract class AbstractBranchAcFlowEquationTerm extends AbstractElementEquationT
         if (piModel.getR() == 0 && piModel.getX() == 0) {
             throw new IllegalArgumentException("Non impedant branch not supported: " + branch.getId());
         }
+        updatePiModelParameters();
+    }
+
+    /**
+     * Read again the pi model parameters of the branch, after an update of its impedance or admittances.
+     */
+    final void updatePiModelParameters() {
+        PiModel piModel = element.getPiModel();
         b1 = piModel.getB1();
         b2 = piModel.getB2();
         g1 = piModel.getG1();
@@ -164,6 +164,15 @@ public class AcEquationSystemUpdater extends AbstractEquationSystemUpdater<AcVar
         }
     }
 
+    @Override
+    public void onBranchPiModelChange(LfBranch branch) {
+        for (var term : equationSystem.getEquationTerms(ElementType.BRANCH, branch.getNum())) {
+            if (term instanceof AbstractBranchAcFlowEquationTerm branchTerm) {
+                branchTerm.updatePiModelParameters();
+            }
+        }
+    }
+
     @Override
     public void onBranchConnectionStatusChange(LfBranch branch, TwoSides side, boolean connected) {
         AcEquationSystemCreator.updateBranchEquations(branch);
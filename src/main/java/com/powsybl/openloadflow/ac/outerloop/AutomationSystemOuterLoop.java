@@ -85,8 +85,14 @@ public class AutomationSystemOuterLoop implements AcOuterLoop {
             AbstractLfBranchAction.updateBusesAndBranchStatus(connectivity);
             network.getConnectivity().undoTemporaryChanges();
             // we have now to really change the network connectivity.
-            branchesToOpen.forEach(connectivity::removeEdge);
-            branchesToClose.forEach(branch -> connectivity.addEdge(branch.getBus1(), branch.getBus2(), branch));
+            branchesToOpen.forEach(branch -> {
+                connectivity.removeEdge(branch);
+                network.onConnectivityBranchRemoved(branch);
+            });
+            branchesToClose.forEach(branch -> {
+                connectivity.addEdge(branch.getBus1(), branch.getBus2(), branch);
+                network.onConnectivityBranchAdded(branch);
+            });
             status = OuterLoopStatus.UNSTABLE;
         }
 
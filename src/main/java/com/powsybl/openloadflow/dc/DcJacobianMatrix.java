@@ -0,0 +1,320 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.dc;
+
+import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.math.matrix.LUDecomposition;
+import com.powsybl.math.matrix.Matrix;
+import com.powsybl.math.matrix.MatrixFactory;
+import com.powsybl.openloadflow.dc.equations.ClosedBranchSide1DcFlowEquationTerm;
+import com.powsybl.openloadflow.dc.equations.DcEquationType;
+import com.powsybl.openloadflow.dc.equations.DcVariableType;
+import com.powsybl.openloadflow.equations.Equation;
+import com.powsybl.openloadflow.equations.EquationSystem;
+import com.powsybl.openloadflow.equations.JacobianMatrix;
+import com.powsybl.openloadflow.network.*;
+
+import java.util.*;
+
+/**
+ * DC equations are linear, so contrary to the AC case, derivatives do not depend on the state vector and the matrix
+ * and its LU decomposition can be kept when the state is updated. Only a change of the impedance of a branch, which
+ * is not an equation term change, requires to update the values.
+ * <p>
+ * When low rank updates are enabled, a tap position change of a transformer is not applied to the matrix. As it only
+ * changes the admittance y of the transformer flow terms, the new matrix is the decomposed one plus, for each changed
+ * transformer, the rank one matrix dy u v^T, u being +1 -1 on the transformer buses active power equations and v
+ * +1 -1 (+1) on the transformer phase (and phase shift) variables. Solutions are then corrected with the Woodbury
+ * identity, from the states of a +1 -1 injection on each changed transformer, solved once against the kept
+ * decomposition. This is used by DC outer loops so that phase control does not require a new decomposition at each
+ * tap change.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class DcJacobianMatrix extends JacobianMatrix<DcVariableType, DcEquationType> {
+
+    /**
+     * Number of changed transformers above which a new decomposition is cheaper than the corrections.
+     */
+    static final int LOW_RANK_UPDATE_MAX_BRANCH_COUNT = 50;
+
+    private static final DenseMatrix EMPTY_STATES = new DenseMatrix(0, 0);
+
+    /**
+     * A transformer whose admittance may change, with its admittance in the decomposition.
+     */
+    private static final class LowRankBranch {
+
+        private final LfBranch branch;
+
+        private final ClosedBranchSide1DcFlowEquationTerm p1;
+
+        private final double decomposedPower;
+
+        // solution of the +1 -1 injection on the transformer buses, computed at first change
+        private DenseMatrix states;
+
+        private LowRankBranch(LfBranch branch, ClosedBranchSide1DcFlowEquationTerm p1) {
+            this.branch = branch;
+            this.p1 = p1;
+            decomposedPower = getPower();
+        }
+
+        private double getPower() {
+            return p1.der(p1.getPh1Var());
+        }
+
+        /**
+         * Product of v^T with a column of a matrix.
+         */
+        private double dotV(DenseMatrix x, int column) {
+            return p1.calculateSensi(x, column) / getPower();
+        }
+    }
+
+    private final EquationSystem<DcVariableType, DcEquationType> equationSystem;
+
+    private final LfNetwork network;
+
+    private boolean lowRankUpdates = false;
+
+    // true if the decomposition is up to date, apart from low rank updates
+    private boolean decompositionValid = false;
+
+    private final Map<LfBranch, LowRankBranch> lowRankBranches = new HashMap<>();
+
+    private final List<LowRankBranch> changedBranches = new ArrayList<>();
+
+    private final LfNetworkListener networkListener = new AbstractLfNetworkListener() {
+
+        @Override
+        public void onTapPositionChange(LfBranch branch, int oldPosition, int newPosition) {
+            onBranchChange(branch);
+        }
+
+        @Override
+        public void onBranchPiModelChange(LfBranch branch) {
+            onBranchChange(branch);
+        }
+    };
+
+    public DcJacobianMatrix(EquationSystem<DcVariableType, DcEquationType> equationSystem, MatrixFactory matrixFactory,
+                            LfNetwork network) {
+        super(equationSystem, matrixFactory);
+        this.equationSystem = Objects.requireNonNull(equationSystem);
+        this.network = Objects.requireNonNull(network);
+        network.addListener(networkListener);
+    }
+
+    private void onBranchChange(LfBranch branch) {
+        if (lowRankUpdates && decompositionValid) {
+            LowRankBranch lowRankBranch = lowRankBranches.get(branch);
+            if (lowRankBranch != null && (lowRankBranch.states != null || changedBranches.size() < LOW_RANK_UPDATE_MAX_BRANCH_COUNT)) {
+                if (lowRankBranch.states == null) {
+                    changedBranches.add(lowRankBranch);
+                    lowRankBranch.states = EMPTY_STATES; // computed at next solve
+                }
+                return;
+            }
+        }
+        updateStatus(Status.VALUES_INVALID);
+    }
+
+    @Override
+    protected void updateStatus(Status status) {
+        // the matrix will be updated with all the changes, so low rank updates are not needed anymore
+        decompositionValid = false;
+        for (LowRankBranch lowRankBranch : changedBranches) {
+            lowRankBranch.states = null;
+        }
+        changedBranches.clear();
+        super.updateStatus(status);
+    }
+
+    /**
+     * Enable or disable low rank updates. When disabled, pending changes are applied to the matrix at next use.
+     */
+    public void setLowRankUpdates(boolean lowRankUpdates) {
+        if (!lowRankUpdates && !changedBranches.isEmpty()) {
+            updateStatus(Status.VALUES_INVALID);
+        }
+        this.lowRankUpdates = lowRankUpdates;
+        lowRankBranches.clear();
+        if (lowRankUpdates) {
+            indexLowRankBranches();
+        }
+    }
+
+    public boolean isLowRankUpdates() {
+        return lowRankUpdates;
+    }
+
+    private void indexLowRankBranches() {
+        lowRankBranches.clear();
+        for (LfBranch branch : network.getBranches()) {
+            if (branch.getPiModel() instanceof PiModelArray) {
+                equationSystem.getEquationTerms(ElementType.BRANCH, branch.getNum()).stream()
+                        .filter(ClosedBranchSide1DcFlowEquationTerm.class::isInstance)
+                        .map(ClosedBranchSide1DcFlowEquationTerm.class::cast)
+                        .filter(ClosedBranchSide1DcFlowEquationTerm::isActive)
+                        .findFirst()
+                        .ifPresent(p1 -> lowRankBranches.put(branch, new LowRankBranch(branch, p1)));
+            }
+        }
+    }
+
+    private void onDecomposition() {
+        if (!decompositionValid) {
+            // decomposed admittances are the current ones
+            decompositionValid = true;
+            if (lowRankUpdates) {
+                indexLowRankBranches();
+            }
+        }
+    }
+
+    private void setInjection(double[] rhs, LfBus bus, double value) {
+        if (bus != null) {
+            equationSystem.getEquation(bus.getNum(), DcEquationType.BUS_TARGET_P)
+                    .filter(Equation::isActive)
+                    .ifPresent(equation -> rhs[equation.getColumn()] = value);
+        }
+    }
+
+    /**
+     * Get the changed transformers with a non zero admittance variation, computing their states if needed.
+     */
+    private List<LowRankBranch> getLowRankBranches() {
+        List<LowRankBranch> branches = new ArrayList<>(changedBranches.size());
+        int rowCount = equationSystem.getIndex().getSortedEquationsToSolve().size();
+        for (LowRankBranch lowRankBranch : changedBranches) {
+            if (lowRankBranch.getPower() != lowRankBranch.decomposedPower) {
+                if (lowRankBranch.states == EMPTY_STATES) {
+                    double[] rhs = new double[rowCount];
+                    setInjection(rhs, lowRankBranch.branch.getBus1(), 1);
+                    setInjection(rhs, lowRankBranch.branch.getBus2(), -1);
+                    super.solveTransposed(rhs);
+                    lowRankBranch.states = new DenseMatrix(rowCount, 1, rhs);
+                }
+                branches.add(lowRankBranch);
+            }
+        }
+        return branches;
+    }
+
+    /**
+     * Correct solutions of the decomposed matrix to get solutions of the matrix with low rank updates:
+     * x = z - Z (D^-1 + V^T Z)^-1 V^T z, z being a solution of the decomposed matrix, Z the states of the changed
+     * transformers and D their admittance variations.
+     */
+    private void correct(DenseMatrix x) {
+        List<LowRankBranch> branches = getLowRankBranches();
+        int size = branches.size();
+        if (size == 0) {
+            return;
+        }
+        DenseMatrix matrix = new DenseMatrix(size, size);
+        for (int i = 0; i < size; i++) {
+            LowRankBranch branchI = branches.get(i);
+            for (int j = 0; j < size; j++) {
+                double value = branchI.dotV(branches.get(j).states, 0);
+                if (i == j) {
+                    value += 1 / (branchI.getPower() - branchI.decomposedPower);
+                }
+                matrix.set(i, j, value);
+            }
+        }
+        DenseMatrix w = new DenseMatrix(size, x.getColumnCount());
+        for (int i = 0; i < size; i++) {
+            for (int column = 0; column < x.getColumnCount(); column++) {
+                w.set(i, column, branches.get(i).dotV(x, column));
+            }
+        }
+        try (LUDecomposition lu = matrix.decomposeLU()) {
+            lu.solve(w);
+        }
+        for (int column = 0; column < x.getColumnCount(); column++) {
+            for (int i = 0; i < size; i++) {
+                double wi = w.get(i, column);
+                if (wi != 0) {
+                    DenseMatrix states = branches.get(i).states;
+                    for (int row = 0; row < x.getRowCount(); row++) {
+                        x.add(row, column, -wi * states.get(row, 0));
+                    }
+                }
+            }
+        }
+    }
+
+    private void applyLowRankUpdates() {
+        if (!changedBranches.isEmpty()) {
+            updateStatus(Status.VALUES_INVALID);
+        }
+    }
+
+    @Override
+    public void solveTransposed(double[] b) {
+        super.solveTransposed(b);
+        onDecomposition();
+        if (!changedBranches.isEmpty()) {
+            DenseMatrix x = new DenseMatrix(b.length, 1, b);
+            correct(x);
+            for (int row = 0; row < b.length; row++) {
+                b[row] = x.get(row, 0);
+            }
+        }
+    }
+
+    @Override
+    public void solveTransposed(DenseMatrix b) {
+        super.solveTransposed(b);
+        onDecomposition();
+        if (!changedBranches.isEmpty()) {
+            correct(b);
+        }
+    }
+
+    @Override
+    public void solve(double[] b) {
+        // low rank updates are only supported for transposed solving
+        applyLowRankUpdates();
+        super.solve(b);
+        onDecomposition();
+    }
+
+    @Override
+    public void solve(DenseMatrix b) {
+        applyLowRankUpdates();
+        super.solve(b);
+        onDecomposition();
+    }
+
+    @Override
+    public Matrix getMatrix() {
+        // external users get the matrix with all the changes, decomposition uses the one without low rank updates
+        applyLowRankUpdates();
+        return super.getMatrix();
+    }
+
+    @Override
+    public void forceUpdate() {
+        applyLowRankUpdates();
+        super.forceUpdate();
+    }
+
+    @Override
+    public void onStateUpdate() {
+        // nothing to do, derivatives do not depend on the state
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        network.removeListener(networkListener);
+    }
+}
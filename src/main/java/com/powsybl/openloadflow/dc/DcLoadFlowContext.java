@@ -37,7 +37,7 @@ public class DcLoadFlowContext extends AbstractLoadFlowContext<DcVariableType, D
     @Override
     public JacobianMatrix<DcVariableType, DcEquationType> getJacobianMatrix() {
         if (jacobianMatrix == null) {
-            jacobianMatrix = new JacobianMatrix<>(getEquationSystem(), parameters.getMatrixFactory());
+            jacobianMatrix = new DcJacobianMatrix(getEquationSystem(), parameters.getMatrixFactory(), network);
         }
         return jacobianMatrix;
     }
@@ -47,6 +47,7 @@ public class DcLoadFlowContext extends AbstractLoadFlowContext<DcVariableType, D
         if (equationSystem == null) {
             equationSystem = new DcEquationSystemCreator(network, parameters.getEquationSystemCreationParameters())
                     .create(withEquationSystemListener);
+            registerStateVectorUpdater(null, DcVariableType.BUS_PHI);
         }
         return equationSystem;
     }
@@ -10,6 +10,7 @@ package com.powsybl.openloadflow.dc;
 import com.google.common.collect.Lists;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.DenseMatrix;
 import com.powsybl.math.matrix.MatrixException;
 import com.powsybl.openloadflow.OpenLoadFlowParameters;
 import com.powsybl.openloadflow.dc.equations.DcEquationType;
@@ -22,9 +23,11 @@ import com.powsybl.openloadflow.network.LfBus;
 import com.powsybl.openloadflow.network.LfGenerator;
 import com.powsybl.openloadflow.network.LfNetwork;
 import com.powsybl.openloadflow.network.LfNetworkLoader;
+import com.powsybl.openloadflow.network.LfNetworkStateStore;
 import com.powsybl.openloadflow.network.util.ActivePowerDistribution;
 import com.powsybl.openloadflow.network.util.UniformValueVoltageInitializer;
 import com.powsybl.openloadflow.network.util.VoltageInitializer;
+import com.powsybl.openloadflow.util.Lists2;
 import com.powsybl.openloadflow.util.PerUnit;
 import com.powsybl.openloadflow.util.Reports;
 import org.apache.commons.lang3.tuple.Pair;
@@ -176,6 +179,47 @@ public class DcLoadFlowEngine implements LoadFlowEngine<DcVariableType, DcEquati
         }
     }
 
+    /**
+     * Same as {@link #solve(double[], JacobianMatrix, ReportNode)} but for several target vectors, one per column, solved
+     * at once against the same factorization.
+     */
+    public static boolean solve(DenseMatrix targetMatrix,
+                                JacobianMatrix<DcVariableType, DcEquationType> jacobianMatrix,
+                                ReportNode reportNode) {
+        try {
+            jacobianMatrix.solveTransposed(targetMatrix);
+            return true;
+        } catch (MatrixException e) {
+            Reports.reportDcLfSolverFailure(reportNode, e.getMessage());
+            LOGGER.error("Failed to solve linear system for DC load flow", e);
+            return false;
+        }
+    }
+
+    private void runOuterLoops(List<Pair<DcOuterLoop, DcOuterLoopContext>> outerLoopsAndContexts, RunningContext runningContext) {
+        int oldSolverTotalExecutions;
+        do {
+            oldSolverTotalExecutions = runningContext.solverTotalExecutions;
+            // outer loops are nested: innermost loop first in the list, outermost loop last
+            for (var outerLoopAndContext : outerLoopsAndContexts) {
+                runOuterLoop(outerLoopAndContext.getLeft(), outerLoopAndContext.getRight(), runningContext);
+
+                // continue with next outer loop only if:
+                // - last solver run succeed,
+                // - last OuterLoopStatus is not FAILED
+                // - we have not reached max number of outer loop iteration
+                if (!runningContext.lastSolverSuccess
+                        || runningContext.lastOuterLoopResult.status() == OuterLoopStatus.FAILED
+                        || runningContext.outerLoopTotalIterations >= context.getParameters().getMaxOuterLoopIterations()) {
+                    break;
+                }
+            }
+        } while (runningContext.solverTotalExecutions > oldSolverTotalExecutions
+                && runningContext.lastSolverSuccess
+                && runningContext.lastOuterLoopResult.status() != OuterLoopStatus.FAILED
+                && runningContext.outerLoopTotalIterations < context.getParameters().getMaxOuterLoopIterations());
+    }
+
     public DcLoadFlowResult run() {
         LfNetwork network = context.getNetwork();
         ReportNode reportNode = network.getReportNode();
@@ -252,27 +296,17 @@ public class DcLoadFlowEngine implements LoadFlowEngine<DcVariableType, DcEquati
 
         // continue with outer loops only if solver succeed
         if (runningContext.lastSolverSuccess) {
-            int oldSolverTotalExecutions;
-            do {
-                oldSolverTotalExecutions = runningContext.solverTotalExecutions;
-                // outer loops are nested: innermost loop first in the list, outermost loop last
-                for (var outerLoopAndContext : outerLoopsAndContexts) {
-                    runOuterLoop(outerLoopAndContext.getLeft(), outerLoopAndContext.getRight(), runningContext);
-
-                    // continue with next outer loop only if:
-                    // - last solver run succeed,
-                    // - last OuterLoopStatus is not FAILED
-                    // - we have not reached max number of outer loop iteration
-                    if (!runningContext.lastSolverSuccess
-                            || runningContext.lastOuterLoopResult.status() == OuterLoopStatus.FAILED
-                            || runningContext.outerLoopTotalIterations >= context.getParameters().getMaxOuterLoopIterations()) {
-                        break;
-                    }
+            if (context.getJacobianMatrix() instanceof DcJacobianMatrix dcJacobianMatrix) {
+                // tap changes of phase control are applied as low rank updates of the factorized matrix
+                dcJacobianMatrix.setLowRankUpdates(true);
+                try {
+                    runOuterLoops(outerLoopsAndContexts, runningContext);
+                } finally {
+                    dcJacobianMatrix.setLowRankUpdates(false);
                 }
-            } while (runningContext.solverTotalExecutions > oldSolverTotalExecutions
-                    && runningContext.lastSolverSuccess
-                    && runningContext.lastOuterLoopResult.status() != OuterLoopStatus.FAILED
-                    && runningContext.outerLoopTotalIterations < context.getParameters().getMaxOuterLoopIterations());
+            } else {
+                runOuterLoops(outerLoopsAndContexts, runningContext);
+            }
         }
 
         if (runningContext.outerLoopTotalIterations >= context.getParameters().getMaxOuterLoopIterations()) {
@@ -302,6 +336,10 @@ public class DcLoadFlowEngine implements LoadFlowEngine<DcVariableType, DcEquati
     }
 
     DcLoadFlowResult buildDcLoadFlowResult(LfNetwork network, RunningContext runningContext, double initialSlackBusActivePowerMismatch, double finalDistributedActivePower) {
+        LfNetworkStateStore stateStore = network.getStateStore();
+        if (stateStore != null) {
+            stateStore.updateFlows();
+        }
         double slackBusActivePowerMismatch;
         double distributedActivePower;
         if (runningContext.lastSolverSuccess && runningContext.lastOuterLoopResult.status() == OuterLoopStatus.STABLE) {
@@ -317,19 +355,17 @@ public class DcLoadFlowEngine implements LoadFlowEngine<DcVariableType, DcEquati
     }
 
     public static <T> List<DcLoadFlowResult> run(T network, LfNetworkLoader<T> networkLoader, DcLoadFlowParameters parameters, ReportNode reportNode) {
-        return LfNetwork.load(network, networkLoader, parameters.getNetworkParameters(), reportNode)
-                .stream()
-                .map(n -> {
-                    if (n.getValidity() == LfNetwork.Validity.VALID) {
-                        try (DcLoadFlowContext context = new DcLoadFlowContext(n, parameters)) {
-                            return new DcLoadFlowEngine(context)
-                                    .run();
-                        }
-                    }
-
-                    return DcLoadFlowResult.createNoCalculationResult(n);
-                })
-                .toList();
+        // each component has its own context, so components can be solved independently
+        return Lists2.parallelMap(LfNetwork.load(network, networkLoader, parameters.getNetworkParameters(), reportNode), n -> {
+            if (n.getValidity() == LfNetwork.Validity.VALID) {
+                try (DcLoadFlowContext context = new DcLoadFlowContext(n, parameters)) {
+                    return new DcLoadFlowEngine(context)
+                            .run();
+                }
+            }
+
+            return DcLoadFlowResult.createNoCalculationResult(n);
+        }, parameters.getComponentSolvingThreadCount());
     }
 
 }
@@ -119,6 +119,7 @@ public class DcLoadFlowParameters extends AbstractLoadFlowParameters<DcLoadFlowP
                 ", balanceType=" + balanceType +
                 ", setVToNan=" + setVToNan +
                 ", maxOuterLoopIterations=" + maxOuterLoopIterations +
+                ", componentSolvingThreadCount=" + componentSolvingThreadCount +
                 ')';
     }
 }
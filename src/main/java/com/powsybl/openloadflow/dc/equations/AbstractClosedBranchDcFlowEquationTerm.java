@@ -10,6 +10,7 @@ package com.powsybl.openloadflow.dc.equations;
 import com.powsybl.math.matrix.DenseMatrix;
 import com.powsybl.openloadflow.equations.AbstractElementEquationTerm;
 import com.powsybl.openloadflow.equations.StateVector;
+import com.powsybl.openloadflow.equations.StatesMatrix;
 import com.powsybl.openloadflow.equations.Variable;
 import com.powsybl.openloadflow.equations.VariableSet;
 import com.powsybl.openloadflow.network.LfBranch;
@@ -97,6 +98,21 @@ public abstract class AbstractClosedBranchDcFlowEquationTerm extends AbstractEle
         double dph1 = dx.get(ph1Var.getRow(), column);
         double dph2 = dx.get(ph2Var.getRow(), column);
         double da1 = a1Var != null ? dx.get(a1Var.getRow(), column) : 0;
+        return calculateSensi(dph1, dph2, da1);
+    }
+
+    /**
+     * Same as {@link #calculateSensi(DenseMatrix, int)} but for states that may be stored in reduced precision.
+     */
+    public double calculateSensi(StatesMatrix dx, int column) {
+        Objects.requireNonNull(dx);
+        double dph1 = dx.get(ph1Var.getRow(), column);
+        double dph2 = dx.get(ph2Var.getRow(), column);
+        double da1 = a1Var != null ? dx.get(a1Var.getRow(), column) : 0;
+        return calculateSensi(dph1, dph2, da1);
+    }
+
+    private double calculateSensi(double dph1, double dph2, double da1) {
         // - eval(0,0,0) to have an exact epression and remove the constant term of the affine function (wich is 0 in practe because A2 = 0)
         return eval(dph1, dph2, da1) - eval(0, 0, 0);
     }
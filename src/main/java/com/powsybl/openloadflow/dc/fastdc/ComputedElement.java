@@ -16,16 +16,23 @@ import com.powsybl.openloadflow.dc.equations.DcEquationType;
 import com.powsybl.openloadflow.dc.equations.DcVariableType;
 import com.powsybl.openloadflow.equations.Equation;
 import com.powsybl.openloadflow.equations.EquationSystem;
+import com.powsybl.openloadflow.equations.FloatStatesMatrix;
 import com.powsybl.openloadflow.network.LfBranch;
 import com.powsybl.openloadflow.network.LfBus;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  * @author Gaël Macherel {@literal <gael.macherel@artelys.com>}
  */
 public class ComputedElement {
+
+    private static final int FLOAT_STATES_BLOCK_SIZE = 256;
+
     private int computedElementIndex = -1; // index of the element in the rhs for +1-1
     private int localIndex = -1; // local index of the element : index of the element in the matrix used in the setAlphas method
     private double alphaForWoodburyComputation = Double.NaN;
@@ -87,7 +94,17 @@ public class ComputedElement {
      * Fills the right hand side with +1/-1 to model a branch contingency or action.
      */
     private static void fillRhs(EquationSystem<DcVariableType, DcEquationType> equationSystem, Collection<? extends ComputedElement> computedElements, Matrix rhs) {
+        fillRhs(equationSystem, computedElements, rhs, 0);
+    }
+
+    /**
+     * Same as {@link #fillRhs(EquationSystem, Collection, Matrix)} but with element columns shifted by a given offset, so
+     * that a right hand side can be filled with only a block of the elements.
+     */
+    private static void fillRhs(EquationSystem<DcVariableType, DcEquationType> equationSystem, Collection<? extends ComputedElement> computedElements,
+                                Matrix rhs, int columnOffset) {
         for (ComputedElement element : computedElements) {
+            int column = element.getComputedElementIndex() - columnOffset;
             LfBranch lfBranch = element.getLfBranch();
             if (lfBranch.getBus1() == null || lfBranch.getBus2() == null) {
                 continue;
@@ -96,15 +113,15 @@ public class ComputedElement {
             LfBus bus2 = lfBranch.getBus2();
             if (bus1.isSlack()) {
                 Equation<DcVariableType, DcEquationType> p = equationSystem.getEquation(bus2.getNum(), DcEquationType.BUS_TARGET_P).orElseThrow(IllegalStateException::new);
-                rhs.set(p.getColumn(), element.getComputedElementIndex(), -1);
+                rhs.set(p.getColumn(), column, -1);
             } else if (bus2.isSlack()) {
                 Equation<DcVariableType, DcEquationType> p = equationSystem.getEquation(bus1.getNum(), DcEquationType.BUS_TARGET_P).orElseThrow(IllegalStateException::new);
-                rhs.set(p.getColumn(), element.getComputedElementIndex(), 1);
+                rhs.set(p.getColumn(), column, 1);
             } else {
                 Equation<DcVariableType, DcEquationType> p1 = equationSystem.getEquation(bus1.getNum(), DcEquationType.BUS_TARGET_P).orElseThrow(IllegalStateException::new);
                 Equation<DcVariableType, DcEquationType> p2 = equationSystem.getEquation(bus2.getNum(), DcEquationType.BUS_TARGET_P).orElseThrow(IllegalStateException::new);
-                rhs.set(p1.getColumn(), element.getComputedElementIndex(), 1);
-                rhs.set(p2.getColumn(), element.getComputedElementIndex(), -1);
+                rhs.set(p1.getColumn(), column, 1);
+                rhs.set(p2.getColumn(), column, -1);
             }
         }
     }
@@ -128,4 +145,48 @@ public class ComputedElement {
         loadFlowContext.getJacobianMatrix().solveTransposed(elementsStates);
         return elementsStates;
     }
+
+    /**
+     * Same as {@link #calculateElementsStates(DcLoadFlowContext, Collection)} but reusing, when available, the states of
+     * the elements already computed in a previous call, indexed by branch id.
+     */
+    public static DenseMatrix calculateElementsStates(DcLoadFlowContext loadFlowContext, Collection<? extends ComputedElement> computedElements,
+                                                      StatesColumnCache<String> statesCache) {
+        if (statesCache == null) {
+            return calculateElementsStates(loadFlowContext, computedElements);
+        }
+        DenseMatrix elementsStates = initRhs(loadFlowContext.getEquationSystem(), computedElements); // rhs with +1 -1 on computed elements
+        List<String> branchIds = new ArrayList<>(Collections.nCopies(computedElements.size(), (String) null));
+        for (ComputedElement element : computedElements) {
+            branchIds.set(element.getComputedElementIndex(), element.getLfBranch().getId());
+        }
+        statesCache.solveTransposed(loadFlowContext.getJacobianMatrix(), elementsStates, branchIds);
+        return elementsStates;
+    }
+
+    /**
+     * Same as {@link #calculateElementsStates(DcLoadFlowContext, Collection)} but with states stored in single precision.
+     * States are solved by blocks of elements, so that the double precision states of all the elements are never
+     * allocated at once.
+     *
+     * @param rowsToKeepExactByElement the rows to keep in double precision, indexed by computed element index
+     */
+    public static FloatStatesMatrix calculateElementsFloatStates(DcLoadFlowContext loadFlowContext, List<? extends ComputedElement> computedElements,
+                                                                 int[][] rowsToKeepExactByElement) {
+        EquationSystem<DcVariableType, DcEquationType> equationSystem = loadFlowContext.getEquationSystem();
+        int equationCount = equationSystem.getIndex().getSortedEquationsToSolve().size();
+        FloatStatesMatrix elementsStates = new FloatStatesMatrix(equationCount, computedElements.size());
+        for (int blockStart = 0; blockStart < computedElements.size(); blockStart += FLOAT_STATES_BLOCK_SIZE) {
+            int blockEnd = Math.min(blockStart + FLOAT_STATES_BLOCK_SIZE, computedElements.size());
+            List<? extends ComputedElement> blockElements = computedElements.subList(blockStart, blockEnd);
+            DenseMatrix blockStates = new DenseMatrix(equationCount, blockElements.size());
+            fillRhs(equationSystem, blockElements, blockStates, blockStart);
+            loadFlowContext.getJacobianMatrix().solveTransposed(blockStates);
+            for (ComputedElement element : blockElements) {
+                int index = element.getComputedElementIndex();
+                elementsStates.setColumn(index, blockStates, index - blockStart, rowsToKeepExactByElement[index]);
+            }
+        }
+        return elementsStates;
+    }
 }
@@ -8,12 +8,13 @@
 package com.powsybl.openloadflow.dc.fastdc;
 
 import com.powsybl.contingency.BranchContingency;
-import com.powsybl.math.matrix.DenseMatrix;
 import com.powsybl.openloadflow.dc.DcLoadFlowContext;
 import com.powsybl.openloadflow.dc.equations.ClosedBranchSide1DcFlowEquationTerm;
 import com.powsybl.openloadflow.dc.equations.DcEquationType;
 import com.powsybl.openloadflow.dc.equations.DcVariableType;
 import com.powsybl.openloadflow.equations.EquationSystem;
+import com.powsybl.openloadflow.equations.StatesMatrix;
+import com.powsybl.openloadflow.equations.Variable;
 import com.powsybl.openloadflow.graph.GraphConnectivity;
 import com.powsybl.openloadflow.network.ElementType;
 import com.powsybl.openloadflow.network.LfBranch;
@@ -84,7 +85,7 @@ public final class ConnectivityBreakAnalysis {
 
     public record ConnectivityBreakAnalysisResults(List<PropagatedContingency> nonBreakingConnectivityContingencies,
                                                    List<ConnectivityAnalysisResult> connectivityAnalysisResults,
-                                                   DenseMatrix contingenciesStates,
+                                                   StatesMatrix contingenciesStates,
                                                    Map<String, ComputedContingencyElement> contingencyElementByBranch) {
 
     }
@@ -93,7 +94,7 @@ public final class ConnectivityBreakAnalysis {
 
     }
 
-    private static void detectPotentialConnectivityBreak(LfNetwork lfNetwork, DenseMatrix states, List<PropagatedContingency> contingencies,
+    private static void detectPotentialConnectivityBreak(LfNetwork lfNetwork, StatesMatrix states, List<PropagatedContingency> contingencies,
                                                          Map<String, ComputedContingencyElement> contingencyElementByBranch,
                                                          EquationSystem<DcVariableType, DcEquationType> equationSystem,
                                                          List<PropagatedContingency> nonBreakingConnectivityContingencies,
@@ -108,7 +109,7 @@ public final class ConnectivityBreakAnalysis {
         }
     }
 
-    private static boolean isGroupOfElementsBreakingConnectivity(LfNetwork lfNetwork, DenseMatrix contingenciesStates,
+    private static boolean isGroupOfElementsBreakingConnectivity(LfNetwork lfNetwork, StatesMatrix contingenciesStates,
                                                                  List<ComputedContingencyElement> contingencyElements,
                                                                  EquationSystem<DcVariableType, DcEquationType> equationSystem) {
         // use a sensitivity-criterion to detect the loss of connectivity after a contingency
@@ -144,6 +145,13 @@ public final class ConnectivityBreakAnalysis {
         for (PropagatedContingency contingency : potentiallyBreakingConnectivityContingencies) {
             List<ComputedContingencyElement> breakingConnectivityCandidates = contingency.getBranchIdsToOpen().keySet().stream().map(contingencyElementByBranch::get).collect(Collectors.toList());
 
+            // the sensitivity criterion may have false positives, skip connectivity update if branches are provably
+            // not a cut set
+            if (lfNetwork.isConnectivityPreserved(breakingConnectivityCandidates.stream().map(ComputedContingencyElement::getLfBranch).toList())) {
+                nonBreakingConnectivityContingencies.add(contingency);
+                continue;
+            }
+
             // we confirm the breaking of connectivity by network connectivity
             Set<ComputedContingencyElement> breakingConnectivityElements;
             connectivity.startTemporaryChanges();
@@ -230,11 +238,66 @@ public final class ConnectivityBreakAnalysis {
     }
 
     public static ConnectivityBreakAnalysisResults run(DcLoadFlowContext loadFlowContext, List<PropagatedContingency> contingencies) {
+        return run(loadFlowContext, contingencies, null);
+    }
+
+    /**
+     * For each contingency element, the rows of its states read to compute the flow of itself and of the other elements
+     * of the same contingencies. These are the values used by the connectivity criterion and by the Woodbury matrix to
+     * invert, where differences of close values are computed, so they have to be kept in double precision.
+     */
+    private static int[][] getContingencyRowsToKeepExact(List<PropagatedContingency> contingencies, Map<String, ComputedContingencyElement> contingencyElementByBranch) {
+        List<Set<Integer>> rowsByElement = new ArrayList<>(contingencyElementByBranch.size());
+        for (int i = 0; i < contingencyElementByBranch.size(); i++) {
+            rowsByElement.add(new HashSet<>());
+        }
+        for (PropagatedContingency contingency : contingencies) {
+            List<ComputedContingencyElement> contingencyElements = contingency.getBranchIdsToOpen().keySet().stream()
+                    .map(contingencyElementByBranch::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            for (ComputedContingencyElement element : contingencyElements) {
+                Set<Integer> rows = rowsByElement.get(element.getComputedElementIndex());
+                for (ComputedContingencyElement element2 : contingencyElements) {
+                    for (Variable<DcVariableType> v : element2.getLfBranchEquation().getVariables()) {
+                        rows.add(v.getRow());
+                    }
+                }
+            }
+        }
+        return rowsByElement.stream()
+                .map(rows -> rows.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+    }
+
+    /**
+     * Same as {@link #run(DcLoadFlowContext, List)} but reusing the contingency states, indexed by branch id, of a
+     * previous run on the same load flow context.
+     */
+    public static ConnectivityBreakAnalysisResults run(DcLoadFlowContext loadFlowContext, List<PropagatedContingency> contingencies,
+                                                       StatesColumnCache<String> contingencyStatesCache) {
+        return run(loadFlowContext, contingencies, contingencyStatesCache, false);
+    }
+
+    /**
+     * Same as {@link #run(DcLoadFlowContext, List, StatesColumnCache)} but with contingency states optionally stored in
+     * single precision, to halve their memory. Only the values used to detect connectivity breaks and to compute the
+     * Woodbury alphas are kept in double precision, so that rounding only affects the post contingency flows with a
+     * relative error of about 1e-7. Single precision states are not cached.
+     */
+    public static ConnectivityBreakAnalysisResults run(DcLoadFlowContext loadFlowContext, List<PropagatedContingency> contingencies,
+                                                       StatesColumnCache<String> contingencyStatesCache, boolean floatStates) {
         // index contingency elements by branch id
         Map<String, ComputedContingencyElement> contingencyElementByBranch = createContingencyElementsIndexByBranchId(contingencies, loadFlowContext.getNetwork(), loadFlowContext.getEquationSystem());
 
         // compute states with +1 -1 to model the contingencies
-        DenseMatrix contingenciesStates = ComputedElement.calculateElementsStates(loadFlowContext, contingencyElementByBranch.values());
+        StatesMatrix contingenciesStates;
+        if (floatStates) {
+            contingenciesStates = ComputedElement.calculateElementsFloatStates(loadFlowContext, new ArrayList<>(contingencyElementByBranch.values()),
+                                                                               getContingencyRowsToKeepExact(contingencies, contingencyElementByBranch));
+        } else {
+            contingenciesStates = StatesMatrix.of(ComputedElement.calculateElementsStates(loadFlowContext, contingencyElementByBranch.values(), contingencyStatesCache));
+        }
 
         // connectivity analysis by contingency
         // we have to compute sensitivities and reference functions in a different way depending on either or not the contingency breaks connectivity
@@ -0,0 +1,496 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.dc.fastdc;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.openloadflow.dc.DcLoadFlowContext;
+import com.powsybl.openloadflow.dc.equations.AbstractClosedBranchDcFlowEquationTerm;
+import com.powsybl.openloadflow.dc.equations.ClosedBranchSide1DcFlowEquationTerm;
+import com.powsybl.openloadflow.dc.equations.DcEquationSystemCreationParameters;
+import com.powsybl.openloadflow.dc.equations.DcEquationType;
+import com.powsybl.openloadflow.dc.equations.DcVariableType;
+import com.powsybl.openloadflow.equations.Equation;
+import com.powsybl.openloadflow.equations.EquationSystem;
+import com.powsybl.openloadflow.network.ElementType;
+import com.powsybl.openloadflow.network.LfBranch;
+import com.powsybl.openloadflow.network.LfBus;
+import com.powsybl.openloadflow.network.LfNetwork;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * DC power transfer distribution factors (PTDF) and line outage distribution factors (LODF) of a selection of monitored
+ * branches, stored in a binary file and read back through memory mapping, so that they can be computed once and then
+ * shared by several studies or processes.
+ * <ul>
+ *     <li>PTDF(m, k) is the variation of the side 1 active power of monitored branch m for a 1 per-unit injection at
+ *     bus k, compensated at the slack bus.</li>
+ *     <li>LODF(m, o) is the variation of the side 1 active power of monitored branch m after the outage of branch o,
+ *     per unit of the pre-outage side 1 active power of o (excluding the phase shift of o). LODF(o, o) is -1 and LODF(m, o)
+ *     is NaN for all m if o is a bridge.</li>
+ * </ul>
+ * Both matrices are stored column-major (by injection bus and by outage branch) so that a column is contiguous.
+ * <p>
+ * File layout (little endian):
+ * <ul>
+ *     <li>header: magic (int), version (int), precision ordinal (int), fingerprint (long), monitored branch count (int),
+ *     injection bus count (int), outage branch count (int)</li>
+ *     <li>ids of monitored branches, injection buses and outage branches: UTF-8 length (int) and bytes</li>
+ *     <li>values, padded to an 8 bytes boundary: PTDF columns then LODF columns, as float64 or float32</li>
+ * </ul>
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public final class DcDistributionFactors implements AutoCloseable {
+
+    public enum Precision {
+        FLOAT64(Double.BYTES),
+        FLOAT32(Float.BYTES);
+
+        private final int valueSize;
+
+        Precision(int valueSize) {
+            this.valueSize = valueSize;
+        }
+
+        public int getValueSize() {
+            return valueSize;
+        }
+    }
+
+    static final int MAGIC = 0x4F4C4644; // "OLFD"
+
+    static final int VERSION = 1;
+
+    private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final int HEADER_SIZE = 6 * Integer.BYTES + Long.BYTES;
+
+    private static final int MAPPING_VALUE_COUNT = 1 << 24;
+
+    private static final int BLOCK_COLUMN_COUNT = 256;
+
+    private static final double BRIDGE_EPSILON = 1e-8;
+
+    private final FileChannel channel;
+
+    private final Precision precision;
+
+    private final long fingerprint;
+
+    private final List<String> monitoredBranchIds;
+
+    private final List<String> injectionBusIds;
+
+    private final List<String> outageBranchIds;
+
+    private final long valueCount;
+
+    private final MappedByteBuffer[] mappings;
+
+    private boolean closed = false;
+
+    private DcDistributionFactors(Path file) {
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+
+            ByteBuffer header = readFully(channel, HEADER_SIZE, 0);
+            if (header.getInt() != MAGIC) {
+                throw new PowsyblException("Not a DC distribution factors file: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new PowsyblException("Unsupported DC distribution factors file version: " + version);
+            }
+            precision = Precision.values()[header.getInt()];
+            fingerprint = header.getLong();
+            int monitoredBranchCount = header.getInt();
+            int injectionBusCount = header.getInt();
+            int outageBranchCount = header.getInt();
+
+            long[] position = {HEADER_SIZE};
+            monitoredBranchIds = readIds(channel, monitoredBranchCount, position);
+            injectionBusIds = readIds(channel, injectionBusCount, position);
+            outageBranchIds = readIds(channel, outageBranchCount, position);
+            long valuesPosition = align(position[0]);
+
+            valueCount = (long) monitoredBranchCount * (injectionBusCount + outageBranchCount);
+            int mappingCount = (int) ((valueCount + MAPPING_VALUE_COUNT - 1) / MAPPING_VALUE_COUNT);
+            mappings = new MappedByteBuffer[mappingCount];
+            for (int i = 0; i < mappingCount; i++) {
+                long firstValue = (long) i * MAPPING_VALUE_COUNT;
+                long mappingValueCount = Math.min(MAPPING_VALUE_COUNT, valueCount - firstValue);
+                mappings[i] = channel.map(FileChannel.MapMode.READ_ONLY, valuesPosition + firstValue * precision.getValueSize(),
+                                          mappingValueCount * precision.getValueSize());
+                mappings[i].order(BYTE_ORDER);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long align(long position) {
+        return (position + Long.BYTES - 1) / Long.BYTES * Long.BYTES;
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, int size, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(BYTE_ORDER);
+        long p = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, p);
+            if (read < 0) {
+                throw new PowsyblException("Truncated DC distribution factors file");
+            }
+            p += read;
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static List<String> readIds(FileChannel channel, int count, long[] position) throws IOException {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = readFully(channel, Integer.BYTES, position[0]).getInt();
+            ByteBuffer bytes = readFully(channel, length, position[0] + Integer.BYTES);
+            ids.add(new String(bytes.array(), 0, length, StandardCharsets.UTF_8));
+            position[0] += Integer.BYTES + length;
+        }
+        return Collections.unmodifiableList(ids);
+    }
+
+    /**
+     * Open a file previously written by {@link #compute(DcLoadFlowContext, List, List, List, Precision, Path)}.
+     */
+    public static DcDistributionFactors load(Path file) {
+        Objects.requireNonNull(file);
+        return new DcDistributionFactors(file);
+    }
+
+    /**
+     * Compute the distribution factors of the network of a load flow context, write them to a file and open it.
+     *
+     * @param monitoredBranchIds ids of the branches whose flows are monitored, they must be connected on both sides
+     * @param injectionBusIds ids of the buses of the PTDF injections
+     * @param outageBranchIds ids of the branches of the LODF outages, they must be connected on both sides
+     */
+    public static DcDistributionFactors compute(DcLoadFlowContext loadFlowContext, List<String> monitoredBranchIds, List<String> injectionBusIds,
+                                                List<String> outageBranchIds, Precision precision, Path file) {
+        write(loadFlowContext, monitoredBranchIds, injectionBusIds, outageBranchIds, precision, file);
+        return load(file);
+    }
+
+    /**
+     * Compute a fingerprint of the DC model topology and parameters: buses, branches with their connection and their
+     * DC admittance. Distribution factors only depend on these data, and not on injections or phase shifts.
+     */
+    public static long computeTopologyFingerprint(DcLoadFlowContext loadFlowContext) {
+        Objects.requireNonNull(loadFlowContext);
+        LfNetwork network = loadFlowContext.getNetwork();
+        DcEquationSystemCreationParameters creationParameters = loadFlowContext.getParameters().getEquationSystemCreationParameters();
+        Hasher hasher = Hashing.farmHashFingerprint64().newHasher()
+                .putInt(VERSION)
+                .putBoolean(creationParameters.isUseTransformerRatio())
+                .putInt(creationParameters.getDcApproximationType().ordinal())
+                .putInt(network.getBuses().size());
+        for (LfBus bus : network.getBuses()) {
+            hasher.putString(bus.getId(), StandardCharsets.UTF_8)
+                    .putBoolean(bus.isDisabled())
+                    .putBoolean(bus.isSlack())
+                    .putBoolean(bus.isReference());
+        }
+        hasher.putInt(network.getBranches().size());
+        for (LfBranch branch : network.getBranches()) {
+            LfBus bus1 = branch.getBus1();
+            LfBus bus2 = branch.getBus2();
+            hasher.putString(branch.getId(), StandardCharsets.UTF_8)
+                    .putInt(bus1 != null ? bus1.getNum() : -1)
+                    .putInt(bus2 != null ? bus2.getNum() : -1)
+                    .putBoolean(branch.isDisabled());
+            if (bus1 != null && bus2 != null) {
+                hasher.putDouble(AbstractClosedBranchDcFlowEquationTerm.computePower(creationParameters.isUseTransformerRatio(),
+                        creationParameters.getDcApproximationType(), branch.getPiModel()));
+            }
+        }
+        return hasher.hash().asLong();
+    }
+
+    /**
+     * Compute the fingerprint of the distribution factors of a selection of branches and buses, i.e. the topology
+     * fingerprint combined with the selection and the precision.
+     */
+    public static long computeFingerprint(DcLoadFlowContext loadFlowContext, List<String> monitoredBranchIds, List<String> injectionBusIds,
+                                          List<String> outageBranchIds, Precision precision) {
+        Objects.requireNonNull(precision);
+        Hasher hasher = Hashing.farmHashFingerprint64().newHasher()
+                .putLong(computeTopologyFingerprint(loadFlowContext))
+                .putInt(precision.ordinal());
+        for (List<String> ids : List.of(monitoredBranchIds, injectionBusIds, outageBranchIds)) {
+            hasher.putInt(ids.size());
+            ids.forEach(id -> hasher.putString(id, StandardCharsets.UTF_8));
+        }
+        return hasher.hash().asLong();
+    }
+
+    private static LfBranch getConnectedBranch(LfNetwork network, String branchId) {
+        LfBranch branch = network.getBranchById(branchId);
+        if (branch == null) {
+            throw new PowsyblException("Branch '" + branchId + "' not found");
+        }
+        if (branch.isDisabled() || branch.getBus1() == null || branch.getBus2() == null) {
+            throw new PowsyblException("Branch '" + branchId + "' is not connected on both sides");
+        }
+        return branch;
+    }
+
+    private static ClosedBranchSide1DcFlowEquationTerm getP1(EquationSystem<DcVariableType, DcEquationType> equationSystem, LfBranch branch) {
+        return equationSystem.getEquationTerm(ElementType.BRANCH, branch.getNum(), ClosedBranchSide1DcFlowEquationTerm.class);
+    }
+
+    private static final class ValueWriter {
+
+        private final FileChannel channel;
+
+        private final Precision precision;
+
+        private final ByteBuffer column;
+
+        private long position;
+
+        private ValueWriter(FileChannel channel, Precision precision, int rowCount, long position) {
+            this.channel = channel;
+            this.precision = precision;
+            this.column = ByteBuffer.allocate(rowCount * precision.getValueSize()).order(BYTE_ORDER);
+            this.position = position;
+        }
+
+        private void put(double value) {
+            if (precision == Precision.FLOAT32) {
+                column.putFloat((float) value);
+            } else {
+                column.putDouble(value);
+            }
+        }
+
+        private void endColumn() throws IOException {
+            column.flip();
+            while (column.hasRemaining()) {
+                position += channel.write(column, position);
+            }
+            column.clear();
+        }
+    }
+
+    static void write(DcLoadFlowContext loadFlowContext, List<String> monitoredBranchIds, List<String> injectionBusIds,
+                      List<String> outageBranchIds, Precision precision, Path file) {
+        Objects.requireNonNull(loadFlowContext);
+        Objects.requireNonNull(monitoredBranchIds);
+        Objects.requireNonNull(injectionBusIds);
+        Objects.requireNonNull(outageBranchIds);
+        Objects.requireNonNull(precision);
+        Objects.requireNonNull(file);
+        LfNetwork network = loadFlowContext.getNetwork();
+        EquationSystem<DcVariableType, DcEquationType> equationSystem = loadFlowContext.getEquationSystem();
+
+        List<ClosedBranchSide1DcFlowEquationTerm> monitoredP1s = monitoredBranchIds.stream()
+                .map(id -> getP1(equationSystem, getConnectedBranch(network, id)))
+                .toList();
+        List<LfBus> injectionBuses = injectionBusIds.stream()
+                .map(id -> {
+                    LfBus bus = network.getBusById(id);
+                    if (bus == null) {
+                        throw new PowsyblException("Bus '" + id + "' not found");
+                    }
+                    return bus;
+                })
+                .toList();
+        List<ComputedElement> outageElements = outageBranchIds.stream()
+                .map(id -> {
+                    LfBranch branch = getConnectedBranch(network, id);
+                    return new ComputedElement(branch, getP1(equationSystem, branch));
+                })
+                .toList();
+        long fingerprint = computeFingerprint(loadFlowContext, monitoredBranchIds, injectionBusIds, outageBranchIds, precision);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                                    StandardOpenOption.WRITE)) {
+            // header and ids
+            List<byte[]> idBytes = new ArrayList<>();
+            for (List<String> ids : List.of(monitoredBranchIds, injectionBusIds, outageBranchIds)) {
+                ids.forEach(id -> idBytes.add(id.getBytes(StandardCharsets.UTF_8)));
+            }
+            int idsSize = idBytes.stream().mapToInt(bytes -> Integer.BYTES + bytes.length).sum();
+            ByteBuffer header = ByteBuffer.allocate((int) align((long) HEADER_SIZE + idsSize)).order(BYTE_ORDER);
+            header.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(precision.ordinal())
+                    .putLong(fingerprint)
+                    .putInt(monitoredBranchIds.size())
+                    .putInt(injectionBusIds.size())
+                    .putInt(outageBranchIds.size());
+            for (byte[] bytes : idBytes) {
+                header.putInt(bytes.length).put(bytes);
+            }
+            header.position(header.limit());
+            header.flip();
+            long position = 0;
+            while (header.hasRemaining()) {
+                position += channel.write(header, position);
+            }
+
+            ValueWriter writer = new ValueWriter(channel, precision, monitoredP1s.size(), position);
+            writePtdf(loadFlowContext, monitoredP1s, injectionBuses, writer);
+            writeLodf(loadFlowContext, monitoredP1s, outageElements, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writePtdf(DcLoadFlowContext loadFlowContext, List<ClosedBranchSide1DcFlowEquationTerm> monitoredP1s,
+                                  List<LfBus> injectionBuses, ValueWriter writer) throws IOException {
+        EquationSystem<DcVariableType, DcEquationType> equationSystem = loadFlowContext.getEquationSystem();
+        int equationCount = equationSystem.getIndex().getSortedEquationsToSolve().size();
+        for (int blockStart = 0; blockStart < injectionBuses.size(); blockStart += BLOCK_COLUMN_COUNT) {
+            int blockSize = Math.min(BLOCK_COLUMN_COUNT, injectionBuses.size() - blockStart);
+            DenseMatrix states = new DenseMatrix(equationCount, blockSize);
+            for (int i = 0; i < blockSize; i++) {
+                LfBus bus = injectionBuses.get(blockStart + i);
+                // an injection at the slack bus is compensated by itself, so the column stays to zero
+                Optional<Equation<DcVariableType, DcEquationType>> p = equationSystem.getEquation(bus.getNum(), DcEquationType.BUS_TARGET_P);
+                if (!bus.isSlack() && p.isPresent() && p.get().isActive()) {
+                    states.set(p.get().getColumn(), i, 1d);
+                }
+            }
+            loadFlowContext.getJacobianMatrix().solveTransposed(states);
+            for (int i = 0; i < blockSize; i++) {
+                for (ClosedBranchSide1DcFlowEquationTerm p1 : monitoredP1s) {
+                    writer.put(p1.calculateSensi(states, i));
+                }
+                writer.endColumn();
+            }
+        }
+    }
+
+    private static void writeLodf(DcLoadFlowContext loadFlowContext, List<ClosedBranchSide1DcFlowEquationTerm> monitoredP1s,
+                                  List<ComputedElement> outageElements, ValueWriter writer) throws IOException {
+        for (int blockStart = 0; blockStart < outageElements.size(); blockStart += BLOCK_COLUMN_COUNT) {
+            List<ComputedElement> block = outageElements.subList(blockStart, Math.min(outageElements.size(), blockStart + BLOCK_COLUMN_COUNT));
+            ComputedElement.setComputedElementIndexes(block);
+            // states of a +1 -1 transfer between the outage branch buses
+            DenseMatrix states = ComputedElement.calculateElementsStates(loadFlowContext, block);
+            for (ComputedElement outage : block) {
+                int column = outage.getComputedElementIndex();
+                double denominator = 1 - outage.getLfBranchEquation().calculateSensi(states, column);
+                boolean bridge = Math.abs(denominator) < BRIDGE_EPSILON;
+                for (ClosedBranchSide1DcFlowEquationTerm p1 : monitoredP1s) {
+                    if (p1 == outage.getLfBranchEquation()) {
+                        writer.put(-1d);
+                    } else {
+                        writer.put(bridge ? Double.NaN : p1.calculateSensi(states, column) / denominator);
+                    }
+                }
+                writer.endColumn();
+            }
+        }
+    }
+
+    public Precision getPrecision() {
+        return precision;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    public List<String> getMonitoredBranchIds() {
+        return monitoredBranchIds;
+    }
+
+    public List<String> getInjectionBusIds() {
+        return injectionBusIds;
+    }
+
+    public List<String> getOutageBranchIds() {
+        return outageBranchIds;
+    }
+
+    private double getValue(long index) {
+        if (closed) {
+            throw new IllegalStateException("Distribution factors are closed");
+        }
+        MappedByteBuffer mapping = mappings[(int) (index / MAPPING_VALUE_COUNT)];
+        int offset = (int) (index % MAPPING_VALUE_COUNT) * precision.getValueSize();
+        return precision == Precision.FLOAT32 ? mapping.getFloat(offset) : mapping.getDouble(offset);
+    }
+
+    public double getPtdf(int monitoredBranchIndex, int injectionBusIndex) {
+        Objects.checkIndex(monitoredBranchIndex, monitoredBranchIds.size());
+        Objects.checkIndex(injectionBusIndex, injectionBusIds.size());
+        return getValue((long) injectionBusIndex * monitoredBranchIds.size() + monitoredBranchIndex);
+    }
+
+    public double getLodf(int monitoredBranchIndex, int outageBranchIndex) {
+        Objects.checkIndex(monitoredBranchIndex, monitoredBranchIds.size());
+        Objects.checkIndex(outageBranchIndex, outageBranchIds.size());
+        return getValue((long) (injectionBusIds.size() + outageBranchIndex) * monitoredBranchIds.size() + monitoredBranchIndex);
+    }
+
+    private double[] getColumn(long columnIndex) {
+        double[] column = new double[monitoredBranchIds.size()];
+        long start = columnIndex * column.length;
+        for (int i = 0; i < column.length; i++) {
+            column[i] = getValue(start + i);
+        }
+        return column;
+    }
+
+    /**
+     * Get the PTDF of all monitored branches for an injection bus.
+     */
+    public double[] getPtdfColumn(int injectionBusIndex) {
+        Objects.checkIndex(injectionBusIndex, injectionBusIds.size());
+        return getColumn(injectionBusIndex);
+    }
+
+    /**
+     * Get the LODF of all monitored branches for an outage branch.
+     */
+    public double[] getLodfColumn(int outageBranchIndex) {
+        Objects.checkIndex(outageBranchIndex, outageBranchIds.size());
+        return getColumn((long) injectionBusIds.size() + outageBranchIndex);
+    }
+
+    /**
+     * Close the file, values cannot be read anymore afterwards. Mappings cannot be released explicitly with a supported
+     * API, they are released by the garbage collector once no more referenced.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Arrays.fill(mappings, null);
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
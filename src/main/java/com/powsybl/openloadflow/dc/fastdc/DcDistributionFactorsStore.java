@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.dc.fastdc;
+
+import com.powsybl.openloadflow.dc.DcLoadFlowContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A directory of {@link DcDistributionFactors} files, named after their fingerprint, so that distribution factors of
+ * a given topology and selection are only computed once, even across processes.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class DcDistributionFactorsStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DcDistributionFactorsStore.class);
+
+    private static final String FILE_PREFIX = "dc-distribution-factors-";
+
+    private final Path directory;
+
+    private final DcDistributionFactors.Precision precision;
+
+    public DcDistributionFactorsStore(Path directory, DcDistributionFactors.Precision precision) {
+        this.directory = Objects.requireNonNull(directory);
+        this.precision = Objects.requireNonNull(precision);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public DcDistributionFactors.Precision getPrecision() {
+        return precision;
+    }
+
+    public Path getFile(long fingerprint) {
+        return directory.resolve(FILE_PREFIX + String.format("%016x", fingerprint) + ".bin");
+    }
+
+    /**
+     * Open the distribution factors of the network of a load flow context if already stored, compute and store them
+     * otherwise. Returned factors have to be closed by the caller.
+     */
+    public DcDistributionFactors getOrCompute(DcLoadFlowContext loadFlowContext, List<String> monitoredBranchIds, List<String> injectionBusIds,
+                                              List<String> outageBranchIds) {
+        long fingerprint = DcDistributionFactors.computeFingerprint(loadFlowContext, monitoredBranchIds, injectionBusIds, outageBranchIds, precision);
+        Path file = getFile(fingerprint);
+        if (Files.exists(file)) {
+            DcDistributionFactors factors = DcDistributionFactors.load(file);
+            if (factors.getFingerprint() == fingerprint) {
+                LOGGER.debug("DC distribution factors loaded from {}", file);
+                return factors;
+            }
+            factors.close();
+        }
+
+        try {
+            Files.createDirectories(directory);
+            // written to a temporary file then moved, so that a partially written file is never visible
+            Path tmpFile = Files.createTempFile(directory, FILE_PREFIX, ".tmp");
+            try {
+                DcDistributionFactors.write(loadFlowContext, monitoredBranchIds, injectionBusIds, outageBranchIds, precision, tmpFile);
+                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmpFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        LOGGER.debug("DC distribution factors computed and stored to {}", file);
+        return DcDistributionFactors.load(file);
+    }
+}
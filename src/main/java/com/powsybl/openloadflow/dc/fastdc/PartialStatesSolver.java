@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.dc.fastdc;
+
+import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.math.matrix.Matrix;
+import com.powsybl.openloadflow.equations.JacobianMatrix;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Solve J^T x = b for many sparse right hand sides b when only a few rows of the states x are read afterward.
+ * <p>
+ * Instead of a full forward/backward substitution per right hand side, we solve once the adjoint systems J z_r = e_r
+ * for each required row r. Then x[r] = z_r . b only involves the non-zero elements of b (a +1/-1 injection, a phase
+ * shift or a slack distribution), so the cost per right hand side does not depend on the factorization fill-in anymore.
+ * This is only interesting when the number of required rows is lower than the number of right hand sides, and the
+ * right hand side should be a sparse matrix, so that only its non-zero elements are iterated.
+ * <p>
+ * Rows that are not required are set to zero in the returned states.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class PartialStatesSolver {
+
+    private final int[] rows;
+
+    private final DenseMatrix adjointStates;
+
+    public PartialStatesSolver(JacobianMatrix<?, ?> jacobianMatrix, int equationCount, int[] rows) {
+        Objects.requireNonNull(jacobianMatrix);
+        this.rows = Objects.requireNonNull(rows);
+        adjointStates = new DenseMatrix(equationCount, rows.length);
+        for (int k = 0; k < rows.length; k++) {
+            adjointStates.set(rows[k], k, 1d);
+        }
+        jacobianMatrix.solve(adjointStates);
+    }
+
+    public int[] getRows() {
+        return rows;
+    }
+
+    /**
+     * Same as {@link JacobianMatrix#solveTransposed(DenseMatrix)} on each column of the right hand side, except that
+     * only the required rows of the solution are computed, the right hand side being left unchanged.
+     */
+    public DenseMatrix solveTransposed(Matrix rhs) {
+        Objects.requireNonNull(rhs);
+        DenseMatrix states = new DenseMatrix(rhs.getRowCount(), rhs.getColumnCount());
+        // elements of a same row are summed first, and rows are then taken in order, so that the result does not
+        // depend on the order the right hand side has been filled
+        double[] columnValues = new double[rhs.getRowCount()];
+        boolean[] nonZero = new boolean[rhs.getRowCount()];
+        int[] nonZeroRows = new int[rhs.getRowCount()];
+        int[] nonZeroCount = new int[1];
+        for (int column = 0; column < rhs.getColumnCount(); column++) {
+            nonZeroCount[0] = 0;
+            rhs.iterateNonZeroValueOfColumn(column, (row, c, value) -> {
+                if (!nonZero[row]) {
+                    nonZero[row] = true;
+                    nonZeroRows[nonZeroCount[0]++] = row;
+                }
+                columnValues[row] += value;
+            });
+            Arrays.sort(nonZeroRows, 0, nonZeroCount[0]);
+
+            for (int k = 0; k < rows.length; k++) {
+                double state = 0;
+                for (int i = 0; i < nonZeroCount[0]; i++) {
+                    int row = nonZeroRows[i];
+                    state += adjointStates.get(row, k) * columnValues[row];
+                }
+                states.set(rows[k], column, state);
+            }
+
+            for (int i = 0; i < nonZeroCount[0]; i++) {
+                columnValues[nonZeroRows[i]] = 0;
+                nonZero[nonZeroRows[i]] = false;
+            }
+        }
+        return states;
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.dc.fastdc;
+
+import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.openloadflow.equations.JacobianMatrix;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A cache of state columns, i.e. solutions of J^T x = b, indexed by a key identifying the right hand side b (a sensitivity
+ * variable, a contingency branch...). It is only valid as long as the Jacobian matrix and the equation indexing
+ * do not change, so it has to be cleared by its owner otherwise.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class StatesColumnCache<K> {
+
+    private final Map<K, double[]> columns = new HashMap<>();
+
+    public int size() {
+        return columns.size();
+    }
+
+    public void clear() {
+        columns.clear();
+    }
+
+    /**
+     * Same contract as {@link JacobianMatrix#solveTransposed(DenseMatrix)}, except that columns of the right hand side
+     * whose key is already in the cache are not solved but replaced by the cached states. Other columns are solved
+     * together in a single call and added to the cache.
+     */
+    public void solveTransposed(JacobianMatrix<?, ?> jacobianMatrix, DenseMatrix rhs, List<K> keys) {
+        Objects.requireNonNull(jacobianMatrix);
+        Objects.requireNonNull(rhs);
+        Objects.requireNonNull(keys);
+        if (keys.size() != rhs.getColumnCount()) {
+            throw new IllegalArgumentException("Key count " + keys.size() + " is different from column count " + rhs.getColumnCount());
+        }
+        int rowCount = rhs.getRowCount();
+
+        List<Integer> missingColumns = new ArrayList<>();
+        for (int column = 0; column < keys.size(); column++) {
+            double[] states = columns.get(keys.get(column));
+            if (states == null || states.length != rowCount) {
+                missingColumns.add(column);
+            }
+        }
+
+        if (!missingColumns.isEmpty()) {
+            DenseMatrix missingStates = new DenseMatrix(rowCount, missingColumns.size());
+            for (int i = 0; i < missingColumns.size(); i++) {
+                int column = missingColumns.get(i);
+                for (int row = 0; row < rowCount; row++) {
+                    missingStates.set(row, i, rhs.get(row, column));
+                }
+            }
+            jacobianMatrix.solveTransposed(missingStates);
+            for (int i = 0; i < missingColumns.size(); i++) {
+                double[] states = new double[rowCount];
+                for (int row = 0; row < rowCount; row++) {
+                    states[row] = missingStates.get(row, i);
+                }
+                columns.put(keys.get(missingColumns.get(i)), states);
+            }
+        }
+
+        for (int column = 0; column < keys.size(); column++) {
+            double[] states = columns.get(keys.get(column));
+            for (int row = 0; row < rowCount; row++) {
+                rhs.set(row, column, states[row]);
+            }
+        }
+    }
+}
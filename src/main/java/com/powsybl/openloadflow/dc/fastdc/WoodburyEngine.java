@@ -10,7 +10,7 @@ package com.powsybl.openloadflow.dc.fastdc;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.math.matrix.DenseMatrix;
-import com.powsybl.math.matrix.LUDecomposition;
+import com.powsybl.math.matrix.MatrixException;
 import com.powsybl.openloadflow.dc.DcLoadFlowContext;
 import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
 import com.powsybl.openloadflow.dc.equations.AbstractClosedBranchDcFlowEquationTerm;
@@ -18,6 +18,7 @@ import com.powsybl.openloadflow.dc.equations.ClosedBranchSide1DcFlowEquationTerm
 import com.powsybl.openloadflow.dc.equations.DcEquationSystemCreationParameters;
 import com.powsybl.openloadflow.dc.equations.DcEquationType;
 import com.powsybl.openloadflow.equations.Equation;
+import com.powsybl.openloadflow.equations.StatesMatrix;
 import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.network.action.AbstractLfTapChangerAction;
 import com.powsybl.openloadflow.network.action.LfAction;
@@ -38,14 +39,14 @@ public class WoodburyEngine {
 
     private final List<ComputedContingencyElement> contingencyElements;
 
-    private final DenseMatrix contingenciesStates;
+    private final StatesMatrix contingenciesStates;
 
     private final List<ComputedTapPositionChangeElement> tapPositionChangeElements;
 
     private final DenseMatrix tapPositionChangeStates;
 
     public WoodburyEngine(DcEquationSystemCreationParameters creationParameters, List<ComputedContingencyElement> contingencyElements,
-                          DenseMatrix contingenciesStates) {
+                          StatesMatrix contingenciesStates) {
         this.creationParameters = Objects.requireNonNull(creationParameters);
         this.contingencyElements = Objects.requireNonNull(contingencyElements);
         this.contingenciesStates = Objects.requireNonNull(contingenciesStates);
@@ -54,7 +55,7 @@ public class WoodburyEngine {
     }
 
     public WoodburyEngine(DcEquationSystemCreationParameters creationParameters, List<ComputedContingencyElement> contingencyElements,
-                          DenseMatrix contingenciesStates, List<ComputedTapPositionChangeElement> tapPositionChangeElements, DenseMatrix tapPositionChangeStates) {
+                          StatesMatrix contingenciesStates, List<ComputedTapPositionChangeElement> tapPositionChangeElements, DenseMatrix tapPositionChangeStates) {
         this.creationParameters = Objects.requireNonNull(creationParameters);
         this.contingencyElements = Objects.requireNonNull(contingencyElements);
         this.contingenciesStates = Objects.requireNonNull(contingenciesStates);
@@ -145,116 +146,318 @@ public class WoodburyEngine {
     }
 
     /**
-     * Compute the flow transfer factors needed to calculate the post-contingency state values.
+     * Small linear system giving the flow transfer factors (alphas) of the contingency and tap position change
+     * elements, contingency elements first. Its matrix only depends on the elements, so it is built and LU factorized
+     * once per engine: the diagonal holds the reactance variation of each element and the other terms the flow
+     * variation of each element for a +1 -1 injection on another element. Only the right hand side depends on the
+     * state column. Once created, it is never modified.
      */
-    private void setAlphas(DenseMatrix states, int columnState) {
-        if (contingencyElements.size() == 1 && tapPositionChangeElements.isEmpty()) {
-            ComputedContingencyElement element = contingencyElements.iterator().next();
-            LfBranch lfBranch = element.getLfBranch();
-            ClosedBranchSide1DcFlowEquationTerm p1 = element.getLfBranchEquation();
+    private static final class AlphaSystem {
 
-            // we solve a*alpha = b
-            double a = 1d / calculatePower(lfBranch) - (contingenciesStates.get(p1.getPh1Var().getRow(), element.getComputedElementIndex())
-                    - contingenciesStates.get(p1.getPh2Var().getRow(), element.getComputedElementIndex()));
-            double b = states.get(p1.getPh1Var().getRow(), columnState) - states.get(p1.getPh2Var().getRow(), columnState);
-            element.setAlphaForWoodburyComputation(b / a);
-        } else if (contingencyElements.isEmpty() && tapPositionChangeElements.size() == 1) {
-            ComputedTapPositionChangeElement element = tapPositionChangeElements.iterator().next();
-            LfBranch lfBranch = element.getLfBranch();
-            ClosedBranchSide1DcFlowEquationTerm p1 = element.getLfBranchEquation();
+        private final int size;
 
-            // we solve a*alpha = b
-            PiModel newPiModel = element.getTapPositionChange().getNewPiModel();
-            double deltaX = 1d / (calculatePower(lfBranch) - calculatePower(newPiModel));
-            double a = deltaX - (tapPositionChangeStates.get(p1.getPh1Var().getRow(), element.getComputedElementIndex())
-                    - tapPositionChangeStates.get(p1.getPh2Var().getRow(), element.getComputedElementIndex()));
+        // rows of the phase variables of each element
+        private final int[] ph1Rows;
+        private final int[] ph2Rows;
 
-            double newAlpha = newPiModel.getA1();
-            double b = states.get(p1.getPh1Var().getRow(), columnState) - states.get(p1.getPh2Var().getRow(), columnState) + newAlpha;
-            element.setAlphaForWoodburyComputation(b / a);
-        } else {
-            // set local indexes of computed elements to use them in small matrix computation
-            ComputedElement.setLocalIndexes(contingencyElements);
-            ComputedElement.setLocalIndexes(tapPositionChangeElements);
-            int size = contingencyElements.size() + tapPositionChangeElements.size();
-            DenseMatrix rhs = new DenseMatrix(size, 1);
-            DenseMatrix matrix = new DenseMatrix(size, size);
+        // added to the right hand side, the new phase shift for tap position change elements
+        private final double[] rhsOffsets;
 
-            for (ComputedContingencyElement contingencyElement : contingencyElements) {
-                int i = contingencyElement.getLocalIndex();
-                LfBranch lfBranch = contingencyElement.getLfBranch();
-                ClosedBranchSide1DcFlowEquationTerm p1 = contingencyElement.getLfBranchEquation();
-                rhs.set(i, 0, states.get(p1.getPh1Var().getRow(), columnState) - states.get(p1.getPh2Var().getRow(), columnState));
-
-                // loop on contingencies to fill top-left quadrant of the matrix
-                for (ComputedContingencyElement contingencyElement2 : contingencyElements) {
-                    int j = contingencyElement2.getLocalIndex();
-                    // if on the diagonal of the matrix, add variation of reactance
-                    double deltaX = (i == j) ? 1d / calculatePower(lfBranch) : 0d;
-                    double value = deltaX - (contingenciesStates.get(p1.getPh1Var().getRow(), contingencyElement2.getComputedElementIndex())
-                            - contingenciesStates.get(p1.getPh2Var().getRow(), contingencyElement2.getComputedElementIndex()));
-                    matrix.set(i, j, value);
-                }
+        // row major LU factors, with pivot row of each step
+        private final double[] lu;
+        private final int[] pivots;
+
+        private AlphaSystem(int size) {
+            this.size = size;
+            ph1Rows = new int[size];
+            ph2Rows = new int[size];
+            rhsOffsets = new double[size];
+            lu = new double[size * size];
+            pivots = new int[size];
+        }
 
-                // loop on actions to fill top-right quadrant of the matrix
-                for (ComputedTapPositionChangeElement tapPositionChangeElement : tapPositionChangeElements) {
-                    int j = contingencyElements.size() + tapPositionChangeElement.getLocalIndex();
-                    double value = -(tapPositionChangeStates.get(p1.getPh1Var().getRow(), tapPositionChangeElement.getComputedElementIndex())
-                            - tapPositionChangeStates.get(p1.getPh2Var().getRow(), tapPositionChangeElement.getComputedElementIndex()));
-                    matrix.set(i, j, value);
+        private void decompose() {
+            for (int k = 0; k < size; k++) {
+                int pivot = k;
+                for (int i = k + 1; i < size; i++) {
+                    if (Math.abs(lu[i * size + k]) > Math.abs(lu[pivot * size + k])) {
+                        pivot = i;
+                    }
+                }
+                if (size > 1 && lu[pivot * size + k] == 0) {
+                    throw new MatrixException("Woodbury matrix is singular");
+                }
+                pivots[k] = pivot;
+                if (pivot != k) {
+                    for (int j = 0; j < size; j++) {
+                        double tmp = lu[k * size + j];
+                        lu[k * size + j] = lu[pivot * size + j];
+                        lu[pivot * size + j] = tmp;
+                    }
+                }
+                for (int i = k + 1; i < size; i++) {
+                    double l = lu[i * size + k] / lu[k * size + k];
+                    lu[i * size + k] = l;
+                    for (int j = k + 1; j < size; j++) {
+                        lu[i * size + j] -= l * lu[k * size + j];
+                    }
                 }
             }
+        }
 
-            for (ComputedTapPositionChangeElement tapPositionChangeElement : tapPositionChangeElements) {
-                int i = contingencyElements.size() + tapPositionChangeElement.getLocalIndex();
-                LfBranch lfBranch = tapPositionChangeElement.getLfBranch();
-                ClosedBranchSide1DcFlowEquationTerm p1 = tapPositionChangeElement.getLfBranchEquation();
+        /**
+         * Fill a right hand side, stored at a given offset of an array, from a column of the states.
+         */
+        private void fillRhs(DenseMatrix states, int columnState, double[] rhs, int offset) {
+            for (int i = 0; i < size; i++) {
+                rhs[offset + i] = states.get(ph1Rows[i], columnState) - states.get(ph2Rows[i], columnState) + rhsOffsets[i];
+            }
+        }
 
-                PiModel newPiModel = tapPositionChangeElement.getTapPositionChange().getNewPiModel();
-                double newAlpha = newPiModel.getA1();
-                rhs.set(i, 0, states.get(p1.getPh1Var().getRow(), columnState) - states.get(p1.getPh2Var().getRow(), columnState) + newAlpha);
-
-                // loop on contingencies to fill bottom-left quadrant of the matrix
-                for (ComputedContingencyElement contingencyElement : contingencyElements) {
-                    int j = contingencyElement.getLocalIndex();
-                    double value = -(contingenciesStates.get(p1.getPh1Var().getRow(), contingencyElement.getComputedElementIndex())
-                            - contingenciesStates.get(p1.getPh2Var().getRow(), contingencyElement.getComputedElementIndex()));
-                    matrix.set(i, j, value);
+        /**
+         * Solve in place a right hand side stored at a given offset of an array, so that it contains the alphas.
+         */
+        private void solve(double[] rhs, int offset) {
+            for (int k = 0; k < size; k++) {
+                int pivot = pivots[k];
+                if (pivot != k) {
+                    double tmp = rhs[offset + k];
+                    rhs[offset + k] = rhs[offset + pivot];
+                    rhs[offset + pivot] = tmp;
                 }
-
-                // loop on actions to fill bottom-right quadrant of the matrix
-                for (ComputedTapPositionChangeElement tapPositionChangeElement2 : tapPositionChangeElements) {
-                    int j = contingencyElements.size() + tapPositionChangeElement2.getLocalIndex();
-                    // if on the diagonal of the matrix, add variation of reactance
-                    double deltaX = (i == j) ? 1d / (calculatePower(lfBranch) - calculatePower(newPiModel)) : 0d;
-                    double value = deltaX - (tapPositionChangeStates.get(p1.getPh1Var().getRow(), tapPositionChangeElement2.getComputedElementIndex())
-                            - tapPositionChangeStates.get(p1.getPh2Var().getRow(), tapPositionChangeElement2.getComputedElementIndex()));
-                    matrix.set(i, j, value);
+            }
+            for (int i = 1; i < size; i++) {
+                double value = rhs[offset + i];
+                for (int j = 0; j < i; j++) {
+                    value -= lu[i * size + j] * rhs[offset + j];
                 }
+                rhs[offset + i] = value;
             }
-            try (LUDecomposition lu = matrix.decomposeLU()) {
-                lu.solve(rhs); // rhs now contains state matrix
+            for (int i = size - 1; i >= 0; i--) {
+                double value = rhs[offset + i];
+                for (int j = i + 1; j < size; j++) {
+                    value -= lu[i * size + j] * rhs[offset + j];
+                }
+                rhs[offset + i] = value / lu[i * size + i];
+            }
+        }
+    }
+
+    /**
+     * Per thread buffers reused across engines, as an engine is created for each contingency.
+     */
+    private static final class Workspace {
+
+        private double[] rhs = new double[0];
+
+        private double[] getRhs(int length) {
+            if (rhs.length < length) {
+                rhs = new double[Math.max(length, 2 * rhs.length)];
+            }
+            return rhs;
+        }
+    }
+
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+
+    // lazily created, a concurrent creation is harmless as the system is immutable once created
+    private volatile AlphaSystem alphaSystem;
+
+    private AlphaSystem getAlphaSystem() {
+        AlphaSystem system = alphaSystem;
+        if (system == null) {
+            system = createAlphaSystem();
+            alphaSystem = system;
+        }
+        return system;
+    }
+
+    private AlphaSystem createAlphaSystem() {
+        int contingencyCount = contingencyElements.size();
+        AlphaSystem system = new AlphaSystem(contingencyCount + tapPositionChangeElements.size());
+        StatesMatrix tapStates = StatesMatrix.of(tapPositionChangeStates);
+        double[] deltaXs = new double[system.size];
+        for (int i = 0; i < system.size; i++) {
+            ComputedElement element;
+            if (i < contingencyCount) {
+                element = contingencyElements.get(i);
+                deltaXs[i] = 1d / calculatePower(element.getLfBranch());
+            } else {
+                ComputedTapPositionChangeElement tapPositionChangeElement = tapPositionChangeElements.get(i - contingencyCount);
+                PiModel newPiModel = tapPositionChangeElement.getTapPositionChange().getNewPiModel();
+                element = tapPositionChangeElement;
+                deltaXs[i] = 1d / (calculatePower(element.getLfBranch()) - calculatePower(newPiModel));
+                system.rhsOffsets[i] = newPiModel.getA1();
+            }
+            ClosedBranchSide1DcFlowEquationTerm p1 = element.getLfBranchEquation();
+            system.ph1Rows[i] = p1.getPh1Var().getRow();
+            system.ph2Rows[i] = p1.getPh2Var().getRow();
+        }
+        for (int j = 0; j < system.size; j++) {
+            // flow variation of each element for a +1 -1 injection on element j
+            StatesMatrix states = j < contingencyCount ? contingenciesStates : tapStates;
+            int column = j < contingencyCount ? contingencyElements.get(j).getComputedElementIndex()
+                                              : tapPositionChangeElements.get(j - contingencyCount).getComputedElementIndex();
+            for (int i = 0; i < system.size; i++) {
+                // if on the diagonal of the matrix, add variation of reactance
+                double deltaX = i == j ? deltaXs[i] : 0d;
+                system.lu[i * system.size + j] = deltaX - (states.get(system.ph1Rows[i], column) - states.get(system.ph2Rows[i], column));
+            }
+        }
+        system.decompose();
+        return system;
+    }
+
+    /**
+     * Compute the flow transfer factors needed to calculate the post-contingency state values.
+     */
+    private void setAlphas(DenseMatrix states, int columnState) {
+        AlphaSystem system = getAlphaSystem();
+        double[] rhs = WORKSPACE.get().getRhs(system.size);
+        system.fillRhs(states, columnState, rhs, 0);
+        system.solve(rhs, 0);
+        int contingencyCount = contingencyElements.size();
+        for (int i = 0; i < contingencyCount; i++) {
+            contingencyElements.get(i).setAlphaForWoodburyComputation(rhs[i]);
+        }
+        for (int i = 0; i < tapPositionChangeElements.size(); i++) {
+            tapPositionChangeElements.get(i).setAlphaForWoodburyComputation(rhs[contingencyCount + i]);
+        }
+    }
+
+    /**
+     * Compute the flow transfer factors (alphas) of the contingency elements, in the order of the contingency elements,
+     * for a given column of the pre-contingency states, without modifying the states.
+     */
+    public double[] calculateAlphas(DenseMatrix preContingencyStates, int columnIndex) {
+        Objects.requireNonNull(preContingencyStates);
+        if (contingencyElements.isEmpty() && tapPositionChangeElements.isEmpty()) {
+            return new double[0];
+        }
+        setAlphas(preContingencyStates, columnIndex);
+        double[] alphas = new double[contingencyElements.size()];
+        for (int i = 0; i < contingencyElements.size(); i++) {
+            alphas[i] = contingencyElements.get(i).getAlphaForWoodburyComputation();
+        }
+        return alphas;
+    }
+
+    /**
+     * Same as {@link #setAlphas(DenseMatrix, int)} when there is no tap position change, but alphas are returned in
+     * the order of the contingency elements instead of being stored in the elements, so that engines sharing the same
+     * contingency elements can be used concurrently.
+     */
+    private double[] calculateContingencyAlphas(DenseMatrix states, int columnState) {
+        AlphaSystem system = getAlphaSystem();
+        double[] alphas = new double[system.size];
+        system.fillRhs(states, columnState, alphas, 0);
+        system.solve(alphas, 0);
+        return alphas;
+    }
+
+    /**
+     * Calculate post-contingency values of some branch flow equation terms, for a given column of the pre-contingency
+     * states, without computing the post-contingency states. As flow terms are linear, a post-contingency flow is the
+     * pre-contingency one plus, for each contingency element, its flow transfer factor (alpha) times the sensitivity
+     * of the flow to the element +1 -1 injection state. Tap position changes are not supported as they also modify the
+     * flow terms themselves.
+     * <p>
+     * Neither the contingency elements nor the states are modified, so this method is thread safe as long as the
+     * network and the equation system are not modified at the same time.
+     *
+     * @param preContingencyFlows pre-contingency values of the flow terms, in the same order
+     * @return post-contingency values of the flow terms, in the same order
+     */
+    public double[] calculatePostContingencyFlows(DenseMatrix preContingencyStates, int columnIndex,
+                                                  List<? extends AbstractClosedBranchDcFlowEquationTerm> flowTerms,
+                                                  double[] preContingencyFlows) {
+        Objects.requireNonNull(preContingencyStates);
+        Objects.requireNonNull(flowTerms);
+        Objects.requireNonNull(preContingencyFlows);
+        double[] postContingencyFlows = preContingencyFlows.clone();
+        if (!tapPositionChangeElements.isEmpty()) {
+            throw new IllegalStateException("Post-contingency flows calculation does not support tap position changes");
+        }
+        if (contingencyElements.isEmpty()) {
+            return postContingencyFlows;
+        }
+        double[] alphas = calculateContingencyAlphas(preContingencyStates, columnIndex);
+        for (int i = 0; i < flowTerms.size(); i++) {
+            AbstractClosedBranchDcFlowEquationTerm flowTerm = flowTerms.get(i);
+            double postContingencyFlow = postContingencyFlows[i];
+            for (int k = 0; k < alphas.length; k++) {
+                postContingencyFlow += alphas[k] * flowTerm.calculateSensi(contingenciesStates, contingencyElements.get(k).getComputedElementIndex());
             }
-            contingencyElements.forEach(element -> element.setAlphaForWoodburyComputation(rhs.get(element.getLocalIndex(), 0)));
-            tapPositionChangeElements.forEach(element -> element.setAlphaForWoodburyComputation(rhs.get(contingencyElements.size() + element.getLocalIndex(), 0)));
+            postContingencyFlows[i] = postContingencyFlow;
         }
+        return postContingencyFlows;
     }
 
     /**
      * Calculate post-contingency states values by modifying pre-contingency states values, using some flow transfer factors (alphas).
      */
     public void toPostContingencyStates(DenseMatrix preContingencyStates) {
+        toPostContingencyStates(preContingencyStates, null);
+    }
+
+    /**
+     * Same as {@link #toPostContingencyStates(DenseMatrix)} but only for the columns to compute, other columns are
+     * left unchanged. All the columns are computed if columnsToCompute is null.
+     */
+    public void toPostContingencyStates(DenseMatrix preContingencyStates, boolean[] columnsToCompute) {
+        toPostContingencyStates(preContingencyStates, columnsToCompute, null);
+    }
+
+    /**
+     * Same as {@link #toPostContingencyStates(DenseMatrix, boolean[])} but reusing, for the columns where it is not
+     * null, the alphas already computed by {@link #calculateAlphas(DenseMatrix, int)} on the same states.
+     */
+    public void toPostContingencyStates(DenseMatrix preContingencyStates, boolean[] columnsToCompute, double[][] alphasByColumn) {
         Objects.requireNonNull(preContingencyStates);
+        if (contingencyElements.isEmpty()) {
+            return;
+        }
 
+        int[] columns = new int[preContingencyStates.getColumnCount()];
+        int columnCount = 0;
         for (int columnIndex = 0; columnIndex < preContingencyStates.getColumnCount(); columnIndex++) {
-            setAlphas(preContingencyStates, columnIndex);
-            for (int rowIndex = 0; rowIndex < preContingencyStates.getRowCount(); rowIndex++) {
-                double postContingencyValue = preContingencyStates.get(rowIndex, columnIndex);
-                for (ComputedContingencyElement contingencyElement : contingencyElements) {
-                    postContingencyValue += contingencyElement.getAlphaForWoodburyComputation()
-                            * contingenciesStates.get(rowIndex, contingencyElement.getComputedElementIndex());
+            if (columnsToCompute == null || columnsToCompute[columnIndex]) {
+                columns[columnCount++] = columnIndex;
+            }
+        }
+        if (columnCount == 0) {
+            return;
+        }
+
+        // alphas of all the columns, solved against the same factorization
+        AlphaSystem system = getAlphaSystem();
+        Workspace workspace = WORKSPACE.get();
+        double[] alphas = workspace.getRhs(system.size * columnCount);
+        for (int c = 0; c < columnCount; c++) {
+            double[] columnAlphas = alphasByColumn != null ? alphasByColumn[columns[c]] : null;
+            if (columnAlphas != null) {
+                System.arraycopy(columnAlphas, 0, alphas, c * system.size, columnAlphas.length);
+            } else {
+                system.fillRhs(preContingencyStates, columns[c], alphas, c * system.size);
+                system.solve(alphas, c * system.size);
+            }
+        }
+
+        // matrices are column major, so columns are updated one after the other, adding each contingency element
+        // states column scaled by its alpha
+        int contingencyCount = contingencyElements.size();
+        int rowCount = preContingencyStates.getRowCount();
+        for (int c = 0; c < columnCount; c++) {
+            int columnIndex = columns[c];
+            for (int k = 0; k < contingencyCount; k++) {
+                double alpha = alphas[c * system.size + k];
+                if (alpha == 0) {
+                    continue;
+                }
+                int elementColumn = contingencyElements.get(k).getComputedElementIndex();
+                for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+                    preContingencyStates.add(rowIndex, columnIndex, alpha * contingenciesStates.get(rowIndex, elementColumn));
                 }
-                preContingencyStates.set(rowIndex, columnIndex, postContingencyValue);
             }
         }
     }
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.equations;
+
+import com.powsybl.math.matrix.DenseMatrix;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * States stored in single precision, so with half the memory of a {@link DenseMatrix}. A few rows of each column can be
+ * kept in double precision, for values whose rounding would be amplified by a later computation (typically a difference
+ * of close values).
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class FloatStatesMatrix implements StatesMatrix {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private static final double[] NO_VALUES = new double[0];
+
+    private final int rowCount;
+
+    private final float[][] columns;
+
+    // rows kept in double precision, sorted, by column
+    private final int[][] exactRows;
+
+    private final double[][] exactValues;
+
+    public FloatStatesMatrix(int rowCount, int columnCount) {
+        if (rowCount < 0 || columnCount < 0) {
+            throw new IllegalArgumentException("Invalid matrix size: " + rowCount + "x" + columnCount);
+        }
+        this.rowCount = rowCount;
+        columns = new float[columnCount][];
+        exactRows = new int[columnCount][];
+        exactValues = new double[columnCount][];
+        for (int column = 0; column < columnCount; column++) {
+            columns[column] = new float[rowCount];
+            exactRows[column] = NO_ROWS;
+            exactValues[column] = NO_VALUES;
+        }
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Copy a column of a dense matrix to a column of this matrix.
+     *
+     * @param column the column of this matrix to set
+     * @param states the matrix to copy values from
+     * @param statesColumn the column of the matrix to copy values from
+     * @param rowsToKeepExact the rows to keep in double precision, in any order
+     */
+    public void setColumn(int column, DenseMatrix states, int statesColumn, int[] rowsToKeepExact) {
+        Objects.requireNonNull(states);
+        Objects.requireNonNull(rowsToKeepExact);
+        if (states.getRowCount() != rowCount) {
+            throw new IllegalArgumentException("Row count mismatch: " + states.getRowCount() + " instead of " + rowCount);
+        }
+        float[] values = columns[column];
+        for (int row = 0; row < rowCount; row++) {
+            values[row] = (float) states.get(row, statesColumn);
+        }
+        int[] rows = Arrays.stream(rowsToKeepExact).sorted().distinct().toArray();
+        double[] rowValues = new double[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            rowValues[i] = states.get(rows[i], statesColumn);
+        }
+        exactRows[column] = rows;
+        exactValues[column] = rowValues;
+    }
+
+    @Override
+    public double get(int row, int column) {
+        int[] rows = exactRows[column];
+        if (rows.length > 0) {
+            int i = Arrays.binarySearch(rows, row);
+            if (i >= 0) {
+                return exactValues[column][i];
+            }
+        }
+        return columns[column][row];
+    }
+}
@@ -38,6 +38,8 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
 
     private LUDecomposition lu;
 
+    private int elementCount = 0;
+
     protected enum Status {
         VALID,
         VALUES_INVALID, // same structure but values have to be updated
@@ -92,11 +94,13 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
 
         int estimatedNonZeroValueCount = rowCount * 3;
         matrix = matrixFactory.create(rowCount, columnCount, estimatedNonZeroValueCount);
+        elementCount = 0;
 
         for (Equation<V, E> eq : equationSystem.getIndex().getSortedEquationsToSolve()) {
             int column = eq.getColumn();
             eq.der((variable, value, matrixElementIndex) -> {
                 int row = variable.getRow();
+                elementCount++;
                 return matrix.addAndGetIndex(row, column, value);
             });
         }
@@ -182,13 +186,28 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         }
     }
 
+    /**
+     * Number of elements added to the matrix at last build, without updating it.
+     */
+    public int getElementCount() {
+        return elementCount;
+    }
+
     public Matrix getMatrix() {
+        return getUpdatedMatrix();
+    }
+
+    /**
+     * Matrix updated with the equation system changes, used internally to decompose it. Contrary to
+     * {@link #getMatrix()}, it is not meant to be overridden to apply changes only needed by external users.
+     */
+    protected Matrix getUpdatedMatrix() {
         update();
         return matrix;
     }
 
     private LUDecomposition getLUDecomposition() {
-        Matrix m = getMatrix();
+        Matrix m = getUpdatedMatrix();
         if (lu == null) {
             Stopwatch stopwatch = Stopwatch.createStarted();
 
@@ -220,6 +239,7 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         equationSystem.getIndex().removeListener(this);
         equationSystem.getStateVector().removeListener(this);
         matrix = null;
+        elementCount = 0;
         clearLu();
     }
 }
@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.equations;
+
+import com.powsybl.math.matrix.DenseMatrix;
+
+import java.util.Objects;
+
+/**
+ * Read only access to states stored by column, one column per solved right hand side.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public interface StatesMatrix {
+
+    int getRowCount();
+
+    int getColumnCount();
+
+    double get(int row, int column);
+
+    static StatesMatrix of(DenseMatrix matrix) {
+        Objects.requireNonNull(matrix);
+        return new StatesMatrix() {
+            @Override
+            public int getRowCount() {
+                return matrix.getRowCount();
+            }
+
+            @Override
+            public int getColumnCount() {
+                return matrix.getColumnCount();
+            }
+
+            @Override
+            public double get(int row, int column) {
+                return matrix.get(row, column);
+            }
+        };
+    }
+}
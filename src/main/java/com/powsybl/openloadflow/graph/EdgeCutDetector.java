@@ -0,0 +1,228 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.graph;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.ToIntFunction;
+
+/**
+ * Static precomputation to detect, without any graph traversal, that removing a set of edges keeps the connectivity
+ * of the graph unchanged.
+ * <p>
+ * A spanning forest is computed once, each non forest edge is given a random 64 bits label and each forest edge gets
+ * the XOR of the labels of the non forest edges whose cycle goes through it. Labels are then hashes of the edges
+ * cycle space vectors: an edge is a bridge if and only if its label is zero (with a false positive probability of
+ * 2^-64), two edges are a 2-edge cut set if they have the same label, and more generally a set of edges splits a
+ * component only if a non-empty subset of their labels XORs to zero, which is checked with a Gaussian elimination
+ * over GF(2).
+ * <p>
+ * Errors are one-sided: {@link #isConnectivityPreserved(Collection)} never returns true for a set of edges that
+ * actually splits a component, so that it can safely be used as a fast path in front of a {@link GraphConnectivity}.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class EdgeCutDetector<V, E> {
+
+    private static final long SEED = 20250101L;
+
+    private final ToIntFunction<V> vertexNumGetter;
+
+    private final ToIntFunction<E> edgeNumGetter;
+
+    private int vertexCount;
+
+    private int edgeCount;
+
+    private int[] edgeVertex1 = new int[0];
+
+    private int[] edgeVertex2 = new int[0];
+
+    private long[] labels;
+
+    private int componentCount = -1;
+
+    public EdgeCutDetector(ToIntFunction<V> vertexNumGetter, ToIntFunction<E> edgeNumGetter) {
+        this.vertexNumGetter = Objects.requireNonNull(vertexNumGetter);
+        this.edgeNumGetter = Objects.requireNonNull(edgeNumGetter);
+    }
+
+    public void addVertex(V vertex) {
+        Objects.requireNonNull(vertex);
+        vertexCount = Math.max(vertexCount, vertexNumGetter.applyAsInt(vertex) + 1);
+        labels = null;
+    }
+
+    public void addEdge(V vertex1, V vertex2, E edge) {
+        Objects.requireNonNull(vertex1);
+        Objects.requireNonNull(vertex2);
+        Objects.requireNonNull(edge);
+        int e = edgeNumGetter.applyAsInt(edge);
+        if (e >= edgeVertex1.length) {
+            int newLength = Math.max(Math.max(e + 1, 16), edgeVertex1.length * 2);
+            int oldLength = edgeVertex1.length;
+            edgeVertex1 = Arrays.copyOf(edgeVertex1, newLength);
+            edgeVertex2 = Arrays.copyOf(edgeVertex2, newLength);
+            Arrays.fill(edgeVertex1, oldLength, newLength, -1);
+            Arrays.fill(edgeVertex2, oldLength, newLength, -1);
+        }
+        int v1 = vertexNumGetter.applyAsInt(vertex1);
+        int v2 = vertexNumGetter.applyAsInt(vertex2);
+        edgeVertex1[e] = v1;
+        edgeVertex2[e] = v2;
+        edgeCount = Math.max(edgeCount, e + 1);
+        vertexCount = Math.max(vertexCount, Math.max(v1, v2) + 1);
+        labels = null;
+    }
+
+    private void lazyCompute() {
+        if (labels != null) {
+            return;
+        }
+
+        // adjacency in compressed sparse row format
+        int[] adjStart = new int[vertexCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            if (edgeVertex1[e] != -1) {
+                adjStart[edgeVertex1[e] + 1]++;
+                adjStart[edgeVertex2[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            adjStart[v + 1] += adjStart[v];
+        }
+        int[] adjEdges = new int[adjStart[vertexCount]];
+        int[] fill = Arrays.copyOf(adjStart, vertexCount);
+        for (int e = 0; e < edgeCount; e++) {
+            if (edgeVertex1[e] != -1) {
+                adjEdges[fill[edgeVertex1[e]]++] = e;
+                adjEdges[fill[edgeVertex2[e]]++] = e;
+            }
+        }
+
+        // breadth first spanning forest
+        int[] parentEdge = new int[vertexCount];
+        Arrays.fill(parentEdge, -1);
+        boolean[] visited = new boolean[vertexCount];
+        boolean[] inForest = new boolean[edgeCount];
+        int[] order = new int[vertexCount];
+        int orderSize = 0;
+        componentCount = 0;
+        for (int root = 0; root < vertexCount; root++) {
+            if (visited[root]) {
+                continue;
+            }
+            componentCount++;
+            visited[root] = true;
+            order[orderSize++] = root;
+            for (int i = orderSize - 1; i < orderSize; i++) {
+                int v = order[i];
+                for (int j = adjStart[v]; j < adjStart[v + 1]; j++) {
+                    int e = adjEdges[j];
+                    int w = edgeVertex1[e] == v ? edgeVertex2[e] : edgeVertex1[e];
+                    if (!visited[w]) {
+                        visited[w] = true;
+                        parentEdge[w] = e;
+                        inForest[e] = true;
+                        order[orderSize++] = w;
+                    }
+                }
+            }
+        }
+
+        // random labels on non forest edges, accumulated on their end vertices
+        labels = new long[edgeCount];
+        long[] subtreeLabels = new long[vertexCount];
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int e = 0; e < edgeCount; e++) {
+            if (edgeVertex1[e] != -1 && !inForest[e]) {
+                long label = random.nextLong();
+                while (label == 0) {
+                    label = random.nextLong();
+                }
+                labels[e] = label;
+                subtreeLabels[edgeVertex1[e]] ^= label;
+                subtreeLabels[edgeVertex2[e]] ^= label;
+            }
+        }
+
+        // a forest edge label is the XOR of the labels accumulated in the subtree below it
+        for (int i = orderSize - 1; i >= 0; i--) {
+            int v = order[i];
+            int e = parentEdge[v];
+            if (e != -1) {
+                labels[e] = subtreeLabels[v];
+                int parent = edgeVertex1[e] == v ? edgeVertex2[e] : edgeVertex1[e];
+                subtreeLabels[parent] ^= subtreeLabels[v];
+            }
+        }
+    }
+
+    private boolean contains(int e) {
+        return e < edgeCount && edgeVertex1[e] != -1;
+    }
+
+    /**
+     * Get the number of connected components of the graph.
+     */
+    public int getComponentCount() {
+        lazyCompute();
+        return componentCount;
+    }
+
+    /**
+     * Check if given edge is a bridge, i.e. if removing it splits its connected component. False positives are
+     * possible with a probability of 2^-64.
+     */
+    public boolean isBridge(E edge) {
+        Objects.requireNonNull(edge);
+        int e = edgeNumGetter.applyAsInt(edge);
+        if (!contains(e)) {
+            throw new IllegalArgumentException("Edge " + edge + " not in graph");
+        }
+        lazyCompute();
+        return labels[e] == 0;
+    }
+
+    /**
+     * Check that removing all given edges at the same time does not split any connected component. Edges that are
+     * not part of the graph are ignored. A false result does not mean that connectivity is lost but only that it has
+     * to be checked with a {@link GraphConnectivity}.
+     */
+    public boolean isConnectivityPreserved(Collection<E> removedEdges) {
+        Objects.requireNonNull(removedEdges);
+        lazyCompute();
+        // Gaussian elimination over GF(2), one basis vector per leading bit
+        long[] basis = null;
+        for (E edge : removedEdges) {
+            int e = edgeNumGetter.applyAsInt(edge);
+            if (!contains(e)) {
+                continue;
+            }
+            long label = labels[e];
+            if (basis == null) {
+                basis = new long[Long.SIZE];
+            }
+            while (label != 0) {
+                int bit = 63 - Long.numberOfLeadingZeros(label);
+                if (basis[bit] == 0) {
+                    basis[bit] = label;
+                    break;
+                }
+                label ^= basis[bit];
+            }
+            if (label == 0) {
+                // label is a combination of previous ones, a subset of removed edges is a cut set
+                return false;
+            }
+        }
+        return true;
+    }
+}
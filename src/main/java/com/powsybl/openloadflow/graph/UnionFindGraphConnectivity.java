@@ -0,0 +1,1001 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.graph;
+
+import com.powsybl.commons.PowsyblException;
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+/**
+ * Connectivity implementation working only on vertex and edge numbers with primitive int arrays, designed for a very
+ * large number of small temporary changes (contingencies) on a big graph.
+ * <p>
+ * Each vertex has a label and labels are merged with a union-find structure (union by size, no path compression),
+ * so that the connected component of a vertex is the root of its label. A spanning forest of the graph is maintained:
+ * <ul>
+ *     <li>adding an edge between two components is a union of their roots,</li>
+ *     <li>removing an edge which is not in the forest does not change anything,</li>
+ *     <li>removing an edge of the forest explores in lockstep the two trees it splits until the smallest one is
+ *     fully explored, then either a replacement edge is found or the vertices of the smallest tree are moved to a new
+ *     label.</li>
+ * </ul>
+ * All state changes are recorded in a journal of int entries, which is rolled back when undoing temporary changes.
+ * Component number queries are allocation free.
+ * <p>
+ * Vertex and edge numbers must be unique, positive and small as they are used as array indexes.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class UnionFindGraphConnectivity<V, E> implements GraphConnectivity<V, E> {
+
+    private static final int NO_VALUE = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // journal entry types
+    private static final int VERTEX_ADD = 0;
+    private static final int EDGE_ADD = 1;
+    private static final int EDGE_REMOVE = 2;
+    private static final int FOREST_CHANGE = 3;
+    private static final int RELABEL = 4;
+    private static final int UNION = 5;
+    private static final int SIZE_CHANGE = 6;
+    private static final int MIN_CHANGE = 7;
+    private static final int NEW_LABEL = 8;
+
+    private final ToIntFunction<V> vertexNumGetter;
+
+    private final ToIntFunction<E> edgeNumGetter;
+
+    // vertices indexed by vertex number
+
+    private Object[] vertices = new Object[INITIAL_CAPACITY];
+
+    private int[] vertexLabel = new int[INITIAL_CAPACITY];
+
+    private int[] nextInLabel = new int[INITIAL_CAPACITY];
+
+    private int[] prevInLabel = new int[INITIAL_CAPACITY];
+
+    private int[][] adjacency = new int[INITIAL_CAPACITY][];
+
+    private int[] degree = new int[INITIAL_CAPACITY];
+
+    private int[] mark = new int[INITIAL_CAPACITY];
+
+    private int[] vertexBuffer1 = new int[INITIAL_CAPACITY];
+
+    private int[] vertexBuffer2 = new int[INITIAL_CAPACITY];
+
+    // edges indexed by edge number, an edge which has been added once is kept with a present flag
+
+    private Object[] edges = new Object[INITIAL_CAPACITY];
+
+    private int[] edgeVertex1 = new int[INITIAL_CAPACITY];
+
+    private int[] edgeVertex2 = new int[INITIAL_CAPACITY];
+
+    private boolean[] edgePresent = new boolean[INITIAL_CAPACITY];
+
+    private boolean[] inForest = new boolean[INITIAL_CAPACITY];
+
+    // labels, only parent, size and min of root labels are meaningful
+
+    private int labelCount;
+
+    private int[] labelParent = new int[INITIAL_CAPACITY];
+
+    private int[] labelSize = new int[INITIAL_CAPACITY];
+
+    private int[] labelMin = new int[INITIAL_CAPACITY]; // min vertex number of the component, NO_VALUE if unknown
+
+    private int[] labelHead = new int[INITIAL_CAPACITY]; // first vertex of the label
+
+    private int[] labelFirstChild = new int[INITIAL_CAPACITY];
+
+    private int[] labelNextSibling = new int[INITIAL_CAPACITY];
+
+    private int[] labelStack = new int[INITIAL_CAPACITY];
+
+    // journal
+
+    private int journalSize;
+
+    private int[] journalType = new int[INITIAL_CAPACITY];
+
+    private int[] journalArg1 = new int[INITIAL_CAPACITY];
+
+    private int[] journalArg2 = new int[INITIAL_CAPACITY];
+
+    private int[] journalArg3 = new int[INITIAL_CAPACITY];
+
+    // components ranking, by decreasing size then increasing min vertex number
+
+    private boolean rankingValid;
+
+    private int componentCount;
+
+    private long[] rankingKeys = new long[INITIAL_CAPACITY];
+
+    private int[] rankedRoots = new int[INITIAL_CAPACITY];
+
+    private int[] rootRank = new int[INITIAL_CAPACITY];
+
+    private final List<Set<V>> componentSets = new ArrayList<>();
+
+    // state at start of temporary changes, built from the journal when comparing with main component before changes
+
+    private int startStamp;
+
+    private int[] startLabel = new int[INITIAL_CAPACITY];
+
+    private int[] startLabelStamp = new int[INITIAL_CAPACITY];
+
+    private int[] addedVertexStamp = new int[INITIAL_CAPACITY];
+
+    private int[] startParent = new int[INITIAL_CAPACITY];
+
+    private int[] startParentStamp = new int[INITIAL_CAPACITY];
+
+    private int[] edgeStamp = new int[INITIAL_CAPACITY];
+
+    private int[] edgeFirstModificationType = new int[INITIAL_CAPACITY];
+
+    private int[] edgeFirstModificationVertex1 = new int[INITIAL_CAPACITY];
+
+    private final TIntArrayList relabeledVertices = new TIntArrayList();
+
+    private final TIntArrayList addedVertices = new TIntArrayList();
+
+    private final TIntArrayList modifiedEdges = new TIntArrayList();
+
+    private int markStamp;
+
+    private boolean valid;
+
+    private final Deque<ModificationsContext> modificationsContexts = new ArrayDeque<>();
+
+    private V defaultMainComponentVertex;
+
+    private final class ModificationsContext {
+
+        private final int journalStart;
+
+        private final int labelCountAtStart;
+
+        private final int mainRootAtStart;
+
+        private V mainComponentVertex;
+
+        private int comparisonsJournalSize = NO_VALUE;
+
+        private Set<V> verticesAddedToMainComponent;
+
+        private Set<V> verticesRemovedFromMainComponent;
+
+        private Set<E> edgesAddedToMainComponent;
+
+        private Set<E> edgesRemovedFromMainComponent;
+
+        private ModificationsContext(int journalStart, int labelCountAtStart, int mainRootAtStart, V mainComponentVertex) {
+            this.journalStart = journalStart;
+            this.labelCountAtStart = labelCountAtStart;
+            this.mainRootAtStart = mainRootAtStart;
+            this.mainComponentVertex = mainComponentVertex;
+        }
+    }
+
+    public UnionFindGraphConnectivity(ToIntFunction<V> vertexNumGetter, ToIntFunction<E> edgeNumGetter) {
+        this.vertexNumGetter = Objects.requireNonNull(vertexNumGetter);
+        this.edgeNumGetter = Objects.requireNonNull(edgeNumGetter);
+    }
+
+    private static int newCapacity(int length, int index) {
+        return Math.max(index + 1, 2 * length);
+    }
+
+    private void ensureVertexCapacity(int v) {
+        if (v < 0) {
+            throw new IllegalArgumentException("Negative vertex number: " + v);
+        }
+        if (v >= vertices.length) {
+            int capacity = newCapacity(vertices.length, v);
+            vertices = Arrays.copyOf(vertices, capacity);
+            vertexLabel = Arrays.copyOf(vertexLabel, capacity);
+            nextInLabel = Arrays.copyOf(nextInLabel, capacity);
+            prevInLabel = Arrays.copyOf(prevInLabel, capacity);
+            adjacency = Arrays.copyOf(adjacency, capacity);
+            degree = Arrays.copyOf(degree, capacity);
+            mark = Arrays.copyOf(mark, capacity);
+            vertexBuffer1 = Arrays.copyOf(vertexBuffer1, capacity);
+            vertexBuffer2 = Arrays.copyOf(vertexBuffer2, capacity);
+            startLabel = Arrays.copyOf(startLabel, capacity);
+            startLabelStamp = Arrays.copyOf(startLabelStamp, capacity);
+            addedVertexStamp = Arrays.copyOf(addedVertexStamp, capacity);
+        }
+    }
+
+    private void ensureEdgeCapacity(int e) {
+        if (e < 0) {
+            throw new IllegalArgumentException("Negative edge number: " + e);
+        }
+        if (e >= edges.length) {
+            int capacity = newCapacity(edges.length, e);
+            edges = Arrays.copyOf(edges, capacity);
+            edgeVertex1 = Arrays.copyOf(edgeVertex1, capacity);
+            edgeVertex2 = Arrays.copyOf(edgeVertex2, capacity);
+            edgePresent = Arrays.copyOf(edgePresent, capacity);
+            inForest = Arrays.copyOf(inForest, capacity);
+            edgeStamp = Arrays.copyOf(edgeStamp, capacity);
+            edgeFirstModificationType = Arrays.copyOf(edgeFirstModificationType, capacity);
+            edgeFirstModificationVertex1 = Arrays.copyOf(edgeFirstModificationVertex1, capacity);
+        }
+    }
+
+    private void ensureLabelCapacity(int label) {
+        if (label >= labelParent.length) {
+            int capacity = newCapacity(labelParent.length, label);
+            labelParent = Arrays.copyOf(labelParent, capacity);
+            labelSize = Arrays.copyOf(labelSize, capacity);
+            labelMin = Arrays.copyOf(labelMin, capacity);
+            labelHead = Arrays.copyOf(labelHead, capacity);
+            labelFirstChild = Arrays.copyOf(labelFirstChild, capacity);
+            labelNextSibling = Arrays.copyOf(labelNextSibling, capacity);
+            labelStack = Arrays.copyOf(labelStack, capacity);
+            rankingKeys = Arrays.copyOf(rankingKeys, capacity);
+            rankedRoots = Arrays.copyOf(rankedRoots, capacity);
+            rootRank = Arrays.copyOf(rootRank, capacity);
+            startParent = Arrays.copyOf(startParent, capacity);
+            startParentStamp = Arrays.copyOf(startParentStamp, capacity);
+        }
+    }
+
+    private int nextMarkStamp() {
+        if (markStamp == Integer.MAX_VALUE) {
+            Arrays.fill(mark, 0);
+            markStamp = 0;
+        }
+        return ++markStamp;
+    }
+
+    private void journal(int type, int arg1, int arg2, int arg3) {
+        if (journalSize == journalType.length) {
+            int capacity = 2 * journalSize;
+            journalType = Arrays.copyOf(journalType, capacity);
+            journalArg1 = Arrays.copyOf(journalArg1, capacity);
+            journalArg2 = Arrays.copyOf(journalArg2, capacity);
+            journalArg3 = Arrays.copyOf(journalArg3, capacity);
+        }
+        journalType[journalSize] = type;
+        journalArg1[journalSize] = arg1;
+        journalArg2[journalSize] = arg2;
+        journalArg3[journalSize] = arg3;
+        journalSize++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V getVertex(int v) {
+        return (V) vertices[v];
+    }
+
+    @SuppressWarnings("unchecked")
+    private E getEdge(int e) {
+        return (E) edges[e];
+    }
+
+    private int getVertexNum(V vertex) {
+        if (vertex != null) {
+            int v = vertexNumGetter.applyAsInt(vertex);
+            if (v >= 0 && v < vertices.length && vertices[v] != null) {
+                return v;
+            }
+        }
+        throw new IllegalArgumentException("given vertex " + vertex + " is not in the graph");
+    }
+
+    private int getOtherVertex(int e, int v) {
+        return edgeVertex1[e] == v ? edgeVertex2[e] : edgeVertex1[e];
+    }
+
+    private void addToAdjacency(int v, int e) {
+        int[] vertexEdges = adjacency[v];
+        if (vertexEdges == null) {
+            vertexEdges = new int[4];
+            adjacency[v] = vertexEdges;
+        } else if (degree[v] == vertexEdges.length) {
+            vertexEdges = Arrays.copyOf(vertexEdges, 2 * degree[v]);
+            adjacency[v] = vertexEdges;
+        }
+        vertexEdges[degree[v]++] = e;
+    }
+
+    private void removeFromAdjacency(int v, int e) {
+        int[] vertexEdges = adjacency[v];
+        for (int i = 0; i < degree[v]; i++) {
+            if (vertexEdges[i] == e) {
+                vertexEdges[i] = vertexEdges[--degree[v]];
+                return;
+            }
+        }
+    }
+
+    private void attachEdge(int e, int v1, int v2) {
+        edgeVertex1[e] = v1;
+        edgeVertex2[e] = v2;
+        addToAdjacency(v1, e);
+        if (v2 != v1) {
+            addToAdjacency(v2, e);
+        }
+    }
+
+    private void detachEdge(int e) {
+        removeFromAdjacency(edgeVertex1[e], e);
+        if (edgeVertex2[e] != edgeVertex1[e]) {
+            removeFromAdjacency(edgeVertex2[e], e);
+        }
+    }
+
+    private void linkToLabel(int v, int label) {
+        vertexLabel[v] = label;
+        int head = labelHead[label];
+        nextInLabel[v] = head;
+        prevInLabel[v] = NO_VALUE;
+        if (head != NO_VALUE) {
+            prevInLabel[head] = v;
+        }
+        labelHead[label] = v;
+    }
+
+    private void unlinkFromLabel(int v) {
+        int prev = prevInLabel[v];
+        int next = nextInLabel[v];
+        if (prev != NO_VALUE) {
+            nextInLabel[prev] = next;
+        } else {
+            labelHead[vertexLabel[v]] = next;
+        }
+        if (next != NO_VALUE) {
+            prevInLabel[next] = prev;
+        }
+    }
+
+    private int createLabel() {
+        ensureLabelCapacity(labelCount);
+        int label = labelCount++;
+        labelParent[label] = label;
+        labelSize[label] = 0;
+        labelMin[label] = NO_VALUE;
+        labelHead[label] = NO_VALUE;
+        labelFirstChild[label] = NO_VALUE;
+        labelNextSibling[label] = NO_VALUE;
+        return label;
+    }
+
+    private int newLabel() {
+        int label = createLabel();
+        journal(NEW_LABEL, label, 0, 0);
+        return label;
+    }
+
+    private int find(int label) {
+        int root = label;
+        while (labelParent[root] != root) {
+            root = labelParent[root];
+        }
+        return root;
+    }
+
+    private void setForest(int e, boolean forest) {
+        journal(FOREST_CHANGE, e, inForest[e] ? 1 : 0, 0);
+        inForest[e] = forest;
+    }
+
+    private void relabel(int v, int label) {
+        journal(RELABEL, v, vertexLabel[v], 0);
+        unlinkFromLabel(v);
+        linkToLabel(v, label);
+    }
+
+    private void setSize(int root, int size) {
+        journal(SIZE_CHANGE, root, labelSize[root], 0);
+        labelSize[root] = size;
+    }
+
+    private void setMin(int root, int min) {
+        journal(MIN_CHANGE, root, labelMin[root], 0);
+        labelMin[root] = min;
+    }
+
+    private void union(int root1, int root2) {
+        int parent = root1;
+        int child = root2;
+        if (labelSize[parent] < labelSize[child]) {
+            parent = root2;
+            child = root1;
+        }
+        journal(UNION, child, 0, 0);
+        labelParent[child] = parent;
+        labelNextSibling[child] = labelFirstChild[parent];
+        labelFirstChild[parent] = child;
+        setSize(parent, labelSize[parent] + labelSize[child]);
+        // min of the merged component is unknown if one of the two is, it is then computed at next ranking
+        int min1 = labelMin[parent];
+        int min2 = labelMin[child];
+        setMin(parent, min1 == NO_VALUE || min2 == NO_VALUE ? NO_VALUE : Math.min(min1, min2));
+    }
+
+    private int exploreForest(int v, int stamp, int[] queue, int queueTail) {
+        int tail = queueTail;
+        int[] vertexEdges = adjacency[v];
+        for (int i = 0; i < degree[v]; i++) {
+            int e = vertexEdges[i];
+            if (inForest[e]) {
+                int other = getOtherVertex(e, v);
+                if (mark[other] != stamp) {
+                    mark[other] = stamp;
+                    queue[tail++] = other;
+                }
+            }
+        }
+        return tail;
+    }
+
+    private int findReplacementEdge(int[] treeVertices, int treeSize, int treeStamp) {
+        for (int i = 0; i < treeSize; i++) {
+            int v = treeVertices[i];
+            int[] vertexEdges = adjacency[v];
+            for (int j = 0; j < degree[v]; j++) {
+                int e = vertexEdges[j];
+                if (edgePresent[e] && !inForest[e] && mark[getOtherVertex(e, v)] != treeStamp) {
+                    return e;
+                }
+            }
+        }
+        return NO_VALUE;
+    }
+
+    private void cutForestEdge(int e) {
+        int v1 = edgeVertex1[e];
+        int v2 = edgeVertex2[e];
+        int root = find(vertexLabel[v1]);
+
+        // explore in lockstep the 2 trees of the forest split by the edge removal, until the smallest one has been
+        // fully explored
+        int stamp1 = nextMarkStamp();
+        int stamp2 = nextMarkStamp();
+        mark[v1] = stamp1;
+        mark[v2] = stamp2;
+        vertexBuffer1[0] = v1;
+        vertexBuffer2[0] = v2;
+        int head1 = 0;
+        int tail1 = 1;
+        int head2 = 0;
+        int tail2 = 1;
+        while (head1 < tail1 && head2 < tail2) {
+            tail1 = exploreForest(vertexBuffer1[head1++], stamp1, vertexBuffer1, tail1);
+            tail2 = exploreForest(vertexBuffer2[head2++], stamp2, vertexBuffer2, tail2);
+        }
+        int[] treeVertices;
+        int treeSize;
+        int treeStamp;
+        if (head1 == tail1) {
+            treeVertices = vertexBuffer1;
+            treeSize = tail1;
+            treeStamp = stamp1;
+        } else {
+            treeVertices = vertexBuffer2;
+            treeSize = tail2;
+            treeStamp = stamp2;
+        }
+
+        // an edge going out of the smallest tree reconnects the 2 trees
+        int replacementEdge = findReplacementEdge(treeVertices, treeSize, treeStamp);
+        if (replacementEdge != NO_VALUE) {
+            setForest(replacementEdge, true);
+            return;
+        }
+
+        // component is split, vertices of the smallest tree are moved to a new label
+        int label = newLabel();
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < treeSize; i++) {
+            int v = treeVertices[i];
+            relabel(v, label);
+            min = Math.min(min, v);
+        }
+        labelSize[label] = treeSize;
+        labelMin[label] = min;
+        setSize(root, labelSize[root] - treeSize);
+        if (labelMin[root] != NO_VALUE && mark[labelMin[root]] == treeStamp) {
+            setMin(root, NO_VALUE);
+        }
+        invalidateComponents();
+    }
+
+    private void rebuild() {
+        labelCount = 0;
+        Arrays.fill(inForest, false);
+        int stamp = nextMarkStamp();
+        for (int v = 0; v < vertices.length; v++) {
+            if (vertices[v] != null && mark[v] != stamp) {
+                int label = createLabel();
+                labelMin[label] = v;
+                mark[v] = stamp;
+                vertexBuffer1[0] = v;
+                int head = 0;
+                int tail = 1;
+                while (head < tail) {
+                    int u = vertexBuffer1[head++];
+                    linkToLabel(u, label);
+                    int[] vertexEdges = adjacency[u];
+                    for (int i = 0; i < degree[u]; i++) {
+                        int e = vertexEdges[i];
+                        if (edgePresent[e]) {
+                            int other = getOtherVertex(e, u);
+                            if (mark[other] != stamp) {
+                                mark[other] = stamp;
+                                inForest[e] = true;
+                                vertexBuffer1[tail++] = other;
+                            }
+                        }
+                    }
+                }
+                labelSize[label] = tail;
+            }
+        }
+        valid = true;
+        invalidateComponents();
+    }
+
+    private void invalidateComponents() {
+        rankingValid = false;
+        componentSets.clear();
+    }
+
+    private int collectComponent(int root, int[] buffer) {
+        int count = 0;
+        int stackSize = 0;
+        labelStack[stackSize++] = root;
+        while (stackSize > 0) {
+            int label = labelStack[--stackSize];
+            for (int v = labelHead[label]; v != NO_VALUE; v = nextInLabel[v]) {
+                buffer[count++] = v;
+            }
+            for (int child = labelFirstChild[label]; child != NO_VALUE; child = labelNextSibling[child]) {
+                labelStack[stackSize++] = child;
+            }
+        }
+        return count;
+    }
+
+    private void updateRanking() {
+        if (rankingValid) {
+            return;
+        }
+        int count = 0;
+        for (int label = 0; label < labelCount; label++) {
+            if (labelParent[label] == label && labelSize[label] > 0) {
+                if (labelMin[label] == NO_VALUE) {
+                    int size = collectComponent(label, vertexBuffer1);
+                    int min = Integer.MAX_VALUE;
+                    for (int i = 0; i < size; i++) {
+                        min = Math.min(min, vertexBuffer1[i]);
+                    }
+                    // journaled as the min is only valid for the current changes, it must be unknown again once
+                    // they are undone
+                    if (modificationsContexts.isEmpty()) {
+                        labelMin[label] = min;
+                    } else {
+                        setMin(label, min);
+                    }
+                }
+                rankingKeys[count++] = ((long) (Integer.MAX_VALUE - labelSize[label]) << 32) | labelMin[label];
+            }
+        }
+        Arrays.sort(rankingKeys, 0, count);
+        for (int rank = 0; rank < count; rank++) {
+            int root = find(vertexLabel[(int) rankingKeys[rank]]);
+            rankedRoots[rank] = root;
+            rootRank[root] = rank;
+        }
+        componentCount = count;
+        rankingValid = true;
+    }
+
+    private Set<V> getComponentSet(int rank) {
+        while (componentSets.size() <= rank) {
+            componentSets.add(null);
+        }
+        Set<V> componentSet = componentSets.get(rank);
+        if (componentSet == null) {
+            int size = collectComponent(rankedRoots[rank], vertexBuffer1);
+            componentSet = new LinkedHashSet<>(size);
+            for (int i = 0; i < size; i++) {
+                componentSet.add(getVertex(vertexBuffer1[i]));
+            }
+            componentSets.set(rank, componentSet);
+        }
+        return componentSet;
+    }
+
+    private int getMainRoot(V mainComponentVertex) {
+        if (mainComponentVertex != null) {
+            return find(vertexLabel[getVertexNum(mainComponentVertex)]);
+        }
+        updateRanking();
+        return componentCount > 0 ? rankedRoots[0] : NO_VALUE;
+    }
+
+    @Override
+    public void addVertex(V vertex) {
+        Objects.requireNonNull(vertex);
+        int v = vertexNumGetter.applyAsInt(vertex);
+        ensureVertexCapacity(v);
+        if (vertices[v] != null) {
+            return;
+        }
+        vertices[v] = vertex;
+        if (modificationsContexts.isEmpty()) {
+            valid = false;
+        } else {
+            int label = newLabel();
+            journal(VERTEX_ADD, v, 0, 0);
+            linkToLabel(v, label);
+            labelSize[label] = 1;
+            labelMin[label] = v;
+            invalidateComponents();
+        }
+    }
+
+    @Override
+    public void addEdge(V vertex1, V vertex2, E edge) {
+        Objects.requireNonNull(vertex1);
+        Objects.requireNonNull(vertex2);
+        Objects.requireNonNull(edge);
+        int e = edgeNumGetter.applyAsInt(edge);
+        ensureEdgeCapacity(e);
+        if (edgePresent[e]) {
+            return;
+        }
+        int v1 = getVertexNum(vertex1);
+        int v2 = getVertexNum(vertex2);
+        int oldVertex1 = NO_VALUE;
+        int oldVertex2 = NO_VALUE;
+        if (edges[e] == null) {
+            attachEdge(e, v1, v2);
+        } else if (edgeVertex1[e] != v1 || edgeVertex2[e] != v2) {
+            oldVertex1 = edgeVertex1[e];
+            oldVertex2 = edgeVertex2[e];
+            detachEdge(e);
+            attachEdge(e, v1, v2);
+        }
+        edges[e] = edge;
+        edgePresent[e] = true;
+        if (modificationsContexts.isEmpty()) {
+            valid = false;
+        } else {
+            journal(EDGE_ADD, e, oldVertex1, oldVertex2);
+            if (v1 != v2) {
+                int root1 = find(vertexLabel[v1]);
+                int root2 = find(vertexLabel[v2]);
+                if (root1 != root2) {
+                    setForest(e, true);
+                    union(root1, root2);
+                    invalidateComponents();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void removeEdge(E edge) {
+        Objects.requireNonNull(edge);
+        int e = edgeNumGetter.applyAsInt(edge);
+        if (e < 0 || e >= edges.length || !edgePresent[e]) {
+            return;
+        }
+        edgePresent[e] = false;
+        if (modificationsContexts.isEmpty()) {
+            valid = false;
+        } else {
+            journal(EDGE_REMOVE, e, edgeVertex1[e], 0);
+            if (inForest[e]) {
+                setForest(e, false);
+                cutForestEdge(e);
+            }
+        }
+    }
+
+    @Override
+    public boolean supportTemporaryChangesNesting() {
+        return true;
+    }
+
+    @Override
+    public void startTemporaryChanges() {
+        if (!valid) {
+            rebuild();
+        }
+        modificationsContexts.add(new ModificationsContext(journalSize, labelCount, getMainRoot(defaultMainComponentVertex),
+                                                           defaultMainComponentVertex));
+    }
+
+    @Override
+    public void undoTemporaryChanges() {
+        if (modificationsContexts.isEmpty()) {
+            throw new PowsyblException("Cannot reset, no remaining saved connectivity");
+        }
+        ModificationsContext modificationsContext = modificationsContexts.pollLast();
+        while (journalSize > modificationsContext.journalStart) {
+            undo(--journalSize);
+        }
+        invalidateComponents();
+    }
+
+    private void undo(int i) {
+        int arg1 = journalArg1[i];
+        int arg2 = journalArg2[i];
+        switch (journalType[i]) {
+            case VERTEX_ADD -> {
+                unlinkFromLabel(arg1);
+                vertices[arg1] = null;
+            }
+            case EDGE_ADD -> {
+                edgePresent[arg1] = false;
+                if (arg2 != NO_VALUE) {
+                    detachEdge(arg1);
+                    attachEdge(arg1, arg2, journalArg3[i]);
+                }
+            }
+            case EDGE_REMOVE -> edgePresent[arg1] = true;
+            case FOREST_CHANGE -> inForest[arg1] = arg2 == 1;
+            case RELABEL -> {
+                unlinkFromLabel(arg1);
+                linkToLabel(arg1, arg2);
+            }
+            case UNION -> {
+                labelFirstChild[labelParent[arg1]] = labelNextSibling[arg1];
+                labelParent[arg1] = arg1;
+                labelNextSibling[arg1] = NO_VALUE;
+            }
+            case SIZE_CHANGE -> labelSize[arg1] = arg2;
+            case MIN_CHANGE -> labelMin[arg1] = arg2;
+            case NEW_LABEL -> labelCount--;
+            default -> throw new IllegalStateException("Unknown journal entry type: " + journalType[i]);
+        }
+    }
+
+    private ModificationsContext checkSavedContext() {
+        if (modificationsContexts.isEmpty()) {
+            throw new PowsyblException("Cannot compute connectivity without a saved state, please call GraphConnectivity::startTemporaryChanges at least once beforehand");
+        }
+        return modificationsContexts.peekLast();
+    }
+
+    @Override
+    public int getComponentNumber(V vertex) {
+        checkSavedContext();
+        int v = getVertexNum(vertex);
+        updateRanking();
+        return rootRank[find(vertexLabel[v])];
+    }
+
+    @Override
+    public void setMainComponentVertex(V mainComponentVertex) {
+        if (!modificationsContexts.isEmpty()) {
+            ModificationsContext modificationsContext = modificationsContexts.peekLast();
+            modificationsContext.mainComponentVertex = mainComponentVertex;
+            modificationsContext.comparisonsJournalSize = NO_VALUE;
+            if (mainComponentVertex != null && !isInMainComponentBefore(modificationsContext, getVertexNum(mainComponentVertex))) {
+                throw new PowsyblException("Cannot take the given vertex as main component vertex! This vertex was outside the main component before starting temporary changes");
+            }
+        }
+        defaultMainComponentVertex = mainComponentVertex;
+    }
+
+    @Override
+    public int getNbConnectedComponents() {
+        checkSavedContext();
+        updateRanking();
+        return componentCount;
+    }
+
+    @Override
+    public Set<V> getConnectedComponent(V vertex) {
+        return getComponentSet(getComponentNumber(vertex));
+    }
+
+    @Override
+    public Set<V> getLargestConnectedComponent() {
+        checkSavedContext();
+        updateRanking();
+        return getComponentSet(0);
+    }
+
+    /**
+     * Rebuild from the journal of the given context the labels, label parents and edges before the start of
+     * temporary changes, only for the vertices, labels and edges which have been modified since.
+     */
+    private void prepareStartState(ModificationsContext modificationsContext) {
+        if (startStamp == Integer.MAX_VALUE) {
+            Arrays.fill(startLabelStamp, 0);
+            Arrays.fill(addedVertexStamp, 0);
+            Arrays.fill(startParentStamp, 0);
+            Arrays.fill(edgeStamp, 0);
+            startStamp = 0;
+        }
+        int stamp = ++startStamp;
+        relabeledVertices.resetQuick();
+        addedVertices.resetQuick();
+        modifiedEdges.resetQuick();
+        // journal is read forward so that the first recorded value is kept, which is the one before temporary changes
+        for (int i = modificationsContext.journalStart; i < journalSize; i++) {
+            int arg1 = journalArg1[i];
+            switch (journalType[i]) {
+                case VERTEX_ADD -> {
+                    addedVertexStamp[arg1] = stamp;
+                    addedVertices.add(arg1);
+                }
+                case RELABEL -> {
+                    if (startLabelStamp[arg1] != stamp) {
+                        startLabelStamp[arg1] = stamp;
+                        startLabel[arg1] = journalArg2[i];
+                        relabeledVertices.add(arg1);
+                    }
+                }
+                case UNION -> {
+                    if (startParentStamp[arg1] != stamp) {
+                        startParentStamp[arg1] = stamp;
+                        startParent[arg1] = arg1;
+                    }
+                }
+                case EDGE_ADD, EDGE_REMOVE -> {
+                    if (edgeStamp[arg1] != stamp) {
+                        edgeStamp[arg1] = stamp;
+                        edgeFirstModificationType[arg1] = journalType[i];
+                        edgeFirstModificationVertex1[arg1] = journalArg2[i];
+                        modifiedEdges.add(arg1);
+                    }
+                }
+                default -> {
+                    // nothing to do
+                }
+            }
+        }
+    }
+
+    private int findAtStart(int label) {
+        int root = label;
+        while (true) {
+            int parent = startParentStamp[root] == startStamp ? startParent[root] : labelParent[root];
+            if (parent == root) {
+                return root;
+            }
+            root = parent;
+        }
+    }
+
+    private int getLabelAtStart(int v) {
+        return startLabelStamp[v] == startStamp ? startLabel[v] : vertexLabel[v];
+    }
+
+    private boolean isInMainComponentBefore(ModificationsContext modificationsContext, int v) {
+        prepareStartState(modificationsContext);
+        // like other implementations, a vertex added during temporary changes is not considered outside main component
+        return addedVertexStamp[v] == startStamp || findAtStart(getLabelAtStart(v)) == modificationsContext.mainRootAtStart;
+    }
+
+    private void addPresentEdges(Set<V> vertexSet, Set<E> edgeSet) {
+        for (V vertex : vertexSet) {
+            int v = vertexNumGetter.applyAsInt(vertex);
+            int[] vertexEdges = adjacency[v];
+            for (int i = 0; i < degree[v]; i++) {
+                int e = vertexEdges[i];
+                if (edgePresent[e]) {
+                    edgeSet.add(getEdge(e));
+                }
+            }
+        }
+    }
+
+    private ModificationsContext updateComparisons() {
+        ModificationsContext modificationsContext = checkSavedContext();
+        if (modificationsContext.comparisonsJournalSize == journalSize) {
+            return modificationsContext;
+        }
+
+        prepareStartState(modificationsContext);
+        int mainRootAtStart = modificationsContext.mainRootAtStart;
+        int mainRoot = getMainRoot(modificationsContext.mainComponentVertex);
+        Set<V> verticesAdded = new HashSet<>();
+        Set<V> verticesRemoved = new HashSet<>();
+
+        // vertices which have been moved to another label
+        for (int i = 0; i < relabeledVertices.size(); i++) {
+            int v = relabeledVertices.getQuick(i);
+            if (addedVertexStamp[v] != startStamp) {
+                boolean inMainBefore = findAtStart(startLabel[v]) == mainRootAtStart;
+                boolean inMain = find(vertexLabel[v]) == mainRoot;
+                if (inMainBefore && !inMain) {
+                    verticesRemoved.add(getVertex(v));
+                } else if (!inMainBefore && inMain) {
+                    verticesAdded.add(getVertex(v));
+                }
+            }
+        }
+
+        // vertices which are still in their label, labels are only created during temporary changes so those
+        // vertices are in labels which existed before
+        for (int label = 0; label < modificationsContext.labelCountAtStart; label++) {
+            boolean inMainBefore = findAtStart(label) == mainRootAtStart;
+            boolean inMain = find(label) == mainRoot;
+            if (inMainBefore != inMain) {
+                for (int v = labelHead[label]; v != NO_VALUE; v = nextInLabel[v]) {
+                    (inMainBefore ? verticesRemoved : verticesAdded).add(getVertex(v));
+                }
+            }
+        }
+
+        // vertices added during temporary changes
+        for (int i = 0; i < addedVertices.size(); i++) {
+            int v = addedVertices.getQuick(i);
+            if (find(vertexLabel[v]) == mainRoot) {
+                verticesAdded.add(getVertex(v));
+            }
+        }
+
+        Set<E> edgesAdded = new HashSet<>();
+        Set<E> edgesRemoved = new HashSet<>();
+        addPresentEdges(verticesAdded, edgesAdded);
+        addPresentEdges(verticesRemoved, edgesRemoved);
+        for (int i = 0; i < modifiedEdges.size(); i++) {
+            int e = modifiedEdges.getQuick(i);
+            if (edgeFirstModificationType[e] == EDGE_ADD) {
+                // edge did not exist before temporary changes
+                if (edgePresent[e]) {
+                    edgesRemoved.remove(getEdge(e));
+                    if (find(vertexLabel[edgeVertex1[e]]) == mainRoot) {
+                        edgesAdded.add(getEdge(e));
+                    }
+                }
+            } else if (!edgePresent[e] && findAtStart(getLabelAtStart(edgeFirstModificationVertex1[e])) == mainRootAtStart) {
+                // edge existed before temporary changes and has been removed from the main component
+                edgesRemoved.add(getEdge(e));
+            }
+        }
+
+        modificationsContext.verticesAddedToMainComponent = verticesAdded;
+        modificationsContext.verticesRemovedFromMainComponent = verticesRemoved;
+        modificationsContext.edgesAddedToMainComponent = edgesAdded;
+        modificationsContext.edgesRemovedFromMainComponent = edgesRemoved;
+        modificationsContext.comparisonsJournalSize = journalSize;
+        return modificationsContext;
+    }
+
+    @Override
+    public Set<V> getVerticesRemovedFromMainComponent() {
+        return updateComparisons().verticesRemovedFromMainComponent;
+    }
+
+    @Override
+    public Set<E> getEdgesRemovedFromMainComponent() {
+        return updateComparisons().edgesRemovedFromMainComponent;
+    }
+
+    @Override
+    public Set<V> getVerticesAddedToMainComponent() {
+        return updateComparisons().verticesAddedToMainComponent;
+    }
+
+    @Override
+    public Set<E> getEdgesAddedToMainComponent() {
+        return updateComparisons().edgesAddedToMainComponent;
+    }
+}
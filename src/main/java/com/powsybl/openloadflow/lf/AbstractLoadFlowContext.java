@@ -10,8 +10,13 @@ package com.powsybl.openloadflow.lf;
 import com.powsybl.openloadflow.equations.EquationSystem;
 import com.powsybl.openloadflow.equations.JacobianMatrix;
 import com.powsybl.openloadflow.equations.Quantity;
+import com.powsybl.openloadflow.equations.StateVector;
+import com.powsybl.openloadflow.equations.Variable;
+import com.powsybl.openloadflow.network.LfBus;
 import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.LfNetworkStateStore;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -20,6 +25,10 @@ import java.util.Objects;
 public abstract class AbstractLoadFlowContext <V extends Enum<V> & Quantity, E extends Enum<E> & Quantity, P extends AbstractLoadFlowParameters>
         implements LoadFlowContext<V, E, P>, AutoCloseable {
 
+    // rough memory footprint of an equation with its terms and variables, and of a matrix element including LU fill-in
+    private static final long ESTIMATED_EQUATION_SIZE = 400;
+    private static final long ESTIMATED_MATRIX_ELEMENT_SIZE = 40;
+
     protected final LfNetwork network;
 
     protected final P parameters;
@@ -28,6 +37,8 @@ public abstract class AbstractLoadFlowContext <V extends Enum<V> & Quantity, E e
 
     protected JacobianMatrix<V, E> jacobianMatrix;
 
+    private Runnable stateVectorUpdater;
+
     protected AbstractLoadFlowContext(LfNetwork network, P parameters) {
         this.network = Objects.requireNonNull(network);
         this.parameters = Objects.requireNonNull(parameters);
@@ -41,10 +52,61 @@ public abstract class AbstractLoadFlowContext <V extends Enum<V> & Quantity, E e
         return network;
     }
 
+    /**
+     * Rough estimation in bytes of the memory used by the equation system and the Jacobian matrix, based on the
+     * equation count and the matrix element count. The network itself is not taken into account.
+     */
+    public long getEstimatedSize() {
+        long estimatedSize = 0;
+        if (equationSystem != null) {
+            estimatedSize += equationSystem.getEquations().size() * ESTIMATED_EQUATION_SIZE;
+        }
+        if (jacobianMatrix != null) {
+            estimatedSize += jacobianMatrix.getElementCount() * ESTIMATED_MATRIX_ELEMENT_SIZE;
+        }
+        return estimatedSize;
+    }
+
+    /**
+     * If the network has a state store, register the writing of its bus voltages to the state vector, so that the
+     * stored flows follow voltages updated outside of a load flow.
+     *
+     * @param magnitudeType type of the bus voltage magnitude variables, null if there is none
+     * @param angleType type of the bus voltage angle variables
+     */
+    protected void registerStateVectorUpdater(V magnitudeType, V angleType) {
+        LfNetworkStateStore stateStore = network.getStateStore();
+        if (stateStore == null) {
+            return;
+        }
+        stateVectorUpdater = () -> {
+            StateVector stateVector = equationSystem.getStateVector();
+            List<Variable<V>> variables = equationSystem.getIndex().getSortedVariablesToFind();
+            double[] x = stateVector.get();
+            if (x == null || x.length != variables.size()) {
+                // not yet initialized by a load flow
+                return;
+            }
+            for (Variable<V> variable : variables) {
+                LfBus bus = network.getBus(variable.getElementNum());
+                if (variable.getType() == magnitudeType) {
+                    x[variable.getRow()] = bus.getV();
+                } else if (variable.getType() == angleType) {
+                    x[variable.getRow()] = bus.getAngle();
+                }
+            }
+            stateVector.set(x);
+        };
+        stateStore.setStateVectorUpdater(stateVectorUpdater);
+    }
+
     @Override
     public void close() {
         if (jacobianMatrix != null) {
             jacobianMatrix.close();
         }
+        if (stateVectorUpdater != null) {
+            network.getStateStore().removeStateVectorUpdater(stateVectorUpdater);
+        }
     }
 }
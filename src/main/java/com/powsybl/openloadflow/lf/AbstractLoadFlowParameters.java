@@ -22,11 +22,15 @@ public abstract class AbstractLoadFlowParameters<P extends AbstractLoadFlowParam
 
     public static final int DEFAULT_MAX_OUTER_LOOP_ITERATIONS = 20;
 
+    public static final int DEFAULT_COMPONENT_SOLVING_THREAD_COUNT = 1;
+
     protected LfNetworkParameters networkParameters;
 
     protected MatrixFactory matrixFactory;
     protected OpenLoadFlowParameters.SlackDistributionFailureBehavior slackDistributionFailureBehavior = OpenLoadFlowParameters.SlackDistributionFailureBehavior.LEAVE_ON_SLACK_BUS;
 
+    protected int componentSolvingThreadCount = DEFAULT_COMPONENT_SOLVING_THREAD_COUNT;
+
     protected AbstractLoadFlowParameters() {
         this(new LfNetworkParameters(), new SparseMatrixFactory());
     }
@@ -62,4 +66,23 @@ public abstract class AbstractLoadFlowParameters<P extends AbstractLoadFlowParam
         this.slackDistributionFailureBehavior = Objects.requireNonNull(slackDistributionFailureBehavior);
         return (P) this;
     }
+
+    public int getComponentSolvingThreadCount() {
+        return componentSolvingThreadCount;
+    }
+
+    public static int checkComponentSolvingThreadCount(int componentSolvingThreadCount) {
+        if (componentSolvingThreadCount < 1) {
+            throw new IllegalArgumentException("Invalid component solving thread count value: " + componentSolvingThreadCount);
+        }
+        return componentSolvingThreadCount;
+    }
+
+    /**
+     * Number of threads used to solve in parallel the networks of the different connected and synchronous components.
+     */
+    public P setComponentSolvingThreadCount(int componentSolvingThreadCount) {
+        this.componentSolvingThreadCount = checkComponentSolvingThreadCount(componentSolvingThreadCount);
+        return (P) this;
+    }
 }
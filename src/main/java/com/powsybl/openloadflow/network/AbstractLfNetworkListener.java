@@ -81,6 +81,11 @@ public abstract class AbstractLfNetworkListener implements LfNetworkListener {
         // empty
     }
 
+    @Override
+    public void onBranchPiModelChange(LfBranch branch) {
+        // empty
+    }
+
     @Override
     public void onShuntSusceptanceChange(LfShunt shunt, double b) {
         // empty
@@ -15,6 +15,8 @@ import java.util.stream.Collectors;
  */
 public class BusState extends BusDcState {
 
+    // not saved if the network has a state store, bulk copied instead
+    private final boolean voltageSaved;
     private final double angle;
     private final double voltage;
     private final double generationTargetQ;
@@ -49,8 +51,9 @@ public class BusState extends BusDcState {
 
     public BusState(LfBus bus) {
         super(bus);
-        this.angle = bus.getAngle();
-        this.voltage = bus.getV();
+        voltageSaved = bus.getNetwork().getStateStore() == null;
+        this.angle = voltageSaved ? bus.getAngle() : Double.NaN;
+        this.voltage = voltageSaved ? bus.getV() : Double.NaN;
         this.generationTargetQ = bus.getGenerationTargetQ();
         this.voltageControlEnabled = bus.isGeneratorVoltageControlEnabled();
         this.reactiveControlEnabled = bus.isGeneratorReactivePowerControlEnabled();
@@ -75,8 +78,10 @@ public class BusState extends BusDcState {
     @Override
     public void restore() {
         super.restore();
-        element.setAngle(angle);
-        element.setV(voltage);
+        if (voltageSaved) {
+            element.setAngle(angle);
+            element.setV(voltage);
+        }
         element.setGenerationTargetQ(generationTargetQ);
         element.setGeneratorVoltageControlEnabled(voltageControlEnabled);
         element.setGeneratorReactivePowerControlEnabled(reactiveControlEnabled);
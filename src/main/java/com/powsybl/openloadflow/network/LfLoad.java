@@ -58,6 +58,16 @@ public interface LfLoad extends PropertyBag {
 
     void setOriginalLoadsDisablingStatus(Map<String, Boolean> originalLoadsDisablingStatus);
 
+    /**
+     * Update targets after a change of the active and reactive power of an original load, shifts being in MW and MVar.
+     */
+    void updateOriginalLoadTarget(String originalId, double p0Shift, double q0Shift);
+
+    /**
+     * Update targets and disabling status after a connection or a disconnection of an original load.
+     */
+    void updateOriginalLoadConnection(String originalId, boolean connected);
+
     void updateState(boolean loadPowerFactorConstant, boolean breakers);
 
     Evaluable getP();
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.google.common.base.Stopwatch;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.report.ReportNode;
+import com.powsybl.openloadflow.graph.EdgeCutDetector;
 import com.powsybl.openloadflow.graph.GraphConnectivity;
 import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
 import com.powsybl.openloadflow.util.PerUnit;
@@ -94,6 +95,13 @@ public class LfNetwork extends AbstractPropertyBag implements PropertyBag {
 
     private GraphConnectivity<LfBus, LfBranch> connectivity;
 
+    private EdgeCutDetector<LfBus, LfBranch> edgeCutDetector;
+
+    // branches of the initial connectivity graph removed from it outside of temporary changes
+    private final Set<LfBranch> connectivityRemovedBranches = new LinkedHashSet<>();
+
+    private LfNetworkStateStore stateStore;
+
     private final Map<LoadFlowModel, Set<LfZeroImpedanceNetwork>> zeroImpedanceNetworksByModel = new EnumMap<>(LoadFlowModel.class);
 
     private ReportNode reportNode;
@@ -254,13 +262,22 @@ public class LfNetwork extends AbstractPropertyBag implements PropertyBag {
         zeroImpedanceNetworksByModel.clear();
     }
 
+    private void checkNoStateStore() {
+        if (stateStore != null) {
+            throw new PowsyblException("Network " + this + " structure cannot be modified once its state store is enabled");
+        }
+    }
+
     public void addBranch(LfBranch branch) {
         Objects.requireNonNull(branch);
+        checkNoStateStore();
         branch.setNum(branches.size());
         branches.add(branch);
         branchesById.put(branch.getId(), branch);
         invalidateSlackAndReference();
         connectivity = null;
+        edgeCutDetector = null;
+        connectivityRemovedBranches.clear();
         invalidateZeroImpedanceNetworks();
 
         // create bus -> branches link
@@ -293,11 +310,14 @@ public class LfNetwork extends AbstractPropertyBag implements PropertyBag {
 
     public void addBus(LfBus bus) {
         Objects.requireNonNull(bus);
+        checkNoStateStore();
         bus.setNum(busesByIndex.size());
         busesByIndex.add(bus);
         busesById.put(bus.getId(), bus);
         invalidateSlackAndReference();
         connectivity = null;
+        edgeCutDetector = null;
+        connectivityRemovedBranches.clear();
 
         bus.getShunt().ifPresent(this::addShunt);
         bus.getControllerShunt().ifPresent(this::addShunt);
@@ -434,7 +454,7 @@ public class LfNetwork extends AbstractPropertyBag implements PropertyBag {
 
         LfNetworkUpdateReport updateReport = new LfNetworkUpdateReport();
 
-        for (LfBus bus : busesById.values()) {
+        for (LfBus bus : busesByIndex) {
             bus.updateState(parameters);
             for (LfGenerator generator : bus.getGenerators()) {
                 generator.updateState(parameters);
@@ -716,6 +736,26 @@ public class LfNetwork extends AbstractPropertyBag implements PropertyBag {
         return load(network, networkLoader, parameters, ReportNode.NO_OP);
     }
 
+    /**
+     * Get the struct of arrays store of bus and branch state.
+     *
+     * @return the state store or null if not enabled
+     */
+    public LfNetworkStateStore getStateStore() {
+        return stateStore;
+    }
+
+    /**
+     * Enable the struct of arrays store of bus and branch state, initialized from current bus and branch state. Once
+     * enabled, buses and branches cannot be added anymore.
+     */
+    public LfNetworkStateStore enableStateStore() {
+        if (stateStore == null) {
+            stateStore = new LfNetworkStateStore(this);
+        }
+        return stateStore;
+    }
+
     public static <T> List<LfNetwork> load(T network, LfNetworkLoader<T> networkLoader, LfNetworkParameters parameters, ReportNode reportNode) {
         return load(network, networkLoader, new LfTopoConfig(), parameters, reportNode);
     }
@@ -730,6 +770,9 @@ public class LfNetwork extends AbstractPropertyBag implements PropertyBag {
             ReportNode networkReport = Reports.createNetworkInfoReporter(lfNetwork.getReportNode());
             lfNetwork.fix(parameters.isMinImpedance(), parameters.getLowImpedanceThreshold());
             lfNetwork.validate(parameters.getLoadFlowModel(), networkReport);
+            if (parameters.isStateStore()) {
+                lfNetwork.enableStateStore();
+            }
             switch (lfNetwork.getValidity()) {
                 case VALID -> {
                     lfNetwork.reportSize(networkReport);
@@ -779,6 +822,55 @@ public class LfNetwork extends AbstractPropertyBag implements PropertyBag {
         return connectivity;
     }
 
+    /**
+     * Get a detector of the branch sets whose removal provably keeps the network connectivity unchanged. It is based
+     * on the same graph as {@link #getConnectivity()} in its initial state, so it allows to skip connectivity temporary
+     * changes for most of the contingencies of a meshed network. As the connectivity graph may have been permanently
+     * modified since, {@link #isConnectivityPreserved(Collection)} has to be used instead to check branches removal.
+     */
+    public EdgeCutDetector<LfBus, LfBranch> getEdgeCutDetector() {
+        if (edgeCutDetector == null) {
+            edgeCutDetector = new EdgeCutDetector<>(LfBus::getNum, LfBranch::getNum);
+            getBuses().forEach(edgeCutDetector::addVertex);
+            getBranches().stream()
+                    .filter(b -> b.getBus1() != null && b.getBus2() != null)
+                    .forEach(b -> edgeCutDetector.addEdge(b.getBus1(), b.getBus2(), b));
+        }
+        return edgeCutDetector;
+    }
+
+    /**
+     * To be called when a branch is removed from {@link #getConnectivity()} outside of temporary changes or in
+     * temporary changes which are never undone.
+     */
+    public void onConnectivityBranchRemoved(LfBranch branch) {
+        connectivityRemovedBranches.add(Objects.requireNonNull(branch));
+    }
+
+    /**
+     * To be called when a branch is added to {@link #getConnectivity()} outside of temporary changes or in temporary
+     * changes which are never undone.
+     */
+    public void onConnectivityBranchAdded(LfBranch branch) {
+        connectivityRemovedBranches.remove(Objects.requireNonNull(branch));
+    }
+
+    /**
+     * Check, without updating the connectivity, that removing given branches provably keeps the current connectivity
+     * unchanged. Branches permanently removed from the connectivity graph are removed from the initial graph of the
+     * edge cut detector with the given ones, so that a false positive is not possible. A branch permanently added back
+     * to the graph makes the check only more conservative.
+     */
+    public boolean isConnectivityPreserved(Collection<LfBranch> removedBranches) {
+        EdgeCutDetector<LfBus, LfBranch> detector = getEdgeCutDetector();
+        if (connectivityRemovedBranches.isEmpty()) {
+            return detector.isConnectivityPreserved(removedBranches);
+        }
+        Set<LfBranch> allRemovedBranches = new LinkedHashSet<>(connectivityRemovedBranches);
+        allRemovedBranches.addAll(removedBranches);
+        return detector.isConnectivityPreserved(allRemovedBranches);
+    }
+
     public void addListener(LfNetworkListener listener) {
         listeners.add(listener);
     }
@@ -930,6 +1022,33 @@ public class LfNetwork extends AbstractPropertyBag implements PropertyBag {
         getBuses().stream().flatMap(b -> b.getGenerators().stream()).forEach(LfGenerator::setInitialTargetPToTargetP);
     }
 
+    /**
+     * Restore the active power targets of generators and loads modified by the slack distribution of a previous run,
+     * so that the mismatch is distributed again from the initial targets. When the power factor of loads has been kept
+     * constant, their reactive power targets are restored too.
+     */
+    public void restoreInitialActivePowerTargets(boolean loadPowerFactorConstant) {
+        for (LfBus bus : getBuses()) {
+            for (LfGenerator generator : bus.getGenerators()) {
+                generator.setTargetP(generator.getInitialTargetP());
+            }
+            for (LfLoad load : bus.getLoads()) {
+                // initial target of a load modelling a dangling line is not defined
+                if (load.getOriginalIds().isEmpty() || load.getTargetP() == load.getInitialTargetP()) {
+                    continue;
+                }
+                if (loadPowerFactorConstant) {
+                    if (load.ensurePowerFactorConstantByLoad()) {
+                        load.setTargetQ(load.calculateNewTargetQ(0));
+                    } else if (load.getTargetP() != 0) {
+                        load.setTargetQ(load.getTargetQ() * load.getInitialTargetP() / load.getTargetP());
+                    }
+                }
+                load.setTargetP(load.getInitialTargetP());
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return getId();
@@ -42,6 +42,8 @@ public interface LfNetworkListener {
 
     void onTapPositionChange(LfBranch branch, int oldPosition, int newPosition);
 
+    void onBranchPiModelChange(LfBranch branch);
+
     void onShuntSusceptanceChange(LfShunt shunt, double b);
 
     void onZeroImpedanceNetworkSpanningTreeChange(LfBranch branch, LoadFlowModel loadFlowModel, boolean spanningTree);
@@ -125,6 +125,12 @@ public class LfNetworkListenerTracer implements LfNetworkListener {
         delegate.onTapPositionChange(branch, oldPosition, newPosition);
     }
 
+    @Override
+    public void onBranchPiModelChange(LfBranch branch) {
+        LOGGER.trace("onBranchPiModelChange(branchId='{}')", branch.getId());
+        delegate.onBranchPiModelChange(branch);
+    }
+
     @Override
     public void onShuntSusceptanceChange(LfShunt shunt, double b) {
         LOGGER.trace("onShuntSusceptanceChange(shuntId='{}', b={})", shunt.getId(), b);
@@ -13,6 +13,7 @@ import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.openloadflow.OpenLoadFlowParameters;
 import com.powsybl.openloadflow.graph.EvenShiloachGraphDecrementalConnectivityFactory;
 import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
+import com.powsybl.security.limitreduction.LimitReduction;
 
 import java.util.*;
 
@@ -70,6 +71,10 @@ public class LfNetworkParameters {
 
     public static final boolean DISABLE_INCONSISTENT_VOLTAGE_CONTROLS_DEFAULT_VALUE = false;
 
+    public static final int LOADING_THREAD_COUNT_DEFAULT_VALUE = 1;
+
+    public static final boolean STATE_STORE_DEFAULT_VALUE = false;
+
     private boolean generatorVoltageRemoteControl = true;
 
     private boolean minImpedance = false;
@@ -154,6 +159,14 @@ public class LfNetworkParameters {
 
     private boolean disableInconsistentVoltageControls = DISABLE_INCONSISTENT_VOLTAGE_CONTROLS_DEFAULT_VALUE;
 
+    private int loadingThreadCount = LOADING_THREAD_COUNT_DEFAULT_VALUE;
+
+    private boolean stateStore = STATE_STORE_DEFAULT_VALUE;
+
+    private boolean preloadLimits = false;
+
+    private List<LimitReduction> limitReductions = Collections.emptyList();
+
     public LfNetworkParameters() {
     }
 
@@ -201,6 +214,10 @@ public class LfNetworkParameters {
         this.areaInterchangeControl = other.areaInterchangeControl;
         this.areaInterchangeControlAreaType = other.areaInterchangeControlAreaType;
         this.forceTargetQInReactiveLimits = other.forceTargetQInReactiveLimits;
+        this.loadingThreadCount = other.loadingThreadCount;
+        this.stateStore = other.stateStore;
+        this.preloadLimits = other.preloadLimits;
+        this.limitReductions = other.limitReductions;
     }
 
     public SlackBusSelector getSlackBusSelector() {
@@ -622,6 +639,59 @@ public class LfNetworkParameters {
         return this;
     }
 
+    public int getLoadingThreadCount() {
+        return loadingThreadCount;
+    }
+
+    public static int checkLoadingThreadCount(int loadingThreadCount) {
+        if (loadingThreadCount < 1) {
+            throw new IllegalArgumentException("Invalid loading thread count value: " + loadingThreadCount);
+        }
+        return loadingThreadCount;
+    }
+
+    /**
+     * Number of threads used to create in parallel the networks of the connected and synchronous components.
+     */
+    public LfNetworkParameters setLoadingThreadCount(int loadingThreadCount) {
+        this.loadingThreadCount = checkLoadingThreadCount(loadingThreadCount);
+        return this;
+    }
+
+    public boolean isStateStore() {
+        return stateStore;
+    }
+
+    /**
+     * Enable the struct of arrays store of bus and branch state on loaded networks.
+     */
+    public LfNetworkParameters setStateStore(boolean stateStore) {
+        this.stateStore = stateStore;
+        return this;
+    }
+
+    public boolean isPreloadLimits() {
+        return preloadLimits;
+    }
+
+    /**
+     * Resolve all branch current, active power and apparent power limits, with {@link #getLimitReductions() reductions}
+     * applied, at network loading so that limit checks never access the IIDM network afterward.
+     */
+    public LfNetworkParameters setPreloadLimits(boolean preloadLimits) {
+        this.preloadLimits = preloadLimits;
+        return this;
+    }
+
+    public List<LimitReduction> getLimitReductions() {
+        return limitReductions;
+    }
+
+    public LfNetworkParameters setLimitReductions(List<LimitReduction> limitReductions) {
+        this.limitReductions = Objects.requireNonNull(limitReductions);
+        return this;
+    }
+
     @Override
     public String toString() {
         return "LfNetworkParameters(" +
@@ -665,6 +735,9 @@ public class LfNetworkParameters {
                 ", areaInterchangeControlAreaType=" + areaInterchangeControlAreaType +
                 ", forceTargetQInReactiveLimits=" + forceTargetQInReactiveLimits +
                 ", disableInconsistentVoltageControls=" + disableInconsistentVoltageControls +
+                ", loadingThreadCount=" + loadingThreadCount +
+                ", stateStore=" + stateStore +
+                ", preloadLimits=" + preloadLimits +
                 ')';
     }
 }
@@ -0,0 +1,223 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network;
+
+import com.powsybl.openloadflow.util.Evaluable;
+
+import java.util.Objects;
+
+/**
+ * Network wide struct of arrays storage of the hot numerical state of buses and branches, indexed by element number.
+ * Once enabled on a network, bus voltage magnitudes and angles are read and written from/to this store instead of
+ * bus fields, so that they can be saved and restored with bulk array copies. Calculated bus injections and branch
+ * flows are {@link Evaluable evaluables} owned by the equation system, they are copied to the store on
+ * {@link #updateFlows()} so that post-processing (result extraction, violation detection) can scan contiguous arrays.
+ * As evaluables are computed from the state vector of the equation system, bus voltages updated since last
+ * evaluation are first written to the state vector by the updater registered by the load flow context.
+ * <p>
+ * Arrays are directly exposed for performance and must not be modified by callers.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public final class LfNetworkStateStore {
+
+    /**
+     * Copy of all the arrays of a store, to restore it later.
+     */
+    public record SavedState(double[] busV, double[] busAngle, double[] busP, double[] busQ,
+                             double[] branchP1, double[] branchQ1, double[] branchI1,
+                             double[] branchP2, double[] branchQ2, double[] branchI2) {
+    }
+
+    private final LfNetwork network;
+
+    private final double[] busV;
+
+    private final double[] busAngle;
+
+    private final double[] busP;
+
+    private final double[] busQ;
+
+    private final double[] branchP1;
+
+    private final double[] branchQ1;
+
+    private final double[] branchI1;
+
+    private final double[] branchP2;
+
+    private final double[] branchQ2;
+
+    private final double[] branchI2;
+
+    private Runnable stateVectorUpdater;
+
+    // true if bus voltages have been updated since they have been written to the state vector
+    private boolean voltagesUpdated = false;
+
+    LfNetworkStateStore(LfNetwork network) {
+        this.network = Objects.requireNonNull(network);
+        int busCount = network.getBuses().size();
+        int branchCount = network.getBranches().size();
+        busV = new double[busCount];
+        busAngle = new double[busCount];
+        busP = new double[busCount];
+        busQ = new double[busCount];
+        branchP1 = new double[branchCount];
+        branchQ1 = new double[branchCount];
+        branchI1 = new double[branchCount];
+        branchP2 = new double[branchCount];
+        branchQ2 = new double[branchCount];
+        branchI2 = new double[branchCount];
+        for (LfBus bus : network.getBuses()) {
+            busV[bus.getNum()] = bus.getV();
+            busAngle[bus.getNum()] = bus.getAngle();
+        }
+        updateFlows();
+    }
+
+    public double getBusV(int num) {
+        return busV[num];
+    }
+
+    public void setBusV(int num, double v) {
+        busV[num] = v;
+        voltagesUpdated = true;
+    }
+
+    public double getBusAngle(int num) {
+        return busAngle[num];
+    }
+
+    public void setBusAngle(int num, double angle) {
+        busAngle[num] = angle;
+        voltagesUpdated = true;
+    }
+
+    /**
+     * Set the writer of the store bus voltages to the state vector the flows are evaluated from.
+     */
+    public void setStateVectorUpdater(Runnable stateVectorUpdater) {
+        this.stateVectorUpdater = Objects.requireNonNull(stateVectorUpdater);
+        voltagesUpdated = true;
+    }
+
+    public void removeStateVectorUpdater(Runnable stateVectorUpdater) {
+        if (this.stateVectorUpdater == stateVectorUpdater) {
+            this.stateVectorUpdater = null;
+        }
+    }
+
+    private void updateStateVector() {
+        if (voltagesUpdated && stateVectorUpdater != null) {
+            stateVectorUpdater.run();
+            voltagesUpdated = false;
+        }
+    }
+
+    /**
+     * Bus voltage magnitudes in per-unit, indexed by bus number.
+     */
+    public double[] getBusV() {
+        return busV;
+    }
+
+    /**
+     * Bus voltage angles in radians, indexed by bus number.
+     */
+    public double[] getBusAngle() {
+        return busAngle;
+    }
+
+    /**
+     * Calculated bus active power injections in per-unit, as of last {@link #updateFlows()}.
+     */
+    public double[] getBusP() {
+        return busP;
+    }
+
+    /**
+     * Calculated bus reactive power injections in per-unit, as of last {@link #updateFlows()}.
+     */
+    public double[] getBusQ() {
+        return busQ;
+    }
+
+    public double[] getBranchP1() {
+        return branchP1;
+    }
+
+    public double[] getBranchQ1() {
+        return branchQ1;
+    }
+
+    public double[] getBranchI1() {
+        return branchI1;
+    }
+
+    public double[] getBranchP2() {
+        return branchP2;
+    }
+
+    public double[] getBranchQ2() {
+        return branchQ2;
+    }
+
+    public double[] getBranchI2() {
+        return branchI2;
+    }
+
+    /**
+     * Evaluate calculated bus injections and branch flows and copy them to the store arrays.
+     */
+    public void updateFlows() {
+        updateStateVector();
+        for (LfBus bus : network.getBuses()) {
+            int num = bus.getNum();
+            busP[num] = bus.getP().eval();
+            busQ[num] = bus.getQ().eval();
+        }
+        for (LfBranch branch : network.getBranches()) {
+            int num = branch.getNum();
+            branchP1[num] = branch.getP1().eval();
+            branchQ1[num] = branch.getQ1().eval();
+            branchI1[num] = branch.getI1().eval();
+            branchP2[num] = branch.getP2().eval();
+            branchQ2[num] = branch.getQ2().eval();
+            branchI2[num] = branch.getI2().eval();
+        }
+    }
+
+    public SavedState save() {
+        return new SavedState(busV.clone(), busAngle.clone(), busP.clone(), busQ.clone(),
+                              branchP1.clone(), branchQ1.clone(), branchI1.clone(),
+                              branchP2.clone(), branchQ2.clone(), branchI2.clone());
+    }
+
+    private static void copy(double[] src, double[] dest) {
+        System.arraycopy(src, 0, dest, 0, dest.length);
+    }
+
+    public void restore(SavedState state) {
+        Objects.requireNonNull(state);
+        copy(state.busV(), busV);
+        copy(state.busAngle(), busAngle);
+        copy(state.busP(), busP);
+        copy(state.busQ(), busQ);
+        copy(state.branchP1(), branchP1);
+        copy(state.branchQ1(), branchQ1);
+        copy(state.branchI1(), branchI1);
+        copy(state.branchP2(), branchP2);
+        copy(state.branchQ2(), branchQ2);
+        copy(state.branchI2(), branchI2);
+        // so that evaluated flows are consistent with the restored ones
+        voltagesUpdated = true;
+        updateStateVector();
+    }
+}
@@ -33,14 +33,17 @@ public class NetworkState {
 
     private final List<AreaState> areaStates;
 
+    private final LfNetworkStateStore.SavedState stateStoreState;
+
     protected NetworkState(LfNetwork network, List<BusState> busStates, List<BranchState> branchStates, List<HvdcState> hvdcStates,
-                           Set<LfBus> excludedSlackBuses, List<AreaState> areaStates) {
+                           Set<LfBus> excludedSlackBuses, List<AreaState> areaStates, LfNetworkStateStore.SavedState stateStoreState) {
         this.network = Objects.requireNonNull(network);
         this.busStates = Objects.requireNonNull(busStates);
         this.branchStates = Objects.requireNonNull(branchStates);
         this.hvdcStates = Objects.requireNonNull(hvdcStates);
         this.excludedSlackBuses = Objects.requireNonNull(excludedSlackBuses);
         this.areaStates = Objects.requireNonNull(areaStates);
+        this.stateStoreState = stateStoreState;
     }
 
     public static NetworkState save(LfNetwork network) {
@@ -51,7 +54,15 @@ public class NetworkState {
         List<BranchState> branchStates = ElementState.save(network.getBranches(), BranchState::save);
         List<HvdcState> hvdcStates = ElementState.save(network.getHvdcs(), HvdcState::save);
         List<AreaState> areaStates = ElementState.save(network.getAreas(), AreaState::save);
-        return new NetworkState(network, busStates, branchStates, hvdcStates, network.getExcludedSlackBuses(), areaStates);
+        // bus voltages and angles are bulk copied with the flows if the network has a struct of arrays store, flows
+        // being refreshed so that they are consistent with the saved voltages
+        LfNetworkStateStore stateStore = network.getStateStore();
+        LfNetworkStateStore.SavedState stateStoreState = null;
+        if (stateStore != null) {
+            stateStore.updateFlows();
+            stateStoreState = stateStore.save();
+        }
+        return new NetworkState(network, busStates, branchStates, hvdcStates, network.getExcludedSlackBuses(), areaStates, stateStoreState);
     }
 
     public void restore() {
@@ -61,5 +72,8 @@ public class NetworkState {
         ElementState.restore(hvdcStates);
         ElementState.restore(areaStates);
         network.setExcludedSlackBuses(excludedSlackBuses);
+        if (stateStoreState != null) {
+            network.getStateStore().restore(stateStoreState);
+        }
     }
 }
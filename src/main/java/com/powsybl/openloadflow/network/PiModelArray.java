@@ -19,8 +19,28 @@ import java.util.function.ToDoubleFunction;
  */
 public class PiModelArray implements PiModel {
 
+    // layout of a tap position row in the cached values table
+    private static final int R = 0;
+    private static final int X = 1;
+    private static final int Z = 2;
+    private static final int Y = 3;
+    private static final int KSI = 4;
+    private static final int G1 = 5;
+    private static final int B1 = 6;
+    private static final int G2 = 7;
+    private static final int B2 = 8;
+    private static final int R1 = 9;
+    private static final int A1 = 10;
+    private static final int ROW_SIZE = 11;
+
     private final List<PiModel> models;
 
+    /**
+     * Flat table of the values of each tap position model, including derived ones (z, y, ksi) which are expensive to
+     * compute, so that a tap position change or an equation term update is just a table lookup.
+     */
+    private final double[] values;
+
     private final int lowTapPosition;
 
     private int tapPositionIndex;
@@ -43,6 +63,30 @@ public class PiModelArray implements PiModel {
         tapPositionIndex = tapPosition - lowTapPosition;
         minR1 = this.models.stream().mapToDouble(PiModel::getMinR1).min().orElseThrow();
         maxR1 = this.models.stream().mapToDouble(PiModel::getMaxR1).max().orElseThrow();
+        values = new double[models.size() * ROW_SIZE];
+        for (int i = 0; i < models.size(); i++) {
+            updateValues(i);
+        }
+    }
+
+    private void updateValues(int tapPositionIndex) {
+        PiModel model = models.get(tapPositionIndex);
+        int offset = tapPositionIndex * ROW_SIZE;
+        values[offset + R] = model.getR();
+        values[offset + X] = model.getX();
+        values[offset + Z] = model.getZ();
+        values[offset + Y] = model.getY();
+        values[offset + KSI] = model.getKsi();
+        values[offset + G1] = model.getG1();
+        values[offset + B1] = model.getB1();
+        values[offset + G2] = model.getG2();
+        values[offset + B2] = model.getB2();
+        values[offset + R1] = model.getR1();
+        values[offset + A1] = model.getA1();
+    }
+
+    private double getValue(int column) {
+        return values[tapPositionIndex * ROW_SIZE + column];
     }
 
     List<PiModel> getModels() {
@@ -59,57 +103,61 @@ public class PiModelArray implements PiModel {
 
     @Override
     public double getR() {
-        return getModel().getR();
+        return getValue(R);
     }
 
     @Override
     public PiModel setR(double r) {
-        return getModel().setR(r);
+        getModel().setR(r);
+        updateValues(tapPositionIndex);
+        return this;
     }
 
     @Override
     public double getX() {
-        return getModel().getX();
+        return getValue(X);
     }
 
     @Override
     public PiModel setX(double x) {
-        return getModel().setX(x);
+        getModel().setX(x);
+        updateValues(tapPositionIndex);
+        return this;
     }
 
     @Override
     public double getZ() {
-        return getModel().getZ();
+        return getValue(Z);
     }
 
     @Override
     public double getY() {
-        return getModel().getY();
+        return getValue(Y);
     }
 
     @Override
     public double getKsi() {
-        return getModel().getKsi();
+        return getValue(KSI);
     }
 
     @Override
     public double getG1() {
-        return getModel().getG1();
+        return getValue(G1);
     }
 
     @Override
     public double getB1() {
-        return getModel().getB1();
+        return getValue(B1);
     }
 
     @Override
     public double getG2() {
-        return getModel().getG2();
+        return getValue(G2);
     }
 
     @Override
     public double getB2() {
-        return getModel().getB2();
+        return getValue(B2);
     }
 
     public double getModifiedR1() {
@@ -122,7 +170,7 @@ public class PiModelArray implements PiModel {
 
     @Override
     public double getR1() {
-        return Double.isNaN(r1) ? getModel().getR1() : r1;
+        return Double.isNaN(r1) ? getValue(R1) : r1;
     }
 
     @Override
@@ -132,7 +180,7 @@ public class PiModelArray implements PiModel {
 
     @Override
     public double getA1() {
-        return Double.isNaN(a1) ? getModel().getA1() : a1;
+        return Double.isNaN(a1) ? getValue(A1) : a1;
     }
 
     @Override
@@ -365,8 +413,11 @@ public class PiModelArray implements PiModel {
     @Override
     public boolean setMinZ(double minZ, LoadFlowModel loadFlowModel) {
         boolean done = false;
-        for (PiModel model : models) {
-            done |= model.setMinZ(minZ, loadFlowModel);
+        for (int i = 0; i < models.size(); i++) {
+            if (models.get(i).setMinZ(minZ, loadFlowModel)) {
+                updateValues(i);
+                done = true;
+            }
         }
         return done;
     }
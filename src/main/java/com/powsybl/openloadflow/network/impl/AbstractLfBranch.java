@@ -115,7 +115,8 @@ public abstract class AbstractLfBranch extends AbstractElement implements LfBran
             }
             sortedLimits.getFirst().setAcceptableDuration(0);
         }
-        return sortedLimits;
+        // limits are then accessed by index, so an array based list is better suited
+        return new ArrayList<>(sortedLimits);
     }
 
     @Override
@@ -478,12 +478,26 @@ public abstract class AbstractLfBus extends AbstractElement implements LfBus {
 
     @Override
     public double getV() {
-        return v / getNominalV();
+        LfNetworkStateStore stateStore = network.getStateStore();
+        return stateStore != null ? stateStore.getBusV(num) : v / getNominalV();
+    }
+
+    /**
+     * Get voltage magnitude in kV.
+     */
+    protected double getVkV() {
+        LfNetworkStateStore stateStore = network.getStateStore();
+        return stateStore != null ? stateStore.getBusV(num) * getNominalV() : v;
     }
 
     @Override
     public void setV(double v) {
-        this.v = v * getNominalV();
+        LfNetworkStateStore stateStore = network.getStateStore();
+        if (stateStore != null) {
+            stateStore.setBusV(num, v);
+        } else {
+            this.v = v * getNominalV();
+        }
     }
 
     @Override
@@ -498,12 +512,18 @@ public abstract class AbstractLfBus extends AbstractElement implements LfBus {
 
     @Override
     public double getAngle() {
-        return angle;
+        LfNetworkStateStore stateStore = network.getStateStore();
+        return stateStore != null ? stateStore.getBusAngle(num) : angle;
     }
 
     @Override
     public void setAngle(double angle) {
-        this.angle = angle;
+        LfNetworkStateStore stateStore = network.getStateStore();
+        if (stateStore != null) {
+            stateStore.setBusAngle(num, angle);
+        } else {
+            this.angle = angle;
+        }
     }
 
     @Override
@@ -94,6 +94,10 @@ public class LfAreaImpl extends AbstractElement implements LfArea {
             return branch;
         }
 
+        public TwoSides getSide() {
+            return side;
+        }
+
         @Override
         public double getP() {
             if (branch.isDisabled()) {
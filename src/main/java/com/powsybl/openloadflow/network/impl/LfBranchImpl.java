@@ -55,7 +55,10 @@ public class LfBranchImpl extends AbstractImpedantLfBranch {
         }
     }
 
-    private static LfBranchImpl createLine(Line line, LfNetwork network, LfBus bus1, LfBus bus2, LfNetworkParameters parameters) {
+    /**
+     * Set per unit impedance and admittances of a line to a pi model and return the impedance base.
+     */
+    private static double setLinePiModelParameters(Line line, SimplePiModel piModel, LfNetworkParameters parameters) {
         double r1;
         double r;
         double x;
@@ -100,14 +103,19 @@ public class LfBranchImpl extends AbstractImpedantLfBranch {
             }
         }
 
-        PiModel piModel = new SimplePiModel()
-                .setR1(r1)
+        piModel.setR1(r1)
                 .setR(r)
                 .setX(x)
                 .setG1(g1)
                 .setG2(g2)
                 .setB1(b1)
                 .setB2(b2);
+        return zb;
+    }
+
+    private static LfBranchImpl createLine(Line line, LfNetwork network, LfBus bus1, LfBus bus2, LfNetworkParameters parameters) {
+        SimplePiModel piModel = new SimplePiModel();
+        double zb = setLinePiModelParameters(line, piModel, parameters);
 
         LfBranchImpl lfBranch = new LfBranchImpl(network, bus1, bus2, piModel, line, parameters);
         if (parameters.isAsymmetrical()) {
@@ -194,6 +202,36 @@ public class LfBranchImpl extends AbstractImpedantLfBranch {
         return branchRef.get();
     }
 
+    /**
+     * Update in place the pi model of a line after a change of its impedance or admittances in the network, and
+     * notify listeners so that equation terms are updated. Returns false, without any update, if the branch is not
+     * a line or if the update would change the low impedance status of the line, as it changes the structure of the
+     * network.
+     */
+    public boolean updateLinePiModel(LfNetworkParameters parameters) {
+        if (!(getBranch() instanceof Line line) || !(piModel instanceof SimplePiModel simplePiModel)
+                || parameters.isAsymmetrical() || isZeroImpedance(LoadFlowModel.AC) || isZeroImpedance(LoadFlowModel.DC)) {
+            return false;
+        }
+        SimplePiModel newPiModel = new SimplePiModel();
+        setLinePiModelParameters(line, newPiModel, parameters);
+        double lowImpedanceThreshold = parameters.getLowImpedanceThreshold();
+        if (newPiModel.getZ() < lowImpedanceThreshold || Math.abs(newPiModel.getX()) < lowImpedanceThreshold) {
+            return false;
+        }
+        simplePiModel.setR1(newPiModel.getR1())
+                .setR(newPiModel.getR())
+                .setX(newPiModel.getX())
+                .setG1(newPiModel.getG1())
+                .setG2(newPiModel.getG2())
+                .setB1(newPiModel.getB1())
+                .setB2(newPiModel.getB2());
+        for (LfNetworkListener listener : network.getListeners()) {
+            listener.onBranchPiModelChange(this);
+        }
+        return true;
+    }
+
     @Override
     public String getId() {
         return getBranch().getId();
@@ -7,6 +7,7 @@
  */
 package com.powsybl.openloadflow.network.impl;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.extensions.LoadAsymmetrical;
 import com.powsybl.iidm.network.extensions.ReferenceTerminals;
@@ -26,8 +27,14 @@ import java.util.stream.Collectors;
  */
 public class LfBusImpl extends AbstractLfBus {
 
+    private final String id;
+
     private final Ref<Bus> busRef;
 
+    // when the network is kept in cache, the bus is looked up by its id from its voltage level, as IIDM replaces the
+    // buses of a calculated topology after a topology change, for instance the disconnection of a load
+    private final Ref<VoltageLevel> voltageLevelRef;
+
     private final double nominalV;
 
     private final double lowVoltageLimit;
@@ -48,7 +55,14 @@ public class LfBusImpl extends AbstractLfBus {
     protected LfBusImpl(Bus bus, LfNetwork network, double v, double angle, LfNetworkParameters parameters,
                         boolean participating) {
         super(network, v, angle, parameters.isDistributedOnConformLoad());
-        this.busRef = Ref.create(bus, parameters.isCacheEnabled());
+        this.id = bus.getId();
+        if (parameters.isCacheEnabled()) {
+            this.busRef = null;
+            this.voltageLevelRef = Ref.create(bus.getVoltageLevel(), true);
+        } else {
+            this.busRef = Ref.create(bus, false);
+            this.voltageLevelRef = null;
+        }
         nominalV = bus.getVoltageLevel().getNominalV();
         lowVoltageLimit = bus.getVoltageLevel().getLowVoltageLimit();
         highVoltageLimit = bus.getVoltageLevel().getHighVoltageLimit();
@@ -99,12 +113,20 @@ public class LfBusImpl extends AbstractLfBus {
     }
 
     private Bus getBus() {
-        return busRef.get();
+        if (busRef != null) {
+            return busRef.get();
+        }
+        VoltageLevel voltageLevel = voltageLevelRef.get();
+        Bus bus = breakers ? voltageLevel.getBusBreakerView().getBus(id) : voltageLevel.getBusView().getBus(id);
+        if (bus == null) {
+            throw new PowsyblException("Bus '" + id + "' not found in voltage level '" + voltageLevel.getId() + "'");
+        }
+        return bus;
     }
 
     @Override
     public String getId() {
-        return getBus().getId();
+        return id;
     }
 
     @Override
@@ -135,7 +157,7 @@ public class LfBusImpl extends AbstractLfBus {
     @Override
     public void updateState(LfNetworkStateUpdateParameters parameters) {
         var bus = getBus();
-        bus.setV(Math.max(v, 0.0)).setAngle(Math.toDegrees(angle));
+        bus.setV(Math.max(getVkV(), 0.0)).setAngle(Math.toDegrees(getAngle()));
 
         // update slack bus
         if (slack && parameters.isWriteSlackBus()) {
@@ -156,17 +178,19 @@ public class LfBusImpl extends AbstractLfBus {
     @Override
     public List<BusResult> createBusResults() {
         var bus = getBus();
+        double vKv = getVkV();
+        double angleDeg = Math.toDegrees(getAngle());
         if (breakers) {
             if (bbsIds.isEmpty()) {
-                return List.of(new BusResult(getVoltageLevelId(), bus.getId(), v, Math.toDegrees(angle)));
+                return List.of(new BusResult(getVoltageLevelId(), bus.getId(), vKv, angleDeg));
             } else {
                 return bbsIds.stream()
-                        .map(bbsId -> new BusResult(getVoltageLevelId(), bbsId, v, Math.toDegrees(angle)))
+                        .map(bbsId -> new BusResult(getVoltageLevelId(), bbsId, vKv, angleDeg))
                         .collect(Collectors.toList());
             }
         } else {
             return bus.getVoltageLevel().getBusBreakerView().getBusesFromBusViewBusId(bus.getId())
-                    .stream().map(b -> new BusResult(getVoltageLevelId(), b.getId(), v, Math.toDegrees(angle))).collect(Collectors.toList());
+                    .stream().map(b -> new BusResult(getVoltageLevelId(), b.getId(), vKv, angleDeg)).collect(Collectors.toList());
         }
     }
 
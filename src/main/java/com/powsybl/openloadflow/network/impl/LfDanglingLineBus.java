@@ -71,8 +71,8 @@ public class LfDanglingLineBus extends AbstractLfBus {
     @Override
     public void updateState(LfNetworkStateUpdateParameters parameters) {
         var danglingLine = getDanglingLine();
-        Networks.setPropertyV(danglingLine, v);
-        Networks.setPropertyAngle(danglingLine, Math.toDegrees(angle));
+        Networks.setPropertyV(danglingLine, getVkV());
+        Networks.setPropertyAngle(danglingLine, Math.toDegrees(getAngle()));
 
         super.updateState(parameters);
     }
@@ -7,6 +7,7 @@
  */
 package com.powsybl.openloadflow.network.impl;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.DanglingLine;
 import com.powsybl.iidm.network.LccConverterStation;
 import com.powsybl.iidm.network.Load;
@@ -95,20 +96,80 @@ public class LfLoadImpl extends AbstractLfInjection implements LfLoad {
         targetP += p0 / PerUnit.SB;
         initialTargetP += p0 / PerUnit.SB;
         targetQ += q0 / PerUnit.SB;
+        if (isPowerFactorConstantByLoad(load, parameters.isDistributedOnConformLoad())) {
+            ensurePowerFactorConstantByLoad = true;
+        }
+        double absTargetP = getAbsVariableTargetPPerUnit(load, distributedOnConformLoad);
+        loadsAbsVariableTargetP.put(load.getId(), absTargetP);
+        absVariableTargetP += absTargetP;
+    }
+
+    private static boolean isPowerFactorConstantByLoad(Load load, boolean distributedOnConformLoad) {
+        double p0 = load.getP0();
+        double q0 = load.getQ0();
         boolean hasVariableActivePower = false;
-        if (parameters.isDistributedOnConformLoad()) {
+        if (distributedOnConformLoad) {
             LoadDetail loadDetail = load.getExtension(LoadDetail.class);
             if (loadDetail != null) {
-                hasVariableActivePower = loadDetail.getFixedActivePower() != load.getP0();
+                hasVariableActivePower = loadDetail.getFixedActivePower() != p0;
             }
         }
         boolean reactiveOnlyLoad = p0 == 0 && q0 != 0;
-        if (p0 < 0 || hasVariableActivePower || reactiveOnlyLoad) {
-            ensurePowerFactorConstantByLoad = true;
+        return p0 < 0 || hasVariableActivePower || reactiveOnlyLoad;
+    }
+
+    List<Load> getOriginalLoads() {
+        return loadsRefs.values().stream().map(Ref::get).toList();
+    }
+
+    double getOriginalLoadAbsVariableTargetP(String originalId) {
+        return loadsAbsVariableTargetP.get(originalId);
+    }
+
+    private Load getOriginalLoad(String originalId) {
+        Ref<Load> loadRef = loadsRefs.get(originalId);
+        if (loadRef == null) {
+            throw new PowsyblException("Load '" + originalId + "' is not part of " + getId());
         }
-        double absTargetP = getAbsVariableTargetPPerUnit(load, distributedOnConformLoad);
-        loadsAbsVariableTargetP.put(load.getId(), absTargetP);
-        absVariableTargetP += absTargetP;
+        return loadRef.get();
+    }
+
+    private void shiftTargets(double p0Shift, double q0Shift) {
+        // as for generators, active power previously distributed to this load is discarded
+        initialTargetP += p0Shift / PerUnit.SB;
+        setTargetP(initialTargetP);
+        setTargetQ(targetQ + q0Shift / PerUnit.SB);
+    }
+
+    private void updateAbsVariableTargetP(Load load, boolean disabled) {
+        double absTargetP = disabled ? 0 : getAbsVariableTargetPPerUnit(load, distributedOnConformLoad);
+        absVariableTargetP += absTargetP - loadsAbsVariableTargetP.put(load.getId(), absTargetP);
+    }
+
+    @Override
+    public void updateOriginalLoadTarget(String originalId, double p0Shift, double q0Shift) {
+        Load load = getOriginalLoad(originalId);
+        if (isOriginalLoadDisabled(originalId)) {
+            // will be taken into account at reconnection
+            return;
+        }
+        shiftTargets(p0Shift, q0Shift);
+        updateAbsVariableTargetP(load, false);
+        // recomputed from all the loads, as the updated one may have been the only one requiring it
+        ensurePowerFactorConstantByLoad = loadsRefs.values().stream()
+                .anyMatch(loadRef -> isPowerFactorConstantByLoad(loadRef.get(), distributedOnConformLoad));
+    }
+
+    @Override
+    public void updateOriginalLoadConnection(String originalId, boolean connected) {
+        Load load = getOriginalLoad(originalId);
+        if (isOriginalLoadDisabled(originalId) != connected) {
+            return;
+        }
+        double sign = connected ? 1 : -1;
+        shiftTargets(sign * load.getP0(), sign * load.getQ0());
+        updateAbsVariableTargetP(load, !connected);
+        setOriginalLoadDisabled(originalId, !connected);
     }
 
     void add(LccConverterStation lccCs, LfNetworkParameters parameters) {
@@ -214,6 +275,9 @@ public class LfLoadImpl extends AbstractLfInjection implements LfLoad {
         double diffLoadTargetP = targetP - initialTargetP;
         for (Ref<Load> refLoad : loadsRefs.values()) {
             Load load = refLoad.get();
+            if (Boolean.TRUE.equals(loadsDisablingStatus.get(load.getId()))) {
+                continue;
+            }
             double diffP0 = diffLoadTargetP * getParticipationFactor(load.getId()) * PerUnit.SB;
             double updatedP0 = load.getP0() + diffP0;
             double updatedQ0 = load.getQ0() + (loadPowerFactorConstant ? getPowerFactor(load) * diffP0 : 0.0);
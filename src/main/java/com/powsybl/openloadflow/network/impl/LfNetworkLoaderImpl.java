@@ -13,7 +13,9 @@ import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.extensions.*;
 import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.sa.LimitReductionManager;
 import com.powsybl.openloadflow.util.DebugUtil;
+import com.powsybl.openloadflow.util.Lists2;
 import com.powsybl.openloadflow.util.PerUnit;
 import com.powsybl.openloadflow.util.Reports;
 import net.jafama.FastMath;
@@ -44,6 +46,8 @@ public class LfNetworkLoaderImpl implements LfNetworkLoader<Network> {
 
     private static final double TARGET_Q_EPSILON = 1e-2;
 
+    private static final List<LimitType> PRELOADED_LIMIT_TYPES = List.of(LimitType.ACTIVE_POWER, LimitType.APPARENT_POWER, LimitType.CURRENT);
+
     private static class LoadingContext {
 
         private final Set<Branch<?>> branchSet = new LinkedHashSet<>();
@@ -1074,10 +1078,32 @@ public class LfNetworkLoaderImpl implements LfNetworkLoader<Network> {
             lfNetwork.writeGraphViz(debugDir.resolve("lfnetwork-" + dateStr + ".dot"), parameters.getLoadFlowModel());
         }
 
+        if (parameters.isPreloadLimits()) {
+            preloadLimits(lfNetwork, parameters);
+        }
+
         postProcessors.forEach(pp -> pp.onLfNetworkLoaded(network, lfNetwork));
         return lfNetwork;
     }
 
+    private static void preloadLimits(LfNetwork lfNetwork, LfNetworkParameters parameters) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        // limits are cached by branches on first access, so that getting them once here with the reductions is enough
+        // to never access IIDM limits anymore
+        LimitReductionManager limitReductionManager = LimitReductionManager.create(parameters.getLimitReductions());
+        for (LfBranch branch : lfNetwork.getBranches()) {
+            for (LimitType limitType : PRELOADED_LIMIT_TYPES) {
+                branch.getLimits1(limitType, limitReductionManager);
+                branch.getLimits2(limitType, limitReductionManager);
+            }
+        }
+
+        stopwatch.stop();
+        LOGGER.debug(PERFORMANCE_MARKER, "Network {}, limits of {} branches preloaded in {} ms",
+                lfNetwork, lfNetwork.getBranches().size(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+    }
+
     private static void checkControlZonesAreDisjoints(LfNetwork lfNetwork) {
         Map<GeneratorVoltageControl, MutableInt> generatorVoltageControlCount = new HashMap<>();
         for (LfSecondaryVoltageControl lfSvc : lfNetwork.getSecondaryVoltageControls()) {
@@ -1299,8 +1325,8 @@ public class LfNetworkLoaderImpl implements LfNetworkLoader<Network> {
             ? busesByCc.entrySet().stream().filter(e -> e.getKey().getLeft() == ComponentConstants.MAIN_NUM)
             : busesByCc.entrySet().stream();
 
-        List<LfNetwork> lfNetworks = filteredBusesByCcStream
-                .map(e -> {
+        List<Supplier<LfNetwork>> lfNetworkSuppliers = filteredBusesByCcStream
+                .<Supplier<LfNetwork>>map(e -> () -> {
                     var networkKey = e.getKey();
                     int numCc = networkKey.getLeft();
                     int numSc = networkKey.getRight();
@@ -1308,7 +1334,11 @@ public class LfNetworkLoaderImpl implements LfNetworkLoader<Network> {
                     return create(numCc, numSc, network, lfBuses, switchesByCc.get(networkKey), topoConfig,
                             parameters, Reports.createRootLfNetworkReportNode(numCc, numSc));
                 })
-                .collect(Collectors.toList());
+                .toList();
+
+        List<LfNetwork> lfNetworks = parameters.getLoadingThreadCount() > 1 && lfNetworkSuppliers.size() > 1
+                ? createInParallel(network, lfNetworkSuppliers, parameters.getLoadingThreadCount())
+                : lfNetworkSuppliers.stream().map(Supplier::get).collect(Collectors.toList());
 
         stopwatch.stop();
 
@@ -1317,6 +1347,28 @@ public class LfNetworkLoaderImpl implements LfNetworkLoader<Network> {
         return lfNetworks;
     }
 
+    /**
+     * Create the networks of the components on a bounded pool of threads. Each component has its own root report node
+     * and its own post processors, so that only the IIDM network is shared between threads and only read. As IIDM
+     * topology views are lazily computed, both views are computed before in the calling thread. Networks are returned
+     * in the same order as the suppliers.
+     */
+    private static List<LfNetwork> createInParallel(Network network, List<Supplier<LfNetwork>> lfNetworkSuppliers, int threadCount) {
+        network.getBusView().getBuses().forEach(bus -> { });
+        network.getBusBreakerView().getBuses().forEach(bus -> { });
+
+        // the working variant is thread local when multi thread access is allowed
+        String workingVariantId = network.getVariantManager().getWorkingVariantId();
+        boolean variantMultiThreadAccess = network.getVariantManager().isVariantMultiThreadAccessAllowed();
+
+        return Lists2.parallelMap(lfNetworkSuppliers, lfNetworkSupplier -> {
+            if (variantMultiThreadAccess) {
+                network.getVariantManager().setWorkingVariant(workingVariantId);
+            }
+            return lfNetworkSupplier.get();
+        }, threadCount);
+    }
+
     static boolean participateToSlackDistribution(LfNetworkParameters parameters, Bus b) {
         return parameters.getCountriesToBalance().isEmpty()
                || b.getVoltageLevel().getSubstation().flatMap(Substation::getCountry)
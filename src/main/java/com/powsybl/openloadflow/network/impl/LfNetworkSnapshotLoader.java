@@ -0,0 +1,429 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.LimitType;
+import com.powsybl.iidm.network.ThreeSides;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.util.Reports;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static com.powsybl.openloadflow.network.impl.LfNetworkSnapshotWriter.*;
+
+/**
+ * Load networks from a snapshot written by {@link LfNetworkSnapshotWriter}, the file being memory-mapped. Loaded
+ * networks are not backed by any IIDM network, so that updating the state of the network after a calculation has no
+ * effect. The topology configuration is ignored as it has been applied when the snapshot networks have been created,
+ * and the parameters used while creating the elements must be the same as the ones used to create them.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class LfNetworkSnapshotLoader implements LfNetworkLoader<Path> {
+
+    private static final LfGenerator.GeneratorControlType[] GENERATOR_CONTROL_TYPES = LfGenerator.GeneratorControlType.values();
+
+    private static final LfBranch.BranchType[] BRANCH_TYPES = LfBranch.BranchType.values();
+
+    private static final ThreeSides[] THREE_SIDES = ThreeSides.values();
+
+    private static final TwoSides[] TWO_SIDES = TwoSides.values();
+
+    private static final TransformerPhaseControl.Mode[] PHASE_CONTROL_MODES = TransformerPhaseControl.Mode.values();
+
+    private static final TransformerPhaseControl.Unit[] PHASE_CONTROL_UNITS = TransformerPhaseControl.Unit.values();
+
+    @Override
+    public List<LfNetwork> load(Path file, LfTopoConfig topoConfig, LfNetworkParameters parameters, ReportNode reportNode) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(parameters);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new PowsyblException("Network snapshot file is too large: " + file);
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(BYTE_ORDER);
+            if (size < 3 * Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new PowsyblException("Not a network snapshot file: " + file);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new PowsyblException("Unsupported network snapshot file version: " + version);
+            }
+            checkLoadingParameters(getStrings(buffer), parameters, file);
+            int networkCount = buffer.getInt();
+            List<LfNetwork> lfNetworks = new ArrayList<>(networkCount);
+            for (int i = 0; i < networkCount; i++) {
+                lfNetworks.add(readNetwork(buffer, parameters));
+            }
+            return lfNetworks;
+        } catch (BufferUnderflowException e) {
+            throw new PowsyblException("Truncated network snapshot file: " + file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void checkLoadingParameters(List<String> snapshotLoadingParameters, LfNetworkParameters parameters, Path file) {
+        List<String> loadingParameters = getLoadingParameters(parameters);
+        for (int i = 0; i < Math.max(loadingParameters.size(), snapshotLoadingParameters.size()); i++) {
+            String snapshotParameter = i < snapshotLoadingParameters.size() ? snapshotLoadingParameters.get(i) : null;
+            String parameter = i < loadingParameters.size() ? loadingParameters.get(i) : null;
+            if (!Objects.equals(snapshotParameter, parameter)) {
+                throw new PowsyblException("Network snapshot file " + file + " has been written with parameter " + snapshotParameter
+                        + ", incompatible with " + parameter);
+            }
+        }
+    }
+
+    private static boolean getBoolean(ByteBuffer buffer) {
+        return buffer.get() != 0;
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == -1) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> getStrings(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            strings.add(getString(buffer));
+        }
+        return strings;
+    }
+
+    private static LfNetwork readNetwork(ByteBuffer buffer, LfNetworkParameters parameters) {
+        int numCC = buffer.getInt();
+        int numSC = buffer.getInt();
+        LfNetwork lfNetwork = new LfNetwork(numCC, numSC, parameters.getSlackBusSelector(), parameters.getMaxSlackBusCount(),
+                parameters.getConnectivityFactory(), parameters.getReferenceBusSelector(), Reports.createRootLfNetworkReportNode(numCC, numSC));
+
+        int busCount = buffer.getInt();
+        List<LfBus> buses = new ArrayList<>(busCount);
+        boolean[] generatorVoltageControlEnabled = new boolean[busCount];
+        for (int num = 0; num < busCount; num++) {
+            SnapshotLfBus bus = readBus(buffer, lfNetwork, parameters, generatorVoltageControlEnabled, num);
+            lfNetwork.addBus(bus);
+            buses.add(bus);
+        }
+
+        int branchCount = buffer.getInt();
+        List<LfBranch> branches = new ArrayList<>(branchCount);
+        boolean[] phaseControlEnabled = new boolean[branchCount];
+        boolean[] voltageControlEnabled = new boolean[branchCount];
+        for (int num = 0; num < branchCount; num++) {
+            LfBranch branch = readBranch(buffer, lfNetwork, buses, parameters, phaseControlEnabled, voltageControlEnabled, num);
+            lfNetwork.addBranch(branch);
+            branches.add(branch);
+        }
+
+        readGeneratorVoltageControls(buffer, buses);
+        readTransformerVoltageControls(buffer, buses, branches);
+        readTransformerPhaseControls(buffer, branches);
+
+        int areaCount = buffer.getInt();
+        for (int i = 0; i < areaCount; i++) {
+            lfNetwork.addArea(readArea(buffer, lfNetwork, buses, branches));
+        }
+
+        // control status is restored once all controls have been created
+        for (int num = 0; num < busCount; num++) {
+            buses.get(num).setGeneratorVoltageControlEnabled(generatorVoltageControlEnabled[num]);
+        }
+        for (int num = 0; num < branchCount; num++) {
+            branches.get(num).setPhaseControlEnabled(phaseControlEnabled[num]);
+            branches.get(num).setVoltageControlEnabled(voltageControlEnabled[num]);
+        }
+
+        int voltageAngleLimitCount = buffer.getInt();
+        for (int i = 0; i < voltageAngleLimitCount; i++) {
+            String id = getString(buffer);
+            LfBus from = buses.get(buffer.getInt());
+            LfBus to = buses.get(buffer.getInt());
+            double highValue = buffer.getDouble();
+            double lowValue = buffer.getDouble();
+            lfNetwork.addVoltageAngleLimit(new LfNetwork.LfVoltageAngleLimit(id, from, to, highValue, lowValue));
+        }
+
+        return lfNetwork;
+    }
+
+    private static SnapshotLfArea readArea(ByteBuffer buffer, LfNetwork lfNetwork, List<LfBus> buses, List<LfBranch> branches) {
+        String id = getString(buffer);
+        double interchangeTarget = buffer.getDouble();
+        int busCount = buffer.getInt();
+        Set<LfBus> areaBuses = new LinkedHashSet<>(busCount);
+        for (int i = 0; i < busCount; i++) {
+            areaBuses.add(buses.get(buffer.getInt()));
+        }
+        int boundaryCount = buffer.getInt();
+        Set<LfArea.Boundary> boundaries = new LinkedHashSet<>(boundaryCount);
+        for (int i = 0; i < boundaryCount; i++) {
+            LfBranch branch = branches.get(buffer.getInt());
+            boundaries.add(new LfAreaImpl.BoundaryImpl(branch, TWO_SIDES[buffer.get()]));
+        }
+        return new SnapshotLfArea(lfNetwork, id, interchangeTarget, areaBuses, boundaries);
+    }
+
+    private static SnapshotLfBus readBus(ByteBuffer buffer, LfNetwork lfNetwork, LfNetworkParameters parameters,
+                                         boolean[] generatorVoltageControlEnabled, int num) {
+        String id = getString(buffer);
+        String voltageLevelId = getString(buffer);
+        List<String> originalIds = getStrings(buffer);
+        double nominalV = buffer.getDouble();
+        double lowVoltageLimit = buffer.getDouble();
+        double highVoltageLimit = buffer.getDouble();
+        double v = buffer.getDouble();
+        double angle = buffer.getDouble();
+        boolean fictitious = getBoolean(buffer);
+        boolean participating = getBoolean(buffer);
+        String country = getString(buffer);
+        boolean disabled = getBoolean(buffer);
+        SnapshotLfBus bus = new SnapshotLfBus(lfNetwork, id, voltageLevelId, originalIds, nominalV, lowVoltageLimit, highVoltageLimit,
+                                              v, angle, fictitious, participating, country != null ? Country.valueOf(country) : null,
+                                              parameters.isDistributedOnConformLoad());
+        bus.setDisabled(disabled);
+
+        int loadCount = buffer.getInt();
+        for (int i = 0; i < loadCount; i++) {
+            bus.addLoad(readLoad(buffer, bus, parameters));
+        }
+
+        int generatorCount = buffer.getInt();
+        for (int i = 0; i < generatorCount; i++) {
+            bus.addGenerator(readGenerator(buffer, lfNetwork));
+        }
+        bus.setGenerationTargetQ(buffer.getDouble());
+        generatorVoltageControlEnabled[num] = getBoolean(buffer);
+
+        if (getBoolean(buffer)) {
+            String shuntId = getString(buffer);
+            List<String> shuntOriginalIds = getStrings(buffer);
+            double b = buffer.getDouble();
+            double g = buffer.getDouble();
+            SnapshotLfShunt shunt = new SnapshotLfShunt(lfNetwork, shuntId, shuntOriginalIds, b, g);
+            shunt.setDisabled(getBoolean(buffer));
+            bus.setShunt(shunt);
+        }
+        return bus;
+    }
+
+    private static SnapshotLfLoad readLoad(ByteBuffer buffer, LfBus bus, LfNetworkParameters parameters) {
+        List<String> originalIds = getStrings(buffer);
+        double initialTargetP = buffer.getDouble();
+        double targetP = buffer.getDouble();
+        double targetQ = buffer.getDouble();
+        double absVariableTargetP = buffer.getDouble();
+        boolean ensurePowerFactorConstantByLoad = getBoolean(buffer);
+        SnapshotLfLoad load = new SnapshotLfLoad(bus, originalIds, initialTargetP, targetP, targetQ, absVariableTargetP,
+                                                 ensurePowerFactorConstantByLoad, parameters.isDistributedOnConformLoad());
+        int originalLoadCount = buffer.getInt();
+        for (int i = 0; i < originalLoadCount; i++) {
+            String id = getString(buffer);
+            double p0 = buffer.getDouble();
+            double q0 = buffer.getDouble();
+            double originalAbsVariableTargetP = buffer.getDouble();
+            boolean fictitious = getBoolean(buffer);
+            boolean disabled = getBoolean(buffer);
+            load.addOriginalLoad(new SnapshotLfLoad.OriginalLoad(id, p0, q0, fictitious), originalAbsVariableTargetP, disabled);
+        }
+        return load;
+    }
+
+    private static SnapshotLfGenerator readGenerator(ByteBuffer buffer, LfNetwork lfNetwork) {
+        String id = getString(buffer);
+        String originalId = getString(buffer);
+        boolean fictitious = getBoolean(buffer);
+        double initialTargetP = buffer.getDouble();
+        double targetP = buffer.getDouble();
+        double targetQ = buffer.getDouble();
+        double minP = buffer.getDouble();
+        double maxP = buffer.getDouble();
+        double minTargetP = buffer.getDouble();
+        double maxTargetP = buffer.getDouble();
+        LfGenerator.GeneratorControlType generatorControlType = GENERATOR_CONTROL_TYPES[buffer.get()];
+        double targetV = buffer.getDouble();
+        String controlledBusId = getString(buffer);
+        double remoteControlReactiveKey = buffer.getDouble();
+        boolean participating = getBoolean(buffer);
+        double droop = buffer.getDouble();
+        double participationFactor = buffer.getDouble();
+        int referencePriority = buffer.getInt();
+        boolean disabled = getBoolean(buffer);
+        int pointCount = buffer.getInt();
+        double[] pointsP = new double[pointCount];
+        double[] pointsMinQ = new double[pointCount];
+        double[] pointsMaxQ = new double[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            pointsP[i] = buffer.getDouble();
+            pointsMinQ[i] = buffer.getDouble();
+            pointsMaxQ[i] = buffer.getDouble();
+        }
+        var properties = new SnapshotLfGenerator.Properties(id, originalId, fictitious, targetQ, minP, maxP, minTargetP, maxTargetP,
+                                                            remoteControlReactiveKey, droop, participationFactor);
+        SnapshotLfGenerator generator = new SnapshotLfGenerator(lfNetwork, properties, initialTargetP, targetP, generatorControlType,
+                                                                targetV, controlledBusId, participating, pointsP, pointsMinQ, pointsMaxQ);
+        generator.setReferencePriority(referencePriority);
+        generator.setDisabled(disabled);
+        return generator;
+    }
+
+    private static SimplePiModel readSimplePiModel(ByteBuffer buffer) {
+        return new SimplePiModel()
+                .setR(buffer.getDouble())
+                .setX(buffer.getDouble())
+                .setG1(buffer.getDouble())
+                .setB1(buffer.getDouble())
+                .setG2(buffer.getDouble())
+                .setB2(buffer.getDouble())
+                .setR1(buffer.getDouble())
+                .setA1(buffer.getDouble());
+    }
+
+    private static PiModel readPiModel(ByteBuffer buffer) {
+        byte kind = buffer.get();
+        if (kind == PI_MODEL_ARRAY) {
+            int lowTapPosition = buffer.getInt();
+            int tapPosition = buffer.getInt();
+            int tapCount = buffer.getInt();
+            List<PiModel> models = new ArrayList<>(tapCount);
+            for (int i = 0; i < tapCount; i++) {
+                models.add(readSimplePiModel(buffer));
+            }
+            return new PiModelArray(models, lowTapPosition, tapPosition);
+        }
+        return readSimplePiModel(buffer);
+    }
+
+    private static List<LfBranch.LfLimit> readLimits(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        List<LfBranch.LfLimit> limits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = getString(buffer);
+            int acceptableDuration = buffer.getInt();
+            double value = buffer.getDouble();
+            double reduction = buffer.getDouble();
+            limits.add(new LfBranch.LfLimit(name, acceptableDuration, value, reduction));
+        }
+        return limits;
+    }
+
+    private static LfBranch readBranch(ByteBuffer buffer, LfNetwork lfNetwork, List<LfBus> buses, LfNetworkParameters parameters,
+                                       boolean[] phaseControlEnabled, boolean[] voltageControlEnabled, int num) {
+        String id = getString(buffer);
+        List<String> originalIds = getStrings(buffer);
+        LfBranch.BranchType branchType = BRANCH_TYPES[buffer.get()];
+        byte originalSide = buffer.get();
+        int busNum1 = buffer.getInt();
+        int busNum2 = buffer.getInt();
+        boolean connectedSide1 = getBoolean(buffer);
+        boolean connectedSide2 = getBoolean(buffer);
+        boolean disconnectionAllowedSide1 = getBoolean(buffer);
+        boolean disconnectionAllowedSide2 = getBoolean(buffer);
+        boolean phaseControllerCapability = getBoolean(buffer);
+        boolean disabled = getBoolean(buffer);
+        phaseControlEnabled[num] = getBoolean(buffer);
+        voltageControlEnabled[num] = getBoolean(buffer);
+        PiModel piModel = readPiModel(buffer);
+
+        SnapshotLfBranch branch = new SnapshotLfBranch(lfNetwork, busNum1 != -1 ? buses.get(busNum1) : null,
+                                                       busNum2 != -1 ? buses.get(busNum2) : null, piModel, parameters,
+                                                       id, originalIds, branchType, originalSide != -1 ? THREE_SIDES[originalSide] : null,
+                                                       phaseControllerCapability);
+        // disconnection has to be allowed before a side can be disconnected
+        if (disconnectionAllowedSide1) {
+            branch.setDisconnectionAllowedSide1(true);
+        }
+        if (disconnectionAllowedSide2) {
+            branch.setDisconnectionAllowedSide2(true);
+        }
+        if (connectedSide1 != branch.isConnectedSide1()) {
+            branch.setConnectedSide1(connectedSide1);
+        }
+        if (connectedSide2 != branch.isConnectedSide2()) {
+            branch.setConnectedSide2(connectedSide2);
+        }
+        branch.setDisabled(disabled);
+        for (LimitType limitType : LIMIT_TYPES) {
+            branch.setLimits(TwoSides.ONE, limitType, readLimits(buffer));
+            branch.setLimits(TwoSides.TWO, limitType, readLimits(buffer));
+        }
+        return branch;
+    }
+
+    private static void readGeneratorVoltageControls(ByteBuffer buffer, List<LfBus> buses) {
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            LfBus controlledBus = buses.get(buffer.getInt());
+            int targetPriority = buffer.getInt();
+            double targetValue = buffer.getDouble();
+            GeneratorVoltageControl voltageControl = new GeneratorVoltageControl(controlledBus, targetPriority, targetValue);
+            int controllerCount = buffer.getInt();
+            for (int j = 0; j < controllerCount; j++) {
+                LfBus controllerBus = buses.get(buffer.getInt());
+                voltageControl.addControllerElement(controllerBus);
+            }
+            controlledBus.setGeneratorVoltageControl(voltageControl);
+        }
+    }
+
+    private static void readTransformerVoltageControls(ByteBuffer buffer, List<LfBus> buses, List<LfBranch> branches) {
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            LfBus controlledBus = buses.get(buffer.getInt());
+            int targetPriority = buffer.getInt();
+            double targetValue = buffer.getDouble();
+            double targetDeadband = buffer.getDouble();
+            TransformerVoltageControl voltageControl = new TransformerVoltageControl(controlledBus, targetPriority, targetValue,
+                                                                                     Double.isNaN(targetDeadband) ? null : targetDeadband);
+            int controllerCount = buffer.getInt();
+            for (int j = 0; j < controllerCount; j++) {
+                LfBranch controllerBranch = branches.get(buffer.getInt());
+                voltageControl.addControllerElement(controllerBranch);
+                controllerBranch.setVoltageControl(voltageControl);
+            }
+            controlledBus.setTransformerVoltageControl(voltageControl);
+        }
+    }
+
+    private static void readTransformerPhaseControls(ByteBuffer buffer, List<LfBranch> branches) {
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            LfBranch controllerBranch = branches.get(buffer.getInt());
+            LfBranch controlledBranch = branches.get(buffer.getInt());
+            TwoSides controlledSide = TWO_SIDES[buffer.get()];
+            TransformerPhaseControl.Mode mode = PHASE_CONTROL_MODES[buffer.get()];
+            TransformerPhaseControl.Unit unit = PHASE_CONTROL_UNITS[buffer.get()];
+            double targetValue = buffer.getDouble();
+            double targetDeadband = buffer.getDouble();
+            TransformerPhaseControl phaseControl = new TransformerPhaseControl(controllerBranch, controlledBranch, controlledSide,
+                                                                               mode, targetValue, targetDeadband, unit);
+            controllerBranch.setPhaseControl(phaseControl);
+            controlledBranch.setPhaseControl(phaseControl);
+        }
+    }
+}
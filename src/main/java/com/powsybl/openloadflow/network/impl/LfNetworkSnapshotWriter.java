@@ -0,0 +1,498 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+import com.powsybl.openloadflow.network.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Write load flow networks to a compact binary snapshot, so that they can be loaded back with
+ * {@link LfNetworkSnapshotLoader} without any IIDM network.
+ * <p>
+ * A snapshot covers buses with their loads, generators and fixed shunts, branches with their pi model (or the pi models
+ * of all the taps) and their limits, generator voltage controls, transformer phase and voltage controls, areas and
+ * voltage angle limits. Networks with other elements or controls (HVDC lines, static var compensators, shunt voltage
+ * controls...) are rejected instead of being partially written. Branch limits are written without any reduction.
+ * <p>
+ * As the content of the networks depends on the parameters they have been loaded with, the parameters which are used
+ * while creating the elements are written too, and a snapshot can only be loaded with the same ones, see
+ * {@link #getLoadingParameters(LfNetworkParameters)}.
+ * <p>
+ * File layout (little endian): magic (int), version (int), loading parameters (strings), network count (int), then
+ * the networks one after the other.
+ * Elements are referenced by their num, a string is written as its UTF-8 byte count (int, -1 for null) followed by its
+ * bytes, and a boolean as a byte.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public final class LfNetworkSnapshotWriter {
+
+    static final int MAGIC = 0x4F4C464E; // "OLFN"
+
+    static final int VERSION = 2;
+
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final byte SIMPLE_PI_MODEL = 0;
+
+    static final byte PI_MODEL_ARRAY = 1;
+
+    static final LimitType[] LIMIT_TYPES = {LimitType.ACTIVE_POWER, LimitType.APPARENT_POWER, LimitType.CURRENT};
+
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_CAPACITY).order(BYTE_ORDER);
+
+    private LfNetworkSnapshotWriter() {
+    }
+
+    /**
+     * The parameters used while creating the elements of a network, as name=value strings. Parameters only used at
+     * loading time (slack and reference bus selection, connectivity...) or by calculations are not part of them.
+     */
+    static List<String> getLoadingParameters(LfNetworkParameters parameters) {
+        return List.of("generatorVoltageRemoteControl=" + parameters.isGeneratorVoltageRemoteControl(),
+                       "minImpedance=" + parameters.isMinImpedance(),
+                       "twtSplitShuntAdmittance=" + parameters.isTwtSplitShuntAdmittance(),
+                       "breakers=" + parameters.isBreakers(),
+                       "plausibleActivePowerLimit=" + parameters.getPlausibleActivePowerLimit(),
+                       "useActiveLimits=" + parameters.isUseActiveLimits(),
+                       "disableVoltageControlOfGeneratorsOutsideActivePowerLimits=" + parameters.isDisableVoltageControlOfGeneratorsOutsideActivePowerLimits(),
+                       "computeMainConnectedComponentOnly=" + parameters.isComputeMainConnectedComponentOnly(),
+                       "countriesToBalance=" + new TreeSet<>(parameters.getCountriesToBalance()),
+                       "distributedOnConformLoad=" + parameters.isDistributedOnConformLoad(),
+                       "phaseControl=" + parameters.isPhaseControl(),
+                       "transformerVoltageControl=" + parameters.isTransformerVoltageControl(),
+                       "voltagePerReactivePowerControl=" + parameters.isVoltagePerReactivePowerControl(),
+                       "generatorReactivePowerRemoteControl=" + parameters.isGeneratorReactivePowerRemoteControl(),
+                       "transformerReactivePowerControl=" + parameters.isTransformerReactivePowerControl(),
+                       "loadFlowModel=" + parameters.getLoadFlowModel(),
+                       "shuntVoltageControl=" + parameters.isShuntVoltageControl(),
+                       "reactiveLimits=" + parameters.isReactiveLimits(),
+                       "hvdcAcEmulation=" + parameters.isHvdcAcEmulation(),
+                       "minPlausibleTargetVoltage=" + parameters.getMinPlausibleTargetVoltage(),
+                       "maxPlausibleTargetVoltage=" + parameters.getMaxPlausibleTargetVoltage(),
+                       "minNominalVoltageTargetVoltageCheck=" + parameters.getMinNominalVoltageTargetVoltageCheck(),
+                       "lowImpedanceThreshold=" + parameters.getLowImpedanceThreshold(),
+                       "reactiveRangeCheckMode=" + parameters.getReactiveRangeCheckMode(),
+                       "svcVoltageMonitoring=" + parameters.isSvcVoltageMonitoring(),
+                       "loaderPostProcessorSelection=" + new TreeSet<>(parameters.getLoaderPostProcessorSelection()),
+                       "secondaryVoltageControl=" + parameters.isSecondaryVoltageControl(),
+                       "asymmetrical=" + parameters.isAsymmetrical(),
+                       "linePerUnitMode=" + parameters.getLinePerUnitMode(),
+                       "useLoadModel=" + parameters.isUseLoadModel(),
+                       "simulateAutomationSystems=" + parameters.isSimulateAutomationSystems(),
+                       "fictitiousGeneratorVoltageControlCheckMode=" + parameters.getFictitiousGeneratorVoltageControlCheckMode(),
+                       "areaInterchangeControl=" + parameters.isAreaInterchangeControl(),
+                       "areaInterchangeControlAreaType=" + parameters.getAreaInterchangeControlAreaType(),
+                       "forceTargetQInReactiveLimits=" + parameters.isForceTargetQInReactiveLimits(),
+                       "disableInconsistentVoltageControls=" + parameters.isDisableInconsistentVoltageControls());
+    }
+
+    /**
+     * Write networks loaded with the given parameters.
+     */
+    public static void write(List<LfNetwork> lfNetworks, LfNetworkParameters parameters, Path file) {
+        Objects.requireNonNull(lfNetworks);
+        Objects.requireNonNull(parameters);
+        Objects.requireNonNull(file);
+        lfNetworks.forEach(LfNetworkSnapshotWriter::checkSupported);
+
+        LfNetworkSnapshotWriter writer = new LfNetworkSnapshotWriter();
+        writer.putInt(MAGIC);
+        writer.putInt(VERSION);
+        writer.putStrings(getLoadingParameters(parameters));
+        writer.putInt(lfNetworks.size());
+        for (LfNetwork lfNetwork : lfNetworks) {
+            writer.writeNetwork(lfNetwork);
+        }
+
+        ByteBuffer data = writer.buffer.flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                                    StandardOpenOption.WRITE)) {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static PowsyblException createUnsupportedException(LfNetwork lfNetwork, String what) {
+        return new PowsyblException("Network " + lfNetwork + ": " + what + " not supported by snapshot");
+    }
+
+    private static void checkSupported(LfNetwork lfNetwork) {
+        if (!lfNetwork.getHvdcs().isEmpty()) {
+            throw createUnsupportedException(lfNetwork, "HVDC lines");
+        }
+        for (LfArea area : lfNetwork.getAreas()) {
+            for (LfArea.Boundary boundary : area.getBoundaries()) {
+                if (!(boundary instanceof LfAreaImpl.BoundaryImpl) || boundary.getBranch() instanceof LfTieLineBranch) {
+                    throw createUnsupportedException(lfNetwork, "boundary '" + boundary.getBranch().getId() + "' of area '" + area.getId() + "'");
+                }
+            }
+        }
+        if (!lfNetwork.getSecondaryVoltageControls().isEmpty()) {
+            throw createUnsupportedException(lfNetwork, "secondary voltage controls");
+        }
+        if (!lfNetwork.getOverloadManagementSystems().isEmpty()) {
+            throw createUnsupportedException(lfNetwork, "overload management systems");
+        }
+        for (LfBus bus : lfNetwork.getBuses()) {
+            if (bus.getAsym() != null) {
+                throw createUnsupportedException(lfNetwork, "asymmetrical bus '" + bus.getId() + "'");
+            }
+            if (bus.getControllerShunt().isPresent() || bus.getSvcShunt().isPresent() || bus.getShuntVoltageControl().isPresent()) {
+                throw createUnsupportedException(lfNetwork, "shunt voltage control of bus '" + bus.getId() + "'");
+            }
+            if (bus.getShunt().map(shunt -> !shunt.getControllers().isEmpty()).orElse(false)) {
+                throw createUnsupportedException(lfNetwork, "shunt sections of bus '" + bus.getId() + "'");
+            }
+            if (bus.getGeneratorReactivePowerControl().isPresent()) {
+                throw createUnsupportedException(lfNetwork, "generator reactive power control of bus '" + bus.getId() + "'");
+            }
+            for (LfLoad load : bus.getLoads()) {
+                if (!(load instanceof LfLoadImpl) || load.getLoadModel().isPresent()) {
+                    throw createUnsupportedException(lfNetwork, "load '" + load.getId() + "'");
+                }
+            }
+            for (LfGenerator generator : bus.getGenerators()) {
+                if (!(generator instanceof AbstractLfGenerator) || generator instanceof LfStaticVarCompensatorImpl
+                        || generator.getSlope() != 0 || generator.hasRemoteReactivePowerControl() || generator.getAsym() != null) {
+                    throw createUnsupportedException(lfNetwork, "generator '" + generator.getId() + "'");
+                }
+            }
+        }
+        for (LfBranch branch : lfNetwork.getBranches()) {
+            if (branch.getAsymLine() != null || branch.getTransformerReactivePowerControl().isPresent()
+                    || branch.getGeneratorReactivePowerControl().isPresent()
+                    || !(branch.getPiModel() instanceof SimplePiModel || branch.getPiModel() instanceof PiModelArray)) {
+                throw createUnsupportedException(lfNetwork, "branch '" + branch.getId() + "'");
+            }
+        }
+    }
+
+    private void ensureRemaining(int size) {
+        if (buffer.remaining() < size) {
+            ByteBuffer newBuffer = ByteBuffer.allocate(Math.max(2 * buffer.capacity(), buffer.position() + size)).order(BYTE_ORDER);
+            newBuffer.put(buffer.flip());
+            buffer = newBuffer;
+        }
+    }
+
+    private void putByte(byte b) {
+        ensureRemaining(Byte.BYTES);
+        buffer.put(b);
+    }
+
+    private void putBoolean(boolean b) {
+        putByte((byte) (b ? 1 : 0));
+    }
+
+    private void putInt(int i) {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(i);
+    }
+
+    private void putDouble(double d) {
+        ensureRemaining(Double.BYTES);
+        buffer.putDouble(d);
+    }
+
+    private void putString(String s) {
+        if (s == null) {
+            putInt(-1);
+        } else {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            ensureRemaining(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    private void putStrings(List<String> strings) {
+        putInt(strings.size());
+        strings.forEach(this::putString);
+    }
+
+    private void writeNetwork(LfNetwork lfNetwork) {
+        putInt(lfNetwork.getNumCC());
+        putInt(lfNetwork.getNumSC());
+
+        putInt(lfNetwork.getBuses().size());
+        for (LfBus bus : lfNetwork.getBuses()) {
+            writeBus(bus);
+        }
+
+        putInt(lfNetwork.getBranches().size());
+        for (LfBranch branch : lfNetwork.getBranches()) {
+            writeBranch(branch);
+        }
+
+        writeGeneratorVoltageControls(lfNetwork);
+        writeTransformerVoltageControls(lfNetwork);
+        writeTransformerPhaseControls(lfNetwork);
+
+        putInt(lfNetwork.getAreas().size());
+        for (LfArea area : lfNetwork.getAreas()) {
+            writeArea(area);
+        }
+
+        putInt(lfNetwork.getVoltageAngleLimits().size());
+        for (LfNetwork.LfVoltageAngleLimit voltageAngleLimit : lfNetwork.getVoltageAngleLimits()) {
+            putString(voltageAngleLimit.getId());
+            putInt(voltageAngleLimit.getFrom().getNum());
+            putInt(voltageAngleLimit.getTo().getNum());
+            putDouble(voltageAngleLimit.getHighValue());
+            putDouble(voltageAngleLimit.getLowValue());
+        }
+    }
+
+    private void writeArea(LfArea area) {
+        putString(area.getId());
+        putDouble(area.getInterchangeTarget());
+        putInt(area.getBuses().size());
+        for (LfBus bus : area.getBuses()) {
+            putInt(bus.getNum());
+        }
+        putInt(area.getBoundaries().size());
+        for (LfArea.Boundary boundary : area.getBoundaries()) {
+            putInt(boundary.getBranch().getNum());
+            putByte((byte) ((LfAreaImpl.BoundaryImpl) boundary).getSide().ordinal());
+        }
+    }
+
+    private void writeBus(LfBus bus) {
+        putString(bus.getId());
+        putString(bus.getVoltageLevelId());
+        putStrings(bus.getOriginalIds());
+        putDouble(bus.getNominalV());
+        putDouble(bus.getLowVoltageLimit());
+        putDouble(bus.getHighVoltageLimit());
+        putDouble(bus.getV());
+        putDouble(bus.getAngle());
+        putBoolean(bus.isFictitious());
+        putBoolean(bus.isParticipating());
+        putString(bus.getCountry().map(Country::name).orElse(null));
+        putBoolean(bus.isDisabled());
+
+        putInt(bus.getLoads().size());
+        for (LfLoad load : bus.getLoads()) {
+            writeLoad((LfLoadImpl) load);
+        }
+
+        putInt(bus.getGenerators().size());
+        for (LfGenerator generator : bus.getGenerators()) {
+            writeGenerator((AbstractLfGenerator) generator);
+        }
+        // after generators, as it may have been updated when a voltage control has been discarded
+        putDouble(bus.getGenerationTargetQ());
+        putBoolean(bus.isGeneratorVoltageControlEnabled());
+
+        LfShunt shunt = bus.getShunt().orElse(null);
+        putBoolean(shunt != null);
+        if (shunt != null) {
+            putString(shunt.getId());
+            putStrings(shunt.getOriginalIds());
+            putDouble(shunt.getB());
+            putDouble(shunt.getG());
+            putBoolean(shunt.isDisabled());
+        }
+    }
+
+    private void writeLoad(LfLoadImpl load) {
+        putStrings(load.getOriginalIds());
+        putDouble(load.getInitialTargetP());
+        putDouble(load.getTargetP());
+        putDouble(load.getTargetQ());
+        putDouble(load.getAbsVariableTargetP());
+        putBoolean(load.ensurePowerFactorConstantByLoad());
+        List<Load> originalLoads = load.getOriginalLoads();
+        putInt(originalLoads.size());
+        for (Load originalLoad : originalLoads) {
+            putString(originalLoad.getId());
+            putDouble(originalLoad.getP0());
+            putDouble(originalLoad.getQ0());
+            putDouble(load.getOriginalLoadAbsVariableTargetP(originalLoad.getId()));
+            putBoolean(LfLoadImpl.isLoadFictitious(originalLoad));
+            putBoolean(load.isOriginalLoadDisabled(originalLoad.getId()));
+        }
+    }
+
+    private void writeGenerator(AbstractLfGenerator generator) {
+        putString(generator.getId());
+        putString(generator.getOriginalId());
+        putBoolean(generator.isFictitious());
+        putDouble(generator.getInitialTargetP());
+        putDouble(generator.getTargetP());
+        putDouble(generator.getTargetQ());
+        putDouble(generator.getMinP());
+        putDouble(generator.getMaxP());
+        putDouble(generator.getMinTargetP());
+        putDouble(generator.getMaxTargetP());
+        putByte((byte) generator.getGeneratorControlType().ordinal());
+        putDouble(generator.getTargetV());
+        putString(generator.controlledBusId);
+        putDouble(generator.getRemoteControlReactiveKey().orElse(Double.NaN));
+        putBoolean(generator.isParticipating());
+        putDouble(generator.getDroop());
+        putDouble(generator.getParticipationFactor());
+        putInt(generator.getReferencePriority());
+        putBoolean(generator.isDisabled());
+
+        // reactive limits as capability curve points (p, min q, max q) in MW and MVar, min max limits being a single point
+        ReactiveLimits reactiveLimits = generator.getReactiveLimits().orElse(null);
+        if (reactiveLimits == null) {
+            putInt(0);
+        } else if (reactiveLimits instanceof ReactiveCapabilityCurve curve) {
+            List<ReactiveCapabilityCurve.Point> points = new ArrayList<>(curve.getPoints());
+            putInt(points.size());
+            for (ReactiveCapabilityCurve.Point point : points) {
+                putDouble(point.getP());
+                putDouble(point.getMinQ());
+                putDouble(point.getMaxQ());
+            }
+        } else {
+            MinMaxReactiveLimits minMaxLimits = (MinMaxReactiveLimits) reactiveLimits;
+            putInt(1);
+            putDouble(Double.NaN);
+            putDouble(minMaxLimits.getMinQ());
+            putDouble(minMaxLimits.getMaxQ());
+        }
+    }
+
+    private static int getBusNum(LfBus bus) {
+        return bus != null ? bus.getNum() : -1;
+    }
+
+    private void writeSimplePiModel(PiModel piModel) {
+        putDouble(piModel.getR());
+        putDouble(piModel.getX());
+        putDouble(piModel.getG1());
+        putDouble(piModel.getB1());
+        putDouble(piModel.getG2());
+        putDouble(piModel.getB2());
+        putDouble(piModel.getR1());
+        putDouble(piModel.getA1());
+    }
+
+    private void writeBranch(LfBranch branch) {
+        putString(branch.getId());
+        putStrings(branch.getOriginalIds());
+        putByte((byte) branch.getBranchType().ordinal());
+        putByte((byte) branch.getOriginalSide().map(Enum::ordinal).orElse(-1).intValue());
+        putInt(getBusNum(branch.getBus1()));
+        putInt(getBusNum(branch.getBus2()));
+        putBoolean(branch.isConnectedSide1());
+        putBoolean(branch.isConnectedSide2());
+        putBoolean(branch.isDisconnectionAllowedSide1());
+        putBoolean(branch.isDisconnectionAllowedSide2());
+        putBoolean(branch.hasPhaseControllerCapability());
+        putBoolean(branch.isDisabled());
+        putBoolean(branch.isPhaseControlEnabled());
+        putBoolean(branch.isVoltageControlEnabled());
+
+        PiModel piModel = branch.getPiModel();
+        if (piModel instanceof PiModelArray piModelArray) {
+            int lowTapPosition = piModelArray.getTapPositionRange().getMinimum();
+            int tapCount = piModelArray.getTapPositionRange().getMaximum() - lowTapPosition + 1;
+            putByte(PI_MODEL_ARRAY);
+            putInt(lowTapPosition);
+            putInt(piModelArray.getTapPosition());
+            putInt(tapCount);
+            for (int i = 0; i < tapCount; i++) {
+                writeSimplePiModel(piModelArray.getModel(i));
+            }
+        } else {
+            putByte(SIMPLE_PI_MODEL);
+            writeSimplePiModel(piModel);
+        }
+
+        for (LimitType limitType : LIMIT_TYPES) {
+            writeLimits(branch.getLimits1(limitType, null));
+            writeLimits(branch.getLimits2(limitType, null));
+        }
+    }
+
+    private void writeLimits(List<LfBranch.LfLimit> limits) {
+        putInt(limits.size());
+        for (LfBranch.LfLimit limit : limits) {
+            putString(limit.getName());
+            putInt(limit.getAcceptableDuration());
+            putDouble(limit.getValue());
+            putDouble(limit.getReduction());
+        }
+    }
+
+    private void writeGeneratorVoltageControls(LfNetwork lfNetwork) {
+        List<GeneratorVoltageControl> voltageControls = lfNetwork.getBuses().stream()
+                .filter(LfBus::isGeneratorVoltageControlled)
+                .map(bus -> bus.getGeneratorVoltageControl().orElseThrow())
+                .toList();
+        putInt(voltageControls.size());
+        for (GeneratorVoltageControl voltageControl : voltageControls) {
+            putInt(voltageControl.getControlledBus().getNum());
+            putInt(voltageControl.getTargetPriority());
+            putDouble(voltageControl.getTargetValue());
+            putInt(voltageControl.getControllerElements().size());
+            for (LfBus controllerBus : voltageControl.getControllerElements()) {
+                putInt(controllerBus.getNum());
+            }
+        }
+    }
+
+    private void writeTransformerVoltageControls(LfNetwork lfNetwork) {
+        List<TransformerVoltageControl> voltageControls = lfNetwork.getBuses().stream()
+                .filter(LfBus::isTransformerVoltageControlled)
+                .map(bus -> bus.getTransformerVoltageControl().orElseThrow())
+                .toList();
+        putInt(voltageControls.size());
+        for (TransformerVoltageControl voltageControl : voltageControls) {
+            putInt(voltageControl.getControlledBus().getNum());
+            putInt(voltageControl.getTargetPriority());
+            putDouble(voltageControl.getTargetValue());
+            putDouble(voltageControl.getTargetDeadband().orElse(Double.NaN));
+            putInt(voltageControl.getControllerElements().size());
+            for (LfBranch controllerBranch : voltageControl.getControllerElements()) {
+                putInt(controllerBranch.getNum());
+            }
+        }
+    }
+
+    private void writeTransformerPhaseControls(LfNetwork lfNetwork) {
+        List<TransformerPhaseControl> phaseControls = lfNetwork.getBranches().stream()
+                .filter(LfBranch::isPhaseController)
+                .map(branch -> branch.getPhaseControl().orElseThrow())
+                .toList();
+        putInt(phaseControls.size());
+        for (TransformerPhaseControl phaseControl : phaseControls) {
+            putInt(phaseControl.getControllerBranch().getNum());
+            putInt(phaseControl.getControlledBranch().getNum());
+            putByte((byte) phaseControl.getControlledSide().ordinal());
+            putByte((byte) phaseControl.getMode().ordinal());
+            putByte((byte) phaseControl.getUnit().ordinal());
+            putDouble(phaseControl.getTargetValue());
+            putDouble(phaseControl.getTargetDeadband());
+        }
+    }
+}
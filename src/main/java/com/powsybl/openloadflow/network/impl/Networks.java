@@ -142,7 +142,9 @@ public final class Networks {
         switchAndBranchIdsToClose.forEach(id -> {
             LfBranch branch = network.getBranchById(id);
             if (branch != null) {
+                // temporary changes are never undone, the initial topology is the base of the network
                 connectivity.removeEdge(branch);
+                network.onConnectivityBranchRemoved(branch);
                 toRemove.add(id);
             }
         });
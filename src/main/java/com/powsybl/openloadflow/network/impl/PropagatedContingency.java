@@ -384,14 +384,22 @@ public class PropagatedContingency {
     }
 
     private ContingencyConnectivityLossImpact findBusesAndBranchesImpactedBecauseOfConnectivityLoss(LfNetwork network, Map<LfBranch, DisabledBranchStatus> branchesToOpen, boolean relocateSlackBus) {
+        List<LfBranch> branchesToRemove = branchesToOpen.keySet().stream()
+                .filter(LfBranch::isConnectedAtBothSides)
+                .toList();
+
+        // fast path: on a connected network, if the removed branches are provably not a cut set, the network stays
+        // connected and there is no need to update the connectivity
+        if (network.getEdgeCutDetector().getComponentCount() == 1 && network.isConnectivityPreserved(branchesToRemove)) {
+            return new ContingencyConnectivityLossImpact(true, 0, Collections.emptySet(), Collections.emptySet());
+        }
+
         // update connectivity with triggered branches of this network
         // note that this will define the main component as the one containing the first slack bus
         GraphConnectivity<LfBus, LfBranch> connectivity = network.getConnectivity();
         connectivity.startTemporaryChanges();
         try {
-            branchesToOpen.keySet().stream()
-                    .filter(LfBranch::isConnectedAtBothSides)
-                    .forEach(connectivity::removeEdge);
+            branchesToRemove.forEach(connectivity::removeEdge);
 
             if (relocateSlackBus && isSlackBusIsolated(connectivity, network.getSlackBus())) {
                 LOGGER.warn("Contingency '{}' leads to an isolated slack bus: relocate slack bus inside main component",
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.impl;
+
+import com.powsybl.openloadflow.network.*;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An area loaded from a {@link LfNetworkSnapshotWriter snapshot}.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class SnapshotLfArea extends AbstractElement implements LfArea {
+
+    private final String id;
+
+    private double interchangeTarget;
+
+    private final Set<LfBus> buses;
+
+    private final Set<Boundary> boundaries;
+
+    SnapshotLfArea(LfNetwork network, String id, double interchangeTarget, Set<LfBus> buses, Set<Boundary> boundaries) {
+        super(network);
+        this.id = Objects.requireNonNull(id);
+        this.interchangeTarget = interchangeTarget;
+        this.buses = Objects.requireNonNull(buses);
+        this.boundaries = Objects.requireNonNull(boundaries);
+        buses.forEach(bus -> bus.setArea(this));
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public ElementType getType() {
+        return ElementType.AREA;
+    }
+
+    @Override
+    public double getInterchangeTarget() {
+        return interchangeTarget;
+    }
+
+    @Override
+    public void setInterchangeTarget(double interchangeTarget) {
+        this.interchangeTarget = interchangeTarget;
+    }
+
+    @Override
+    public double getInterchange() {
+        return boundaries.stream().mapToDouble(Boundary::getP).sum();
+    }
+
+    @Override
+    public Set<LfBus> getBuses() {
+        return buses;
+    }
+
+    @Override
+    public Set<Boundary> getBoundaries() {
+        return boundaries;
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.impl;
+
+import com.powsybl.iidm.network.LimitType;
+import com.powsybl.iidm.network.LoadingLimits;
+import com.powsybl.iidm.network.ThreeSides;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.sa.LimitReductionManager;
+import com.powsybl.openloadflow.util.PerUnit;
+import com.powsybl.security.results.BranchResult;
+
+import java.util.*;
+
+/**
+ * A branch loaded from a {@link LfNetworkSnapshotWriter snapshot}. Limits have been written without reduction, so
+ * that the limit reduction manager is ignored.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class SnapshotLfBranch extends AbstractImpedantLfBranch {
+
+    private final String id;
+
+    private final List<String> originalIds;
+
+    private final BranchType branchType;
+
+    private final ThreeSides originalSide;
+
+    private final boolean phaseControllerCapability;
+
+    private final Map<LimitType, List<LfLimit>> limits1 = new EnumMap<>(LimitType.class);
+
+    private final Map<LimitType, List<LfLimit>> limits2 = new EnumMap<>(LimitType.class);
+
+    SnapshotLfBranch(LfNetwork network, LfBus bus1, LfBus bus2, PiModel piModel, LfNetworkParameters parameters,
+                     String id, List<String> originalIds, BranchType branchType, ThreeSides originalSide,
+                     boolean phaseControllerCapability) {
+        super(network, bus1, bus2, piModel, parameters);
+        this.id = Objects.requireNonNull(id);
+        this.originalIds = Objects.requireNonNull(originalIds);
+        this.branchType = Objects.requireNonNull(branchType);
+        this.originalSide = originalSide;
+        this.phaseControllerCapability = phaseControllerCapability;
+    }
+
+    void setLimits(TwoSides side, LimitType type, List<LfLimit> limits) {
+        (side == TwoSides.ONE ? limits1 : limits2).put(type, Objects.requireNonNull(limits));
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public List<String> getOriginalIds() {
+        return originalIds;
+    }
+
+    @Override
+    public BranchType getBranchType() {
+        return branchType;
+    }
+
+    @Override
+    public Optional<ThreeSides> getOriginalSide() {
+        return Optional.ofNullable(originalSide);
+    }
+
+    @Override
+    public boolean hasPhaseControllerCapability() {
+        return phaseControllerCapability;
+    }
+
+    @Override
+    public List<BranchResult> createBranchResult(double preContingencyBranchP1, double preContingencyBranchOfContingencyP1, boolean createExtension) {
+        double flowTransfer = Double.NaN;
+        if (!Double.isNaN(preContingencyBranchP1) && !Double.isNaN(preContingencyBranchOfContingencyP1)) {
+            flowTransfer = (p1.eval() * PerUnit.SB - preContingencyBranchP1) / preContingencyBranchOfContingencyP1;
+        }
+        double currentScale1 = bus1 != null ? PerUnit.ib(bus1.getNominalV()) : Double.NaN;
+        double currentScale2 = bus2 != null ? PerUnit.ib(bus2.getNominalV()) : Double.NaN;
+        var branchResult = new BranchResult(getId(), p1.eval() * PerUnit.SB, q1.eval() * PerUnit.SB, currentScale1 * i1.eval(),
+                                            p2.eval() * PerUnit.SB, q2.eval() * PerUnit.SB, currentScale2 * i2.eval(), flowTransfer);
+        if (createExtension) {
+            branchResult.addExtension(OlfBranchResult.class, new OlfBranchResult(piModel.getR1(), piModel.getContinuousR1(),
+                    bus1 != null ? getV1() * bus1.getNominalV() : Double.NaN,
+                    bus2 != null ? getV2() * bus2.getNominalV() : Double.NaN,
+                    Math.toDegrees(getAngle1()),
+                    Math.toDegrees(getAngle2())));
+        }
+        return List.of(branchResult);
+    }
+
+    @Override
+    public List<LfLimit> getLimits1(LimitType type, LimitReductionManager limitReductionManager) {
+        return limits1.getOrDefault(type, Collections.emptyList());
+    }
+
+    @Override
+    public List<LfLimit> getLimits2(LimitType type, LimitReductionManager limitReductionManager) {
+        return limits2.getOrDefault(type, Collections.emptyList());
+    }
+
+    @Override
+    public double[] getLimitReductions(TwoSides side, LimitReductionManager limitReductionManager, LoadingLimits limits) {
+        return new double[] {};
+    }
+
+    @Override
+    public void updateFlows(double p1, double q1, double p2, double q2) {
+        // no IIDM branch to update
+    }
+
+    @Override
+    public void updateState(LfNetworkStateUpdateParameters parameters, LfNetworkUpdateReport updateReport) {
+        // no IIDM branch to update
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.impl;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.openloadflow.network.LfGenerator;
+import com.powsybl.openloadflow.network.LfLoad;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.LfShunt;
+import com.powsybl.security.ViolationLocation;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A bus loaded from a {@link LfNetworkSnapshotWriter snapshot}, not backed by any IIDM bus.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class SnapshotLfBus extends AbstractLfBus {
+
+    private final String id;
+
+    private final String voltageLevelId;
+
+    private final List<String> originalIds;
+
+    private final double nominalV;
+
+    private final double lowVoltageLimit;
+
+    private final double highVoltageLimit;
+
+    private final boolean fictitious;
+
+    private final boolean participating;
+
+    private final Country country;
+
+    SnapshotLfBus(LfNetwork network, String id, String voltageLevelId, List<String> originalIds, double nominalV,
+                  double lowVoltageLimit, double highVoltageLimit, double v, double angle, boolean fictitious,
+                  boolean participating, Country country, boolean distributedOnConformLoad) {
+        super(network, v * nominalV, angle, distributedOnConformLoad); // per-unit voltage in snapshot, kV in bus
+        this.id = Objects.requireNonNull(id);
+        this.voltageLevelId = voltageLevelId;
+        this.originalIds = Objects.requireNonNull(originalIds);
+        this.nominalV = nominalV;
+        this.lowVoltageLimit = lowVoltageLimit;
+        this.highVoltageLimit = highVoltageLimit;
+        this.fictitious = fictitious;
+        this.participating = participating;
+        this.country = country;
+    }
+
+    void addLoad(LfLoad load) {
+        loads.add(Objects.requireNonNull(load));
+    }
+
+    void addGenerator(LfGenerator generator) {
+        add(generator);
+    }
+
+    void setShunt(LfShunt shunt) {
+        this.shunt = Objects.requireNonNull(shunt);
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public List<String> getOriginalIds() {
+        return originalIds;
+    }
+
+    @Override
+    public String getVoltageLevelId() {
+        return voltageLevelId;
+    }
+
+    @Override
+    public boolean isFictitious() {
+        return fictitious;
+    }
+
+    @Override
+    public double getNominalV() {
+        return nominalV;
+    }
+
+    @Override
+    public double getLowVoltageLimit() {
+        return lowVoltageLimit;
+    }
+
+    @Override
+    public double getHighVoltageLimit() {
+        return highVoltageLimit;
+    }
+
+    @Override
+    public boolean isParticipating() {
+        return participating;
+    }
+
+    @Override
+    public Optional<Country> getCountry() {
+        return Optional.ofNullable(country);
+    }
+
+    @Override
+    public ViolationLocation getViolationLocation() {
+        return null;
+    }
+}
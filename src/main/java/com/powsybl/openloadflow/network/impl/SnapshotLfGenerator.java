@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.impl;
+
+import com.powsybl.iidm.network.ReactiveLimits;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.LfNetworkStateUpdateParameters;
+import com.powsybl.openloadflow.util.PerUnit;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+/**
+ * A generator loaded from a {@link LfNetworkSnapshotWriter snapshot}. Reactive limits are kept as capability curve
+ * points sorted by active power (in MW and MVar), with a single point for min max reactive limits, and are
+ * interpolated as IIDM does.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class SnapshotLfGenerator extends AbstractLfGenerator {
+
+    record Properties(String id, String originalId, boolean fictitious, double targetQ, double minP, double maxP,
+                      double minTargetP, double maxTargetP, double remoteControlReactiveKey, double droop,
+                      double participationFactor) {
+    }
+
+    private final Properties properties;
+
+    private boolean participating;
+
+    // reactive capability curve points, empty if no reactive limits
+    private final double[] pointsP;
+
+    private final double[] pointsMinQ;
+
+    private final double[] pointsMaxQ;
+
+    SnapshotLfGenerator(LfNetwork network, Properties properties, double initialTargetP, double targetP,
+                        GeneratorControlType generatorControlType, double targetV, String controlledBusId,
+                        boolean participating, double[] pointsP, double[] pointsMinQ, double[] pointsMaxQ) {
+        super(network, targetP);
+        this.properties = Objects.requireNonNull(properties);
+        this.initialTargetP = initialTargetP;
+        this.generatorControlType = Objects.requireNonNull(generatorControlType);
+        this.targetV = targetV;
+        this.controlledBusId = controlledBusId;
+        this.participating = participating;
+        this.pointsP = Objects.requireNonNull(pointsP);
+        this.pointsMinQ = Objects.requireNonNull(pointsMinQ);
+        this.pointsMaxQ = Objects.requireNonNull(pointsMaxQ);
+    }
+
+    @Override
+    public String getId() {
+        return properties.id();
+    }
+
+    @Override
+    public String getOriginalId() {
+        return properties.originalId();
+    }
+
+    @Override
+    public boolean isFictitious() {
+        return properties.fictitious();
+    }
+
+    @Override
+    public OptionalDouble getRemoteControlReactiveKey() {
+        return Double.isNaN(properties.remoteControlReactiveKey()) ? OptionalDouble.empty()
+                                                                   : OptionalDouble.of(properties.remoteControlReactiveKey());
+    }
+
+    @Override
+    public double getTargetQ() {
+        return properties.targetQ();
+    }
+
+    @Override
+    public double getMinP() {
+        return properties.minP();
+    }
+
+    @Override
+    public double getMaxP() {
+        return properties.maxP();
+    }
+
+    @Override
+    public double getMinTargetP() {
+        return properties.minTargetP();
+    }
+
+    @Override
+    public double getMaxTargetP() {
+        return properties.maxTargetP();
+    }
+
+    @Override
+    public boolean isParticipating() {
+        return participating;
+    }
+
+    @Override
+    public void setParticipating(boolean participating) {
+        this.participating = participating;
+    }
+
+    @Override
+    public double getDroop() {
+        return properties.droop();
+    }
+
+    @Override
+    public double getParticipationFactor() {
+        return properties.participationFactor();
+    }
+
+    @Override
+    protected Optional<ReactiveLimits> getReactiveLimits() {
+        // limits are directly computed from the capability curve points
+        return Optional.empty();
+    }
+
+    private static double interpolate(double[] pointsP, double[] pointsQ, double p) {
+        if (pointsP.length == 1 || p <= pointsP[0]) {
+            return pointsQ[0];
+        }
+        int last = pointsP.length - 1;
+        if (p >= pointsP[last]) {
+            return pointsQ[last];
+        }
+        int i = 1;
+        while (pointsP[i] < p) {
+            i++;
+        }
+        return pointsQ[i - 1] + (pointsQ[i] - pointsQ[i - 1]) * (p - pointsP[i - 1]) / (pointsP[i] - pointsP[i - 1]);
+    }
+
+    @Override
+    public double getMinQ() {
+        return pointsP.length == 0 ? -Double.MAX_VALUE : interpolate(pointsP, pointsMinQ, targetP * PerUnit.SB) / PerUnit.SB;
+    }
+
+    @Override
+    public double getMaxQ() {
+        return pointsP.length == 0 ? Double.MAX_VALUE : interpolate(pointsP, pointsMaxQ, targetP * PerUnit.SB) / PerUnit.SB;
+    }
+
+    @Override
+    public double getRangeQ(ReactiveRangeMode rangeMode) {
+        if (pointsP.length == 0) {
+            return Double.MAX_VALUE;
+        }
+        if (rangeMode == ReactiveRangeMode.TARGET_P) {
+            return getMaxQ() - getMinQ();
+        }
+        double rangeQ = pointsMaxQ[0] - pointsMinQ[0];
+        for (int i = 1; i < pointsP.length; i++) {
+            double pointRangeQ = pointsMaxQ[i] - pointsMinQ[i];
+            rangeQ = rangeMode == ReactiveRangeMode.MAX ? Math.max(rangeQ, pointRangeQ) : Math.min(rangeQ, pointRangeQ);
+        }
+        return rangeQ / PerUnit.SB;
+    }
+
+    @Override
+    public void updateState(LfNetworkStateUpdateParameters parameters) {
+        // no IIDM injection to update
+    }
+}
@@ -0,0 +1,277 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.openloadflow.network.LfBus;
+import com.powsybl.openloadflow.network.LfLoad;
+import com.powsybl.openloadflow.network.LfLoadModel;
+import com.powsybl.openloadflow.network.LfNetworkListener;
+import com.powsybl.openloadflow.util.Evaluable;
+import com.powsybl.openloadflow.util.PerUnit;
+
+import java.util.*;
+
+import static com.powsybl.openloadflow.util.EvaluableConstants.NAN;
+
+/**
+ * A load loaded from a {@link LfNetworkSnapshotWriter snapshot}. The active and reactive powers (in MW and MVar) of
+ * the original loads are kept to replace the IIDM loads when targets are updated.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class SnapshotLfLoad extends AbstractLfInjection implements LfLoad {
+
+    record OriginalLoad(String id, double p0, double q0, boolean fictitious) {
+    }
+
+    private final LfBus bus;
+
+    private final List<String> originalIds;
+
+    private final Map<String, OriginalLoad> originalLoads = new LinkedHashMap<>();
+
+    private final Map<String, Double> originalLoadsAbsVariableTargetP = new HashMap<>();
+
+    private Map<String, Boolean> originalLoadsDisablingStatus = new LinkedHashMap<>();
+
+    private final boolean distributedOnConformLoad;
+
+    private double targetQ;
+
+    private boolean ensurePowerFactorConstantByLoad;
+
+    private double absVariableTargetP;
+
+    private Evaluable p = NAN;
+
+    private Evaluable q = NAN;
+
+    SnapshotLfLoad(LfBus bus, List<String> originalIds, double initialTargetP, double targetP, double targetQ,
+                   double absVariableTargetP, boolean ensurePowerFactorConstantByLoad, boolean distributedOnConformLoad) {
+        super(initialTargetP, targetP);
+        this.bus = Objects.requireNonNull(bus);
+        this.originalIds = Objects.requireNonNull(originalIds);
+        this.targetQ = targetQ;
+        this.absVariableTargetP = absVariableTargetP;
+        this.ensurePowerFactorConstantByLoad = ensurePowerFactorConstantByLoad;
+        this.distributedOnConformLoad = distributedOnConformLoad;
+    }
+
+    void addOriginalLoad(OriginalLoad originalLoad, double absVariableTargetP, boolean disabled) {
+        originalLoads.put(originalLoad.id(), originalLoad);
+        originalLoadsAbsVariableTargetP.put(originalLoad.id(), absVariableTargetP);
+        originalLoadsDisablingStatus.put(originalLoad.id(), disabled);
+    }
+
+    @Override
+    public String getId() {
+        return bus.getId() + "_load";
+    }
+
+    @Override
+    public List<String> getOriginalIds() {
+        return originalIds;
+    }
+
+    @Override
+    public LfBus getBus() {
+        return bus;
+    }
+
+    private OriginalLoad getOriginalLoad(String originalId) {
+        OriginalLoad originalLoad = originalLoads.get(originalId);
+        if (originalLoad == null) {
+            throw new PowsyblException("Load '" + originalId + "' is not part of " + getId());
+        }
+        return originalLoad;
+    }
+
+    @Override
+    public boolean isOriginalLoadNotParticipating(String originalId) {
+        OriginalLoad originalLoad = originalLoads.get(originalId);
+        return originalLoad != null && originalLoad.fictitious();
+    }
+
+    @Override
+    public Optional<LfLoadModel> getLoadModel() {
+        return Optional.empty();
+    }
+
+    @Override
+    public double getNonFictitiousLoadTargetP() {
+        return originalLoads.values().stream()
+                .filter(l -> !l.fictitious())
+                .mapToDouble(OriginalLoad::p0)
+                .sum();
+    }
+
+    @Override
+    public void setTargetP(double targetP) {
+        if (targetP != this.targetP) {
+            double oldTargetP = this.targetP;
+            this.targetP = targetP;
+            bus.invalidateLoadTargetP();
+            for (LfNetworkListener listener : bus.getNetwork().getListeners()) {
+                listener.onLoadActivePowerTargetChange(this, oldTargetP, targetP);
+            }
+        }
+    }
+
+    @Override
+    public double getTargetQ() {
+        return targetQ;
+    }
+
+    @Override
+    public void setTargetQ(double targetQ) {
+        if (targetQ != this.targetQ) {
+            double oldTargetQ = this.targetQ;
+            this.targetQ = targetQ;
+            for (LfNetworkListener listener : bus.getNetwork().getListeners()) {
+                listener.onLoadReactivePowerTargetChange(this, oldTargetQ, targetQ);
+            }
+        }
+    }
+
+    @Override
+    public boolean ensurePowerFactorConstantByLoad() {
+        return ensurePowerFactorConstantByLoad;
+    }
+
+    @Override
+    public double getAbsVariableTargetP() {
+        return absVariableTargetP;
+    }
+
+    @Override
+    public void setAbsVariableTargetP(double absVariableTargetP) {
+        this.absVariableTargetP = absVariableTargetP;
+    }
+
+    private static double getPowerFactor(OriginalLoad originalLoad) {
+        return originalLoad.p0() != 0 ? originalLoad.q0() / originalLoad.p0() : 1;
+    }
+
+    private double getParticipationFactor(String originalId) {
+        return absVariableTargetP != 0 ? originalLoadsAbsVariableTargetP.get(originalId) / absVariableTargetP : 0;
+    }
+
+    @Override
+    public double calculateNewTargetQ(double diffTargetP) {
+        double newLoadTargetQ = 0;
+        for (OriginalLoad originalLoad : originalLoads.values()) {
+            newLoadTargetQ += originalLoad.q0() / PerUnit.SB + getPowerFactor(originalLoad) * diffTargetP * getParticipationFactor(originalLoad.id());
+        }
+        return newLoadTargetQ;
+    }
+
+    @Override
+    public int getOriginalLoadCount() {
+        return originalLoads.size();
+    }
+
+    @Override
+    public boolean isOriginalLoadDisabled(String originalId) {
+        return originalLoadsDisablingStatus.get(originalId);
+    }
+
+    @Override
+    public void setOriginalLoadDisabled(String originalId, boolean disabled) {
+        originalLoadsDisablingStatus.put(originalId, disabled);
+    }
+
+    @Override
+    public Map<String, Boolean> getOriginalLoadsDisablingStatus() {
+        return originalLoadsDisablingStatus;
+    }
+
+    @Override
+    public void setOriginalLoadsDisablingStatus(Map<String, Boolean> originalLoadsDisablingStatus) {
+        this.originalLoadsDisablingStatus = Objects.requireNonNull(originalLoadsDisablingStatus);
+    }
+
+    private void shiftTargets(double p0Shift, double q0Shift) {
+        initialTargetP += p0Shift / PerUnit.SB;
+        setTargetP(initialTargetP);
+        setTargetQ(targetQ + q0Shift / PerUnit.SB);
+    }
+
+    private void updateAbsVariableTargetP(OriginalLoad originalLoad, boolean disabled) {
+        double absTargetP;
+        if (disabled || originalLoad.fictitious()) {
+            absTargetP = 0;
+        } else if (distributedOnConformLoad) {
+            // variable part of a conform load does not depend on its active power
+            absTargetP = originalLoadsAbsVariableTargetP.get(originalLoad.id());
+        } else {
+            absTargetP = Math.abs(originalLoad.p0()) / PerUnit.SB;
+        }
+        absVariableTargetP += absTargetP - originalLoadsAbsVariableTargetP.put(originalLoad.id(), absTargetP);
+    }
+
+    @Override
+    public void updateOriginalLoadTarget(String originalId, double p0Shift, double q0Shift) {
+        OriginalLoad originalLoad = getOriginalLoad(originalId);
+        // as there is no IIDM load to hold it, the new active and reactive powers are kept here
+        OriginalLoad updatedOriginalLoad = new OriginalLoad(originalId, originalLoad.p0() + p0Shift, originalLoad.q0() + q0Shift,
+                                                            originalLoad.fictitious());
+        originalLoads.put(originalId, updatedOriginalLoad);
+        if (isOriginalLoadDisabled(originalId)) {
+            // will be taken into account at reconnection
+            return;
+        }
+        shiftTargets(p0Shift, q0Shift);
+        updateAbsVariableTargetP(updatedOriginalLoad, false);
+        if (updatedOriginalLoad.p0() < 0 || updatedOriginalLoad.p0() == 0 && updatedOriginalLoad.q0() != 0) {
+            ensurePowerFactorConstantByLoad = true;
+        }
+    }
+
+    @Override
+    public void updateOriginalLoadConnection(String originalId, boolean connected) {
+        OriginalLoad originalLoad = getOriginalLoad(originalId);
+        if (isOriginalLoadDisabled(originalId) != connected) {
+            return;
+        }
+        double sign = connected ? 1 : -1;
+        shiftTargets(sign * originalLoad.p0(), sign * originalLoad.q0());
+        updateAbsVariableTargetP(originalLoad, !connected);
+        setOriginalLoadDisabled(originalId, !connected);
+    }
+
+    @Override
+    public void updateState(boolean loadPowerFactorConstant, boolean breakers) {
+        // no IIDM load to update
+    }
+
+    @Override
+    public Evaluable getP() {
+        return p;
+    }
+
+    @Override
+    public void setP(Evaluable p) {
+        this.p = p;
+    }
+
+    @Override
+    public Evaluable getQ() {
+        return q;
+    }
+
+    @Override
+    public void setQ(Evaluable q) {
+        this.q = q;
+    }
+
+    @Override
+    public String toString() {
+        return getId();
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.impl;
+
+import com.powsybl.openloadflow.network.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A fixed shunt loaded from a {@link LfNetworkSnapshotWriter snapshot}.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class SnapshotLfShunt extends AbstractLfShunt {
+
+    private final String id;
+
+    private final List<String> originalIds;
+
+    private final double initialB;
+
+    private final double initialG;
+
+    private double b;
+
+    private double g;
+
+    SnapshotLfShunt(LfNetwork network, String id, List<String> originalIds, double b, double g) {
+        super(network);
+        this.id = Objects.requireNonNull(id);
+        this.originalIds = Objects.requireNonNull(originalIds);
+        this.initialB = b;
+        this.initialG = g;
+        this.b = b;
+        this.g = g;
+    }
+
+    @Override
+    public ElementType getType() {
+        return ElementType.SHUNT_COMPENSATOR;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public List<String> getOriginalIds() {
+        return originalIds;
+    }
+
+    @Override
+    public double getB() {
+        return b;
+    }
+
+    @Override
+    public void setB(double b) {
+        if (b != this.b) {
+            this.b = b;
+            for (LfNetworkListener listener : getNetwork().getListeners()) {
+                listener.onShuntSusceptanceChange(this, b);
+            }
+        }
+    }
+
+    @Override
+    public double getG() {
+        return g;
+    }
+
+    @Override
+    public void setG(double g) {
+        this.g = g;
+    }
+
+    private static UnsupportedOperationException createUnsupportedForFixedShuntException() {
+        return new UnsupportedOperationException("Unsupported for a fixed shunt loaded from a snapshot");
+    }
+
+    @Override
+    public boolean hasVoltageControlCapability() {
+        return false;
+    }
+
+    @Override
+    public void setVoltageControlCapability(boolean voltageControlCapability) {
+        throw createUnsupportedForFixedShuntException();
+    }
+
+    @Override
+    public boolean isVoltageControlEnabled() {
+        return false;
+    }
+
+    @Override
+    public void setVoltageControlEnabled(boolean voltageControlEnabled) {
+        throw createUnsupportedForFixedShuntException();
+    }
+
+    @Override
+    public Optional<ShuntVoltageControl> getVoltageControl() {
+        return Optional.empty();
+    }
+
+    @Override
+    public void setVoltageControl(ShuntVoltageControl voltageControl) {
+        throw createUnsupportedForFixedShuntException();
+    }
+
+    @Override
+    public double dispatchB() {
+        throw createUnsupportedForFixedShuntException();
+    }
+
+    @Override
+    public void updateState(LfNetworkStateUpdateParameters parameters) {
+        // no IIDM shunt compensator to update
+    }
+
+    @Override
+    public void reInit() {
+        setB(initialB);
+        setG(initialG);
+    }
+
+    @Override
+    public List<Controller> getControllers() {
+        return Collections.emptyList();
+    }
+}
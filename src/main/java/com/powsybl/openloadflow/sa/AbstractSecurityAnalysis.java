@@ -107,6 +107,22 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
 
     protected abstract P createParameters(LoadFlowParameters lfParameters, OpenLoadFlowParameters lfParametersExt, boolean breakers, boolean areas);
 
+    private static void configureLimitsPreloading(AbstractLoadFlowParameters<?> parameters, OpenSecurityAnalysisParameters securityAnalysisParametersExt,
+                                                  List<LimitReduction> limitReductions) {
+        // when preloaded, limits are resolved while the network is loaded, so under the network lock in case of multi-threading
+        parameters.getNetworkParameters()
+                .setPreloadLimits(securityAnalysisParametersExt.isPreloadLimits())
+                .setLimitReductions(limitReductions);
+    }
+
+    /**
+     * Check if contingencies have to be split into partitions, each partition being simulated by a different thread
+     * on its own copy of the network.
+     */
+    protected boolean isContingencyPartitioning(OpenSecurityAnalysisParameters securityAnalysisParametersExt) {
+        return securityAnalysisParametersExt.getThreadCount() > 1;
+    }
+
     SecurityAnalysisReport runSync(SecurityAnalysisParameters securityAnalysisParameters, ContingenciesProvider contingenciesProvider,
                                    List<OperatorStrategy> operatorStrategies, List<Action> actions, List<LimitReduction> limitReductions,
                                    String workingVariantId, Executor executor) throws ExecutionException {
@@ -152,10 +168,11 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
 
         SecurityAnalysisResult finalResult;
 
-        if (securityAnalysisParametersExt.getThreadCount() == 1) {
+        if (!isContingencyPartitioning(securityAnalysisParametersExt)) {
             List<PropagatedContingency> propagatedContingencies = PropagatedContingency.createList(network, contingencies, topoConfig, creationParameters);
 
             var parameters = createParameters(lfParameters, lfParametersExt, topoConfig.isBreaker(), isAreaInterchangeControl(lfParametersExt, contingencies));
+            configureLimitsPreloading(parameters, securityAnalysisParametersExt, limitReductions);
 
             // create networks including all necessary switches
             try (LfNetworkList lfNetworks = Networks.load(network, parameters.getNetworkParameters(), topoConfig, saReportNode)) {
@@ -215,6 +232,7 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
                             propagatedContingencies = PropagatedContingency.createList(network, contingenciesPartition, partitionTopoConfig, creationParameters);
 
                             parameters = createParameters(lfParameters, lfParametersExt, partitionTopoConfig.isBreaker(), isAreaInterchangeControl(lfParametersExt, contingencies));
+                            configureLimitsPreloading(parameters, securityAnalysisParametersExt, limitReductions);
 
                             // create networks including all necessary switches
                             lfNetworks = Networks.load(network, parameters.getNetworkParameters(), partitionTopoConfig, saReportNode);
@@ -687,7 +705,7 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
         Set<Action> neededActions = new HashSet<>(actionsById.size());
 
         // In MT the operator strategy check is performed before running the simulations
-        boolean checkOperatorStrategies = OpenSecurityAnalysisParameters.getOrDefault(securityAnalysisParameters).getThreadCount() == 1;
+        boolean checkOperatorStrategies = !isContingencyPartitioning(OpenSecurityAnalysisParameters.getOrDefault(securityAnalysisParameters));
 
         Map<String, List<OperatorStrategy>> operatorStrategiesByContingencyId =
                 indexOperatorStrategiesByContingencyId(propagatedContingencies, operatorStrategies, actionsById, neededActions,
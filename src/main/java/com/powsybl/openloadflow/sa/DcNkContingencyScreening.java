@@ -0,0 +1,333 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sa;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.math.matrix.MatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.dc.DcLoadFlowContext;
+import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
+import com.powsybl.openloadflow.dc.equations.AbstractClosedBranchDcFlowEquationTerm;
+import com.powsybl.openloadflow.dc.equations.DcEquationSystemCreationParameters;
+import com.powsybl.openloadflow.dc.fastdc.ComputedContingencyElement;
+import com.powsybl.openloadflow.dc.fastdc.ComputedElement;
+import com.powsybl.openloadflow.dc.fastdc.WoodburyEngine;
+import com.powsybl.openloadflow.equations.StatesMatrix;
+import com.powsybl.openloadflow.graph.EvenShiloachGraphDecrementalConnectivityFactory;
+import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.network.impl.LfNetworkList;
+import com.powsybl.openloadflow.network.impl.Networks;
+import com.powsybl.security.LimitViolation;
+import com.powsybl.security.SecurityAnalysisParameters;
+import com.powsybl.security.limitreduction.LimitReduction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static com.powsybl.openloadflow.dc.DcLoadFlowEngine.updateNetwork;
+
+/**
+ * DC screening of all the combinations of k branch outages among a set of outage candidates, typically all the N-2 of
+ * a set of critical branches, without creating a contingency per combination.
+ * <p>
+ * The network is loaded, the DC matrix factorized and the states of a +1 -1 injection on each outage candidate
+ * computed only once. Combinations are then enumerated lazily and each one is evaluated with a {@link WoodburyEngine}
+ * on these single outage states. Combinations splitting the main connected component are skipped.
+ * <p>
+ * Before evaluating the flows of all the monitored branches, a combination is pruned with a bound computed from the
+ * line outage distribution factors (LODF): for each outage candidate o, the largest ratio over the monitored branches m
+ * of |LODF(m, o)| to the margin of m (its active power threshold minus its pre-contingency flow) is computed once.
+ * As the post-contingency flow of m is its pre-contingency flow plus the sum over the outages o of LODF(m, o) times
+ * the flow of o after the other outages of the combination, if the sum over the outages of the ratio times the
+ * absolute value of this flow is lower than 1, no monitored branch can exceed its threshold. Only branches already
+ * violated in the pre-contingency state, which have no margin, are then evaluated.
+ * <p>
+ * When a combination loses a phase shifter, its phase shift, which is not a +1 -1 injection, is removed by computing
+ * again the pre-contingency states with the phase shift of the lost transformers set to zero, as in the security
+ * analysis. These combinations are not pruned, as the margins refer to the base pre-contingency flows.
+ * <p>
+ * Only combinations with violations are reported, violations being filtered against pre-contingency ones as in the
+ * security analysis. Only the main connected component is computed, and only current and active power limits are
+ * checked, as reactive power flows are not computed in DC.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class DcNkContingencyScreening {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DcNkContingencyScreening.class);
+
+    /**
+     * A combination of outages with its post-contingency violations.
+     */
+    public record ViolatingCombination(List<String> outageBranchIds, List<LimitViolation> limitViolations) {
+    }
+
+    /**
+     * Counts of the enumerated combinations: pruned ones, ones splitting the main connected component which are not
+     * evaluated and violating ones.
+     */
+    public record Summary(long combinationCount, long prunedCombinationCount, long connectivityBreakingCombinationCount,
+                          long violatingCombinationCount) {
+    }
+
+    /**
+     * Pre-contingency states without the phase shift of a set of lost phase shifters, kept for the next combinations
+     * losing the same phase shifters.
+     */
+    private record PhaseShiftFreeStates(Set<LfBranch> lostPhaseControllers, DenseMatrix states,
+                                        WoodburyDcSecurityAnalysis.MonitoredBranches monitoredBranches) {
+    }
+
+    private final Network network;
+
+    private final MatrixFactory matrixFactory;
+
+    private final ReportNode reportNode;
+
+    public DcNkContingencyScreening(Network network, MatrixFactory matrixFactory, ReportNode reportNode) {
+        this.network = Objects.requireNonNull(network);
+        this.matrixFactory = Objects.requireNonNull(matrixFactory);
+        this.reportNode = Objects.requireNonNull(reportNode);
+    }
+
+    private DcLoadFlowParameters createParameters(LoadFlowParameters lfParameters) {
+        var dcParameters = OpenLoadFlowParameters.createDcParameters(network, lfParameters, OpenLoadFlowParameters.get(lfParameters),
+                                                                     matrixFactory, new EvenShiloachGraphDecrementalConnectivityFactory<>(), false);
+        dcParameters.getNetworkParameters()
+                .setCacheEnabled(false)
+                .setReferenceBusSelector(ReferenceBusSelector.DEFAULT_SELECTOR);
+        // needed an equation to force angle to zero when a PST is lost
+        dcParameters.getEquationSystemCreationParameters().setForcePhaseControlOffAndAddAngle1Var(true);
+        return dcParameters;
+    }
+
+    private static WoodburyDcSecurityAnalysis.MonitoredBranches filterMonitoredBranches(WoodburyDcSecurityAnalysis.MonitoredBranches monitoredBranches,
+                                                                                       boolean[] filter) {
+        List<LfBranch> branches = new ArrayList<>();
+        List<AbstractClosedBranchDcFlowEquationTerm> flowTerms = new ArrayList<>();
+        List<Double> preContingencyFlows = new ArrayList<>();
+        for (int i = 0; i < monitoredBranches.branches().size(); i++) {
+            if (filter[i]) {
+                branches.add(monitoredBranches.branches().get(i));
+                for (int side = 0; side < 2; side++) {
+                    flowTerms.add(monitoredBranches.flowTerms().get(2 * i + side));
+                    preContingencyFlows.add(monitoredBranches.preContingencyFlows()[2 * i + side]);
+                }
+            }
+        }
+        return new WoodburyDcSecurityAnalysis.MonitoredBranches(branches, flowTerms, preContingencyFlows.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    private PhaseShiftFreeStates calculatePhaseShiftFreeStates(DcLoadFlowContext context, Set<LfBranch> lostPhaseControllers,
+                                                               double[] preContingencyStates,
+                                                               WoodburyDcSecurityAnalysis.MonitoredBranches monitoredBranches) {
+        double[] states = WoodburyEngine.runDcLoadFlowWithModifiedTargetVector(context, new DisabledNetwork(Collections.emptySet(), lostPhaseControllers), reportNode);
+        DenseMatrix deltaStates = new DenseMatrix(states.length, 1);
+        for (int row = 0; row < states.length; row++) {
+            deltaStates.set(row, 0, states[row] - preContingencyStates[row]);
+        }
+        // flows are affine in the states
+        double[] flows = monitoredBranches.preContingencyFlows().clone();
+        for (int i = 0; i < flows.length; i++) {
+            flows[i] += monitoredBranches.flowTerms().get(i).calculateSensi(deltaStates, 0);
+        }
+        return new PhaseShiftFreeStates(lostPhaseControllers, new DenseMatrix(states.length, 1, states),
+                                        new WoodburyDcSecurityAnalysis.MonitoredBranches(monitoredBranches.branches(), monitoredBranches.flowTerms(), flows));
+    }
+
+    /**
+     * Move to the next combination of k indexes among n in lexicographic order, returns false if it was the last one.
+     */
+    private static boolean nextCombination(int[] combination, int n) {
+        int k = combination.length;
+        int i = k - 1;
+        while (i >= 0 && combination[i] == n - k + i) {
+            i--;
+        }
+        if (i < 0) {
+            return false;
+        }
+        combination[i]++;
+        for (int j = i + 1; j < k; j++) {
+            combination[j] = combination[j - 1] + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Screen all the combinations of k outages among the outage candidates.
+     *
+     * @param outageBranchIds ids of the outage candidate branches
+     * @param k number of outages of a combination
+     * @param violatingCombinationConsumer consumer of the violating combinations, called in lexicographic order of
+     *                                     the outage candidates indexes
+     */
+    public Summary run(List<String> outageBranchIds, int k, SecurityAnalysisParameters securityAnalysisParameters,
+                       List<LimitReduction> limitReductions, Consumer<ViolatingCombination> violatingCombinationConsumer) {
+        return run(outageBranchIds, k, securityAnalysisParameters, limitReductions, violatingCombinationConsumer, null);
+    }
+
+    /**
+     * Same as {@link #run(List, int, SecurityAnalysisParameters, List, Consumer)}, the outage branch ids of the pruned
+     * combinations being also given to a consumer, if not null.
+     */
+    Summary run(List<String> outageBranchIds, int k, SecurityAnalysisParameters securityAnalysisParameters,
+                List<LimitReduction> limitReductions, Consumer<ViolatingCombination> violatingCombinationConsumer,
+                Consumer<List<String>> prunedCombinationConsumer) {
+        Objects.requireNonNull(outageBranchIds);
+        Objects.requireNonNull(securityAnalysisParameters);
+        Objects.requireNonNull(limitReductions);
+        Objects.requireNonNull(violatingCombinationConsumer);
+        List<String> candidateIds = List.copyOf(new LinkedHashSet<>(outageBranchIds));
+        if (k < 1 || k > candidateIds.size()) {
+            throw new IllegalArgumentException("Invalid combination order " + k + " for " + candidateIds.size() + " outage candidates");
+        }
+
+        DcLoadFlowParameters dcParameters = createParameters(securityAnalysisParameters.getLoadFlowParameters());
+        LfNetwork lfNetwork;
+        try (LfNetworkList lfNetworks = Networks.load(network, dcParameters.getNetworkParameters(), new LfTopoConfig(), reportNode)) {
+            lfNetwork = lfNetworks.getLargest().orElseThrow(() -> new PowsyblException("Empty network"));
+        }
+        if (lfNetwork.getValidity() != LfNetwork.Validity.VALID) {
+            throw new PowsyblException("Main connected component of network '" + network.getId() + "' is not valid");
+        }
+
+        try (DcLoadFlowContext context = new DcLoadFlowContext(lfNetwork, dcParameters, false)) {
+            List<ComputedContingencyElement> elements = new ArrayList<>(candidateIds.size());
+            for (String id : candidateIds) {
+                LfBranch branch = lfNetwork.getBranchById(id);
+                if (branch == null || branch.getBus1() == null || branch.getBus2() == null) {
+                    throw new PowsyblException("Branch '" + id + "' not found or not connected on both sides");
+                }
+                elements.add(new ComputedContingencyElement(new BranchContingency(id), lfNetwork, context.getEquationSystem()));
+            }
+            ComputedElement.setComputedElementIndexes(elements);
+
+            // pre-contingency states and violations
+            double[] preContingencyStates = WoodburyEngine.runDcLoadFlowWithModifiedTargetVector(context, new DisabledNetwork(), reportNode);
+            context.getEquationSystem().getStateVector().set(preContingencyStates);
+            updateNetwork(lfNetwork, context.getEquationSystem(), preContingencyStates);
+            var preContingencyLimitViolationManager = new LimitViolationManager(limitReductions);
+            preContingencyLimitViolationManager.detectViolations(lfNetwork);
+            DenseMatrix preContingencyStatesMatrix = new DenseMatrix(preContingencyStates.length, 1, preContingencyStates);
+
+            // single outage states
+            StatesMatrix contingenciesStates = StatesMatrix.of(ComputedElement.calculateElementsStates(context, elements));
+
+            // margins of the monitored branches, branches without margin being always evaluated
+            DcEquationSystemCreationParameters creationParameters = dcParameters.getEquationSystemCreationParameters();
+            double dcPowerFactor = creationParameters.getDcPowerFactor();
+            WoodburyDcSecurityAnalysis.MonitoredBranches monitoredBranches = WoodburyDcSecurityAnalysis.createMonitoredBranches(context, preContingencyLimitViolationManager);
+            int monitoredBranchCount = monitoredBranches.branches().size();
+            double[] margins = new double[monitoredBranchCount];
+            boolean[] noMargin = new boolean[monitoredBranchCount];
+            for (int m = 0; m < monitoredBranchCount; m++) {
+                margins[m] = preContingencyLimitViolationManager.getDcActivePowerThreshold(monitoredBranches.branches().get(m), dcPowerFactor)
+                        - Math.max(Math.abs(monitoredBranches.preContingencyFlows()[2 * m]), Math.abs(monitoredBranches.preContingencyFlows()[2 * m + 1]));
+                noMargin[m] = margins[m] <= 0;
+            }
+            WoodburyDcSecurityAnalysis.MonitoredBranches noMarginBranches = filterMonitoredBranches(monitoredBranches, noMargin);
+
+            // for each outage candidate, 1 - its own PTDF, to get its LODFs, and largest ratio of LODF to margin
+            double[] lodfDenominators = new double[elements.size()];
+            double[] lodfToMarginRatios = new double[elements.size()];
+            for (int o = 0; o < elements.size(); o++) {
+                ComputedContingencyElement element = elements.get(o);
+                lodfDenominators[o] = 1 - element.getLfBranchEquation().calculateSensi(contingenciesStates, element.getComputedElementIndex());
+                for (int m = 0; m < monitoredBranchCount; m++) {
+                    if (!noMargin[m]) {
+                        double ptdf = monitoredBranches.flowTerms().get(2 * m).calculateSensi(contingenciesStates, element.getComputedElementIndex());
+                        lodfToMarginRatios[o] = Math.max(lodfToMarginRatios[o], Math.abs(ptdf / lodfDenominators[o]) / margins[m]);
+                    }
+                }
+            }
+
+            long combinationCount = 0;
+            long prunedCombinationCount = 0;
+            long connectivityBreakingCombinationCount = 0;
+            long violatingCombinationCount = 0;
+            int[] combination = new int[k];
+            for (int i = 0; i < k; i++) {
+                combination[i] = i;
+            }
+            List<ComputedContingencyElement> combinationElements = new ArrayList<>(k);
+            List<LfBranch> combinationBranches = new ArrayList<>(k);
+            PhaseShiftFreeStates phaseShiftFreeStates = null;
+            do {
+                combinationCount++;
+                combinationElements.clear();
+                combinationBranches.clear();
+                for (int o : combination) {
+                    combinationElements.add(elements.get(o));
+                    combinationBranches.add(elements.get(o).getLfBranch());
+                }
+                if (!lfNetwork.isConnectivityPreserved(combinationBranches)) {
+                    connectivityBreakingCombinationCount++;
+                    continue;
+                }
+
+                WoodburyEngine engine = new WoodburyEngine(creationParameters, combinationElements, contingenciesStates);
+                Set<LfBranch> lostPhaseControllers = combinationBranches.stream()
+                        .filter(LfBranch::hasPhaseControllerCapability)
+                        .collect(Collectors.toSet());
+                DenseMatrix flowStates = preContingencyStatesMatrix;
+                WoodburyDcSecurityAnalysis.MonitoredBranches evaluatedBranches = monitoredBranches;
+                if (lostPhaseControllers.isEmpty()) {
+                    // flow of each outage after the other outages of the combination is its alpha times 1 - its own PTDF
+                    double[] alphas = engine.calculateAlphas(preContingencyStatesMatrix, 0);
+                    double bound = 0;
+                    for (int i = 0; i < k; i++) {
+                        int o = combination[i];
+                        bound += lodfToMarginRatios[o] * Math.abs(alphas[i] * lodfDenominators[o]);
+                    }
+                    if (bound < 1) {
+                        prunedCombinationCount++;
+                        evaluatedBranches = noMarginBranches;
+                        if (prunedCombinationConsumer != null) {
+                            prunedCombinationConsumer.accept(Arrays.stream(combination).mapToObj(candidateIds::get).toList());
+                        }
+                    }
+                    if (evaluatedBranches.branches().isEmpty()) {
+                        continue;
+                    }
+                } else {
+                    if (phaseShiftFreeStates == null || !phaseShiftFreeStates.lostPhaseControllers().equals(lostPhaseControllers)) {
+                        phaseShiftFreeStates = calculatePhaseShiftFreeStates(context, lostPhaseControllers, preContingencyStates, monitoredBranches);
+                    }
+                    flowStates = phaseShiftFreeStates.states();
+                    evaluatedBranches = phaseShiftFreeStates.monitoredBranches();
+                }
+
+                double[] postContingencyFlows = engine.calculatePostContingencyFlows(flowStates, 0, evaluatedBranches.flowTerms(),
+                                                                                     evaluatedBranches.preContingencyFlows());
+                var postContingencyLimitViolationManager = new LimitViolationManager(preContingencyLimitViolationManager, limitReductions,
+                                                                                     securityAnalysisParameters.getIncreasedViolationsParameters());
+                WoodburyDcSecurityAnalysis.detectMonitoredBranchesViolations(evaluatedBranches, postContingencyFlows, new HashSet<>(combinationBranches),
+                                                                             dcPowerFactor, postContingencyLimitViolationManager);
+                List<LimitViolation> limitViolations = postContingencyLimitViolationManager.getLimitViolations();
+                if (!limitViolations.isEmpty()) {
+                    violatingCombinationCount++;
+                    List<String> ids = Arrays.stream(combination).mapToObj(candidateIds::get).toList();
+                    violatingCombinationConsumer.accept(new ViolatingCombination(ids, limitViolations));
+                }
+            } while (nextCombination(combination, candidateIds.size()));
+
+            LOGGER.info("{} combinations of {} outages screened on network {}: {} pruned, {} breaking connectivity, {} violating",
+                    combinationCount, k, lfNetwork, prunedCombinationCount, connectivityBreakingCombinationCount, violatingCombinationCount);
+            return new Summary(combinationCount, prunedCombinationCount, connectivityBreakingCombinationCount, violatingCombinationCount);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.powsybl.openloadflow.util.Evaluable;
 import com.powsybl.openloadflow.util.PerUnit;
 import com.powsybl.security.*;
 import com.powsybl.security.limitreduction.LimitReduction;
+import net.jafama.FastMath;
 import org.apache.commons.lang3.function.TriFunction;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -157,6 +158,83 @@ public class LimitViolationManager {
         }
     }
 
+    /**
+     * Detect violation limits on one branch from given active power flows and currents, instead of evaluating them
+     * from the network state.
+     */
+    public void detectBranchViolations(LfBranch branch, double p1, double i1, double p2, double i2) {
+        Objects.requireNonNull(branch);
+        if (branch.getBus1() != null) {
+            detectBranchSideViolations(branch, branch.getBus1(), LfBranch::getLimits1, b -> () -> i1, b -> () -> p1,
+                    b -> FastMath.sqrt(p1 * p1 + b.getQ1().eval() * b.getQ1().eval()), TwoSides.ONE);
+        }
+
+        if (branch.getBus2() != null) {
+            detectBranchSideViolations(branch, branch.getBus2(), LfBranch::getLimits2, b -> () -> i2, b -> () -> p2,
+                    b -> FastMath.sqrt(p2 * p2 + b.getQ2().eval() * b.getQ2().eval()), TwoSides.TWO);
+        }
+    }
+
+    /**
+     * Check if a branch has current, active power or apparent power limits on at least one side.
+     */
+    /**
+     * Load all limits of a branch, on both sides, so that they can then be read concurrently, limits being lazily
+     * loaded and cached by branches.
+     */
+    public void preloadBranchLimits(LfBranch branch) {
+        Objects.requireNonNull(branch);
+        for (LimitType type : List.of(LimitType.CURRENT, LimitType.ACTIVE_POWER, LimitType.APPARENT_POWER)) {
+            if (branch.getBus1() != null) {
+                branch.getLimits1(type, limitReductionManager);
+            }
+            if (branch.getBus2() != null) {
+                branch.getLimits2(type, limitReductionManager);
+            }
+        }
+    }
+
+    public boolean hasBranchLimits(LfBranch branch) {
+        Objects.requireNonNull(branch);
+        for (LimitType type : List.of(LimitType.CURRENT, LimitType.ACTIVE_POWER, LimitType.APPARENT_POWER)) {
+            if (branch.getBus1() != null && !branch.getLimits1(type, limitReductionManager).isEmpty()
+                    || branch.getBus2() != null && !branch.getLimits2(type, limitReductionManager).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the smallest absolute active power flow, on any side of a branch, above which a current or active power
+     * violation can be detected in DC, currents being active power flows divided by the DC power factor. Apparent power
+     * limits are ignored as reactive power flows are not computed in DC. Infinity if the branch has no such limit.
+     */
+    public double getDcActivePowerThreshold(LfBranch branch, double dcPowerFactor) {
+        Objects.requireNonNull(branch);
+        double threshold = Double.POSITIVE_INFINITY;
+        if (branch.getBus1() != null) {
+            threshold = Math.min(threshold, getDcActivePowerThreshold(branch.getLimits1(LimitType.CURRENT, limitReductionManager),
+                                                                      branch.getLimits1(LimitType.ACTIVE_POWER, limitReductionManager), dcPowerFactor));
+        }
+        if (branch.getBus2() != null) {
+            threshold = Math.min(threshold, getDcActivePowerThreshold(branch.getLimits2(LimitType.CURRENT, limitReductionManager),
+                                                                      branch.getLimits2(LimitType.ACTIVE_POWER, limitReductionManager), dcPowerFactor));
+        }
+        return threshold;
+    }
+
+    private static double getDcActivePowerThreshold(List<LfBranch.LfLimit> currentLimits, List<LfBranch.LfLimit> activePowerLimits, double dcPowerFactor) {
+        double threshold = Double.POSITIVE_INFINITY;
+        for (LfBranch.LfLimit limit : currentLimits) {
+            threshold = Math.min(threshold, limit.getReducedValue() * dcPowerFactor);
+        }
+        for (LfBranch.LfLimit limit : activePowerLimits) {
+            threshold = Math.min(threshold, limit.getReducedValue());
+        }
+        return threshold;
+    }
+
     private static LimitViolation createLimitViolation(LfBranch branch, LfBranch.LfLimit temporaryLimit,
                                                        LimitViolationType type, double scale, double value,
                                                        TwoSides side) {
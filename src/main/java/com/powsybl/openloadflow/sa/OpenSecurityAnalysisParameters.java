@@ -30,6 +30,14 @@ public class OpenSecurityAnalysisParameters extends AbstractExtension<SecurityAn
 
     private String contingencyActivePowerLossDistribution = CONTINGENCY_ACTIVE_POWER_LOSS_DISTRIBUTION_DEFAULT_VALUE;
 
+    private boolean preloadLimits = PRELOAD_LIMITS_DEFAULT_VALUE;
+
+    private boolean dcFastModeMonitoredBranchesOnly = DC_FAST_MODE_MONITORED_BRANCHES_ONLY_DEFAULT_VALUE;
+
+    private boolean dcFastModeFloatContingencyStates = DC_FAST_MODE_FLOAT_CONTINGENCY_STATES_DEFAULT_VALUE;
+
+    private String dcFastModeDistributionFactorsDirectory = DC_FAST_MODE_DISTRIBUTION_FACTORS_DIRECTORY_DEFAULT_VALUE;
+
     public static final String CREATE_RESULT_EXTENSION_PARAM_NAME = "createResultExtension";
     public static final boolean CREATE_RESULT_EXTENSION_DEFAULT_VALUE = false;
     public static final String CONTINGENCY_PROPAGATION_PARAM_NAME = "contingencyPropagation";
@@ -40,11 +48,23 @@ public class OpenSecurityAnalysisParameters extends AbstractExtension<SecurityAn
     public static final boolean DC_FAST_MODE_DEFAULT_VALUE = false;
     public static final String CONTINGENCY_ACTIVE_POWER_LOSS_DISTRIBUTION_PARAM_NAME = "contingencyActivePowerLossDistribution";
     public static final String CONTINGENCY_ACTIVE_POWER_LOSS_DISTRIBUTION_DEFAULT_VALUE = "Default";
+    public static final String PRELOAD_LIMITS_PARAM_NAME = "preloadLimits";
+    public static final boolean PRELOAD_LIMITS_DEFAULT_VALUE = false;
+    public static final String DC_FAST_MODE_MONITORED_BRANCHES_ONLY_PARAM_NAME = "dcFastModeMonitoredBranchesOnly";
+    public static final boolean DC_FAST_MODE_MONITORED_BRANCHES_ONLY_DEFAULT_VALUE = false;
+    public static final String DC_FAST_MODE_FLOAT_CONTINGENCY_STATES_PARAM_NAME = "dcFastModeFloatContingencyStates";
+    public static final boolean DC_FAST_MODE_FLOAT_CONTINGENCY_STATES_DEFAULT_VALUE = false;
+    public static final String DC_FAST_MODE_DISTRIBUTION_FACTORS_DIRECTORY_PARAM_NAME = "dcFastModeDistributionFactorsDirectory";
+    public static final String DC_FAST_MODE_DISTRIBUTION_FACTORS_DIRECTORY_DEFAULT_VALUE = null;
     public static final List<String> SPECIFIC_PARAMETERS_NAMES = List.of(CREATE_RESULT_EXTENSION_PARAM_NAME,
             CONTINGENCY_PROPAGATION_PARAM_NAME,
             THREAD_COUNT_PARAM_NAME,
             DC_FAST_MODE_PARAM_NAME,
-            CONTINGENCY_ACTIVE_POWER_LOSS_DISTRIBUTION_PARAM_NAME);
+            CONTINGENCY_ACTIVE_POWER_LOSS_DISTRIBUTION_PARAM_NAME,
+            PRELOAD_LIMITS_PARAM_NAME,
+            DC_FAST_MODE_MONITORED_BRANCHES_ONLY_PARAM_NAME,
+            DC_FAST_MODE_FLOAT_CONTINGENCY_STATES_PARAM_NAME,
+            DC_FAST_MODE_DISTRIBUTION_FACTORS_DIRECTORY_PARAM_NAME);
 
     @Override
     public String getName() {
@@ -100,6 +120,42 @@ public class OpenSecurityAnalysisParameters extends AbstractExtension<SecurityAn
         return this;
     }
 
+    public boolean isPreloadLimits() {
+        return preloadLimits;
+    }
+
+    public OpenSecurityAnalysisParameters setPreloadLimits(boolean preloadLimits) {
+        this.preloadLimits = preloadLimits;
+        return this;
+    }
+
+    public boolean isDcFastModeMonitoredBranchesOnly() {
+        return dcFastModeMonitoredBranchesOnly;
+    }
+
+    public OpenSecurityAnalysisParameters setDcFastModeMonitoredBranchesOnly(boolean dcFastModeMonitoredBranchesOnly) {
+        this.dcFastModeMonitoredBranchesOnly = dcFastModeMonitoredBranchesOnly;
+        return this;
+    }
+
+    public boolean isDcFastModeFloatContingencyStates() {
+        return dcFastModeFloatContingencyStates;
+    }
+
+    public OpenSecurityAnalysisParameters setDcFastModeFloatContingencyStates(boolean dcFastModeFloatContingencyStates) {
+        this.dcFastModeFloatContingencyStates = dcFastModeFloatContingencyStates;
+        return this;
+    }
+
+    public String getDcFastModeDistributionFactorsDirectory() {
+        return dcFastModeDistributionFactorsDirectory;
+    }
+
+    public OpenSecurityAnalysisParameters setDcFastModeDistributionFactorsDirectory(String dcFastModeDistributionFactorsDirectory) {
+        this.dcFastModeDistributionFactorsDirectory = dcFastModeDistributionFactorsDirectory;
+        return this;
+    }
+
     public static OpenSecurityAnalysisParameters getOrDefault(SecurityAnalysisParameters parameters) {
         OpenSecurityAnalysisParameters parametersExt = parameters.getExtension(OpenSecurityAnalysisParameters.class);
         if (parametersExt == null) {
@@ -120,7 +176,11 @@ public class OpenSecurityAnalysisParameters extends AbstractExtension<SecurityAn
                         .setContingencyPropagation(config.getBooleanProperty(CONTINGENCY_PROPAGATION_PARAM_NAME, CONTINGENCY_PROPAGATION_DEFAULT_VALUE))
                         .setThreadCount(config.getIntProperty(THREAD_COUNT_PARAM_NAME, THREAD_COUNT_DEFAULT_VALUE))
                         .setDcFastMode(config.getBooleanProperty(DC_FAST_MODE_PARAM_NAME, DC_FAST_MODE_DEFAULT_VALUE))
-                        .setContingencyActivePowerLossDistribution(config.getStringProperty(CONTINGENCY_ACTIVE_POWER_LOSS_DISTRIBUTION_PARAM_NAME, CONTINGENCY_ACTIVE_POWER_LOSS_DISTRIBUTION_DEFAULT_VALUE)));
+                        .setContingencyActivePowerLossDistribution(config.getStringProperty(CONTINGENCY_ACTIVE_POWER_LOSS_DISTRIBUTION_PARAM_NAME, CONTINGENCY_ACTIVE_POWER_LOSS_DISTRIBUTION_DEFAULT_VALUE))
+                        .setPreloadLimits(config.getBooleanProperty(PRELOAD_LIMITS_PARAM_NAME, PRELOAD_LIMITS_DEFAULT_VALUE))
+                        .setDcFastModeMonitoredBranchesOnly(config.getBooleanProperty(DC_FAST_MODE_MONITORED_BRANCHES_ONLY_PARAM_NAME, DC_FAST_MODE_MONITORED_BRANCHES_ONLY_DEFAULT_VALUE))
+                        .setDcFastModeFloatContingencyStates(config.getBooleanProperty(DC_FAST_MODE_FLOAT_CONTINGENCY_STATES_PARAM_NAME, DC_FAST_MODE_FLOAT_CONTINGENCY_STATES_DEFAULT_VALUE))
+                        .setDcFastModeDistributionFactorsDirectory(config.getStringProperty(DC_FAST_MODE_DISTRIBUTION_FACTORS_DIRECTORY_PARAM_NAME, DC_FAST_MODE_DISTRIBUTION_FACTORS_DIRECTORY_DEFAULT_VALUE)));
         return parameters;
     }
 
@@ -140,6 +200,14 @@ public class OpenSecurityAnalysisParameters extends AbstractExtension<SecurityAn
                 .ifPresent(value -> this.setDcFastMode(Boolean.parseBoolean(value)));
         Optional.ofNullable(properties.get(CONTINGENCY_ACTIVE_POWER_LOSS_DISTRIBUTION_PARAM_NAME))
                 .ifPresent(this::setContingencyActivePowerLossDistribution);
+        Optional.ofNullable(properties.get(PRELOAD_LIMITS_PARAM_NAME))
+                .ifPresent(value -> this.setPreloadLimits(Boolean.parseBoolean(value)));
+        Optional.ofNullable(properties.get(DC_FAST_MODE_MONITORED_BRANCHES_ONLY_PARAM_NAME))
+                .ifPresent(value -> this.setDcFastModeMonitoredBranchesOnly(Boolean.parseBoolean(value)));
+        Optional.ofNullable(properties.get(DC_FAST_MODE_FLOAT_CONTINGENCY_STATES_PARAM_NAME))
+                .ifPresent(value -> this.setDcFastModeFloatContingencyStates(Boolean.parseBoolean(value)));
+        Optional.ofNullable(properties.get(DC_FAST_MODE_DISTRIBUTION_FACTORS_DIRECTORY_PARAM_NAME))
+                .ifPresent(this::setDcFastModeDistributionFactorsDirectory);
         return this;
     }
 }
@@ -11,6 +11,7 @@ import com.google.common.base.Stopwatch;
 import com.powsybl.action.Action;
 import com.powsybl.action.PhaseTapChangerTapPositionAction;
 import com.powsybl.commons.report.ReportNode;
+import com.powsybl.contingency.ContingenciesProvider;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.extensions.HvdcAngleDroopActivePowerControl;
@@ -21,10 +22,15 @@ import com.powsybl.math.matrix.MatrixFactory;
 import com.powsybl.openloadflow.OpenLoadFlowParameters;
 import com.powsybl.openloadflow.dc.DcLoadFlowContext;
 import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
+import com.powsybl.openloadflow.dc.equations.AbstractClosedBranchDcFlowEquationTerm;
+import com.powsybl.openloadflow.dc.equations.ClosedBranchSide1DcFlowEquationTerm;
+import com.powsybl.openloadflow.dc.equations.ClosedBranchSide2DcFlowEquationTerm;
+import com.powsybl.openloadflow.dc.equations.DcEquationSystemCreationParameters;
 import com.powsybl.openloadflow.dc.equations.DcEquationType;
 import com.powsybl.openloadflow.dc.equations.DcVariableType;
 import com.powsybl.openloadflow.dc.fastdc.*;
 import com.powsybl.openloadflow.equations.EquationSystem;
+import com.powsybl.openloadflow.equations.StatesMatrix;
 import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
 import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.network.action.AbstractLfTapChangerAction;
@@ -32,18 +38,23 @@ import com.powsybl.openloadflow.network.action.LfAction;
 import com.powsybl.openloadflow.network.action.LfActionUtils;
 import com.powsybl.openloadflow.network.impl.Networks;
 import com.powsybl.openloadflow.network.impl.PropagatedContingency;
+import com.powsybl.openloadflow.util.Lists2;
 import com.powsybl.openloadflow.util.PerUnit;
 import com.powsybl.openloadflow.util.Reports;
 import com.powsybl.security.LimitViolationsResult;
 import com.powsybl.security.PostContingencyComputationStatus;
 import com.powsybl.security.SecurityAnalysisParameters;
+import com.powsybl.security.SecurityAnalysisReport;
 import com.powsybl.security.SecurityAnalysisResult;
 import com.powsybl.security.limitreduction.LimitReduction;
 import com.powsybl.security.monitor.StateMonitor;
 import com.powsybl.security.results.*;
 import com.powsybl.security.strategy.OperatorStrategy;
 
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -56,6 +67,13 @@ import static com.powsybl.openloadflow.network.impl.PropagatedContingency.cleanC
  */
 public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
 
+    // true while contingencies are simulated on a single network, monitored branches only ones in parallel
+    private boolean sharedNetworkRun = false;
+
+    // during a shared network run, contingencies which have not been simulated because their simulation modifies the
+    // network, to be simulated afterward on several network copies, null if all contingencies are simulated
+    private Set<String> deferredContingencyIds;
+
     protected WoodburyDcSecurityAnalysis(Network network, MatrixFactory matrixFactory, GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory,
                                          List<StateMonitor> stateMonitors, ReportNode reportNode) {
         super(network, matrixFactory, connectivityFactory, stateMonitors, reportNode);
@@ -66,6 +84,77 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
         return Reports.createWoodburyDcSecurityAnalysis(reportNode, network.getId());
     }
 
+    @Override
+    protected boolean isContingencyPartitioning(OpenSecurityAnalysisParameters securityAnalysisParametersExt) {
+        return super.isContingencyPartitioning(securityAnalysisParametersExt) && !sharedNetworkRun;
+    }
+
+    /**
+     * In monitored branches only mode with several threads, contingencies are first simulated on a single network, so
+     * that the factorization and the contingency states are computed only once, contingencies evaluated on monitored
+     * branches only being processed in parallel. The other ones, whose simulation modifies the network (connectivity
+     * break, operator strategies...), are then simulated on one network copy per thread as usual.
+     */
+    @Override
+    SecurityAnalysisReport runSync(SecurityAnalysisParameters securityAnalysisParameters, ContingenciesProvider contingenciesProvider,
+                                   List<OperatorStrategy> operatorStrategies, List<Action> actions, List<LimitReduction> limitReductions,
+                                   String workingVariantId, Executor executor) throws ExecutionException {
+        OpenSecurityAnalysisParameters securityAnalysisParametersExt = OpenSecurityAnalysisParameters.getOrDefault(securityAnalysisParameters);
+        if (!securityAnalysisParametersExt.isDcFastModeMonitoredBranchesOnly() || securityAnalysisParametersExt.getThreadCount() == 1) {
+            return super.runSync(securityAnalysisParameters, contingenciesProvider, operatorStrategies, actions, limitReductions, workingVariantId, executor);
+        }
+
+        network.getVariantManager().setWorkingVariant(workingVariantId);
+        List<Contingency> contingencies = contingenciesProvider.getContingencies(network);
+
+        // results of a contingency on several components would have to be merged across the 2 runs, so in that case
+        // all contingencies are simulated on the shared network
+        boolean deferring = securityAnalysisParameters.getLoadFlowParameters().getConnectedComponentMode() == LoadFlowParameters.ConnectedComponentMode.MAIN;
+        SecurityAnalysisResult sharedNetworkResult;
+        Set<String> deferredIds = deferring ? new HashSet<>() : null;
+        sharedNetworkRun = true;
+        deferredContingencyIds = deferredIds;
+        try {
+            sharedNetworkResult = super.runSync(securityAnalysisParameters, n -> contingencies, operatorStrategies, actions, limitReductions,
+                    workingVariantId, executor).getResult();
+        } finally {
+            sharedNetworkRun = false;
+            deferredContingencyIds = null;
+        }
+        if (deferredIds == null || deferredIds.isEmpty()) {
+            return new SecurityAnalysisReport(sharedNetworkResult);
+        }
+
+        LOGGER.info("Simulating {} contingencies modifying the network on {} threads", deferredIds.size(), securityAnalysisParametersExt.getThreadCount());
+        List<Contingency> deferredContingencies = contingencies.stream().filter(c -> deferredIds.contains(c.getId())).toList();
+        List<OperatorStrategy> deferredOperatorStrategies = operatorStrategies.stream()
+                .filter(o -> deferredIds.contains(o.getContingencyContext().getContingencyId()))
+                .toList();
+        SecurityAnalysisResult deferredResult = super.runSync(securityAnalysisParameters, n -> deferredContingencies, deferredOperatorStrategies,
+                actions, limitReductions, workingVariantId, executor).getResult();
+
+        // post contingency results are sorted in contingencies order
+        Map<String, Integer> contingencyIndex = new HashMap<>(contingencies.size());
+        for (int i = 0; i < contingencies.size(); i++) {
+            contingencyIndex.put(contingencies.get(i).getId(), i);
+        }
+        List<PostContingencyResult> postContingencyResults = new ArrayList<>(sharedNetworkResult.getPostContingencyResults());
+        postContingencyResults.addAll(deferredResult.getPostContingencyResults());
+        postContingencyResults.sort(Comparator.comparingInt(result -> contingencyIndex.get(result.getContingency().getId())));
+        List<OperatorStrategyResult> operatorStrategyResults = new ArrayList<>(sharedNetworkResult.getOperatorStrategyResults());
+        operatorStrategyResults.addAll(deferredResult.getOperatorStrategyResults());
+        return new SecurityAnalysisReport(new SecurityAnalysisResult(sharedNetworkResult.getPreContingencyResult(), postContingencyResults,
+                operatorStrategyResults));
+    }
+
+    private boolean deferContingency(PropagatedContingency contingency) {
+        if (deferredContingencyIds == null) {
+            return false;
+        }
+        deferredContingencyIds.add(contingency.getContingency().getId());
+        return true;
+    }
+
     @Override
     protected DcLoadFlowParameters createParameters(LoadFlowParameters lfParameters, OpenLoadFlowParameters lfParametersExt, boolean breakers, boolean areas) {
         DcLoadFlowParameters dcParameters = super.createParameters(lfParameters, lfParametersExt, breakers, areas);
@@ -91,7 +180,7 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
      * If connectivity, a generator, a load or a phase tap changer is lost due to the contingency, the pre contingency flowStates are overridden.
      * @return the post contingency states for the contingency
      */
-    private double[] calculatePostContingencyStates(DcLoadFlowContext loadFlowContext, DenseMatrix contingenciesStates, double[] flowStates,
+    private double[] calculatePostContingencyStates(DcLoadFlowContext loadFlowContext, StatesMatrix contingenciesStates, double[] flowStates,
                                                     PropagatedContingency contingency, Map<String, ComputedContingencyElement> contingencyElementByBranch,
                                                     Set<LfBus> disabledBuses, Set<String> elementsToReconnect, Set<LfBranch> partialDisabledBranches, ReportNode reportNode) {
         return calculatePostContingencyAndOperatorStrategyStates(loadFlowContext, contingenciesStates, flowStates, contingency, contingencyElementByBranch, disabledBuses, elementsToReconnect,
@@ -104,7 +193,7 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
      * to reset active power flow of hvdc lines on which one bus is lost.
      * If connectivity, a generator, a load or a phase tap changer is lost/modified due to the contingency/operator strategy, the pre contingency flowStates are overridden.
      */
-    private double[] calculatePostContingencyAndOperatorStrategyStates(DcLoadFlowContext loadFlowContext, DenseMatrix contingenciesStates, double[] flowStates,
+    private double[] calculatePostContingencyAndOperatorStrategyStates(DcLoadFlowContext loadFlowContext, StatesMatrix contingenciesStates, double[] flowStates,
                                                                        PropagatedContingency contingency, Map<String, ComputedContingencyElement> contingencyElementByBranch,
                                                                        Set<LfBus> disabledBuses, Set<String> elementsToReconnect, Set<LfBranch> partialDisabledBranches,
                                                                        List<LfAction> operatorStrategyLfActions, Map<String, ComputedTapPositionChangeElement> tapPositionChangeElementByBranch,
@@ -161,7 +250,7 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
      * Calculate post contingency states for a contingency breaking connectivity.
      */
     private double[] calculatePostContingencyStatesForAContingencyBreakingConnectivity(ConnectivityBreakAnalysis.ConnectivityAnalysisResult connectivityAnalysisResult, DcLoadFlowContext loadFlowContext,
-                                                                                       Map<String, ComputedContingencyElement> contingencyElementByBranch, double[] flowStates, DenseMatrix contingenciesStates,
+                                                                                       Map<String, ComputedContingencyElement> contingencyElementByBranch, double[] flowStates, StatesMatrix contingenciesStates,
                                                                                        ReportNode reportNode) {
         return calculatePostContingencyAndOperatorStrategyStatesForAContingencyBreakingConnectivity(connectivityAnalysisResult, loadFlowContext, contingencyElementByBranch, flowStates,
                 contingenciesStates, Collections.emptyList(), Collections.emptyMap(), DenseMatrix.EMPTY, reportNode);
@@ -171,7 +260,7 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
      * Calculate post contingency and post operator strategy states, for a contingency breaking connectivity.
      */
     private double[] calculatePostContingencyAndOperatorStrategyStatesForAContingencyBreakingConnectivity(ConnectivityBreakAnalysis.ConnectivityAnalysisResult connectivityAnalysisResult, DcLoadFlowContext loadFlowContext,
-                                                                                                          Map<String, ComputedContingencyElement> contingencyElementByBranch, double[] flowStates, DenseMatrix contingenciesStates,
+                                                                                                          Map<String, ComputedContingencyElement> contingencyElementByBranch, double[] flowStates, StatesMatrix contingenciesStates,
                                                                                                           List<LfAction> operatorStrategyLfActions, Map<String, ComputedTapPositionChangeElement> tapPositionChangeElementByBranch, DenseMatrix actionsStates, ReportNode reportNode) {
 
         PropagatedContingency contingency = connectivityAnalysisResult.getPropagatedContingency();
@@ -191,6 +280,227 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
                 connectivityAnalysisResult.getPartialDisabledBranches(), operatorStrategyLfActions, tapPositionChangeElementByBranch, actionsStates, reportNode);
     }
 
+    /**
+     * Branches with limits, with their side 1 and side 2 flow equation terms interleaved and the pre-contingency values
+     * of these terms, to calculate post-contingency flows only where violations can be detected.
+     */
+    record MonitoredBranches(List<LfBranch> branches, List<AbstractClosedBranchDcFlowEquationTerm> flowTerms,
+                             double[] preContingencyFlows) {
+    }
+
+    /**
+     * A contingency to evaluate in monitored branches only mode, with the index of its result in the post contingency
+     * results.
+     */
+    private record MonitoredBranchesContingency(PropagatedContingency contingency, LfContingency lfContingency, int resultIndex) {
+    }
+
+    /**
+     * Line outage distribution factors of the monitored branches, in the same order, with the index of each outage
+     * branch.
+     */
+    private record MonitoredBranchesLodf(DcDistributionFactors factors, Map<String, Integer> outageBranchIndex) {
+    }
+
+    /**
+     * Open the LODF of the monitored branches for the single branch contingencies to evaluate, from the distribution
+     * factors store of the configured directory, so that they are only computed once for a given topology and
+     * selection, even across runs. Returns null if no directory is configured or if there is no single branch
+     * contingency.
+     */
+    private static DcDistributionFactors openDistributionFactors(DcLoadFlowContext loadFlowContext, MonitoredBranches monitoredBranches,
+                                                                 List<MonitoredBranchesContingency> monitoredBranchesContingencies,
+                                                                 OpenSecurityAnalysisParameters securityAnalysisParametersExt) {
+        String directory = securityAnalysisParametersExt.getDcFastModeDistributionFactorsDirectory();
+        if (directory == null) {
+            return null;
+        }
+        List<String> outageBranchIds = monitoredBranchesContingencies.stream()
+                .map(monitoredBranchesContingency -> monitoredBranchesContingency.contingency().getBranchIdsToOpen().keySet())
+                .filter(branchIds -> branchIds.size() == 1)
+                .map(branchIds -> branchIds.iterator().next())
+                .distinct()
+                .toList();
+        if (outageBranchIds.isEmpty()) {
+            return null;
+        }
+        List<String> monitoredBranchIds = monitoredBranches.branches().stream().map(LfBranch::getId).toList();
+        DcDistributionFactors.Precision precision = securityAnalysisParametersExt.isDcFastModeFloatContingencyStates()
+                ? DcDistributionFactors.Precision.FLOAT32 : DcDistributionFactors.Precision.FLOAT64;
+        return new DcDistributionFactorsStore(Path.of(directory), precision)
+                .getOrCompute(loadFlowContext, monitoredBranchIds, Collections.emptyList(), outageBranchIds);
+    }
+
+    private static MonitoredBranchesLodf createMonitoredBranchesLodf(DcDistributionFactors distributionFactors) {
+        if (distributionFactors == null) {
+            return null;
+        }
+        List<String> outageBranchIds = distributionFactors.getOutageBranchIds();
+        Map<String, Integer> outageBranchIndex = new HashMap<>(outageBranchIds.size());
+        for (int i = 0; i < outageBranchIds.size(); i++) {
+            outageBranchIndex.put(outageBranchIds.get(i), i);
+        }
+        return new MonitoredBranchesLodf(distributionFactors, outageBranchIndex);
+    }
+
+    /**
+     * Calculate post-contingency flows of the monitored branches for the outage of a single branch from its LODF: the
+     * side 1 flow of each monitored branch varies by its LODF times the pre-contingency side 1 flow of the outage
+     * branch, excluding its phase shift, and the side 2 flow by the opposite. Returns null if the outage branch LODF
+     * are not available.
+     */
+    private static double[] calculatePostContingencyFlows(MonitoredBranchesLodf lodf, String outageBranchId, ComputedContingencyElement outageElement,
+                                                          DenseMatrix preContingencyStates, MonitoredBranches monitoredBranches) {
+        Integer outageBranchIndex = lodf.outageBranchIndex().get(outageBranchId);
+        if (outageBranchIndex == null) {
+            return null;
+        }
+        double[] lodfColumn = lodf.factors().getLodfColumn(outageBranchIndex);
+        double outageFlow = outageElement.getLfBranchEquation().calculateSensi(preContingencyStates, 0);
+        double[] postContingencyFlows = monitoredBranches.preContingencyFlows().clone();
+        for (int i = 0; i < lodfColumn.length; i++) {
+            double flowVariation = lodfColumn[i] * outageFlow;
+            if (Double.isNaN(flowVariation)) {
+                // bridge, should not happen as connectivity is preserved
+                return null;
+            }
+            postContingencyFlows[2 * i] += flowVariation;
+            postContingencyFlows[2 * i + 1] -= flowVariation;
+        }
+        return postContingencyFlows;
+    }
+
+    static MonitoredBranches createMonitoredBranches(DcLoadFlowContext loadFlowContext, LimitViolationManager limitViolationManager) {
+        List<LfBranch> branches = new ArrayList<>();
+        List<AbstractClosedBranchDcFlowEquationTerm> flowTerms = new ArrayList<>();
+        for (LfBranch branch : loadFlowContext.getNetwork().getBranches()) {
+            if (branch.isDisabled() || branch.getBus1() == null || branch.getBus2() == null) {
+                continue;
+            }
+            // all limits are loaded here as hasBranchLimits stops at the first one found, and as contingencies may
+            // then be evaluated in parallel
+            limitViolationManager.preloadBranchLimits(branch);
+            if (!limitViolationManager.hasBranchLimits(branch)) {
+                continue;
+            }
+            var terms = loadFlowContext.getEquationSystem().getEquationTerms(ElementType.BRANCH, branch.getNum());
+            ClosedBranchSide1DcFlowEquationTerm p1 = terms.stream()
+                    .filter(ClosedBranchSide1DcFlowEquationTerm.class::isInstance)
+                    .map(ClosedBranchSide1DcFlowEquationTerm.class::cast)
+                    .findFirst().orElse(null);
+            ClosedBranchSide2DcFlowEquationTerm p2 = terms.stream()
+                    .filter(ClosedBranchSide2DcFlowEquationTerm.class::isInstance)
+                    .map(ClosedBranchSide2DcFlowEquationTerm.class::cast)
+                    .findFirst().orElse(null);
+            if (p1 != null && p2 != null) {
+                branches.add(branch);
+                flowTerms.add(p1);
+                flowTerms.add(p2);
+            }
+        }
+        // state vector contains pre-contingency states
+        double[] preContingencyFlows = flowTerms.stream().mapToDouble(AbstractClosedBranchDcFlowEquationTerm::eval).toArray();
+        return new MonitoredBranches(branches, flowTerms, preContingencyFlows);
+    }
+
+    /**
+     * Detect violations on monitored branches, except disabled ones, from their post-contingency flows, currents being
+     * deduced from active power flows with the DC power factor.
+     */
+    static void detectMonitoredBranchesViolations(MonitoredBranches monitoredBranches, double[] postContingencyFlows, Set<LfBranch> disabledBranches,
+                                                  double dcPowerFactor, LimitViolationManager limitViolationManager) {
+        for (int i = 0; i < monitoredBranches.branches().size(); i++) {
+            LfBranch branch = monitoredBranches.branches().get(i);
+            if (!disabledBranches.contains(branch)) {
+                double p1 = postContingencyFlows[2 * i];
+                double p2 = postContingencyFlows[2 * i + 1];
+                limitViolationManager.detectBranchViolations(branch, p1, Math.abs(p1) / dcPowerFactor, p2, Math.abs(p2) / dcPowerFactor);
+            }
+        }
+    }
+
+    /**
+     * Check if the post contingency result of a contingency can be computed only from the flows of the monitored
+     * branches: the contingency only opens branches on both sides, no phase tap changer is lost, no operator strategy
+     * is defined and no state monitor requests results for the contingency.
+     */
+    private boolean isMonitoredBranchesOnlyCompatible(PropagatedContingency contingency, Map<String, ComputedContingencyElement> contingencyElementByBranch,
+                                                      Map<String, List<OperatorStrategy>> operatorStrategiesByContingencyId) {
+        if (!contingency.getGeneratorIdsToLose().isEmpty()
+                || !contingency.getLoadIdsToLose().isEmpty()
+                || operatorStrategiesByContingencyId.containsKey(contingency.getContingency().getId())
+                || contingency.getBranchIdsToOpen().values().stream().anyMatch(status -> status != DisabledBranchStatus.BOTH_SIDES)) {
+            return false;
+        }
+        boolean lostPhaseController = contingency.getBranchIdsToOpen().keySet().stream()
+                .map(contingencyElementByBranch::get)
+                .map(ComputedContingencyElement::getLfBranch)
+                .anyMatch(LfBranch::hasPhaseControllerCapability);
+        if (lostPhaseController) {
+            return false;
+        }
+        StateMonitor stateMonitor = monitorIndex.getSpecificStateMonitors().getOrDefault(contingency.getContingency().getId(), monitorIndex.getAllStateMonitor());
+        return stateMonitor.getBranchIds().isEmpty()
+                && stateMonitor.getVoltageLevelIds().isEmpty()
+                && stateMonitor.getThreeWindingsTransformerIds().isEmpty();
+    }
+
+    /**
+     * Returns the post contingency result of a contingency, computing post contingency flows of monitored branches
+     * directly from pre-contingency flows and contingency elements sensitivities, without computing post contingency
+     * states nor modifying the network. For a single branch contingency, the LODF of the branch are used if available.
+     */
+    private PostContingencyResult computePostContingencyResultOnMonitoredBranches(DcLoadFlowContext loadFlowContext, PropagatedContingency contingency,
+                                                                                  LfContingency lfContingency, StatesMatrix contingenciesStates,
+                                                                                  Map<String, ComputedContingencyElement> contingencyElementByBranch,
+                                                                                  DenseMatrix preContingencyStates, MonitoredBranches monitoredBranches,
+                                                                                  MonitoredBranchesLodf lodf,
+                                                                                  LimitViolationManager preContingencyLimitViolationManager,
+                                                                                  SecurityAnalysisParameters.IncreasedViolationsParameters violationsParameters,
+                                                                                  List<LimitReduction> limitReductions) {
+        LfNetwork lfNetwork = loadFlowContext.getNetwork();
+        logPostContingencyStart(lfNetwork, lfContingency);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        Set<String> branchIds = contingency.getBranchIdsToOpen().keySet();
+        List<ComputedContingencyElement> contingencyElements = branchIds.stream()
+                .map(contingencyElementByBranch::get)
+                .toList();
+        DcEquationSystemCreationParameters creationParameters = loadFlowContext.getParameters().getEquationSystemCreationParameters();
+        double[] postContingencyFlows = null;
+        if (lodf != null && contingencyElements.size() == 1) {
+            postContingencyFlows = calculatePostContingencyFlows(lodf, branchIds.iterator().next(), contingencyElements.get(0),
+                    preContingencyStates, monitoredBranches);
+        }
+        if (postContingencyFlows == null) {
+            WoodburyEngine engine = new WoodburyEngine(creationParameters, contingencyElements, contingenciesStates);
+            postContingencyFlows = engine.calculatePostContingencyFlows(preContingencyStates, 0, monitoredBranches.flowTerms(),
+                    monitoredBranches.preContingencyFlows());
+        }
+
+        // detect violations
+        var postContingencyLimitViolationManager = new LimitViolationManager(preContingencyLimitViolationManager, limitReductions, violationsParameters);
+        detectMonitoredBranchesViolations(monitoredBranches, postContingencyFlows, lfContingency.getDisabledNetwork().getBranches(),
+                creationParameters.getDcPowerFactor(), postContingencyLimitViolationManager);
+
+        var connectivityResult = new ConnectivityResult(
+                lfContingency.getCreatedSynchronousComponentsCount(), 0,
+                lfContingency.getDisconnectedLoadActivePower() * PerUnit.SB,
+                lfContingency.getDisconnectedGenerationActivePower() * PerUnit.SB,
+                lfContingency.getDisconnectedElementIds());
+
+        stopwatch.stop();
+        logPostContingencyEnd(lfNetwork, lfContingency, stopwatch);
+
+        return new PostContingencyResult(contingency.getContingency(),
+                PostContingencyComputationStatus.CONVERGED,
+                new LimitViolationsResult(postContingencyLimitViolationManager.getLimitViolations()),
+                Collections.emptyList(),
+                Collections.emptyList(),
+                Collections.emptyList(),
+                connectivityResult);
+    }
+
     private void filterActions(List<Action> actions) {
         actions.stream()
                 .filter(action -> !(action instanceof PhaseTapChangerTapPositionAction))
@@ -382,11 +692,13 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
         filterActions(actions);
         Map<String, Action> actionsById = indexActionsById(actions);
         Set<Action> neededActions = new HashSet<>(actionsById.size());
+        OpenSecurityAnalysisParameters openSecurityAnalysisParameters = OpenSecurityAnalysisParameters.getOrDefault(securityAnalysisParameters);
+        // operator strategies are checked before partitioning, a partition only having a part of the contingencies
         Map<String, List<OperatorStrategy>> operatorStrategiesByContingencyId =
-                indexOperatorStrategiesByContingencyId(propagatedContingencies, operatorStrategies, actionsById, neededActions, true);
+                indexOperatorStrategiesByContingencyId(propagatedContingencies, operatorStrategies, actionsById, neededActions,
+                                                       !isContingencyPartitioning(openSecurityAnalysisParameters));
         Map<String, LfAction> lfActionById = createLfActions(lfNetwork, neededActions, network, dcParameters.getNetworkParameters()); // only convert needed actions
 
-        OpenSecurityAnalysisParameters openSecurityAnalysisParameters = OpenSecurityAnalysisParameters.getOrDefault(securityAnalysisParameters);
         boolean createResultExtension = openSecurityAnalysisParameters.isCreateResultExtension();
 
         try (DcLoadFlowContext context = new DcLoadFlowContext(lfNetwork, dcParameters, false)) {
@@ -425,7 +737,8 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
             preContingencyLimitViolationManager.detectViolations(lfNetwork);
 
             // compute states with +1 -1 to model the contingencies and run connectivity analysis
-            ConnectivityBreakAnalysis.ConnectivityBreakAnalysisResults connectivityBreakAnalysisResults = ConnectivityBreakAnalysis.run(context, propagatedContingencies);
+            ConnectivityBreakAnalysis.ConnectivityBreakAnalysisResults connectivityBreakAnalysisResults = ConnectivityBreakAnalysis.run(context, propagatedContingencies,
+                    null, openSecurityAnalysisParameters.isDcFastModeFloatContingencyStates());
 
             // compute states with +1 -1 to model the actions in Woodbury engine
             Map<String, ComputedTapPositionChangeElement> tapPositionChangeElementsByBranchId = createTapPositionChangeElementsIndexByBranchId(lfActionById, context.getEquationSystem());
@@ -437,8 +750,30 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
             List<PostContingencyResult> postContingencyResults = new ArrayList<>();
             List<OperatorStrategyResult> operatorStrategyResults = new ArrayList<>();
 
+            // in monitored branches only mode, post contingency flows are only computed on branches with limits
+            MonitoredBranches monitoredBranches = openSecurityAnalysisParameters.isDcFastModeMonitoredBranchesOnly() && lfNetwork.getVoltageAngleLimits().isEmpty()
+                    ? createMonitoredBranches(context, preContingencyLimitViolationManager)
+                    : null;
+            DenseMatrix preContingencyStatesMatrix = new DenseMatrix(preContingencyStates.length, 1, preContingencyStates.clone());
+
+            List<MonitoredBranchesContingency> monitoredBranchesContingencies = new ArrayList<>();
+
             LOGGER.info("Processing post contingency results for contingencies with no connectivity break");
             connectivityBreakAnalysisResults.nonBreakingConnectivityContingencies().forEach(nonBreakingConnectivityContingency -> {
+                if (monitoredBranches != null && isMonitoredBranchesOnlyCompatible(nonBreakingConnectivityContingency,
+                        connectivityBreakAnalysisResults.contingencyElementByBranch(), operatorStrategiesByContingencyId)) {
+                    // lf contingency creation relies on network connectivity so it is done here, but the result is
+                    // computed later as it can be done in parallel, a place is reserved to keep results order
+                    nonBreakingConnectivityContingency.toLfContingency(lfNetwork, false).ifPresent(lfContingency -> {
+                        lfNetwork.setReportNode(Reports.createPostContingencySimulation(lfNetwork.getReportNode(), nonBreakingConnectivityContingency.getContingency().getId()));
+                        monitoredBranchesContingencies.add(new MonitoredBranchesContingency(nonBreakingConnectivityContingency, lfContingency, postContingencyResults.size()));
+                        postContingencyResults.add(null);
+                    });
+                    return;
+                }
+                if (deferContingency(nonBreakingConnectivityContingency)) {
+                    return;
+                }
                 // supplier to compute post contingency states
                 Supplier<double[]> toPostContingencyStates = () -> calculatePostContingencyStates(context, connectivityBreakAnalysisResults.contingenciesStates(), workingContingencyStates,
                         nonBreakingConnectivityContingency, connectivityBreakAnalysisResults.contingencyElementByBranch(), Collections.emptySet(), Collections.emptySet(), Collections.emptySet(), reportNode);
@@ -458,10 +793,34 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
                         securityAnalysisParameters.getIncreasedViolationsParameters(), limitReductions, postContingencyResults, operatorStrategyResults);
             });
 
+            if (!monitoredBranchesContingencies.isEmpty()) {
+                // monitored branches only evaluation does not modify the network, the equation system nor the
+                // contingency elements, so contingencies can be evaluated in parallel sharing the same factorization
+                // and contingency states, each thread only allocating its own alphas and flows
+                LOGGER.info("Evaluating {} contingencies on monitored branches only on {} threads",
+                        monitoredBranchesContingencies.size(), openSecurityAnalysisParameters.getThreadCount());
+                try (DcDistributionFactors distributionFactors = openDistributionFactors(context, monitoredBranches, monitoredBranchesContingencies,
+                                                                                         openSecurityAnalysisParameters)) {
+                    MonitoredBranchesLodf lodf = createMonitoredBranchesLodf(distributionFactors);
+                    List<PostContingencyResult> monitoredBranchesResults = Lists2.parallelMap(monitoredBranchesContingencies,
+                            monitoredBranchesContingency -> computePostContingencyResultOnMonitoredBranches(context, monitoredBranchesContingency.contingency(),
+                                    monitoredBranchesContingency.lfContingency(), connectivityBreakAnalysisResults.contingenciesStates(),
+                                    connectivityBreakAnalysisResults.contingencyElementByBranch(), preContingencyStatesMatrix, monitoredBranches, lodf,
+                                    preContingencyLimitViolationManager, securityAnalysisParameters.getIncreasedViolationsParameters(), limitReductions),
+                            openSecurityAnalysisParameters.getThreadCount());
+                    for (int i = 0; i < monitoredBranchesContingencies.size(); i++) {
+                        postContingencyResults.set(monitoredBranchesContingencies.get(i).resultIndex(), monitoredBranchesResults.get(i));
+                    }
+                }
+            }
+
             LOGGER.info("Processing post contingency results for contingencies breaking connectivity");
             connectivityBreakAnalysisResults.connectivityAnalysisResults()
                     .forEach(connectivityAnalysisResult -> {
                         PropagatedContingency breakingConnectivityContingency = connectivityAnalysisResult.getPropagatedContingency();
+                        if (deferContingency(breakingConnectivityContingency)) {
+                            return;
+                        }
                         // supplier to compute post contingency states
                         // no need to distribute active mismatch due to connectivity modifications
                         // this is handled when the slack is distributed in pre contingency states override
@@ -39,6 +39,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -380,6 +381,10 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
             return weightedVariableElements.keySet();
         }
 
+        protected Set<String> getOriginalVariableSetIds() {
+            return originalVariableSetIds;
+        }
+
         @Override
         public boolean isVariableConnectedToSlackComponent(DisabledNetwork disabledNetwork) {
             for (LfElement lfElement : getVariableElements()) {
@@ -717,11 +722,37 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
      */
     protected SensitivityFactorHolder<V, E> writeInvalidFactors(SensitivityFactorHolder<V, E> factorHolder, SensitivityResultWriter resultWriter,
                                                                 List<PropagatedContingency> contingencies) {
-        Set<String> skippedVariables = new LinkedHashSet<>();
         SensitivityFactorHolder<V, E> validFactorHolder = new SensitivityFactorHolder<>();
-        Map<String, Integer> contingencyIndexById = new HashMap<>();
-        contingencies.stream().forEach(contingency -> contingencyIndexById.put(contingency.getContingency().getId(), contingency.getIndex()));
-        for (var factor : factorHolder.getAllFactors()) {
+        InvalidFactorWriter invalidFactorWriter = new InvalidFactorWriter(resultWriter, contingencies, validFactorHolder::addFactor);
+        factorHolder.getAllFactors().forEach(invalidFactorWriter);
+        invalidFactorWriter.logSkippedVariables();
+        return validFactorHolder;
+    }
+
+    /**
+     * Same as {@link #writeInvalidFactors(SensitivityFactorHolder, SensitivityResultWriter, List)} but factor by factor,
+     * so that factors can be filtered while being read: zero and skip factors are written to output and other valid
+     * ones are sent to a consumer.
+     */
+    protected class InvalidFactorWriter implements Consumer<LfSensitivityFactor<V, E>> {
+
+        private final SensitivityResultWriter resultWriter;
+
+        private final Consumer<LfSensitivityFactor<V, E>> validFactorConsumer;
+
+        private final Map<String, Integer> contingencyIndexById = new HashMap<>();
+
+        private final Set<String> skippedVariables = new LinkedHashSet<>();
+
+        protected InvalidFactorWriter(SensitivityResultWriter resultWriter, List<PropagatedContingency> contingencies,
+                                      Consumer<LfSensitivityFactor<V, E>> validFactorConsumer) {
+            this.resultWriter = Objects.requireNonNull(resultWriter);
+            this.validFactorConsumer = Objects.requireNonNull(validFactorConsumer);
+            contingencies.forEach(contingency -> contingencyIndexById.put(contingency.getContingency().getId(), contingency.getIndex()));
+        }
+
+        @Override
+        public void accept(LfSensitivityFactor<V, E> factor) {
             Optional<Double> sensitivityVariableToWrite = Optional.empty();
             if (factor.getStatus() == LfSensitivityFactor.Status.ZERO) {
                 // ZERO status is for factors where variable element is in the main connected component and reference element is not.
@@ -733,7 +764,7 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
                 sensitivityVariableToWrite = Optional.of(Double.NaN);
                 skippedVariables.add(factor.getVariableId());
             } else {
-                validFactorHolder.addFactor(factor);
+                validFactorConsumer.accept(factor);
             }
             if (sensitivityVariableToWrite.isPresent()) {
                 // directly write output for zero and invalid factors
@@ -748,11 +779,13 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
                 }
             }
         }
-        if (!skippedVariables.isEmpty() && LOGGER.isWarnEnabled()) {
-            LOGGER.warn("Skipping all factors with variables: '{}', as they cannot be found in the network",
-                    String.join(", ", skippedVariables));
+
+        protected void logSkippedVariables() {
+            if (!skippedVariables.isEmpty() && LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Skipping all factors with variables: '{}', as they cannot be found in the network",
+                        String.join(", ", skippedVariables));
+            }
         }
-        return validFactorHolder;
     }
 
     protected void checkContingencies(List<PropagatedContingency> contingencies) {
@@ -795,16 +828,6 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
         throw new PowsyblException("Branch, tie line, dangling line or leg of '" + branchId + NOT_FOUND);
     }
 
-    private static void checkBus(Network network, String busId, Map<String, Bus> busCache, boolean breakers) {
-        if (busCache.isEmpty()) {
-            Networks.getBuses(network, breakers).forEach(bus -> busCache.put(bus.getId(), bus));
-        }
-        Bus bus = busCache.get(busId);
-        if (bus == null) {
-            throw new PowsyblException("Bus '" + busId + NOT_FOUND);
-        }
-    }
-
     private static void checkPhaseShifter(Network network, String transformerId) {
         TwoWindingsTransformer twt = network.getTwoWindingsTransformer(transformerId);
         if (twt == null) {
@@ -857,6 +880,10 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
                     .collect(Collectors.toList());
         }
 
+        protected boolean hasFactorsForContingency(String contingencyId) {
+            return !commonFactors.isEmpty() || !additionalFactorsPerContingency.getOrDefault(contingencyId, Collections.emptyList()).isEmpty();
+        }
+
         protected List<LfSensitivityFactor<V, E>> getFactorsForBaseNetwork() {
             return Stream.concat(commonFactors.stream(), additionalFactorsNoContingency.stream())
                 .collect(Collectors.toList());
@@ -963,21 +990,169 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
         }
     }
 
+    /**
+     * Index of the network elements referenced by the factors. Factors being usually the product of a few functions by
+     * a few variables, each distinct function or variable id is checked and resolved only once, the IIDM lookups and
+     * topology visits being then replaced by a hash lookup per factor.
+     */
+    static class FactorElementIndex {
+
+        private final Network network;
+
+        private final LfNetwork lfNetwork;
+
+        private final boolean breakers;
+
+        private final InjectionVariableIdToBusIdCache injectionVariableIdToBusIdCache = new InjectionVariableIdToBusIdCache();
+
+        // bus id to bus, indexed in a single pass at first bus check
+        private final Map<String, Bus> busesById = new HashMap<>();
+
+        // branch id to branch, or to its 3 legs for a three windings transformer
+        private final Map<String, LfBranch[]> branchesById = new HashMap<>();
+
+        private final Map<SensitivityVariableType, Set<String>> checkedPhaseShifterIds = new EnumMap<>(SensitivityVariableType.class);
+
+        private final Map<String, Optional<LfElement>> busTargetVoltageElementsByVariableId = new HashMap<>();
+
+        private final Map<String, Pair<Map<LfElement, Double>, Set<String>>> hvdcInjectionsByVariableId = new HashMap<>();
+
+        FactorElementIndex(Network network, LfNetwork lfNetwork, boolean breakers) {
+            this.network = Objects.requireNonNull(network);
+            this.lfNetwork = Objects.requireNonNull(lfNetwork);
+            this.breakers = breakers;
+        }
+
+        private static LfBranch getConnectedBranch(LfBranch branch) {
+            return branch != null && branch.getBus1() != null && branch.getBus2() != null ? branch : null;
+        }
+
+        private LfBranch[] getBranchOrLegs(String branchId) {
+            LfBranch[] branches = branchesById.get(branchId);
+            if (branches == null) {
+                if (network.getThreeWindingsTransformer(branchId) != null) {
+                    branches = new LfBranch[] {lfNetwork.getBranchById(LfLegBranch.getId(branchId, 1)),
+                                               lfNetwork.getBranchById(LfLegBranch.getId(branchId, 2)),
+                                               lfNetwork.getBranchById(LfLegBranch.getId(branchId, 3))};
+                } else {
+                    branches = new LfBranch[] {checkAndGetBranchOrLeg(network, branchId, null, lfNetwork)};
+                }
+                branchesById.put(branchId, branches);
+            }
+            return branches;
+        }
+
+        /**
+         * Get the branch or the leg of a function, if connected on both sides, null otherwise.
+         */
+        LfBranch getConnectedBranchOrLeg(String branchId, SensitivityFunctionType functionType) {
+            LfBranch[] branches = getBranchOrLegs(branchId);
+            return getConnectedBranch(branches.length == 1 ? branches[0] : branches[getLegNumber(functionType) - 1]);
+        }
+
+        LfBranch getConnectedPhaseShifter(String transformerId, SensitivityVariableType variableType) {
+            Set<String> checkedIds = checkedPhaseShifterIds.computeIfAbsent(variableType, k -> new HashSet<>());
+            if (variableType == SensitivityVariableType.TRANSFORMER_PHASE) {
+                if (!checkedIds.contains(transformerId)) {
+                    checkPhaseShifter(network, transformerId);
+                    checkedIds.add(transformerId);
+                }
+                return getConnectedBranch(lfNetwork.getBranchById(transformerId));
+            } else {
+                if (!checkedIds.contains(transformerId)) {
+                    checkThreeWindingsTransformerPhaseShifter(network, transformerId, variableType);
+                    checkedIds.add(transformerId);
+                }
+                return getConnectedBranch(getBranchOrLegs(transformerId)[getLegNumber(variableType) - 1]);
+            }
+        }
+
+        void checkBus(String busId) {
+            if (busesById.isEmpty()) {
+                Networks.getBuses(network, breakers).forEach(bus -> busesById.put(bus.getId(), bus));
+            }
+            if (!busesById.containsKey(busId)) {
+                throw new PowsyblException("Bus '" + busId + NOT_FOUND);
+            }
+        }
+
+        String getInjectionBusId(String injectionId) {
+            return injectionVariableIdToBusIdCache.getBusId(network, injectionId, breakers);
+        }
+
+        LfBus getInjectionLfBus(String injectionId) {
+            String injectionBusId = getInjectionBusId(injectionId);
+            return injectionBusId != null ? lfNetwork.getBusById(injectionBusId) : null;
+        }
+
+        LfElement getBusTargetVoltageVariableElement(String variableId) {
+            return busTargetVoltageElementsByVariableId.computeIfAbsent(variableId,
+                    k -> Optional.ofNullable(findBusTargetVoltageVariableElement(network, k, breakers, lfNetwork)))
+                    .orElse(null);
+        }
+
+        /**
+         * Get the buses of both converter stations of an HVDC line, weighted by their active power setpoint multiplier,
+         * and the ids of the converter stations.
+         */
+        Pair<Map<LfElement, Double>, Set<String>> getHvdcInjections(String hvdcLineId) {
+            Pair<Map<LfElement, Double>, Set<String>> injections = hvdcInjectionsByVariableId.get(hvdcLineId);
+            if (injections == null) {
+                HvdcLine hvdcLine = network.getHvdcLine(hvdcLineId);
+                if (hvdcLine == null) {
+                    throw new PowsyblException("HVDC line '" + hvdcLineId + "' cannot be found in the network.");
+                }
+                Bus bus1 = Networks.getBus(hvdcLine.getConverterStation1().getTerminal(), breakers);
+                Bus bus2 = Networks.getBus(hvdcLine.getConverterStation2().getTerminal(), breakers);
+
+                // corresponds to an augmentation of +1 on the active power setpoint on each side on the HVDC line
+                // => we create a multi (bi) variables factor
+                Map<LfElement, Double> injectionLfBuses = new HashMap<>(2);
+                Set<String> originalVariableSetIds = new HashSet<>(2);
+                if (bus1 != null) {
+                    LfBus lfBus1 = lfNetwork.getBusById(bus1.getId());
+                    if (lfBus1 != null) {
+                        injectionLfBuses.put(lfBus1, HvdcConverterStations.getActivePowerSetpointMultiplier(hvdcLine.getConverterStation1()));
+                        originalVariableSetIds.add(hvdcLine.getConverterStation1().getId());
+                    }
+                }
+                if (bus2 != null) {
+                    LfBus lfBus2 = lfNetwork.getBusById(bus2.getId());
+                    if (lfBus2 != null) {
+                        injectionLfBuses.put(lfBus2, HvdcConverterStations.getActivePowerSetpointMultiplier(hvdcLine.getConverterStation2()));
+                        originalVariableSetIds.add(hvdcLine.getConverterStation2().getId());
+                    }
+                }
+                injections = Pair.of(injectionLfBuses, originalVariableSetIds);
+                hvdcInjectionsByVariableId.put(hvdcLineId, injections);
+            }
+            return injections;
+        }
+    }
+
     protected SensitivityFactorHolder<V, E> readAndCheckFactors(Network network, Map<String, SensitivityVariableSet> variableSetsById,
                                                              SensitivityFactorReader factorReader, LfNetwork lfNetwork, boolean breakers) {
         final SensitivityFactorHolder<V, E> factorHolder = new SensitivityFactorHolder<>();
+        readAndCheckFactors(network, variableSetsById, factorReader, lfNetwork, breakers, factorHolder::addFactor);
+        return factorHolder;
+    }
 
+    /**
+     * Read and check factors one by one, each factor being sent to a consumer as soon as created, so that the caller
+     * decides what is kept in memory.
+     */
+    protected void readAndCheckFactors(Network network, Map<String, SensitivityVariableSet> variableSetsById,
+                                       SensitivityFactorReader factorReader, LfNetwork lfNetwork, boolean breakers,
+                                       Consumer<LfSensitivityFactor<V, E>> factorConsumer) {
         final Map<String, Map<LfElement, Double>> injectionBusesByVariableId = new LinkedHashMap<>();
         final Map<String, Set<String>> originalVariableSetIdsByVariableId = new LinkedHashMap<>();
-        final Map<String, Bus> busCache = new HashMap<>();
-        InjectionVariableIdToBusIdCache injectionVariableIdToBusIdCache = new InjectionVariableIdToBusIdCache();
+        FactorElementIndex elementIndex = new FactorElementIndex(network, lfNetwork, breakers);
         int[] factorIndex = new int[1];
         factorReader.read((functionType, functionId, variableType, variableId, variableSet, contingencyContext) -> {
             if (variableSet) {
                 if (isActivePowerFunctionType(functionType)) {
                     if (variableType == SensitivityVariableType.INJECTION_ACTIVE_POWER) {
-                        LfBranch branch = checkAndGetBranchOrLeg(network, functionId, functionType, lfNetwork);
-                        LfElement functionElement = branch != null && branch.getBus1() != null && branch.getBus2() != null ? branch : null;
+                        LfElement functionElement = elementIndex.getConnectedBranchOrLeg(functionId, functionType);
                         Map<LfElement, Double> injectionLfBuses = injectionBusesByVariableId.get(variableId);
                         Set<String> originalVariableSetIds = originalVariableSetIdsByVariableId.get(variableId);
                         if (injectionLfBuses == null && originalVariableSetIds == null) {
@@ -991,8 +1166,7 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
                             }
                             List<String> skippedInjection = new ArrayList<>(set.getVariables().size());
                             for (WeightedSensitivityVariable variable : set.getVariables()) {
-                                String injectionBusId = injectionVariableIdToBusIdCache.getBusId(network, variable.getId(), breakers);
-                                LfBus injectionLfBus = injectionBusId != null ? lfNetwork.getBusById(injectionBusId) : null;
+                                LfBus injectionLfBus = elementIndex.getInjectionLfBus(variable.getId());
                                 if (injectionLfBus == null) {
                                     skippedInjection.add(variable.getId());
                                     continue;
@@ -1004,7 +1178,7 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
                                 LOGGER.warn("Injections {} cannot be found for glsk {} and will be ignored", String.join(", ", skippedInjection), variableId);
                             }
                         }
-                        factorHolder.addFactor(new MultiVariablesLfSensitivityFactor<>(factorIndex[0], variableId,
+                        factorConsumer.accept(new MultiVariablesLfSensitivityFactor<>(factorIndex[0], variableId,
                                     functionId, functionElement, functionType,
                                     injectionLfBuses, variableType, contingencyContext, originalVariableSetIds));
                     } else {
@@ -1015,107 +1189,64 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
                 }
             } else {
                 if (isActivePowerFunctionType(functionType) && variableType == SensitivityVariableType.HVDC_LINE_ACTIVE_POWER) {
-                    LfBranch branch = checkAndGetBranchOrLeg(network, functionId, functionType, lfNetwork);
-                    LfElement functionElement = branch != null && branch.getBus1() != null && branch.getBus2() != null ? branch : null;
-
-                    HvdcLine hvdcLine = network.getHvdcLine(variableId);
-                    if (hvdcLine == null) {
-                        throw new PowsyblException("HVDC line '" + variableId + "' cannot be found in the network.");
-                    }
-                    Bus bus1 = Networks.getBus(hvdcLine.getConverterStation1().getTerminal(), breakers);
-                    Bus bus2 = Networks.getBus(hvdcLine.getConverterStation2().getTerminal(), breakers);
-
-                    // corresponds to an augmentation of +1 on the active power setpoint on each side on the HVDC line
-                    // => we create a multi (bi) variables factor
-                    Map<LfElement, Double> injectionLfBuses = new HashMap<>(2);
-                    Set<String> originalVariableSetIds = new HashSet<>(2);
-                    if (bus1 != null) {
-                        LfBus lfBus1 = lfNetwork.getBusById(bus1.getId());
-                        if (lfBus1 != null) {
-                            injectionLfBuses.put(lfBus1, HvdcConverterStations.getActivePowerSetpointMultiplier(hvdcLine.getConverterStation1()));
-                            originalVariableSetIds.add(hvdcLine.getConverterStation1().getId());
-                        }
-                    }
-                    if (bus2 != null) {
-                        LfBus lfBus2 = lfNetwork.getBusById(bus2.getId());
-                        if (lfBus2 != null) {
-                            injectionLfBuses.put(lfBus2, HvdcConverterStations.getActivePowerSetpointMultiplier(hvdcLine.getConverterStation2()));
-                            originalVariableSetIds.add(hvdcLine.getConverterStation2().getId());
-                        }
-                    }
-
-                    factorHolder.addFactor(new MultiVariablesLfSensitivityFactor<>(factorIndex[0], variableId,
-                            functionId, functionElement, functionType, injectionLfBuses, variableType, contingencyContext, originalVariableSetIds));
+                    LfElement functionElement = elementIndex.getConnectedBranchOrLeg(functionId, functionType);
+                    Pair<Map<LfElement, Double>, Set<String>> hvdcInjections = elementIndex.getHvdcInjections(variableId);
+                    factorConsumer.accept(new MultiVariablesLfSensitivityFactor<>(factorIndex[0], variableId,
+                            functionId, functionElement, functionType, hvdcInjections.getLeft(), variableType, contingencyContext, hvdcInjections.getRight()));
                 } else {
                     LfElement functionElement;
                     LfElement variableElement;
                     if (isActivePowerFunctionType(functionType) || isCurrentFunctionType(functionType)) {
-                        LfBranch branch = checkAndGetBranchOrLeg(network, functionId, functionType, lfNetwork);
-                        functionElement = branch != null && branch.getBus1() != null && branch.getBus2() != null ? branch : null;
+                        functionElement = elementIndex.getConnectedBranchOrLeg(functionId, functionType);
                         switch (variableType) {
                             case INJECTION_ACTIVE_POWER, INJECTION_REACTIVE_POWER:
-                                String injectionBusId = injectionVariableIdToBusIdCache.getBusId(network, variableId, breakers);
-                                variableElement = injectionBusId != null ? lfNetwork.getBusById(injectionBusId) : null;
-                                break;
-                            case TRANSFORMER_PHASE:
-                                checkPhaseShifter(network, variableId);
-                                LfBranch twt = lfNetwork.getBranchById(variableId);
-                                variableElement = twt != null && twt.getBus1() != null && twt.getBus2() != null ? twt : null;
+                                variableElement = elementIndex.getInjectionLfBus(variableId);
                                 break;
-                            case TRANSFORMER_PHASE_1, TRANSFORMER_PHASE_2, TRANSFORMER_PHASE_3:
-                                checkThreeWindingsTransformerPhaseShifter(network, variableId, variableType);
-                                LfBranch leg = lfNetwork.getBranchById(LfLegBranch.getId(variableId, getLegNumber(variableType)));
-                                variableElement = leg != null && leg.getBus1() != null && leg.getBus2() != null ? leg : null;
+                            case TRANSFORMER_PHASE, TRANSFORMER_PHASE_1, TRANSFORMER_PHASE_2, TRANSFORMER_PHASE_3:
+                                variableElement = elementIndex.getConnectedPhaseShifter(variableId, variableType);
                                 break;
                             case BUS_TARGET_VOLTAGE:
-                                variableElement = findBusTargetVoltageVariableElement(network, variableId, breakers, lfNetwork);
+                                variableElement = elementIndex.getBusTargetVoltageVariableElement(variableId);
                                 break;
                             default:
                                 throw createVariableTypeNotSupportedWithFunctionTypeException(variableType, functionType);
                         }
                     } else if (functionType == SensitivityFunctionType.BUS_VOLTAGE) {
-                        checkBus(network, functionId, busCache, breakers);
+                        elementIndex.checkBus(functionId);
                         functionElement = lfNetwork.getBusById(functionId);
                         switch (variableType) {
                             case BUS_TARGET_VOLTAGE :
-                                variableElement = findBusTargetVoltageVariableElement(network, variableId, breakers, lfNetwork);
+                                variableElement = elementIndex.getBusTargetVoltageVariableElement(variableId);
                                 break;
                             case INJECTION_REACTIVE_POWER:
-                                String injectionBusId = injectionVariableIdToBusIdCache.getBusId(network, variableId, breakers);
-                                variableElement = injectionBusId != null ? lfNetwork.getBusById(injectionBusId) : null;
+                                variableElement = elementIndex.getInjectionLfBus(variableId);
                                 break;
                             default:
                                 throw createVariableTypeNotSupportedWithFunctionTypeException(variableType, functionType);
                         }
                     } else if (isReactivePowerFunctionType(functionType)) {
-                        LfBranch branch = checkAndGetBranchOrLeg(network, functionId, functionType, lfNetwork);
-                        functionElement = branch != null && branch.getBus1() != null && branch.getBus2() != null ? branch : null;
+                        functionElement = elementIndex.getConnectedBranchOrLeg(functionId, functionType);
                         if (variableType == SensitivityVariableType.BUS_TARGET_VOLTAGE) {
-                            variableElement = findBusTargetVoltageVariableElement(network, variableId, breakers, lfNetwork);
+                            variableElement = elementIndex.getBusTargetVoltageVariableElement(variableId);
                         } else {
                             throw createVariableTypeNotSupportedWithFunctionTypeException(variableType, functionType);
                         }
                     } else if (functionType == SensitivityFunctionType.BUS_REACTIVE_POWER) {
-                        String functionInjectionBusId = injectionVariableIdToBusIdCache.getBusId(network, functionId, breakers);
-                        functionElement = functionInjectionBusId != null ? lfNetwork.getBusById(functionInjectionBusId) : null;
+                        functionElement = elementIndex.getInjectionLfBus(functionId);
                         variableElement = switch (variableType) {
-                            case BUS_TARGET_VOLTAGE -> findBusTargetVoltageVariableElement(network, variableId, breakers, lfNetwork);
-                            case INJECTION_REACTIVE_POWER -> {
-                                String variableInjectionBusId = injectionVariableIdToBusIdCache.getBusId(network, variableId, breakers);
-                                yield variableInjectionBusId != null ? lfNetwork.getBusById(variableInjectionBusId) : null;
-                            }
+                            case BUS_TARGET_VOLTAGE -> elementIndex.getBusTargetVoltageVariableElement(variableId);
+                            case INJECTION_REACTIVE_POWER -> elementIndex.getInjectionLfBus(variableId);
                             default -> throw createVariableTypeNotSupportedWithFunctionTypeException(variableType, functionType);
                         };
                     } else {
                         throw createFunctionTypeNotSupportedException(functionType);
                     }
-                    factorHolder.addFactor(new SingleVariableLfSensitivityFactor<>(factorIndex[0], variableId,
+                    factorConsumer.accept(new SingleVariableLfSensitivityFactor<>(factorIndex[0], variableId,
                             functionId, functionElement, functionType, variableElement, variableType, contingencyContext));
                 }
             }
             factorIndex[0]++;
         });
-        return factorHolder;
     }
 
     protected static LfElement findBusTargetVoltageVariableElement(Network network, String variableId, boolean breakers,
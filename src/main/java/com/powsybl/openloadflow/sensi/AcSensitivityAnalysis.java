@@ -231,7 +231,9 @@ public class AcSensitivityAnalysis extends AbstractSensitivityAnalysis<AcVariabl
                 .setReferenceBusSelector(ReferenceBusSelector.DEFAULT_SELECTOR) // not supported yet
                 .setAreaInterchangeControlAreaType(lfParametersExt.getAreaInterchangeControlAreaType())
                 .setForceTargetQInReactiveLimits(lfParametersExt.isForceTargetQInReactiveLimits())
-                .setDisableInconsistentVoltageControls(lfParametersExt.isDisableInconsistentVoltageControls());
+                .setDisableInconsistentVoltageControls(lfParametersExt.isDisableInconsistentVoltageControls())
+                .setLoadingThreadCount(lfParametersExt.getNetworkLoadingThreadCount())
+                .setStateStore(lfParametersExt.isStateStore());
 
         // create networks including all necessary switches
         try (LfNetworkList lfNetworks = Networks.load(network, lfNetworkParameters, topoConfig, reportNode)) {
@@ -0,0 +1,266 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.sensitivity.SensitivityAnalysisResult;
+import com.powsybl.sensitivity.SensitivityResultWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static com.powsybl.openloadflow.sensi.BinarySensitivityResultWriter.*;
+
+/**
+ * Read back a file written by {@link BinarySensitivityResultWriter}. Values can either be streamed to another
+ * {@link SensitivityResultWriter} or accessed randomly, by value position or by factor and contingency indexes, through
+ * the runs of the file, values and runs being mapped so that nothing proportional to the value count is kept in memory.
+ * <p>
+ * Mappings cannot be released explicitly with a supported API, they are released by the garbage collector once the
+ * reader is closed and no more referenced.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class BinarySensitivityResultReader implements AutoCloseable {
+
+    private static final int MAPPING_RECORD_COUNT = 1 << 24;
+
+    /**
+     * Fixed size records of the file, mapped by chunks so that their count is not limited by the maximum size of a
+     * mapping.
+     */
+    private static final class MappedRecords {
+
+        private final long count;
+
+        private final int size;
+
+        private final MappedByteBuffer[] mappings;
+
+        private MappedRecords(FileChannel channel, long position, long count, int size) throws IOException {
+            this.count = count;
+            this.size = size;
+            int mappingCount = (int) ((count + MAPPING_RECORD_COUNT - 1) / MAPPING_RECORD_COUNT);
+            mappings = new MappedByteBuffer[mappingCount];
+            for (int i = 0; i < mappingCount; i++) {
+                long firstRecord = (long) i * MAPPING_RECORD_COUNT;
+                long mappingRecordCount = Math.min(MAPPING_RECORD_COUNT, count - firstRecord);
+                mappings[i] = channel.map(FileChannel.MapMode.READ_ONLY, position + firstRecord * size, mappingRecordCount * size);
+                mappings[i].order(BYTE_ORDER);
+            }
+        }
+
+        private MappedByteBuffer getMapping(long index) {
+            Objects.checkIndex(index, count);
+            return mappings[(int) (index / MAPPING_RECORD_COUNT)];
+        }
+
+        private int getOffset(long index) {
+            return (int) (index % MAPPING_RECORD_COUNT) * size;
+        }
+
+        private int getInt(long index, int fieldOffset) {
+            return getMapping(index).getInt(getOffset(index) + fieldOffset);
+        }
+
+        private long getLong(long index, int fieldOffset) {
+            return getMapping(index).getLong(getOffset(index) + fieldOffset);
+        }
+
+        private double getDouble(long index, int fieldOffset) {
+            return getMapping(index).getDouble(getOffset(index) + fieldOffset);
+        }
+    }
+
+    private final FileChannel channel;
+
+    private final long valueCount;
+
+    private MappedRecords values;
+
+    private MappedRecords runs;
+
+    private final Map<Integer, SensitivityAnalysisResult.Status> contingencyStatuses;
+
+    public BinarySensitivityResultReader(Path file) {
+        Objects.requireNonNull(file);
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+
+            ByteBuffer header = readFully(HEADER_SIZE, 0);
+            int magic = header.getInt();
+            int version = header.getInt();
+            if (magic != MAGIC) {
+                throw new PowsyblException("Not a binary sensitivity result file: " + file);
+            }
+            if (version != VERSION) {
+                throw new PowsyblException("Unsupported binary sensitivity result file version: " + version);
+            }
+            valueCount = header.getLong();
+            values = new MappedRecords(channel, HEADER_SIZE, valueCount, VALUE_SIZE);
+
+            long trailerPosition = HEADER_SIZE + valueCount * VALUE_SIZE;
+            int statusCount = readFully(Integer.BYTES, trailerPosition).getInt();
+            ByteBuffer statuses = readFully(statusCount * 2 * Integer.BYTES + Long.BYTES, trailerPosition + Integer.BYTES);
+            SensitivityAnalysisResult.Status[] allStatus = SensitivityAnalysisResult.Status.values();
+            contingencyStatuses = new LinkedHashMap<>(statusCount);
+            for (int i = 0; i < statusCount; i++) {
+                int contingencyIndex = statuses.getInt();
+                contingencyStatuses.put(contingencyIndex, allStatus[statuses.getInt()]);
+            }
+            long runCount = statuses.getLong();
+            long runsPosition = trailerPosition + Integer.BYTES + statusCount * 2L * Integer.BYTES + Long.BYTES;
+            runs = new MappedRecords(channel, runsPosition, runCount, RUN_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ByteBuffer readFully(int size, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(BYTE_ORDER);
+        long p = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, p);
+            if (read < 0) {
+                throw new PowsyblException("Truncated binary sensitivity result file");
+            }
+            p += read;
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    public long getValueCount() {
+        return valueCount;
+    }
+
+    public Map<Integer, SensitivityAnalysisResult.Status> getContingencyStatuses() {
+        return Collections.unmodifiableMap(contingencyStatuses);
+    }
+
+    private MappedRecords getValues() {
+        if (values == null) {
+            throw new IllegalStateException("Reader is closed");
+        }
+        return values;
+    }
+
+    public int getFactorIndex(long position) {
+        return getValues().getInt(position, 0);
+    }
+
+    public int getContingencyIndex(long position) {
+        return getValues().getInt(position, Integer.BYTES);
+    }
+
+    public double getValue(long position) {
+        return getValues().getDouble(position, 2 * Integer.BYTES);
+    }
+
+    public double getFunctionReference(long position) {
+        return getValues().getDouble(position, 2 * Integer.BYTES + Double.BYTES);
+    }
+
+    /**
+     * Stream all the values then all the contingency statuses to another writer, in writing order.
+     */
+    public void read(SensitivityResultWriter writer) {
+        Objects.requireNonNull(writer);
+        for (long position = 0; position < valueCount; position++) {
+            writer.writeSensitivityValue(getFactorIndex(position), getContingencyIndex(position), getValue(position), getFunctionReference(position));
+        }
+        for (Map.Entry<Integer, SensitivityAnalysisResult.Status> e : contingencyStatuses.entrySet()) {
+            writer.writeContingencyStatus(e.getKey(), e.getValue());
+        }
+    }
+
+    private static int compare(int contingencyIndex1, int factorIndex1, int contingencyIndex2, int factorIndex2) {
+        int c = Integer.compare(contingencyIndex1, contingencyIndex2);
+        return c != 0 ? c : Integer.compare(factorIndex1, factorIndex2);
+    }
+
+    /**
+     * Find the position of a factor in a run, factor indexes of a run being increasing.
+     */
+    private long findPosition(long run, int factorIndex) {
+        long low = runs.getLong(run, 3 * Integer.BYTES);
+        long high = low + runs.getLong(run, 3 * Integer.BYTES + Long.BYTES) - 1;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            int c = Integer.compare(getFactorIndex(middle), factorIndex);
+            if (c == 0) {
+                return middle;
+            } else if (c < 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the position of the value of a factor for a contingency (-1 for pre-contingency), or -1 if not found.
+     * The runs of the contingency starting before the factor are searched, it fails if a factor has several values
+     * for the same contingency.
+     */
+    public long findPosition(int factorIndex, int contingencyIndex) {
+        getValues();
+        // last run starting at or before the factor of the contingency
+        long low = 0;
+        long high = runs.count - 1;
+        long last = -1;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            if (compare(runs.getInt(middle, 0), runs.getInt(middle, Integer.BYTES), contingencyIndex, factorIndex) <= 0) {
+                last = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        long position = -1;
+        for (long run = last; run >= 0 && runs.getInt(run, 0) == contingencyIndex; run--) {
+            if (factorIndex <= runs.getInt(run, 2 * Integer.BYTES)) {
+                long runPosition = findPosition(run, factorIndex);
+                if (runPosition != -1) {
+                    if (position != -1) {
+                        throw new PowsyblException("Several values for factor " + factorIndex + " and contingency " + contingencyIndex);
+                    }
+                    position = runPosition;
+                }
+            }
+        }
+        return position;
+    }
+
+    public OptionalDouble findValue(int factorIndex, int contingencyIndex) {
+        long position = findPosition(factorIndex, contingencyIndex);
+        return position != -1 ? OptionalDouble.of(getValue(position)) : OptionalDouble.empty();
+    }
+
+    @Override
+    public void close() {
+        if (values == null) {
+            return;
+        }
+        values = null;
+        runs = null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
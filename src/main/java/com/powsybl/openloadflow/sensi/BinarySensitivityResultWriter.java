@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.sensitivity.SensitivityAnalysisResult;
+import com.powsybl.sensitivity.SensitivityResultWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * A sensitivity result writer that appends primitive records (factor index, contingency index, value, function reference)
+ * to a file, so that very large results can be written without creating any {@link com.powsybl.sensitivity.SensitivityValue}.
+ * Values are buffered by chunks of a fixed number of values, each full chunk being written to the file.
+ * <p>
+ * To find a value without any index in memory, values are grouped in runs of consecutive values of a same contingency
+ * with increasing factor indexes, which is the order values are written by the sensitivity analysis, so that there is
+ * usually a single run by contingency. Runs are stored in the trailer, sorted by contingency and first factor index.
+ * <p>
+ * File layout (little endian):
+ * <ul>
+ *     <li>header: magic (int), version (int), value count (long)</li>
+ *     <li>values: factor index (int), contingency index (int, -1 for pre-contingency), value (double), function reference (double)</li>
+ *     <li>trailer: contingency status count (int), then for each status: contingency index (int), status ordinal (int),
+ *     then run count (long), then for each run: contingency index (int), first factor index (int), last factor
+ *     index (int), first value position (long), value count (long)</li>
+ * </ul>
+ * The header value count and the trailer are only written on {@link #close()}. This writer is not thread safe.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class BinarySensitivityResultWriter implements SensitivityResultWriter, AutoCloseable {
+
+    static final int MAGIC = 0x4F4C4653; // "OLFS"
+
+    static final int VERSION = 2;
+
+    static final int HEADER_SIZE = 2 * Integer.BYTES + Long.BYTES;
+
+    static final int VALUE_SIZE = 2 * Integer.BYTES + 2 * Double.BYTES;
+
+    static final int RUN_SIZE = 3 * Integer.BYTES + 2 * Long.BYTES;
+
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    public static final int DEFAULT_CHUNK_VALUE_COUNT = 1 << 20;
+
+    private record Run(int contingencyIndex, int firstFactorIndex, int lastFactorIndex, long position, long valueCount) {
+    }
+
+    private static final Comparator<Run> RUN_COMPARATOR = Comparator.comparingInt(Run::contingencyIndex)
+            .thenComparingInt(Run::firstFactorIndex);
+
+    private final FileChannel channel;
+
+    private final ByteBuffer chunk;
+
+    private long valueCount = 0;
+
+    private final Map<Integer, SensitivityAnalysisResult.Status> contingencyStatuses = new LinkedHashMap<>();
+
+    private final List<Run> runs = new ArrayList<>();
+
+    // current run, not yet in the list
+    private int runContingencyIndex;
+
+    private int runFirstFactorIndex;
+
+    private int runLastFactorIndex;
+
+    private long runPosition;
+
+    private boolean closed = false;
+
+    public BinarySensitivityResultWriter(Path file) {
+        this(file, DEFAULT_CHUNK_VALUE_COUNT);
+    }
+
+    public BinarySensitivityResultWriter(Path file, int chunkValueCount) {
+        Objects.requireNonNull(file);
+        if (chunkValueCount <= 0 || (long) chunkValueCount * VALUE_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid chunk value count: " + chunkValueCount);
+        }
+        chunk = ByteBuffer.allocate(chunkValueCount * VALUE_SIZE).order(BYTE_ORDER);
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                       StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getValueCount() {
+        return valueCount;
+    }
+
+    private void writeChunk() {
+        chunk.flip();
+        long position = HEADER_SIZE + (valueCount - chunk.remaining() / VALUE_SIZE) * VALUE_SIZE;
+        try {
+            writeFully(chunk, position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        chunk.clear();
+    }
+
+    @Override
+    public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        if (valueCount == 0 || contingencyIndex != runContingencyIndex || factorIndex <= runLastFactorIndex) {
+            endRun();
+            runContingencyIndex = contingencyIndex;
+            runFirstFactorIndex = factorIndex;
+            runPosition = valueCount;
+        }
+        runLastFactorIndex = factorIndex;
+        chunk.putInt(factorIndex)
+                .putInt(contingencyIndex)
+                .putDouble(value)
+                .putDouble(functionReference);
+        valueCount++;
+        if (!chunk.hasRemaining()) {
+            writeChunk();
+        }
+    }
+
+    private void endRun() {
+        if (valueCount > runPosition) {
+            runs.add(new Run(runContingencyIndex, runFirstFactorIndex, runLastFactorIndex, runPosition, valueCount - runPosition));
+        }
+    }
+
+    @Override
+    public void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+        Objects.requireNonNull(status);
+        contingencyStatuses.put(contingencyIndex, status);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        writeChunk();
+        endRun();
+        // stable sort, so that runs of a same contingency and first factor stay in writing order
+        runs.sort(RUN_COMPARATOR);
+        long position = HEADER_SIZE + valueCount * VALUE_SIZE;
+        try (channel) {
+            ByteBuffer statuses = ByteBuffer.allocate(Integer.BYTES + contingencyStatuses.size() * 2 * Integer.BYTES + Long.BYTES).order(BYTE_ORDER);
+            statuses.putInt(contingencyStatuses.size());
+            for (Map.Entry<Integer, SensitivityAnalysisResult.Status> e : contingencyStatuses.entrySet()) {
+                statuses.putInt(e.getKey());
+                statuses.putInt(e.getValue().ordinal());
+            }
+            statuses.putLong(runs.size());
+            statuses.flip();
+            position += writeFully(statuses, position);
+
+            ByteBuffer runBuffer = ByteBuffer.allocate(Math.max(1, Math.min(runs.size(), chunk.capacity() / RUN_SIZE)) * RUN_SIZE).order(BYTE_ORDER);
+            for (Run r : runs) {
+                if (!runBuffer.hasRemaining()) {
+                    runBuffer.flip();
+                    position += writeFully(runBuffer, position);
+                    runBuffer.clear();
+                }
+                runBuffer.putInt(r.contingencyIndex())
+                        .putInt(r.firstFactorIndex())
+                        .putInt(r.lastFactorIndex())
+                        .putLong(r.position())
+                        .putLong(r.valueCount());
+            }
+            runBuffer.flip();
+            writeFully(runBuffer, position);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+            header.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putLong(valueCount)
+                    .flip();
+            writeFully(header, 0);
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long writeFully(ByteBuffer buffer, long position) throws IOException {
+        long p = position;
+        while (buffer.hasRemaining()) {
+            p += channel.write(buffer, p);
+        }
+        return p - position;
+    }
+}
@@ -0,0 +1,261 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.openloadflow.equations.Quantity;
+import com.powsybl.openloadflow.network.LfElement;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.sensi.AbstractSensitivityAnalysis.LfSensitivityFactor;
+import com.powsybl.openloadflow.sensi.AbstractSensitivityAnalysis.MultiVariablesLfSensitivityFactor;
+import com.powsybl.openloadflow.sensi.AbstractSensitivityAnalysis.SingleVariableLfSensitivityFactor;
+import com.powsybl.sensitivity.SensitivityFunctionType;
+import com.powsybl.sensitivity.SensitivityVariableType;
+import gnu.trove.list.array.TByteArrayList;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.*;
+
+/**
+ * A factor holder for very large factor sets, that only keeps in memory a compact representation of each factor: its
+ * index, its function type, the num of its function element and the index of its variable. The variable elements are
+ * shared by all the factors of a same variable, through the first factor read for this variable, called its prototype.
+ * <p>
+ * Factors are created on the fly at first access of a list returned by this holder, and then kept by this list, so the
+ * lists are expected to be short-lived (one contingency) and factors must not be identified by reference across lists,
+ * only by index. Factor groups have to be created from the prototypes, see {@link #getVariablePrototypes()}, so that
+ * factors created on the fly are attached to them.
+ * <p>
+ * The function id is the main original id of the function element, so the IIDM id of a three windings transformer for
+ * its legs, the leg being given by the function type. Only the few function ids that cannot be found this way are
+ * kept.
+ * <p>
+ * Only factors with a function element can be added, zero and skip factors have to be written before.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class CompactSensitivityFactorHolder<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity>
+        extends AbstractSensitivityAnalysis.SensitivityFactorHolder<V, E> {
+
+    private static final SensitivityFunctionType[] FUNCTION_TYPES = SensitivityFunctionType.values();
+
+    private final LfNetwork lfNetwork;
+
+    private final List<LfSensitivityFactor<V, E>> variablePrototypes = new ArrayList<>();
+
+    private final Map<Pair<SensitivityVariableType, String>, Integer> variableIndexByKey = new HashMap<>();
+
+    // compact factors, indexed by position
+    private final TIntArrayList factorIndexes = new TIntArrayList();
+
+    private final TByteArrayList functionTypes = new TByteArrayList();
+
+    private final TIntArrayList functionElementNums = new TIntArrayList();
+
+    private final TIntArrayList variableIndexes = new TIntArrayList();
+
+    // function ids which are not the main original id of the function element, by position
+    private final TIntObjectHashMap<String> functionIds = new TIntObjectHashMap<>();
+
+    // positions of the factors by contingency context
+    private final TIntArrayList commonPositions = new TIntArrayList();
+
+    private final TIntArrayList noContingencyPositions = new TIntArrayList();
+
+    private final Map<String, TIntArrayList> positionsPerContingency = new LinkedHashMap<>();
+
+    CompactSensitivityFactorHolder(LfNetwork lfNetwork) {
+        this.lfNetwork = Objects.requireNonNull(lfNetwork);
+    }
+
+    /**
+     * The first factor read for each variable.
+     */
+    List<LfSensitivityFactor<V, E>> getVariablePrototypes() {
+        return variablePrototypes;
+    }
+
+    int size() {
+        return factorIndexes.size();
+    }
+
+    @Override
+    protected void addFactor(LfSensitivityFactor<V, E> factor) {
+        LfElement functionElement = factor.getFunctionElement();
+        if (functionElement == null) {
+            throw new IllegalArgumentException("Factor " + factor.getIndex() + " has no function element");
+        }
+        int variableIndex = variableIndexByKey.computeIfAbsent(Pair.of(factor.getVariableType(), factor.getVariableId()), k -> {
+            variablePrototypes.add(factor);
+            return variablePrototypes.size() - 1;
+        });
+
+        int position = factorIndexes.size();
+        factorIndexes.add(factor.getIndex());
+        functionTypes.add((byte) factor.getFunctionType().ordinal());
+        functionElementNums.add(functionElement.getNum());
+        variableIndexes.add(variableIndex);
+        if (!factor.getFunctionId().equals(functionElement.getMainOriginalId())) {
+            functionIds.put(position, factor.getFunctionId());
+        }
+
+        ContingencyContext contingencyContext = factor.getContingencyContext();
+        switch (contingencyContext.getContextType()) {
+            case ALL -> commonPositions.add(position);
+            case NONE -> noContingencyPositions.add(position);
+            case SPECIFIC -> positionsPerContingency.computeIfAbsent(contingencyContext.getContingencyId(), k -> new TIntArrayList()).add(position);
+        }
+    }
+
+    private LfElement getFunctionElement(SensitivityFunctionType functionType, int num) {
+        return switch (functionType) {
+            case BUS_VOLTAGE, BUS_REACTIVE_POWER -> lfNetwork.getBus(num);
+            default -> lfNetwork.getBranch(num);
+        };
+    }
+
+    /**
+     * Create the factor at a given position.
+     */
+    private LfSensitivityFactor<V, E> createFactor(int position, ContingencyContext contingencyContext) {
+        LfSensitivityFactor<V, E> prototype = variablePrototypes.get(variableIndexes.getQuick(position));
+        SensitivityFunctionType functionType = FUNCTION_TYPES[functionTypes.getQuick(position)];
+        LfElement functionElement = getFunctionElement(functionType, functionElementNums.getQuick(position));
+        String functionId = functionIds.get(position);
+        if (functionId == null) {
+            functionId = functionElement.getMainOriginalId();
+        }
+        int index = factorIndexes.getQuick(position);
+        LfSensitivityFactor<V, E> factor;
+        if (prototype instanceof MultiVariablesLfSensitivityFactor<V, E> multiVariablesPrototype) {
+            factor = new MultiVariablesLfSensitivityFactor<>(index, prototype.getVariableId(), functionId, functionElement, functionType,
+                                                             multiVariablesPrototype.getWeightedVariableElements(), prototype.getVariableType(),
+                                                             contingencyContext, multiVariablesPrototype.getOriginalVariableSetIds());
+        } else {
+            factor = new SingleVariableLfSensitivityFactor<>(index, prototype.getVariableId(), functionId, functionElement, functionType,
+                                                             ((SingleVariableLfSensitivityFactor<V, E>) prototype).getVariableElement(), prototype.getVariableType(),
+                                                             contingencyContext);
+        }
+        if (prototype.getGroup() != null) {
+            factor.setGroup(prototype.getGroup());
+        }
+        return factor;
+    }
+
+    private record Segment(TIntArrayList positions, ContingencyContext contingencyContext) {
+    }
+
+    /**
+     * A read only list of factors made of segments of positions, factors being created at first access.
+     */
+    private final class FactorList extends AbstractList<LfSensitivityFactor<V, E>> {
+
+        private final List<Segment> segments;
+
+        private final int[] segmentStarts;
+
+        private final int size;
+
+        private final Object[] factors;
+
+        private FactorList(List<Segment> segments) {
+            this.segments = segments;
+            segmentStarts = new int[segments.size()];
+            int start = 0;
+            for (int i = 0; i < segments.size(); i++) {
+                segmentStarts[i] = start;
+                start += segments.get(i).positions().size();
+            }
+            size = start;
+            factors = new Object[size];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public LfSensitivityFactor<V, E> get(int i) {
+            Objects.checkIndex(i, size);
+            LfSensitivityFactor<V, E> factor = (LfSensitivityFactor<V, E>) factors[i];
+            if (factor != null) {
+                return factor;
+            }
+            int segmentIndex = Arrays.binarySearch(segmentStarts, i);
+            if (segmentIndex < 0) {
+                segmentIndex = -segmentIndex - 2;
+            } else {
+                // skip empty segments starting at the same position
+                while (segmentIndex + 1 < segmentStarts.length && segmentStarts[segmentIndex + 1] == i) {
+                    segmentIndex++;
+                }
+            }
+            Segment segment = segments.get(segmentIndex);
+            factor = createFactor(segment.positions().getQuick(i - segmentStarts[segmentIndex]), segment.contingencyContext());
+            factors[i] = factor;
+            return factor;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private Segment getCommonSegment() {
+        return new Segment(commonPositions, ContingencyContext.all());
+    }
+
+    private Segment getNoContingencySegment() {
+        return new Segment(noContingencyPositions, ContingencyContext.none());
+    }
+
+    private Segment getContingencySegment(String contingencyId) {
+        TIntArrayList positions = positionsPerContingency.get(contingencyId);
+        return positions != null ? new Segment(positions, ContingencyContext.specificContingency(contingencyId)) : null;
+    }
+
+    @Override
+    protected List<LfSensitivityFactor<V, E>> getAllFactors() {
+        List<Segment> segments = new ArrayList<>(2 + positionsPerContingency.size());
+        segments.add(getCommonSegment());
+        segments.add(getNoContingencySegment());
+        for (String contingencyId : positionsPerContingency.keySet()) {
+            segments.add(getContingencySegment(contingencyId));
+        }
+        return new FactorList(segments);
+    }
+
+    @Override
+    protected List<LfSensitivityFactor<V, E>> getFactorsForContingency(String contingencyId) {
+        return getFactorsForContingencies(List.of(contingencyId));
+    }
+
+    @Override
+    protected List<LfSensitivityFactor<V, E>> getFactorsForContingencies(List<String> contingenciesIds) {
+        List<Segment> segments = new ArrayList<>(1 + contingenciesIds.size());
+        segments.add(getCommonSegment());
+        for (String contingencyId : contingenciesIds) {
+            Segment segment = getContingencySegment(contingencyId);
+            if (segment != null) {
+                segments.add(segment);
+            }
+        }
+        return new FactorList(segments);
+    }
+
+    @Override
+    protected boolean hasFactorsForContingency(String contingencyId) {
+        TIntArrayList positions = positionsPerContingency.get(contingencyId);
+        return !commonPositions.isEmpty() || positions != null && !positions.isEmpty();
+    }
+
+    @Override
+    protected List<LfSensitivityFactor<V, E>> getFactorsForBaseNetwork() {
+        return new FactorList(List.of(getCommonSegment(), getNoContingencySegment()));
+    }
+}
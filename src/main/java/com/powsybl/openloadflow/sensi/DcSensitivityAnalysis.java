@@ -13,18 +13,27 @@ import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.math.matrix.Matrix;
 import com.powsybl.math.matrix.MatrixException;
 import com.powsybl.math.matrix.MatrixFactory;
+import com.powsybl.math.matrix.SparseMatrixFactory;
 import com.powsybl.openloadflow.OpenLoadFlowParameters;
 import com.powsybl.openloadflow.dc.DcLoadFlowContext;
 import com.powsybl.openloadflow.dc.DcLoadFlowEngine;
 import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
+import com.powsybl.openloadflow.dc.equations.AbstractClosedBranchDcFlowEquationTerm;
+import com.powsybl.openloadflow.dc.equations.ClosedBranchSide1DcFlowEquationTerm;
 import com.powsybl.openloadflow.dc.equations.DcEquationSystemCreationParameters;
 import com.powsybl.openloadflow.dc.equations.DcEquationType;
 import com.powsybl.openloadflow.dc.equations.DcVariableType;
 import com.powsybl.openloadflow.dc.fastdc.ComputedContingencyElement;
 import com.powsybl.openloadflow.dc.fastdc.ConnectivityBreakAnalysis;
+import com.powsybl.openloadflow.dc.fastdc.PartialStatesSolver;
 import com.powsybl.openloadflow.dc.fastdc.WoodburyEngine;
+import com.powsybl.openloadflow.equations.EquationSystem;
+import com.powsybl.openloadflow.equations.EquationTerm;
+import com.powsybl.openloadflow.equations.StatesMatrix;
+import com.powsybl.openloadflow.equations.Variable;
 import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
 import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.network.impl.LfNetworkList;
@@ -35,6 +44,7 @@ import com.powsybl.openloadflow.network.util.PreviousValueVoltageInitializer;
 import com.powsybl.openloadflow.network.util.UniformValueVoltageInitializer;
 import com.powsybl.openloadflow.network.util.VoltageInitializer;
 import com.powsybl.openloadflow.util.Derivable;
+import com.powsybl.openloadflow.util.Reports;
 import com.powsybl.sensitivity.*;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -53,6 +63,18 @@ import static com.powsybl.openloadflow.network.util.ParticipatingElement.normali
 public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariableType, DcEquationType> {
     private static final double FUNCTION_REFERENCE_ZER0_THRESHOLD = 1e-13;
 
+    // relative margin on pruned sensitivity values so that rounding errors never prune a value above a threshold
+    private static final double PRUNING_MARGIN = 1e-6;
+
+    /**
+     * Indexes of the factors of a contingency whose sensitivity value is filtered out, and factor groups whose
+     * post-contingency states are still needed by the other factors. The Woodbury engine and the alphas of each factor
+     * group (null if not computed) are kept to compute these post-contingency states.
+     */
+    private record ContingencyPruning(Set<Integer> prunedFactorIndexes, boolean[] factorGroupsToCompute,
+                                      WoodburyEngine engine, double[][] alphasByFactorGroup) {
+    }
+
     public DcSensitivityAnalysis(MatrixFactory matrixFactory, GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory, SensitivityAnalysisParameters parameters) {
         super(matrixFactory, connectivityFactory, parameters);
     }
@@ -139,27 +161,103 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
         return functionValue;
     }
 
+    private static Map<LfBus, Double> getSlackParticipationByBus(DcLoadFlowContext loadFlowContext, List<ParticipatingElement> participatingElements) {
+        if (participatingElements.isEmpty()) {
+            return Map.of(loadFlowContext.getNetwork().getSlackBus(), -1d);
+        }
+        return participatingElements.stream().collect(Collectors.toMap(
+            ParticipatingElement::getLfBus,
+            element -> -element.getFactor(),
+            Double::sum));
+    }
+
+    /**
+     * Create the right hand side of the sensitivity factors states, taking into account slack distribution.
+     */
+    private static DenseMatrix createFactorStatesRhs(DcLoadFlowContext loadFlowContext,
+                                                     SensitivityFactorGroupList<DcVariableType, DcEquationType> factorGroups,
+                                                     List<ParticipatingElement> participatingElements) {
+        return initFactorsRhs(loadFlowContext.getEquationSystem(), factorGroups, getSlackParticipationByBus(loadFlowContext, participatingElements));
+    }
+
     /**
      * Compute state for sensitivity factors taking into account slack distribution.
+     * If a partial states solver is given, only the rows read afterward are computed.
      */
     private DenseMatrix calculateFactorStates(DcLoadFlowContext loadFlowContext,
                                               SensitivityFactorGroupList<DcVariableType, DcEquationType> factorGroups,
-                                              List<ParticipatingElement> participatingElements) {
-        Map<LfBus, Double> slackParticipationByBus;
-        if (participatingElements.isEmpty()) {
-            slackParticipationByBus = Map.of(loadFlowContext.getNetwork().getSlackBus(), -1d);
-        } else {
-            slackParticipationByBus = participatingElements.stream().collect(Collectors.toMap(
-                ParticipatingElement::getLfBus,
-                element -> -element.getFactor(),
-                Double::sum));
+                                              List<ParticipatingElement> participatingElements,
+                                              PartialStatesSolver partialStatesSolver) {
+        if (partialStatesSolver != null) {
+            // a right hand side column only has the injections of its factor group and of the slack distribution, so
+            // it is kept sparse instead of scanning dense columns of all the equations
+            Map<LfBus, Double> slackParticipationByBus = getSlackParticipationByBus(loadFlowContext, participatingElements);
+            int equationCount = loadFlowContext.getEquationSystem().getIndex().getSortedEquationsToSolve().size();
+            int factorGroupCount = factorGroups.getList().size();
+            Matrix rhs = new SparseMatrixFactory().create(equationCount, factorGroupCount, factorGroupCount * (1 + slackParticipationByBus.size()));
+            fillRhsSensitivityVariable(factorGroups, rhs, slackParticipationByBus);
+            return partialStatesSolver.solveTransposed(rhs); // states for the sensitivity factors, only on required rows
         }
-
-        DenseMatrix factorStates = initFactorsRhs(loadFlowContext.getEquationSystem(), factorGroups, slackParticipationByBus);
+        DenseMatrix factorStates = createFactorStatesRhs(loadFlowContext, factorGroups, participatingElements);
         loadFlowContext.getJacobianMatrix().solveTransposed(factorStates); // states for the sensitivity factors
         return factorStates;
     }
 
+    private static void addVariableRows(EquationTerm<?, ?> term, Set<Integer> rows) {
+        for (Variable<?> variable : term.getVariables()) {
+            if (variable.getRow() != -1) {
+                rows.add(variable.getRow());
+            }
+        }
+    }
+
+    /**
+     * Collect the factor state rows that are read after the solve: rows of the function equation terms of the valid
+     * factors and rows of the contingency elements used by the Woodbury engine.
+     * Returns null if some rows cannot be determined, meaning that all the rows have to be computed.
+     */
+    private static int[] getRequiredFactorStateRows(LfNetwork lfNetwork, EquationSystem<DcVariableType, DcEquationType> equationSystem,
+                                                    List<LfSensitivityFactor<DcVariableType, DcEquationType>> factors,
+                                                    List<PropagatedContingency> contingencies) {
+        Set<Integer> rows = new TreeSet<>();
+        for (LfSensitivityFactor<DcVariableType, DcEquationType> factor : factors) {
+            Derivable<DcVariableType> term = factor.getFunctionEquationTerm();
+            if (!(term instanceof EquationTerm<?, ?> equationTerm)) {
+                return null;
+            }
+            addVariableRows(equationTerm, rows);
+        }
+        for (PropagatedContingency contingency : contingencies) {
+            for (String branchId : contingency.getBranchIdsToOpen().keySet()) {
+                LfBranch branch = lfNetwork.getBranchById(branchId);
+                if (branch != null) {
+                    ClosedBranchSide1DcFlowEquationTerm p1 = equationSystem.getEquationTerm(ElementType.BRANCH, branch.getNum(), ClosedBranchSide1DcFlowEquationTerm.class);
+                    if (p1 != null) {
+                        addVariableRows(p1, rows);
+                    }
+                }
+            }
+        }
+        return rows.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * When fewer state rows are read than there are factor groups, it is cheaper to solve the adjoint system for
+     * each required row than a full system for each factor group.
+     */
+    private static PartialStatesSolver createPartialStatesSolver(DcLoadFlowContext loadFlowContext,
+                                                                 SensitivityFactorGroupList<DcVariableType, DcEquationType> factorGroups,
+                                                                 List<LfSensitivityFactor<DcVariableType, DcEquationType>> factors,
+                                                                 List<PropagatedContingency> contingencies) {
+        int[] rows = getRequiredFactorStateRows(loadFlowContext.getNetwork(), loadFlowContext.getEquationSystem(), factors, contingencies);
+        if (rows == null || rows.length >= factorGroups.getList().size()) {
+            return null;
+        }
+        LOGGER.info("Factor states only computed on {} required rows for {} factor groups", rows.length, factorGroups.getList().size());
+        int equationCount = loadFlowContext.getEquationSystem().getIndex().getSortedEquationsToSolve().size();
+        return new PartialStatesSolver(loadFlowContext.getJacobianMatrix(), equationCount, rows);
+    }
+
     /**
      * Create branch flow and sensitivity values from a pre-contingency state or a post-contingency state.
      */
@@ -194,15 +292,13 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
      * The matrices factorStates and flowStates are modified by this method.
      */
     private void calculateSensitivityValuesForAContingency(DcLoadFlowContext loadFlowContext, OpenLoadFlowParameters lfParametersExt, SensitivityFactorHolder<DcVariableType, DcEquationType> validFactorHolder,
-                                                           SensitivityFactorGroupList<DcVariableType, DcEquationType> factorGroups, DenseMatrix factorStates, DenseMatrix contingenciesStates, DenseMatrix flowStates,
+                                                           SensitivityFactorGroupList<DcVariableType, DcEquationType> factorGroups, DenseMatrix factorStates, StatesMatrix contingenciesStates, DenseMatrix flowStates,
                                                            PropagatedContingency contingency, Map<String, ComputedContingencyElement> contingencyElementByBranch,
                                                            Set<LfBus> disabledBuses, List<ParticipatingElement> participatingElements, Set<String> elementsToReconnect,
-                                                           SensitivityResultWriter resultWriter, ReportNode reportNode, Set<LfBranch> partialDisabledBranches, boolean rhsChangedAfterConnectivityBreak) {
+                                                           SensitivityResultWriter resultWriter, ReportNode reportNode, Set<LfBranch> partialDisabledBranches, boolean rhsChangedAfterConnectivityBreak,
+                                                           PartialStatesSolver partialStatesSolver, ContingencyPruning pruning) {
         List<LfSensitivityFactor<DcVariableType, DcEquationType>> factors = validFactorHolder.getFactorsForContingency(contingency.getContingency().getId());
-        List<ComputedContingencyElement> contingencyElements = contingency.getBranchIdsToOpen().keySet().stream()
-                .filter(element -> !elementsToReconnect.contains(element))
-                .map(contingencyElementByBranch::get)
-                .collect(Collectors.toList());
+        List<ComputedContingencyElement> contingencyElements = getContingencyElements(contingency, contingencyElementByBranch, elementsToReconnect);
 
         var lfNetwork = loadFlowContext.getNetwork();
         Set<LfBranch> disabledBranches = contingency.getBranchIdsToOpen().keySet().stream().map(lfNetwork::getBranchById).collect(Collectors.toSet());
@@ -210,31 +306,42 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
         DisabledNetwork disabledNetwork = new DisabledNetwork(disabledBuses, disabledBranches);
         DenseMatrix newFactorStates = factorStates;
 
-        WoodburyEngine engine = new WoodburyEngine(loadFlowContext.getParameters().getEquationSystemCreationParameters(), contingencyElements, contingenciesStates);
+        WoodburyEngine engine = pruning != null ? pruning.engine()
+                : new WoodburyEngine(loadFlowContext.getParameters().getEquationSystemCreationParameters(), contingencyElements, contingenciesStates);
 
         if (contingency.getGeneratorIdsToLose().isEmpty() && contingency.getLoadIdsToLose().isEmpty()) {
-            DenseMatrix newFlowStates = flowStates;
-            // we need to recompute the factor states because the connectivity changed
-            if (rhsChangedAfterConnectivityBreak) {
-                newFactorStates = calculateFactorStates(loadFlowContext, factorGroups, participatingElements);
+            // pruning is only computed from pre-contingency factor states, so never when the rhs has changed
+            List<LfSensitivityFactor<DcVariableType, DcEquationType>> factorsToCompute = factors;
+            boolean[] factorGroupsToCompute = null;
+            double[][] factorGroupsAlphas = null;
+            if (pruning != null && !rhsChangedAfterConnectivityBreak) {
+                factorsToCompute = factors.stream().filter(factor -> !pruning.prunedFactorIndexes().contains(factor.getIndex())).toList();
+                factorGroupsToCompute = pruning.factorGroupsToCompute();
+                factorGroupsAlphas = pruning.alphasByFactorGroup();
             }
 
-            // get the lost phase tap changers for this contingency
-            Set<LfBranch> lostPhaseControllers = contingency.getBranchIdsToOpen().keySet().stream()
-                    .filter(element -> !elementsToReconnect.contains(element))
-                    .map(contingencyElementByBranch::get)
-                    .map(ComputedContingencyElement::getLfBranch)
-                    .filter(LfBranch::hasPhaseControllerCapability)
-                    .collect(Collectors.toSet());
-
-            // if a phase tap changer is lost or if the connectivity have changed, we must recompute load flows
-            if (!disabledBuses.isEmpty() || !lostPhaseControllers.isEmpty()) {
-                newFlowStates = calculateFlowStates(loadFlowContext, participatingElements, disabledNetwork, reportNode);
-            }
+            if (!factorsToCompute.isEmpty()) {
+                DenseMatrix newFlowStates = flowStates;
+                // we need to recompute the factor states because the connectivity changed
+                if (rhsChangedAfterConnectivityBreak) {
+                    newFactorStates = calculateFactorStates(loadFlowContext, factorGroups, participatingElements, partialStatesSolver);
+                }
 
-            engine.toPostContingencyStates(newFlowStates);
-            engine.toPostContingencyStates(newFactorStates);
-            calculateSensitivityValues(factors, newFactorStates, newFlowStates, contingency, resultWriter, disabledNetwork);
+                // get the lost phase tap changers for this contingency
+                Set<LfBranch> lostPhaseControllers = contingencyElements.stream()
+                        .map(ComputedContingencyElement::getLfBranch)
+                        .filter(LfBranch::hasPhaseControllerCapability)
+                        .collect(Collectors.toSet());
+
+                // if a phase tap changer is lost or if the connectivity have changed, we must recompute load flows
+                if (!disabledBuses.isEmpty() || !lostPhaseControllers.isEmpty()) {
+                    newFlowStates = calculateFlowStates(loadFlowContext, participatingElements, disabledNetwork, reportNode);
+                }
+
+                engine.toPostContingencyStates(newFlowStates);
+                engine.toPostContingencyStates(newFactorStates, factorGroupsToCompute, factorGroupsAlphas);
+                calculateSensitivityValues(factorsToCompute, newFactorStates, newFlowStates, contingency, resultWriter, disabledNetwork);
+            }
             // write contingency status
             if (contingency.hasNoImpact()) {
                 resultWriter.writeContingencyStatus(contingency.getIndex(), SensitivityAnalysisResult.Status.NO_IMPACT);
@@ -278,7 +385,7 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
 
             // we need to recompute the factor states because the rhs or the participating elements have changed
             if (participatingElementsChanged || rhsChangedAfterGlskRescaling || rhsChangedAfterConnectivityBreak) {
-                newFactorStates = calculateFactorStates(loadFlowContext, factorGroups, newParticipatingElements);
+                newFactorStates = calculateFactorStates(loadFlowContext, factorGroups, newParticipatingElements, partialStatesSolver);
             }
 
             DenseMatrix newFlowStates = calculateFlowStates(loadFlowContext, newParticipatingElements, disabledNetwork, reportNode);
@@ -302,9 +409,9 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
                                                           SensitivityFactorGroupList<DcVariableType, DcEquationType> factorGroups,
                                                           List<ParticipatingElement> participatingElements,
                                                           Map<String, ComputedContingencyElement> contingencyElementByBranch,
-                                                          DenseMatrix flowStates, DenseMatrix factorsStates, DenseMatrix contingenciesStates,
+                                                          DenseMatrix flowStates, DenseMatrix factorsStates, StatesMatrix contingenciesStates,
                                                           SensitivityResultWriter resultWriter,
-                                                          ReportNode reportNode) {
+                                                          ReportNode reportNode, PartialStatesSolver partialStatesSolver) {
 
         PropagatedContingency contingency = connectivityAnalysisResult.getPropagatedContingency();
         Set<LfBus> disabledBuses = connectivityAnalysisResult.getDisabledBuses();
@@ -339,7 +446,76 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
         calculateSensitivityValuesForAContingency(loadFlowContext, lfParametersExt,
                 validFactorHolder, factorGroups, factorsStates, contingenciesStates, flowStates,
                 contingency, contingencyElementByBranch, disabledBuses, participatingElementsForThisConnectivity,
-                connectivityAnalysisResult.getElementsToReconnect(), resultWriter, reportNode, partialDisabledBranches, rhsChanged);
+                connectivityAnalysisResult.getElementsToReconnect(), resultWriter, reportNode, partialDisabledBranches, rhsChanged, partialStatesSolver, null);
+    }
+
+    private static List<ComputedContingencyElement> getContingencyElements(PropagatedContingency contingency, Map<String, ComputedContingencyElement> contingencyElementByBranch,
+                                                                           Set<String> elementsToReconnect) {
+        return contingency.getBranchIdsToOpen().keySet().stream()
+                .filter(element -> !elementsToReconnect.contains(element))
+                .map(contingencyElementByBranch::get)
+                .collect(Collectors.toList());
+    }
+
+    private boolean isThresholdPruningEnabled() {
+        OpenSensitivityAnalysisParameters sensiParametersExt = parameters.getExtension(OpenSensitivityAnalysisParameters.class);
+        return sensiParametersExt != null && sensiParametersExt.isThresholdPruningEnabled()
+                && (parameters.getFlowFlowSensitivityValueThreshold() > 0 || parameters.getAngleFlowSensitivityValueThreshold() > 0);
+    }
+
+    /**
+     * Find the factors of a contingency with no connectivity break and no lost generator or load whose post-contingency
+     * sensitivity value is below the sensitivity value thresholds, and so would be filtered out anyway.
+     * The post-contingency sensitivity is s + sum_k alpha_k * p(z_k), with s the pre-contingency sensitivity, alpha_k the
+     * flow transfer factor of the contingency element k and p(z_k) the function evaluated on the state of the contingency
+     * element k, so it is computed exactly without computing the post-contingency states. Alphas are solved once per
+     * factor group and kept to compute the post-contingency states of the factor groups that are still needed.
+     */
+    private ContingencyPruning pruneFactors(DcLoadFlowContext loadFlowContext, List<LfSensitivityFactor<DcVariableType, DcEquationType>> factors,
+                                            SensitivityFactorGroupList<DcVariableType, DcEquationType> factorGroups, DenseMatrix factorStates,
+                                            StatesMatrix contingenciesStates, List<ComputedContingencyElement> contingencyElements,
+                                            PropagatedContingency contingency) {
+        var lfNetwork = loadFlowContext.getNetwork();
+        Set<LfBranch> disabledBranches = contingency.getBranchIdsToOpen().keySet().stream().map(lfNetwork::getBranchById).collect(Collectors.toSet());
+        DisabledNetwork disabledNetwork = new DisabledNetwork(Collections.emptySet(), disabledBranches);
+        WoodburyEngine engine = new WoodburyEngine(loadFlowContext.getParameters().getEquationSystemCreationParameters(), contingencyElements, contingenciesStates);
+
+        double[][] alphasByFactorGroup = new double[factorGroups.getList().size()][];
+        Set<Integer> prunedFactorIndexes = new HashSet<>();
+        boolean[] factorGroupsToCompute = new boolean[factorGroups.getList().size()];
+        for (LfSensitivityFactor<DcVariableType, DcEquationType> factor : factors) {
+            if (factor.getStatus() != LfSensitivityFactor.Status.VALID) {
+                continue;
+            }
+            SensitivityFactorGroup<DcVariableType, DcEquationType> factorGroup = factor.getGroup();
+            Pair<Optional<Double>, Optional<Double>> predefinedResults = getPredefinedResults(factor, disabledNetwork, contingency);
+            if (predefinedResults.getLeft().isEmpty() && predefinedResults.getRight().isEmpty()) {
+                int groupIndex = factorGroup.getIndex();
+                if (alphasByFactorGroup[groupIndex] == null) {
+                    alphasByFactorGroup[groupIndex] = engine.calculateAlphas(factorStates, groupIndex);
+                }
+                double[] alphas = alphasByFactorGroup[groupIndex];
+                Derivable<DcVariableType> p1 = factor.getFunctionEquationTerm();
+                double sensi = p1.calculateSensi(factorStates, groupIndex);
+                for (int i = 0; i < contingencyElements.size(); i++) {
+                    sensi += alphas[i] * calculateSensi(p1, contingenciesStates, contingencyElements.get(i).getComputedElementIndex());
+                }
+                double unscaledSensi = Math.abs(unscaleSensitivity(factor, sensi)) * (1 + PRUNING_MARGIN);
+                if (filterSensitivityValue(unscaledSensi, factor.getVariableType(), factor.getFunctionType(), parameters)) {
+                    prunedFactorIndexes.add(factor.getIndex());
+                    continue;
+                }
+            }
+            factorGroupsToCompute[factorGroup.getIndex()] = true;
+        }
+        return new ContingencyPruning(prunedFactorIndexes, factorGroupsToCompute, engine, alphasByFactorGroup);
+    }
+
+    private static double calculateSensi(Derivable<DcVariableType> term, StatesMatrix states, int column) {
+        if (term instanceof AbstractClosedBranchDcFlowEquationTerm flowTerm) {
+            return flowTerm.calculateSensi(states, column);
+        }
+        throw new IllegalStateException("Unexpected DC function term: " + term.getClass().getSimpleName());
     }
 
     @Override
@@ -354,11 +530,19 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
 
         LoadFlowParameters lfParameters = parameters.getLoadFlowParameters();
         OpenLoadFlowParameters lfParametersExt = OpenLoadFlowParameters.get(lfParameters);
+        OpenSensitivityAnalysisParameters sensiParametersExt = parameters.getExtension(OpenSensitivityAnalysisParameters.class);
 
         Stopwatch stopwatch = Stopwatch.createStarted();
 
         boolean breakers = topoConfig.isBreaker();
 
+        // the cache is only supported when the network does not depend on contingencies, that is to say when no switch
+        // has to be retained and the network is not built from a temporary variant
+        DcSensitivityAnalysisCache.Entry cacheEntry = null;
+        if (sensiParametersExt != null && sensiParametersExt.isCacheEnabled() && !breakers && topoConfig.getBranchIdsToClose().isEmpty()) {
+            cacheEntry = DcSensitivityAnalysisCache.INSTANCE.acquire(network, lfParameters, sensiParametersExt, matrixFactory, connectivityFactory).orElse(null);
+        }
+
         // create the network (we only manage main connected component)
         SlackBusSelector slackBusSelector = SlackBusSelector.fromMode(lfParametersExt.getSlackBusSelectionMode(),
                                                                       lfParametersExt.getSlackBusesIds(),
@@ -388,116 +572,226 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
                 .setShuntVoltageControl(false)
                 .setReactiveLimits(false)
                 .setHvdcAcEmulation(false) // still not supported
-                .setCacheEnabled(false) // force not caching as not supported in sensi analysis
+                .setCacheEnabled(cacheEntry != null) // only weak references to IIDM objects when kept in cache
                 .setReferenceBusSelector(ReferenceBusSelector.DEFAULT_SELECTOR); // not supported yet
-        // create networks including all necessary switches
-        try (LfNetworkList lfNetworks = Networks.load(network, lfNetworkParameters, topoConfig, reportNode)) {
-            LfNetwork lfNetwork = lfNetworks.getLargest().orElseThrow(() -> new PowsyblException("Empty network"));
 
-            checkContingencies(contingencies);
-            cleanContingencies(lfNetwork, contingencies);
-            checkLoadFlowParameters(lfParameters);
+        var dcLoadFlowParameters = createDcLoadFlowParameters(lfNetworkParameters, matrixFactory, lfParameters, lfParametersExt);
+
+        try {
+            if (cacheEntry == null) {
+                // create networks including all necessary switches
+                try (LfNetworkList lfNetworks = Networks.load(network, lfNetworkParameters, topoConfig, reportNode);
+                     DcLoadFlowContext loadFlowContext = new DcLoadFlowContext(getLargest(lfNetworks), dcLoadFlowParameters, false)) {
+                    analyse(network, contingencies, variableSets, factorReader, resultWriter, reportNode, breakers, loadFlowContext, null);
+                }
+            } else {
+                if (cacheEntry.getLoadFlowContext() == null) {
+                    try (LfNetworkList lfNetworks = Networks.load(network, lfNetworkParameters, topoConfig, reportNode)) {
+                        cacheEntry.setLoadFlowContext(new DcLoadFlowContext(getLargest(lfNetworks), dcLoadFlowParameters, false));
+                    }
+                }
+                analyse(network, contingencies, variableSets, factorReader, resultWriter, reportNode, breakers, cacheEntry.getLoadFlowContext(), cacheEntry);
+            }
+        } finally {
+            if (cacheEntry != null) {
+                DcSensitivityAnalysisCache.INSTANCE.release(cacheEntry);
+            }
+        }
+
+        stopwatch.stop();
+        LOGGER.info("DC sensitivity analysis done in {} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
+    }
+
+    private static void checkFactor(LfSensitivityFactor<DcVariableType, DcEquationType> lfFactor) {
+        if (lfFactor.getFunctionType() != SensitivityFunctionType.BRANCH_ACTIVE_POWER_1
+                    && lfFactor.getFunctionType() != SensitivityFunctionType.BRANCH_ACTIVE_POWER_2
+                    && lfFactor.getFunctionType() != SensitivityFunctionType.BRANCH_ACTIVE_POWER_3
+                || lfFactor.getVariableType() != SensitivityVariableType.INJECTION_ACTIVE_POWER
+                    && lfFactor.getVariableType() != SensitivityVariableType.TRANSFORMER_PHASE
+                    && lfFactor.getVariableType() != SensitivityVariableType.TRANSFORMER_PHASE_1
+                    && lfFactor.getVariableType() != SensitivityVariableType.TRANSFORMER_PHASE_2
+                    && lfFactor.getVariableType() != SensitivityVariableType.TRANSFORMER_PHASE_3
+                    && lfFactor.getVariableType() != SensitivityVariableType.HVDC_LINE_ACTIVE_POWER) {
+            throw new PowsyblException("Only variables of type TRANSFORMER_PHASE, TRANSFORMER_PHASE_1, TRANSFORMER_PHASE_2, TRANSFORMER_PHASE_3, INJECTION_ACTIVE_POWER and HVDC_LINE_ACTIVE_POWER, and functions of type BRANCH_ACTIVE_POWER_1, BRANCH_ACTIVE_POWER_2 and BRANCH_ACTIVE_POWER_3 are yet supported in DC");
+        }
+    }
+
+    private static LfNetwork getLargest(LfNetworkList lfNetworks) {
+        return lfNetworks.getLargest().orElseThrow(() -> new PowsyblException("Empty network"));
+    }
+
+    /**
+     * Key of the factor state column of a factor group in the cache. As a variable set could be different from a run to
+     * another with the same id, its weights are part of the key.
+     */
+    private static Object getFactorGroupKey(SensitivityFactorGroup<DcVariableType, DcEquationType> factorGroup) {
+        LfSensitivityFactor<DcVariableType, DcEquationType> factor = factorGroup.getFactors().get(0);
+        if (factorGroup instanceof MultiVariablesFactorGroup) {
+            Map<LfElement, Double> variableElements = ((MultiVariablesFactorGroup<DcVariableType, DcEquationType>) factorGroup).getVariableElements();
+            return List.of(factor.getVariableType(), factor.getVariableId(), variableElements);
+        }
+        return List.of(factor.getVariableType(), factor.getVariableId());
+    }
 
-            Map<String, SensitivityVariableSet> variableSetsById = variableSets.stream().collect(Collectors.toMap(SensitivityVariableSet::getId, Function.identity()));
+    private void analyse(Network network, List<PropagatedContingency> contingencies, List<SensitivityVariableSet> variableSets,
+                         SensitivityFactorReader factorReader, SensitivityResultWriter resultWriter, ReportNode reportNode,
+                         boolean breakers, DcLoadFlowContext loadFlowContext, DcSensitivityAnalysisCache.Entry cacheEntry) {
+        LoadFlowParameters lfParameters = parameters.getLoadFlowParameters();
+        OpenLoadFlowParameters lfParametersExt = OpenLoadFlowParameters.get(lfParameters);
+        LfNetwork lfNetwork = loadFlowContext.getNetwork();
+
+        checkContingencies(contingencies);
+        cleanContingencies(lfNetwork, contingencies);
+        checkLoadFlowParameters(lfParameters);
+
+        Map<String, SensitivityVariableSet> variableSetsById = variableSets.stream().collect(Collectors.toMap(SensitivityVariableSet::getId, Function.identity()));
+
+        SensitivityFactorHolder<DcVariableType, DcEquationType> validFactorHolder;
+        List<LfSensitivityFactor<DcVariableType, DcEquationType>> factorsWithStates;
+        List<LfSensitivityFactor<DcVariableType, DcEquationType>> factorGroupsFactors;
+        OpenSensitivityAnalysisParameters sensiParametersExt = parameters.getExtension(OpenSensitivityAnalysisParameters.class);
+        if (sensiParametersExt != null && sensiParametersExt.isCompactFactorStorageEnabled()) {
+            // factors are checked and invalid ones written while being read, valid ones being only kept in a compact form
+            CompactSensitivityFactorHolder<DcVariableType, DcEquationType> compactFactorHolder = new CompactSensitivityFactorHolder<>(lfNetwork);
+            InvalidFactorWriter invalidFactorWriter = new InvalidFactorWriter(resultWriter, contingencies, compactFactorHolder::addFactor);
+            int[] factorCount = new int[1];
+            readAndCheckFactors(network, variableSetsById, factorReader, lfNetwork, breakers, factor -> {
+                checkFactor(factor);
+                invalidFactorWriter.accept(factor);
+                factorCount[0]++;
+            });
+            invalidFactorWriter.logSkippedVariables();
+
+            LOGGER.info("Running DC sensitivity analysis with {} factors and {} contingencies", factorCount[0], contingencies.size());
+            LOGGER.info("{}/{} factors are valid, {} distinct variables", compactFactorHolder.size(), factorCount[0], compactFactorHolder.getVariablePrototypes().size());
+
+            validFactorHolder = compactFactorHolder;
+            // factors are created on the fly from this list, so that only the rows of the factor states are computed
+            // from all the factors, whereas factor groups are created from one factor per variable
+            factorsWithStates = validFactorHolder.getAllFactors();
+            factorGroupsFactors = compactFactorHolder.getVariablePrototypes().stream().filter(factor -> factor.getStatus() == LfSensitivityFactor.Status.VALID).collect(Collectors.toList());
+        } else {
             SensitivityFactorHolder<DcVariableType, DcEquationType> allFactorHolder = readAndCheckFactors(network, variableSetsById, factorReader, lfNetwork, breakers);
             List<LfSensitivityFactor<DcVariableType, DcEquationType>> allLfFactors = allFactorHolder.getAllFactors();
-
-            allLfFactors.stream()
-                    .filter(lfFactor -> lfFactor.getFunctionType() != SensitivityFunctionType.BRANCH_ACTIVE_POWER_1
-                                && lfFactor.getFunctionType() != SensitivityFunctionType.BRANCH_ACTIVE_POWER_2
-                                && lfFactor.getFunctionType() != SensitivityFunctionType.BRANCH_ACTIVE_POWER_3
-                            || lfFactor.getVariableType() != SensitivityVariableType.INJECTION_ACTIVE_POWER
-                                && lfFactor.getVariableType() != SensitivityVariableType.TRANSFORMER_PHASE
-                                && lfFactor.getVariableType() != SensitivityVariableType.TRANSFORMER_PHASE_1
-                                && lfFactor.getVariableType() != SensitivityVariableType.TRANSFORMER_PHASE_2
-                                && lfFactor.getVariableType() != SensitivityVariableType.TRANSFORMER_PHASE_3
-                                && lfFactor.getVariableType() != SensitivityVariableType.HVDC_LINE_ACTIVE_POWER)
-                    .findFirst()
-                    .ifPresent(ignored -> {
-                        throw new PowsyblException("Only variables of type TRANSFORMER_PHASE, TRANSFORMER_PHASE_1, TRANSFORMER_PHASE_2, TRANSFORMER_PHASE_3, INJECTION_ACTIVE_POWER and HVDC_LINE_ACTIVE_POWER, and functions of type BRANCH_ACTIVE_POWER_1, BRANCH_ACTIVE_POWER_2 and BRANCH_ACTIVE_POWER_3 are yet supported in DC");
-                    });
+            allLfFactors.forEach(DcSensitivityAnalysis::checkFactor);
 
             LOGGER.info("Running DC sensitivity analysis with {} factors and {} contingencies", allLfFactors.size(), contingencies.size());
 
-            var dcLoadFlowParameters = createDcLoadFlowParameters(lfNetworkParameters, matrixFactory, lfParameters, lfParametersExt);
-
             // next we only work with valid factors
-            var validFactorHolder = writeInvalidFactors(allFactorHolder, resultWriter, contingencies);
+            validFactorHolder = writeInvalidFactors(allFactorHolder, resultWriter, contingencies);
             var validLfFactors = validFactorHolder.getAllFactors();
             LOGGER.info("{}/{} factors are valid", validLfFactors.size(), allLfFactors.size());
 
-            try (DcLoadFlowContext loadFlowContext = new DcLoadFlowContext(lfNetwork, dcLoadFlowParameters, false)) {
-
-                // create jacobian matrix either using calculated voltages from pre-contingency network or nominal voltages
-                VoltageInitializer voltageInitializer = lfParameters.getVoltageInitMode() == LoadFlowParameters.VoltageInitMode.PREVIOUS_VALUES
-                        ? new PreviousValueVoltageInitializer()
-                        : new UniformValueVoltageInitializer();
-
-                DcLoadFlowEngine.initStateVector(lfNetwork, loadFlowContext.getEquationSystem(), voltageInitializer);
-
-                // index factors by variable group to compute the minimal number of states
-                SensitivityFactorGroupList<DcVariableType, DcEquationType> factorGroups = createFactorGroups(validLfFactors.stream().filter(factor -> factor.getStatus() == LfSensitivityFactor.Status.VALID).collect(Collectors.toList()));
-
-                // compute the participation for each injection factor (+1 on the injection and then -participation factor on all
-                // buses that contain elements participating to slack distribution)
-                List<ParticipatingElement> participatingElements = lfParameters.isDistributedSlack()
-                        ? getParticipatingElements(lfNetwork.getBuses(), lfParameters.getBalanceType(), lfParametersExt)
-                        : Collections.emptyList();
-
-                // run DC load on pre-contingency network
-                DenseMatrix baseFlowStates = calculateFlowStates(loadFlowContext, participatingElements, new DisabledNetwork(), reportNode);
-                // create workingFlowStates matrix that will be a working copy of baseFlowStates
-                DenseMatrix workingFlowStates = new DenseMatrix(baseFlowStates.getRowCount(), baseFlowStates.getColumnCount());
-
-                // compute the pre-contingency factor states
-                DenseMatrix baseFactorStates = calculateFactorStates(loadFlowContext, factorGroups, participatingElements);
-                // create workingFactorStates matrix that will be a working copy of baseFactorStates
-                DenseMatrix workingFactorStates = new DenseMatrix(baseFactorStates.getRowCount(), baseFactorStates.getColumnCount());
-
-                // calculate sensitivity values for pre-contingency network
-                calculateSensitivityValues(validFactorHolder.getFactorsForBaseNetwork(), baseFactorStates, baseFlowStates, null, resultWriter, new DisabledNetwork());
-
-                // filter contingencies without factors
-                List<PropagatedContingency> contingenciesWithFactors = new ArrayList<>();
-                contingencies.forEach(contingency -> {
-                    List<AbstractSensitivityAnalysis.LfSensitivityFactor<DcVariableType, DcEquationType>> lfFactors = validFactorHolder.getFactorsForContingencies(List.of(contingency.getContingency().getId()));
-                    if (!lfFactors.isEmpty()) {
-                        contingenciesWithFactors.add(contingency);
-                    } else {
-                        resultWriter.writeContingencyStatus(contingency.getIndex(), SensitivityAnalysisResult.Status.SUCCESS);
-                    }
-                });
-
-                // compute states with +1 -1 to model the contingencies and run connectivity analysis
-                ConnectivityBreakAnalysis.ConnectivityBreakAnalysisResults connectivityBreakAnalysisResults = ConnectivityBreakAnalysis.run(loadFlowContext, contingenciesWithFactors);
+            factorsWithStates = validLfFactors.stream().filter(factor -> factor.getStatus() == LfSensitivityFactor.Status.VALID).collect(Collectors.toList());
+            factorGroupsFactors = factorsWithStates;
+        }
 
-                LOGGER.info("Processing contingencies with no connectivity break");
+        // create jacobian matrix either using calculated voltages from pre-contingency network or nominal voltages
+        VoltageInitializer voltageInitializer = lfParameters.getVoltageInitMode() == LoadFlowParameters.VoltageInitMode.PREVIOUS_VALUES
+                ? new PreviousValueVoltageInitializer()
+                : new UniformValueVoltageInitializer();
 
-                // process contingencies with no connectivity break
-                for (PropagatedContingency contingency : connectivityBreakAnalysisResults.nonBreakingConnectivityContingencies()) {
-                    matrixCopyValues(baseFlowStates, workingFlowStates);
-                    matrixCopyValues(baseFactorStates, workingFactorStates);
+        DcLoadFlowEngine.initStateVector(lfNetwork, loadFlowContext.getEquationSystem(), voltageInitializer);
 
-                    calculateSensitivityValuesForAContingency(loadFlowContext, lfParametersExt, validFactorHolder, factorGroups,
-                            workingFactorStates, connectivityBreakAnalysisResults.contingenciesStates(), workingFlowStates, contingency,
-                            connectivityBreakAnalysisResults.contingencyElementByBranch(), Collections.emptySet(), participatingElements, Collections.emptySet(), resultWriter, reportNode, Collections.emptySet(), false);
-                }
+        // index factors by variable group to compute the minimal number of states
+        SensitivityFactorGroupList<DcVariableType, DcEquationType> factorGroups = createFactorGroups(factorGroupsFactors);
 
-                LOGGER.info("Processing contingencies with connectivity break");
+        // only compute the factor states rows that are actually read, if cheaper than a full solve
+        PartialStatesSolver partialStatesSolver = createPartialStatesSolver(loadFlowContext, factorGroups, factorsWithStates, contingencies);
 
-                // process contingencies with connectivity break
-                for (ConnectivityBreakAnalysis.ConnectivityAnalysisResult connectivityAnalysisResult : connectivityBreakAnalysisResults.connectivityAnalysisResults()) {
-                    matrixCopyValues(baseFlowStates, workingFlowStates);
-                    matrixCopyValues(baseFactorStates, workingFactorStates);
+        // compute the participation for each injection factor (+1 on the injection and then -participation factor on all
+        // buses that contain elements participating to slack distribution)
+        List<ParticipatingElement> participatingElements = lfParameters.isDistributedSlack()
+                ? getParticipatingElements(lfNetwork.getBuses(), lfParameters.getBalanceType(), lfParametersExt)
+                : Collections.emptyList();
 
-                    processContingenciesBreakingConnectivity(connectivityAnalysisResult, loadFlowContext, lfParameters, lfParametersExt,
-                            validFactorHolder, factorGroups, participatingElements, connectivityBreakAnalysisResults.contingencyElementByBranch(),
-                            workingFlowStates, workingFactorStates, connectivityBreakAnalysisResults.contingenciesStates(), resultWriter, reportNode);
+        // run DC load on pre-contingency network
+        DenseMatrix baseFlowStates;
+        if (cacheEntry != null && cacheEntry.getBaseFlowStates() != null) {
+            double[] cachedFlowStates = cacheEntry.getBaseFlowStates().clone();
+            baseFlowStates = new DenseMatrix(cachedFlowStates.length, 1, cachedFlowStates);
+        } else {
+            baseFlowStates = calculateFlowStates(loadFlowContext, participatingElements, new DisabledNetwork(), reportNode);
+            if (cacheEntry != null) {
+                double[] flowStatesToCache = new double[baseFlowStates.getRowCount()];
+                for (int row = 0; row < flowStatesToCache.length; row++) {
+                    flowStatesToCache[row] = baseFlowStates.get(row, 0);
                 }
+                cacheEntry.setBaseFlowStates(flowStatesToCache);
             }
+        }
+        // create workingFlowStates matrix that will be a working copy of baseFlowStates
+        DenseMatrix workingFlowStates = new DenseMatrix(baseFlowStates.getRowCount(), baseFlowStates.getColumnCount());
+
+        // compute the pre-contingency factor states, with all rows reusing the columns already in cache if any,
+        // as the rows read afterward could be different from a run to another
+        DenseMatrix baseFactorStates;
+        if (cacheEntry != null) {
+            baseFactorStates = createFactorStatesRhs(loadFlowContext, factorGroups, participatingElements);
+            List<Object> factorGroupKeys = factorGroups.getList().stream().map(DcSensitivityAnalysis::getFactorGroupKey).toList();
+            cacheEntry.getFactorStatesCache().solveTransposed(loadFlowContext.getJacobianMatrix(), baseFactorStates, factorGroupKeys);
+        } else {
+            baseFactorStates = calculateFactorStates(loadFlowContext, factorGroups, participatingElements, partialStatesSolver);
+        }
+        // create workingFactorStates matrix that will be a working copy of baseFactorStates
+        DenseMatrix workingFactorStates = new DenseMatrix(baseFactorStates.getRowCount(), baseFactorStates.getColumnCount());
 
-            stopwatch.stop();
-            LOGGER.info("DC sensitivity analysis done in {} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        // calculate sensitivity values for pre-contingency network
+        calculateSensitivityValues(validFactorHolder.getFactorsForBaseNetwork(), baseFactorStates, baseFlowStates, null, resultWriter, new DisabledNetwork());
+
+        // filter contingencies without factors
+        List<PropagatedContingency> contingenciesWithFactors = new ArrayList<>();
+        contingencies.forEach(contingency -> {
+            if (validFactorHolder.hasFactorsForContingency(contingency.getContingency().getId())) {
+                contingenciesWithFactors.add(contingency);
+            } else {
+                resultWriter.writeContingencyStatus(contingency.getIndex(), SensitivityAnalysisResult.Status.SUCCESS);
+            }
+        });
+
+        // compute states with +1 -1 to model the contingencies and run connectivity analysis
+        ConnectivityBreakAnalysis.ConnectivityBreakAnalysisResults connectivityBreakAnalysisResults
+                = ConnectivityBreakAnalysis.run(loadFlowContext, contingenciesWithFactors, cacheEntry != null ? cacheEntry.getContingencyStatesCache() : null,
+                                                sensiParametersExt != null && sensiParametersExt.isFloatContingencyStatesEnabled());
+
+        LOGGER.info("Processing contingencies with no connectivity break");
+
+        // process contingencies with no connectivity break
+        boolean thresholdPruning = isThresholdPruningEnabled();
+        int prunedValueCount = 0;
+        for (PropagatedContingency contingency : connectivityBreakAnalysisResults.nonBreakingConnectivityContingencies()) {
+            // values can only be pruned when post-contingency factor states derive from pre-contingency ones
+            ContingencyPruning pruning = null;
+            if (thresholdPruning && contingency.getGeneratorIdsToLose().isEmpty() && contingency.getLoadIdsToLose().isEmpty()) {
+                List<ComputedContingencyElement> contingencyElements = getContingencyElements(contingency, connectivityBreakAnalysisResults.contingencyElementByBranch(), Collections.emptySet());
+                pruning = pruneFactors(loadFlowContext, validFactorHolder.getFactorsForContingency(contingency.getContingency().getId()), factorGroups,
+                        baseFactorStates, connectivityBreakAnalysisResults.contingenciesStates(), contingencyElements, contingency);
+                prunedValueCount += pruning.prunedFactorIndexes().size();
+            }
+
+            matrixCopyValues(baseFlowStates, workingFlowStates);
+            matrixCopyValues(baseFactorStates, workingFactorStates, pruning != null ? pruning.factorGroupsToCompute() : null);
+
+            calculateSensitivityValuesForAContingency(loadFlowContext, lfParametersExt, validFactorHolder, factorGroups,
+                    workingFactorStates, connectivityBreakAnalysisResults.contingenciesStates(), workingFlowStates, contingency,
+                    connectivityBreakAnalysisResults.contingencyElementByBranch(), Collections.emptySet(), participatingElements, Collections.emptySet(), resultWriter, reportNode, Collections.emptySet(), false,
+                    partialStatesSolver, pruning);
+        }
+        if (thresholdPruning) {
+            LOGGER.info("{} post-contingency sensitivity values pruned as guaranteed below sensitivity value thresholds", prunedValueCount);
+            Reports.reportSensitivityValuesPruned(reportNode, prunedValueCount);
+        }
+
+        LOGGER.info("Processing contingencies with connectivity break");
+
+        // process contingencies with connectivity break
+        for (ConnectivityBreakAnalysis.ConnectivityAnalysisResult connectivityAnalysisResult : connectivityBreakAnalysisResults.connectivityAnalysisResults()) {
+            matrixCopyValues(baseFlowStates, workingFlowStates);
+            matrixCopyValues(baseFactorStates, workingFactorStates);
+
+            processContingenciesBreakingConnectivity(connectivityAnalysisResult, loadFlowContext, lfParameters, lfParametersExt,
+                    validFactorHolder, factorGroups, participatingElements, connectivityBreakAnalysisResults.contingencyElementByBranch(),
+                    workingFlowStates, workingFactorStates, connectivityBreakAnalysisResults.contingenciesStates(), resultWriter, reportNode, partialStatesSolver);
         }
     }
 
@@ -507,8 +801,19 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
      */
     // TODO : implement this method for DenseMatrix in powsybl-core ?
     private static void matrixCopyValues(DenseMatrix originalMatrix, DenseMatrix copyMatrix) {
+        matrixCopyValues(originalMatrix, copyMatrix, null);
+    }
+
+    /**
+     * Same as {@link #matrixCopyValues(DenseMatrix, DenseMatrix)} but only for the columns to copy, all the columns
+     * being copied if columnsToCopy is null.
+     */
+    private static void matrixCopyValues(DenseMatrix originalMatrix, DenseMatrix copyMatrix, boolean[] columnsToCopy) {
         if (originalMatrix.getRowCount() == copyMatrix.getRowCount() && originalMatrix.getColumnCount() == copyMatrix.getColumnCount()) {
             for (int columnIndex = 0; columnIndex < originalMatrix.getColumnCount(); columnIndex++) {
+                if (columnsToCopy != null && !columnsToCopy[columnIndex]) {
+                    continue;
+                }
                 for (int rowIndex = 0; rowIndex < originalMatrix.getRowCount(); rowIndex++) {
                     copyMatrix.set(rowIndex, columnIndex, originalMatrix.get(rowIndex, columnIndex));
                 }
@@ -0,0 +1,351 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.commons.extensions.Extension;
+import com.powsybl.iidm.network.DefaultNetworkListener;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.MatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.dc.DcLoadFlowContext;
+import com.powsybl.openloadflow.dc.fastdc.StatesColumnCache;
+import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keep, for a network variant and a set of load flow parameters, what DC sensitivity analyses can reuse from a run
+ * to another: the network model, the load flow context with its factorized matrix, the pre-contingency flow states,
+ * and the factor and contingency state columns already computed.
+ * <p>
+ * Contrary to {@link com.powsybl.openloadflow.NetworkCache}, there is no incremental update: any change of the
+ * network variant, except state variables, invalidates the entry. Entries are evicted in least recently used order
+ * when there are more than {@link #getMaxEntryCount()} of them. An entry can only be used by one analysis at a time.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public enum DcSensitivityAnalysisCache {
+    INSTANCE;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DcSensitivityAnalysisCache.class);
+
+    public static final int DEFAULT_MAX_ENTRY_COUNT = 4;
+
+    public static class Entry extends DefaultNetworkListener {
+
+        private final WeakReference<Network> networkRef;
+
+        private final String workingVariantId;
+
+        private final LoadFlowParameters parameters;
+
+        private final Class<?> matrixFactoryClass;
+
+        private final Class<?> connectivityFactoryClass;
+
+        private final boolean floatContingencyStates;
+
+        private final Lock useLock = new ReentrantLock();
+
+        private volatile boolean valid = true;
+
+        private DcLoadFlowContext loadFlowContext;
+
+        private double[] baseFlowStates;
+
+        private final StatesColumnCache<Object> factorStatesCache = new StatesColumnCache<>();
+
+        private final StatesColumnCache<String> contingencyStatesCache = new StatesColumnCache<>();
+
+        Entry(Network network, LoadFlowParameters parameters, OpenSensitivityAnalysisParameters sensiParametersExt,
+              MatrixFactory matrixFactory, GraphConnectivityFactory<?, ?> connectivityFactory) {
+            Objects.requireNonNull(network);
+            this.networkRef = new WeakReference<>(network);
+            this.workingVariantId = network.getVariantManager().getWorkingVariantId();
+            this.parameters = Objects.requireNonNull(parameters);
+            this.matrixFactoryClass = matrixFactory.getClass();
+            this.connectivityFactoryClass = connectivityFactory.getClass();
+            this.floatContingencyStates = sensiParametersExt.isFloatContingencyStatesEnabled();
+        }
+
+        public WeakReference<Network> getNetworkRef() {
+            return networkRef;
+        }
+
+        public String getWorkingVariantId() {
+            return workingVariantId;
+        }
+
+        public boolean isValid() {
+            return valid;
+        }
+
+        public DcLoadFlowContext getLoadFlowContext() {
+            return loadFlowContext;
+        }
+
+        public void setLoadFlowContext(DcLoadFlowContext loadFlowContext) {
+            this.loadFlowContext = loadFlowContext;
+        }
+
+        public double[] getBaseFlowStates() {
+            return baseFlowStates;
+        }
+
+        public void setBaseFlowStates(double[] baseFlowStates) {
+            this.baseFlowStates = baseFlowStates;
+        }
+
+        public StatesColumnCache<Object> getFactorStatesCache() {
+            return factorStatesCache;
+        }
+
+        public StatesColumnCache<String> getContingencyStatesCache() {
+            return contingencyStatesCache;
+        }
+
+        private boolean isCompatible(LoadFlowParameters parameters, OpenSensitivityAnalysisParameters sensiParametersExt,
+                                     MatrixFactory matrixFactory, GraphConnectivityFactory<?, ?> connectivityFactory) {
+            return OpenLoadFlowParameters.equals(parameters, this.parameters)
+                    && sensiParametersExt.isFloatContingencyStatesEnabled() == floatContingencyStates
+                    && matrixFactory.getClass() == matrixFactoryClass
+                    && connectivityFactory.getClass() == connectivityFactoryClass;
+        }
+
+        private void invalidate() {
+            if (valid) {
+                valid = false;
+                LOGGER.debug("Sensitivity analysis cache of variant '{}' invalidated", workingVariantId);
+            }
+        }
+
+        private boolean isOtherVariant(String variantId) {
+            return variantId != null && !variantId.equals(workingVariantId);
+        }
+
+        @Override
+        public void onCreation(Identifiable identifiable) {
+            invalidate();
+        }
+
+        @Override
+        public void afterRemoval(String id) {
+            invalidate();
+        }
+
+        @Override
+        public void onUpdate(Identifiable identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+            if (isOtherVariant(variantId)) {
+                return;
+            }
+            switch (attribute) {
+                case "v",
+                     "angle",
+                     "p",
+                     "q",
+                     "p1",
+                     "q1",
+                     "p2",
+                     "q2",
+                     "p3",
+                     "q3",
+                     "connectedComponentNumber",
+                     "synchronousComponentNumber" -> { /* state update or components computed while loading the network, no impact on the analysis */ }
+                default -> invalidate();
+            }
+        }
+
+        @Override
+        public void onExtensionUpdate(Extension<?> extension, String attribute, String variantId, Object oldValue, Object newValue) {
+            if (!isOtherVariant(variantId)) {
+                invalidate();
+            }
+        }
+
+        @Override
+        public void onVariantOverwritten(String sourceVariantId, String targetVariantId) {
+            if (targetVariantId.equals(workingVariantId)) {
+                invalidate();
+            }
+        }
+
+        @Override
+        public void onVariantRemoved(String variantId) {
+            if (variantId.equals(workingVariantId)) {
+                invalidate();
+            }
+        }
+
+        private void close() {
+            if (loadFlowContext != null) {
+                loadFlowContext.close();
+                loadFlowContext = null;
+            }
+            baseFlowStates = null;
+            factorStatesCache.clear();
+            contingencyStatesCache.clear();
+            Network network = networkRef.get();
+            if (network != null) {
+                network.removeListener(this);
+            }
+        }
+    }
+
+    // least recently used first
+    private final List<Entry> entries = new ArrayList<>();
+
+    private final Lock lock = new ReentrantLock();
+
+    private int maxEntryCount = DEFAULT_MAX_ENTRY_COUNT;
+
+    private static boolean tryClose(Entry entry) {
+        if (entry.useLock.tryLock()) {
+            try {
+                entry.close();
+            } finally {
+                entry.useLock.unlock();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void evictEntries() {
+        // release resources of entries of dead networks or invalidated entries, except the ones being used
+        Iterator<Entry> it = entries.iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if ((entry.getNetworkRef().get() == null || !entry.isValid()) && tryClose(entry)) {
+                it.remove();
+            }
+        }
+        // then least recently used entries if still too many
+        it = entries.iterator();
+        while (entries.size() > maxEntryCount && it.hasNext()) {
+            Entry entry = it.next();
+            if (tryClose(entry)) {
+                it.remove();
+                LOGGER.info("Least recently used sensitivity analysis cache entry evicted ({} remains)", entries.size());
+            }
+        }
+    }
+
+    public int getMaxEntryCount() {
+        return maxEntryCount;
+    }
+
+    public void setMaxEntryCount(int maxEntryCount) {
+        if (maxEntryCount < 1) {
+            throw new IllegalArgumentException("Invalid max entry count: " + maxEntryCount);
+        }
+        lock.lock();
+        try {
+            this.maxEntryCount = maxEntryCount;
+            evictEntries();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getEntryCount() {
+        lock.lock();
+        try {
+            evictEntries();
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the entry of the working variant of the network, creating it if needed, and lock it for the exclusive use
+     * of the caller until {@link #release(Entry)}. An empty result means that the entry is already used by another
+     * analysis, so that the caller has to run without cache. An entry is only reused with the same load flow parameters
+     * and the same sensitivity analysis parameters changing the cached states.
+     */
+    public Optional<Entry> acquire(Network network, LoadFlowParameters parameters, OpenSensitivityAnalysisParameters sensiParametersExt,
+                                   MatrixFactory matrixFactory, GraphConnectivityFactory<?, ?> connectivityFactory) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(parameters);
+        Objects.requireNonNull(sensiParametersExt);
+        Objects.requireNonNull(matrixFactory);
+        Objects.requireNonNull(connectivityFactory);
+
+        lock.lock();
+        try {
+            evictEntries();
+
+            String variantId = network.getVariantManager().getWorkingVariantId();
+            Entry entry = entries.stream()
+                    .filter(e -> e.getNetworkRef().get() == network && e.getWorkingVariantId().equals(variantId))
+                    .findFirst()
+                    .orElse(null);
+            if (entry != null) {
+                if (!entry.useLock.tryLock()) {
+                    LOGGER.info("Sensitivity analysis cache of network '{}' and variant '{}' already in use", network.getId(), variantId);
+                    return Optional.empty();
+                }
+                if (entry.isValid() && entry.isCompatible(parameters, sensiParametersExt, matrixFactory, connectivityFactory)) {
+                    // move to most recently used position
+                    entries.remove(entry);
+                    entries.add(entry);
+                    LOGGER.info("Sensitivity analysis cache reused for network '{}' and variant '{}'", network.getId(), variantId);
+                    return Optional.of(entry);
+                }
+                // invalidated or parameters have changed
+                entry.close();
+                entry.useLock.unlock();
+                entries.remove(entry);
+            }
+
+            entry = new Entry(network, OpenLoadFlowParameters.clone(parameters), sensiParametersExt, matrixFactory, connectivityFactory);
+            entry.useLock.lock();
+            entries.add(entry);
+            network.addListener(entry);
+            evictEntries();
+            LOGGER.info("Sensitivity analysis cache created for network '{}' and variant '{}'", network.getId(), variantId);
+            return Optional.of(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release an entry previously acquired, so that it can be reused by another analysis.
+     */
+    public void release(Entry entry) {
+        Objects.requireNonNull(entry);
+        lock.lock();
+        try {
+            if (!entry.isValid()) {
+                // the network has been modified during the analysis
+                entry.close();
+                entries.remove(entry);
+            }
+        } finally {
+            entry.useLock.unlock();
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            entries.removeIf(DcSensitivityAnalysisCache::tryClose);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -22,9 +22,29 @@ public class OpenSensitivityAnalysisParameters extends AbstractExtension<Sensiti
 
     private String debugDir;
 
+    private boolean cacheEnabled = CACHE_ENABLED_DEFAULT_VALUE;
+
+    private boolean thresholdPruningEnabled = THRESHOLD_PRUNING_ENABLED_DEFAULT_VALUE;
+
+    private boolean compactFactorStorageEnabled = COMPACT_FACTOR_STORAGE_ENABLED_DEFAULT_VALUE;
+
+    private boolean floatContingencyStatesEnabled = FLOAT_CONTINGENCY_STATES_ENABLED_DEFAULT_VALUE;
+
     public static final String DEBUG_DIR_PARAM_NAME = "debugDir";
     public static final String DEBUG_DIR_DEFAULT_VALUE = "";
-    public static final List<String> SPECIFIC_PARAMETERS_NAMES = List.of(DEBUG_DIR_PARAM_NAME);
+    public static final String CACHE_ENABLED_PARAM_NAME = "cacheEnabled";
+    public static final boolean CACHE_ENABLED_DEFAULT_VALUE = false;
+    public static final String THRESHOLD_PRUNING_ENABLED_PARAM_NAME = "thresholdPruningEnabled";
+    public static final boolean THRESHOLD_PRUNING_ENABLED_DEFAULT_VALUE = false;
+    public static final String COMPACT_FACTOR_STORAGE_ENABLED_PARAM_NAME = "compactFactorStorageEnabled";
+    public static final boolean COMPACT_FACTOR_STORAGE_ENABLED_DEFAULT_VALUE = false;
+    public static final String FLOAT_CONTINGENCY_STATES_ENABLED_PARAM_NAME = "floatContingencyStatesEnabled";
+    public static final boolean FLOAT_CONTINGENCY_STATES_ENABLED_DEFAULT_VALUE = false;
+    public static final List<String> SPECIFIC_PARAMETERS_NAMES = List.of(DEBUG_DIR_PARAM_NAME,
+                                                                         CACHE_ENABLED_PARAM_NAME,
+                                                                         THRESHOLD_PRUNING_ENABLED_PARAM_NAME,
+                                                                         COMPACT_FACTOR_STORAGE_ENABLED_PARAM_NAME,
+                                                                         FLOAT_CONTINGENCY_STATES_ENABLED_PARAM_NAME);
 
     @Override
     public String getName() {
@@ -40,6 +60,59 @@ public class OpenSensitivityAnalysisParameters extends AbstractExtension<Sensiti
         return this;
     }
 
+    /**
+     * If true, in DC mode, the network model, the factorized matrix and the computed states are kept in
+     * {@link DcSensitivityAnalysisCache} to be reused by next analysis on the same network variant.
+     */
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    public OpenSensitivityAnalysisParameters setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+        return this;
+    }
+
+    /**
+     * If true, in DC mode, post-contingency sensitivity values that are guaranteed to be below the sensitivity value
+     * thresholds of {@link SensitivityAnalysisParameters} are not computed at all.
+     */
+    public boolean isThresholdPruningEnabled() {
+        return thresholdPruningEnabled;
+    }
+
+    public OpenSensitivityAnalysisParameters setThresholdPruningEnabled(boolean thresholdPruningEnabled) {
+        this.thresholdPruningEnabled = thresholdPruningEnabled;
+        return this;
+    }
+
+    /**
+     * If true, in DC mode, factors are checked while being read and only kept in memory in a compact form, full factor
+     * objects being created on the fly when computing and writing results. This is meant for very large factor sets.
+     */
+    public boolean isCompactFactorStorageEnabled() {
+        return compactFactorStorageEnabled;
+    }
+
+    public OpenSensitivityAnalysisParameters setCompactFactorStorageEnabled(boolean compactFactorStorageEnabled) {
+        this.compactFactorStorageEnabled = compactFactorStorageEnabled;
+        return this;
+    }
+
+    /**
+     * If true, in DC mode, the states of the contingency elements are stored in single precision to halve their memory,
+     * the values used to detect connectivity breaks and to compute the impact of contingencies being kept in double
+     * precision.
+     */
+    public boolean isFloatContingencyStatesEnabled() {
+        return floatContingencyStatesEnabled;
+    }
+
+    public OpenSensitivityAnalysisParameters setFloatContingencyStatesEnabled(boolean floatContingencyStatesEnabled) {
+        this.floatContingencyStatesEnabled = floatContingencyStatesEnabled;
+        return this;
+    }
+
     public static OpenSensitivityAnalysisParameters load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -48,13 +121,21 @@ public class OpenSensitivityAnalysisParameters extends AbstractExtension<Sensiti
         OpenSensitivityAnalysisParameters parameters = new OpenSensitivityAnalysisParameters();
         platformConfig.getOptionalModuleConfig("open-sensitivityanalysis-default-parameters")
                 .ifPresent(config -> parameters
-                        .setDebugDir(config.getStringProperty(DEBUG_DIR_PARAM_NAME, DEBUG_DIR_DEFAULT_VALUE)));
+                        .setDebugDir(config.getStringProperty(DEBUG_DIR_PARAM_NAME, DEBUG_DIR_DEFAULT_VALUE))
+                        .setCacheEnabled(config.getBooleanProperty(CACHE_ENABLED_PARAM_NAME, CACHE_ENABLED_DEFAULT_VALUE))
+                        .setThresholdPruningEnabled(config.getBooleanProperty(THRESHOLD_PRUNING_ENABLED_PARAM_NAME, THRESHOLD_PRUNING_ENABLED_DEFAULT_VALUE))
+                        .setCompactFactorStorageEnabled(config.getBooleanProperty(COMPACT_FACTOR_STORAGE_ENABLED_PARAM_NAME, COMPACT_FACTOR_STORAGE_ENABLED_DEFAULT_VALUE))
+                        .setFloatContingencyStatesEnabled(config.getBooleanProperty(FLOAT_CONTINGENCY_STATES_ENABLED_PARAM_NAME, FLOAT_CONTINGENCY_STATES_ENABLED_DEFAULT_VALUE)));
         return parameters;
     }
 
     public static OpenSensitivityAnalysisParameters load(Map<String, String> properties) {
         OpenSensitivityAnalysisParameters parameters = new OpenSensitivityAnalysisParameters();
         Optional.ofNullable(properties.get(DEBUG_DIR_PARAM_NAME)).ifPresent(parameters::setDebugDir);
+        Optional.ofNullable(properties.get(CACHE_ENABLED_PARAM_NAME)).ifPresent(prop -> parameters.setCacheEnabled(Boolean.parseBoolean(prop)));
+        Optional.ofNullable(properties.get(THRESHOLD_PRUNING_ENABLED_PARAM_NAME)).ifPresent(prop -> parameters.setThresholdPruningEnabled(Boolean.parseBoolean(prop)));
+        Optional.ofNullable(properties.get(COMPACT_FACTOR_STORAGE_ENABLED_PARAM_NAME)).ifPresent(prop -> parameters.setCompactFactorStorageEnabled(Boolean.parseBoolean(prop)));
+        Optional.ofNullable(properties.get(FLOAT_CONTINGENCY_STATES_ENABLED_PARAM_NAME)).ifPresent(prop -> parameters.setFloatContingencyStatesEnabled(Boolean.parseBoolean(prop)));
         return parameters;
     }
 }
@@ -7,9 +7,16 @@
  */
 package com.powsybl.openloadflow.util;
 
+import com.powsybl.commons.PowsyblException;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -43,4 +50,45 @@ public final class Lists2 {
         }
         return partitions;
     }
+
+    /**
+     * Map each element of the list using at most a given number of threads. Results are in the same order as the
+     * elements. A runtime exception thrown by the mapper is rethrown as is in the calling thread.
+     */
+    public static <E, R> List<R> parallelMap(List<E> list, Function<E, R> mapper, int threadCount) {
+        Objects.requireNonNull(list);
+        Objects.requireNonNull(mapper);
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count should be > 0");
+        }
+        if (threadCount == 1 || list.size() <= 1) {
+            List<R> results = new ArrayList<>(list.size());
+            for (E e : list) {
+                results.add(mapper.apply(e));
+            }
+            return results;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, list.size()));
+        try {
+            List<Future<R>> futures = new ArrayList<>(list.size());
+            for (E e : list) {
+                futures.add(executor.submit(() -> mapper.apply(e)));
+            }
+            List<R> results = new ArrayList<>(futures.size());
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new PowsyblException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -493,6 +493,14 @@ public final class Reports {
                 .add();
     }
 
+    public static void reportSensitivityValuesPruned(ReportNode reportNode, int prunedValueCount) {
+        reportNode.newReportNode()
+                .withMessageTemplate("sensitivityValuesPruned", "${prunedValueCount} post-contingency sensitivity values pruned as guaranteed below sensitivity value thresholds")
+                .withUntypedValue("prunedValueCount", prunedValueCount)
+                .withSeverity(TypedValue.INFO_SEVERITY)
+                .add();
+    }
+
     public static ReportNode createAcSecurityAnalysis(ReportNode reportNode, String networkId) {
         return reportNode.newReportNode()
                 .withMessageTemplate("acSecurityAnalysis", "AC security analysis on network '${networkId}'")
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.powsybl.openloadflow.util.LoadFlowAssert.DELTA_POWER;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class DcBatchLoadFlowTest {
+
+    private LoadFlow.Runner loadFlowRunner;
+
+    private LoadFlowParameters parameters;
+
+    @BeforeEach
+    void setUp() {
+        loadFlowRunner = new LoadFlow.Runner(new OpenLoadFlowProvider(new DenseMatrixFactory()));
+        parameters = new LoadFlowParameters()
+                .setDc(true);
+    }
+
+    private static List<Map<String, Double>> createScenarios() {
+        List<Map<String, Double>> scenarios = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            scenarios.add(Map.of("B2-G", 40.0 + 10 * i,
+                                 "B3-L", 94.2 - 5 * i,
+                                 "B9-L", 29.5 + 3 * i));
+        }
+        scenarios.add(Map.of()); // initial injections
+        return scenarios;
+    }
+
+    private static void applyScenario(Network network, Map<String, Double> scenario) {
+        scenario.forEach((id, p) -> {
+            Generator generator = network.getGenerator(id);
+            if (generator != null) {
+                generator.setTargetP(p);
+            } else {
+                network.getLoad(id).setP0(p);
+            }
+        });
+    }
+
+    private void assertSameFlowsAsLoadFlow(int blockSize) {
+        Network network = IeeeCdfNetworkFactory.create14();
+        List<Map<String, Double>> scenarios = createScenarios();
+        List<DcBatchLoadFlow.ScenarioResult> results = new ArrayList<>();
+        List<String> branchIds;
+        try (DcBatchLoadFlow batchLoadFlow = new DcBatchLoadFlow(network, parameters, new DenseMatrixFactory(), blockSize, ReportNode.NO_OP)) {
+            branchIds = batchLoadFlow.getBranchIds();
+            batchLoadFlow.run(scenarios.stream(), results::add);
+        }
+        assertEquals(network.getBranchCount(), branchIds.size());
+        assertEquals(scenarios.size(), results.size());
+        for (int i = 0; i < scenarios.size(); i++) {
+            DcBatchLoadFlow.ScenarioResult result = results.get(i);
+            assertEquals(i, result.index());
+            assertTrue(result.success());
+
+            Network scenarioNetwork = IeeeCdfNetworkFactory.create14();
+            applyScenario(scenarioNetwork, scenarios.get(i));
+            LoadFlowResult loadFlowResult = loadFlowRunner.run(scenarioNetwork, parameters);
+            assertTrue(loadFlowResult.isFullyConverged());
+            for (int b = 0; b < branchIds.size(); b++) {
+                String branchId = branchIds.get(b);
+                assertEquals(scenarioNetwork.getBranch(branchId).getTerminal1().getP(), result.activePower1()[b], DELTA_POWER, branchId);
+            }
+            LoadFlowResult.ComponentResult componentResult = loadFlowResult.getComponentResults().get(0);
+            assertEquals(componentResult.getDistributedActivePower(), result.distributedActivePower(), DELTA_POWER);
+            assertEquals(componentResult.getSlackBusResults().get(0).getActivePowerMismatch(), result.slackBusActivePowerMismatch(), DELTA_POWER);
+        }
+    }
+
+    @Test
+    void testDistributedSlack() {
+        // 2 scenarios per block, so that last block is not full
+        assertSameFlowsAsLoadFlow(2);
+    }
+
+    @Test
+    void testNoDistributedSlack() {
+        parameters.setDistributedSlack(false);
+        assertSameFlowsAsLoadFlow(DcBatchLoadFlow.DEFAULT_BLOCK_SIZE);
+    }
+
+    @Test
+    void testDistributedSlackOnLoads() {
+        parameters.setBalanceType(LoadFlowParameters.BalanceType.PROPORTIONAL_TO_LOAD);
+        assertSameFlowsAsLoadFlow(4);
+    }
+
+    @Test
+    void testErrors() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        DenseMatrixFactory matrixFactory = new DenseMatrixFactory();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new DcBatchLoadFlow(network, parameters, matrixFactory, 0, ReportNode.NO_OP));
+        assertEquals("Invalid block size: 0", e.getMessage());
+        try (DcBatchLoadFlow batchLoadFlow = new DcBatchLoadFlow(network, parameters)) {
+            Stream<Map<String, Double>> scenarios = Stream.of(Map.of("x", 10.0));
+            PowsyblException e2 = assertThrows(PowsyblException.class, () -> batchLoadFlow.run(scenarios, result -> { }));
+            assertEquals("Injection 'x' not found", e2.getMessage());
+        }
+    }
+}
@@ -23,6 +23,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 import static com.powsybl.openloadflow.util.LoadFlowAssert.*;
 import static com.powsybl.openloadflow.util.LoadFlowAssert.assertActivePowerEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -668,4 +671,38 @@ class AcLoadFlowVscTest {
         assertAngleEquals(-0.030988, cs3.getTerminal().getBusView().getBus());
         assertActivePowerEquals(5.578, network.getVscConverterStation("cs2Bis").getTerminal()); // 0MW + 180 MW/deg * 0.030988deg
     }
+
+    private static List<Double> getBusStates(Network network) {
+        return network.getBusView().getBusStream()
+                .flatMap(bus -> Stream.of(bus.getV(), bus.getAngle()))
+                .toList();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testParallelComponentSolving(boolean dc) {
+        Network network = HvdcNetworkFactory.createVsc();
+        LoadFlow.Runner loadFlowRunner = new LoadFlow.Runner(new OpenLoadFlowProvider(new DenseMatrixFactory()));
+        LoadFlowParameters parameters = new LoadFlowParameters()
+                .setDc(dc);
+        OpenLoadFlowParameters parametersExt = OpenLoadFlowParameters.create(parameters);
+        LoadFlowResult result = loadFlowRunner.run(network, parameters);
+        assertTrue(result.isFullyConverged());
+        assertEquals(2, result.getComponentResults().size());
+        List<Double> busStates = getBusStates(network);
+
+        parametersExt.setComponentSolvingThreadCount(2);
+        LoadFlowResult parallelResult = loadFlowRunner.run(network, parameters);
+        assertTrue(parallelResult.isFullyConverged());
+        assertEquals(result.getComponentResults().size(), parallelResult.getComponentResults().size());
+        for (int i = 0; i < result.getComponentResults().size(); i++) {
+            LoadFlowResult.ComponentResult componentResult = result.getComponentResults().get(i);
+            LoadFlowResult.ComponentResult parallelComponentResult = parallelResult.getComponentResults().get(i);
+            assertEquals(componentResult.getConnectedComponentNum(), parallelComponentResult.getConnectedComponentNum());
+            assertEquals(componentResult.getSynchronousComponentNum(), parallelComponentResult.getSynchronousComponentNum());
+            assertEquals(componentResult.getStatus(), parallelComponentResult.getStatus());
+            assertEquals(componentResult.getIterationCount(), parallelComponentResult.getIterationCount());
+        }
+        assertEquals(busStates, getBusStates(network));
+    }
 }
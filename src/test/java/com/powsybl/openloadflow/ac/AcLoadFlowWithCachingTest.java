@@ -10,6 +10,7 @@ package com.powsybl.openloadflow.ac;
 import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
 import com.powsybl.iidm.network.Bus;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyKind;
 import com.powsybl.iidm.network.VariantManagerConstants;
 import com.powsybl.iidm.network.extensions.*;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
@@ -28,6 +29,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static com.powsybl.openloadflow.util.LoadFlowAssert.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -718,4 +720,257 @@ class AcLoadFlowWithCachingTest {
         newGen.setTargetV(newGen.getTargetV() + 0.1);
         assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts()); // check cache has not been invalidated
     }
+
+    private LoadFlowResult runWithoutCache(Network network) {
+        LoadFlowParameters parametersWithoutCache = OpenLoadFlowParameters.clone(parameters);
+        OpenLoadFlowParameters.get(parametersWithoutCache).setNetworkCacheEnabled(false);
+        return loadFlowRunner.run(network, parametersWithoutCache);
+    }
+
+    /**
+     * Run without cache a load flow on the network, then another one after the modification starting, as with cache,
+     * from the voltages of the first one.
+     */
+    private LoadFlowResult runWithoutCache(Network network, Consumer<Network> modification) {
+        assertTrue(runWithoutCache(network).isFullyConverged());
+        modification.accept(network);
+        return runFromPreviousValuesWithoutCache(network);
+    }
+
+    private LoadFlowResult runFromPreviousValuesWithoutCache(Network network) {
+        LoadFlowParameters parametersWithoutCache = OpenLoadFlowParameters.clone(parameters)
+                .setVoltageInitMode(LoadFlowParameters.VoltageInitMode.PREVIOUS_VALUES);
+        OpenLoadFlowParameters.get(parametersWithoutCache).setNetworkCacheEnabled(false);
+        return loadFlowRunner.run(network, parametersWithoutCache);
+    }
+
+    private static void assertSameBusVoltages(Network expected, Network actual) {
+        for (Bus bus : actual.getBusView().getBuses()) {
+            Bus expectedBus = expected.getBusView().getBus(bus.getId());
+            assertVoltageEquals(expectedBus.getV(), bus);
+            assertAngleEquals(expectedBus.getAngle(), bus);
+        }
+    }
+
+    @Test
+    void testLoadTargetChange() {
+        var network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        var load = network.getLoad("LOAD");
+
+        loadFlowRunner.run(network, parameters);
+        load.setP0(550);
+        load.setQ0(180);
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts()); // check cache has not been invalidated
+
+        LoadFlowResult result = loadFlowRunner.run(network, parameters);
+        assertTrue(result.isFullyConverged());
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
+
+        var expectedNetwork = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        assertTrue(runWithoutCache(expectedNetwork, n -> n.getLoad("LOAD").setP0(550).setQ0(180)).isFullyConverged());
+        assertSameBusVoltages(expectedNetwork, network);
+        assertActivePowerEquals(expectedNetwork.getGenerator("GEN").getTerminal().getP(), network.getGenerator("GEN").getTerminal());
+        assertActivePowerEquals(550, load.getTerminal());
+    }
+
+    @Test
+    void testLoadPowerFactorConstantByLoadUpdate() {
+        var network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        var load = network.getLoad("LOAD");
+
+        loadFlowRunner.run(network, parameters);
+        LfLoad lfLoad = NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts().get(0).getNetwork().getLoadById("LOAD");
+        assertFalse(lfLoad.ensurePowerFactorConstantByLoad());
+
+        // negative load
+        load.setP0(-10);
+        assertTrue(lfLoad.ensurePowerFactorConstantByLoad());
+
+        // back to a positive load
+        load.setP0(550);
+        assertFalse(lfLoad.ensurePowerFactorConstantByLoad());
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts()); // check cache has not been invalidated
+    }
+
+    @Test
+    void testLoadDisconnection() {
+        var network = IeeeCdfNetworkFactory.create14();
+        var load = network.getLoad("B3-L");
+
+        loadFlowRunner.run(network, parameters);
+        load.getTerminal().disconnect();
+        LoadFlowResult result = loadFlowRunner.run(network, parameters);
+        assertTrue(result.isFullyConverged());
+
+        var expectedNetwork = IeeeCdfNetworkFactory.create14();
+        assertTrue(runWithoutCache(expectedNetwork, n -> n.getLoad("B3-L").getTerminal().disconnect()).isFullyConverged());
+        assertSameBusVoltages(expectedNetwork, network);
+
+        // back to initial state
+        load.getTerminal().connect();
+        result = loadFlowRunner.run(network, parameters);
+        assertTrue(result.isFullyConverged());
+
+        expectedNetwork.getLoad("B3-L").getTerminal().connect();
+        assertTrue(runFromPreviousValuesWithoutCache(expectedNetwork).isFullyConverged());
+        assertSameBusVoltages(expectedNetwork, network);
+    }
+
+    @Test
+    void testDisconnectedLoadCreation() {
+        var network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+
+        loadFlowRunner.run(network, parameters);
+        network.getSubstation("P2").newVoltageLevel()
+                .setId("NEWVL")
+                .setNominalV(150)
+                .setTopologyKind(TopologyKind.BUS_BREAKER)
+                .add();
+        network.getVoltageLevel("VLLOAD").newLoad()
+                .setId("NEWLOAD")
+                .setConnectableBus("NLOAD")
+                .setP0(10)
+                .setQ0(10)
+                .add();
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts()); // check cache has not been invalidated
+    }
+
+    @Test
+    void testLineImpedanceChange() {
+        var network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        var line = network.getLine("NHV1_NHV2_1");
+
+        loadFlowRunner.run(network, parameters);
+        line.setR(5).setX(45);
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts()); // check cache has not been invalidated
+
+        LoadFlowResult result = loadFlowRunner.run(network, parameters);
+        assertTrue(result.isFullyConverged());
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
+
+        var expectedNetwork = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        assertTrue(runWithoutCache(expectedNetwork, n -> n.getLine("NHV1_NHV2_1").setR(5).setX(45)).isFullyConverged());
+        assertSameBusVoltages(expectedNetwork, network);
+        assertActivePowerEquals(expectedNetwork.getLine("NHV1_NHV2_1").getTerminal1().getP(), line.getTerminal1());
+
+        // zero impedance line would change the structure of the network
+        line.setR(0).setX(0);
+        assertNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
+    }
+
+    @Test
+    void testHvdcActivePowerSetpointChange() {
+        var network = HvdcNetworkFactory.createVsc();
+        var hvdc = network.getHvdcLine("hvdc23");
+
+        loadFlowRunner.run(network, parameters);
+        hvdc.setActivePowerSetpoint(30);
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts()); // check cache has not been invalidated
+
+        loadFlowRunner.run(network, parameters);
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
+
+        var expectedNetwork = HvdcNetworkFactory.createVsc();
+        runWithoutCache(expectedNetwork, n -> n.getHvdcLine("hvdc23").setActivePowerSetpoint(30));
+        assertSameBusVoltages(expectedNetwork, network);
+        assertActivePowerEquals(expectedNetwork.getVscConverterStation("cs2").getTerminal().getP(), network.getVscConverterStation("cs2").getTerminal());
+        assertActivePowerEquals(expectedNetwork.getVscConverterStation("cs3").getTerminal().getP(), network.getVscConverterStation("cs3").getTerminal());
+    }
+
+    @Test
+    void testPhaseTapPositionChange() {
+        var network = PhaseControlFactory.createNetworkWithT2wt();
+        var ps1 = network.getTwoWindingsTransformer("PS1");
+
+        parametersExt.setActionableTransformersIds(Set.of("PS1"));
+        loadFlowRunner.run(network, parameters);
+        ps1.getPhaseTapChanger().setTapPosition(2);
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts()); // check cache has not been invalidated
+
+        LoadFlowResult result = loadFlowRunner.run(network, parameters);
+        assertTrue(result.isFullyConverged());
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
+
+        var expectedNetwork = PhaseControlFactory.createNetworkWithT2wt();
+        assertTrue(runWithoutCache(expectedNetwork, n -> n.getTwoWindingsTransformer("PS1").getPhaseTapChanger().setTapPosition(2)).isFullyConverged());
+        assertSameBusVoltages(expectedNetwork, network);
+        assertActivePowerEquals(expectedNetwork.getLine("L1").getTerminal1().getP(), network.getLine("L1").getTerminal1());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        int maxEntryCount = NetworkCache.INSTANCE.getMaxEntryCount();
+        try {
+            NetworkCache.INSTANCE.setMaxEntryCount(2);
+            var network1 = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+            var network2 = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+            var network3 = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+            loadFlowRunner.run(network1, parameters);
+            loadFlowRunner.run(network2, parameters);
+            loadFlowRunner.run(network1, parameters);
+            assertEquals(1, NetworkCache.INSTANCE.getHitCount());
+            assertEquals(2, NetworkCache.INSTANCE.getMissCount());
+
+            // network2 is the least recently used one
+            loadFlowRunner.run(network3, parameters);
+            assertEquals(2, NetworkCache.INSTANCE.getEntryCount());
+            assertEquals(1, NetworkCache.INSTANCE.getEvictionCount());
+            assertTrue(NetworkCache.INSTANCE.findEntry(network1).isPresent());
+            assertTrue(NetworkCache.INSTANCE.findEntry(network2).isEmpty());
+            assertTrue(NetworkCache.INSTANCE.findEntry(network3).isPresent());
+
+            // evicted network is not listened anymore, and can be cached again, which is a new miss evicting network1
+            // as looking up entries above has not changed the least recently used order
+            network2.getGenerator("GEN").setTargetV(24.2);
+            LoadFlowResult result = loadFlowRunner.run(network2, parameters);
+            assertTrue(result.isFullyConverged());
+            assertEquals(1, NetworkCache.INSTANCE.getHitCount());
+            assertEquals(4, NetworkCache.INSTANCE.getMissCount());
+            assertEquals(2, NetworkCache.INSTANCE.getEvictionCount());
+            assertTrue(NetworkCache.INSTANCE.findEntry(network1).isEmpty());
+            assertTrue(NetworkCache.INSTANCE.findEntry(network3).isPresent());
+
+            // parameters change is a miss and an eviction
+            parameters.setDistributedSlack(!parameters.isDistributedSlack());
+            loadFlowRunner.run(network3, parameters);
+            assertEquals(5, NetworkCache.INSTANCE.getMissCount());
+            assertEquals(3, NetworkCache.INSTANCE.getEvictionCount());
+            assertEquals(2, NetworkCache.INSTANCE.getEntryCount());
+
+            assertThrows(IllegalArgumentException.class, () -> NetworkCache.INSTANCE.setMaxEntryCount(0));
+        } finally {
+            NetworkCache.INSTANCE.setMaxEntryCount(maxEntryCount);
+        }
+    }
+
+    @Test
+    void testEstimatedSizeEviction() {
+        long maxEstimatedSize = NetworkCache.INSTANCE.getMaxEstimatedSize();
+        try {
+            var network = IeeeCdfNetworkFactory.create14();
+            loadFlowRunner.run(network, parameters);
+            long estimatedSize = NetworkCache.INSTANCE.getEstimatedSize();
+            assertTrue(estimatedSize > 0);
+            assertEquals(estimatedSize, NetworkCache.INSTANCE.findEntry(network).orElseThrow().getEstimatedSize());
+
+            // entry is evicted after the run as it does not fit anymore
+            NetworkCache.INSTANCE.setMaxEstimatedSize(estimatedSize - 1);
+            assertEquals(0, NetworkCache.INSTANCE.getEntryCount());
+            network.getLoad("B3-L").setP0(100);
+            LoadFlowResult result = loadFlowRunner.run(network, parameters);
+            assertTrue(result.isFullyConverged());
+            assertEquals(0, NetworkCache.INSTANCE.getEntryCount());
+            assertEquals(2, NetworkCache.INSTANCE.getEvictionCount());
+
+            // network has been updated before the entry is evicted
+            var expectedNetwork = IeeeCdfNetworkFactory.create14();
+            expectedNetwork.getLoad("B3-L").setP0(100);
+            assertTrue(runWithoutCache(expectedNetwork).isFullyConverged());
+            assertSameBusVoltages(expectedNetwork, network);
+
+            assertThrows(IllegalArgumentException.class, () -> NetworkCache.INSTANCE.setMaxEstimatedSize(-1));
+        } finally {
+            NetworkCache.INSTANCE.setMaxEstimatedSize(maxEstimatedSize);
+        }
+    }
 }
@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.dc;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.PhaseTapChanger;
+import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.math.matrix.LUDecomposition;
+import com.powsybl.math.matrix.MatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.graph.NaiveGraphConnectivityFactory;
+import com.powsybl.openloadflow.network.LfBranch;
+import com.powsybl.openloadflow.network.LfElement;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.PhaseControlFactory;
+import com.powsybl.openloadflow.network.PiModelArray;
+import com.powsybl.openloadflow.network.impl.LfNetworkLoaderImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class DcJacobianMatrixTest {
+
+    private static final double EPSILON = 1e-10;
+
+    /**
+     * Counts the decompositions and decomposition updates of the matrices it creates.
+     */
+    private static final class CountingMatrixFactory extends DenseMatrixFactory {
+
+        private int decompositionCount = 0;
+
+        @Override
+        public DenseMatrix create(int rowCount, int columnCount, int estimatedValueCount) {
+            return new DenseMatrix(rowCount, columnCount) {
+                @Override
+                public LUDecomposition decomposeLU() {
+                    decompositionCount++;
+                    LUDecomposition delegate = super.decomposeLU();
+                    return new LUDecomposition() {
+                        @Override
+                        public void update() {
+                            decompositionCount++;
+                            delegate.update();
+                        }
+
+                        @Override
+                        public void update(boolean allowIncrementalUpdate) {
+                            decompositionCount++;
+                            delegate.update(allowIncrementalUpdate);
+                        }
+
+                        @Override
+                        public void solve(double[] b) {
+                            delegate.solve(b);
+                        }
+
+                        @Override
+                        public void solveTransposed(double[] b) {
+                            delegate.solveTransposed(b);
+                        }
+
+                        @Override
+                        public void solve(DenseMatrix b) {
+                            delegate.solve(b);
+                        }
+
+                        @Override
+                        public void solveTransposed(DenseMatrix b) {
+                            delegate.solveTransposed(b);
+                        }
+
+                        @Override
+                        public void close() {
+                            delegate.close();
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    private Network network;
+
+    private LoadFlowParameters parameters;
+
+    @BeforeEach
+    void setUp() {
+        network = PhaseControlFactory.createNetworkWithT2wt();
+        TwoWindingsTransformer ps1 = network.getTwoWindingsTransformer("PS1");
+        // tap changes also change the admittance of the phase shifter
+        ps1.getPhaseTapChanger().getStep(0).setX(-10).setRho(0.95);
+        ps1.getPhaseTapChanger().getStep(2).setX(20).setRho(1.1);
+        ps1.getPhaseTapChanger().setRegulationMode(PhaseTapChanger.RegulationMode.ACTIVE_POWER_CONTROL)
+                .setTargetDeadband(10)
+                .setRegulating(true);
+        parameters = new LoadFlowParameters()
+                .setDc(true);
+    }
+
+    private DcLoadFlowContext createContext() {
+        return createContext(new DenseMatrixFactory());
+    }
+
+    private DcLoadFlowContext createContext(MatrixFactory matrixFactory) {
+        DcLoadFlowParameters dcParameters = OpenLoadFlowParameters.createDcParameters(network, parameters, OpenLoadFlowParameters.create(parameters),
+                                                                                      matrixFactory,
+                                                                                      new NaiveGraphConnectivityFactory<>(LfElement::getNum),
+                                                                                      false);
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), dcParameters.getNetworkParameters()).get(0);
+        return new DcLoadFlowContext(lfNetwork, dcParameters);
+    }
+
+    private static double[] solve(DcLoadFlowContext context) {
+        double[] x = context.getTargetVector().getArray().clone();
+        context.getJacobianMatrix().solveTransposed(x);
+        return x;
+    }
+
+    @Test
+    void testLowRankUpdates() {
+        try (DcLoadFlowContext context = createContext()) {
+            DcJacobianMatrix jacobianMatrix = (DcJacobianMatrix) context.getJacobianMatrix();
+            LfBranch ps1 = context.getNetwork().getBranchById("PS1");
+            assertInstanceOf(PiModelArray.class, ps1.getPiModel());
+            double[] x1 = solve(context);
+
+            jacobianMatrix.setLowRankUpdates(true);
+            assertTrue(jacobianMatrix.isLowRankUpdates());
+            ps1.getPiModel().setTapPosition(2);
+            double[] x2 = solve(context);
+            assertFalse(Arrays.equals(x1, x2));
+
+            // same solution as with a new factorization
+            jacobianMatrix.setLowRankUpdates(false);
+            assertArrayEquals(x2, solve(context), EPSILON);
+
+            // several changes, back to the factorized tap position
+            jacobianMatrix.setLowRankUpdates(true);
+            ps1.getPiModel().setTapPosition(0);
+            double[] x0 = solve(context);
+            ps1.getPiModel().setTapPosition(2);
+            assertArrayEquals(x2, solve(context), EPSILON);
+
+            // several right hand sides at once
+            ps1.getPiModel().setTapPosition(1);
+            double[] target = context.getTargetVector().getArray();
+            DenseMatrix b = new DenseMatrix(target.length, 2);
+            for (int row = 0; row < target.length; row++) {
+                b.set(row, 0, target[row]);
+                b.set(row, 1, 2 * target[row]);
+            }
+            jacobianMatrix.solveTransposed(b);
+            for (int row = 0; row < target.length; row++) {
+                assertEquals(x1[row], b.get(row, 0), EPSILON);
+                assertEquals(2 * x1[row], b.get(row, 1), EPSILON);
+            }
+
+            ps1.getPiModel().setTapPosition(0);
+            jacobianMatrix.setLowRankUpdates(false);
+            assertFalse(jacobianMatrix.isLowRankUpdates());
+            assertArrayEquals(x0, solve(context), EPSILON);
+        }
+    }
+
+    @Test
+    void testLowRankUpdatesKeepDecomposition() {
+        CountingMatrixFactory matrixFactory = new CountingMatrixFactory();
+        try (DcLoadFlowContext context = createContext(matrixFactory)) {
+            DcJacobianMatrix jacobianMatrix = (DcJacobianMatrix) context.getJacobianMatrix();
+            LfBranch ps1 = context.getNetwork().getBranchById("PS1");
+            jacobianMatrix.setLowRankUpdates(true);
+            double[] x1 = solve(context);
+            assertEquals(1, matrixFactory.decompositionCount);
+
+            // the tap change is applied with corrections, without a new decomposition
+            ps1.getPiModel().setTapPosition(2);
+            double[] x2 = solve(context);
+            assertFalse(Arrays.equals(x1, x2));
+            assertEquals(1, matrixFactory.decompositionCount);
+
+            // same solution as with a new decomposition
+            jacobianMatrix.setLowRankUpdates(false);
+            assertArrayEquals(x2, solve(context), EPSILON);
+            assertEquals(2, matrixFactory.decompositionCount);
+        }
+    }
+}
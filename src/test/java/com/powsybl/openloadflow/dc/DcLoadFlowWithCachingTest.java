@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.dc;
+
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Line;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.openloadflow.NetworkCache;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.OpenLoadFlowProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.powsybl.openloadflow.util.LoadFlowAssert.assertActivePowerEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class DcLoadFlowWithCachingTest {
+
+    private LoadFlow.Runner loadFlowRunner;
+
+    private LoadFlowParameters parameters;
+
+    @BeforeEach
+    void setUp() {
+        loadFlowRunner = new LoadFlow.Runner(new OpenLoadFlowProvider(new DenseMatrixFactory()));
+        parameters = new LoadFlowParameters()
+                .setDc(true);
+        OpenLoadFlowParameters.create(parameters)
+                .setNetworkCacheEnabled(true);
+        NetworkCache.INSTANCE.clear();
+    }
+
+    private List<DcLoadFlowContext> getDcContexts(Network network) {
+        return NetworkCache.INSTANCE.findEntry(network).orElseThrow().getDcContexts();
+    }
+
+    private void assertSameFlowsAsWithoutCache(Network network, Consumer<Network> modification) {
+        Network expectedNetwork = IeeeCdfNetworkFactory.create14();
+        modification.accept(expectedNetwork);
+        LoadFlowParameters parametersWithoutCache = OpenLoadFlowParameters.clone(parameters);
+        OpenLoadFlowParameters.get(parametersWithoutCache).setNetworkCacheEnabled(false);
+        assertTrue(loadFlowRunner.run(expectedNetwork, parametersWithoutCache).isFullyConverged());
+        for (Line line : network.getLines()) {
+            assertActivePowerEquals(expectedNetwork.getLine(line.getId()).getTerminal1().getP(), line.getTerminal1());
+        }
+    }
+
+    @Test
+    void testInjectionChanges() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        LoadFlowResult result = loadFlowRunner.run(network, parameters);
+        assertTrue(result.isFullyConverged());
+        List<DcLoadFlowContext> contexts = getDcContexts(network);
+        assertNotNull(contexts);
+        assertEquals(1, contexts.size());
+
+        Consumer<Network> modification = n -> {
+            n.getGenerator("B2-G").setTargetP(60);
+            n.getLoad("B3-L").setP0(100);
+            n.getLoad("B9-L").getTerminal().disconnect();
+        };
+        modification.accept(network);
+        assertSame(contexts, getDcContexts(network)); // check cache has not been invalidated
+
+        // run twice to check slack distribution restarts from initial targets
+        assertTrue(loadFlowRunner.run(network, parameters).isFullyConverged());
+        assertTrue(loadFlowRunner.run(network, parameters).isFullyConverged());
+        assertSame(contexts, getDcContexts(network));
+        assertSameFlowsAsWithoutCache(network, modification);
+
+        // reconnection of a load connected when the network has been loaded and a new generator target
+        Consumer<Network> modification2 = modification.andThen(n -> {
+            n.getLoad("B9-L").getTerminal().connect();
+            n.getGenerator("B2-G").setTargetP(50);
+        });
+        network.getLoad("B9-L").getTerminal().connect();
+        network.getGenerator("B2-G").setTargetP(50);
+        assertSame(contexts, getDcContexts(network));
+        assertTrue(loadFlowRunner.run(network, parameters).isFullyConverged());
+        assertSame(contexts, getDcContexts(network));
+        assertSameFlowsAsWithoutCache(network, modification2);
+    }
+
+    @Test
+    void testStructuralChange() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        loadFlowRunner.run(network, parameters);
+        assertNotNull(getDcContexts(network));
+
+        // generator voltage target has no impact in DC
+        network.getGenerator("B2-G").setTargetV(143);
+        assertNotNull(getDcContexts(network));
+
+        // impedance change invalidates the cache
+        Consumer<Network> modification = n -> n.getLine("L1-2-1").setX(0.1);
+        modification.accept(network);
+        assertNull(getDcContexts(network));
+        assertTrue(loadFlowRunner.run(network, parameters).isFullyConverged());
+        assertNotNull(getDcContexts(network));
+        assertSameFlowsAsWithoutCache(network, modification);
+    }
+}
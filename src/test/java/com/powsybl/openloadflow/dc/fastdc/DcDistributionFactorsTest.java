@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.dc.fastdc;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.dc.DcLoadFlowContext;
+import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
+import com.powsybl.openloadflow.graph.NaiveGraphConnectivityFactory;
+import com.powsybl.openloadflow.network.LfBranch;
+import com.powsybl.openloadflow.network.LfBus;
+import com.powsybl.openloadflow.network.LfElement;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.SlackBusSelectionMode;
+import com.powsybl.openloadflow.network.impl.LfNetworkLoaderImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.powsybl.openloadflow.util.LoadFlowAssert.DELTA_POWER;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class DcDistributionFactorsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Network network;
+
+    private LoadFlowParameters parameters;
+
+    @BeforeEach
+    void setUp() {
+        network = IeeeCdfNetworkFactory.create14();
+        parameters = new LoadFlowParameters()
+                .setDc(true)
+                .setDistributedSlack(false);
+        OpenLoadFlowParameters.create(parameters)
+                .setSlackBusSelectionMode(SlackBusSelectionMode.NAME)
+                .setSlackBusesIds(List.of("VL1"));
+    }
+
+    private DcLoadFlowContext createContext() {
+        DcLoadFlowParameters dcParameters = OpenLoadFlowParameters.createDcParameters(network, parameters, OpenLoadFlowParameters.get(parameters),
+                                                                                      new DenseMatrixFactory(),
+                                                                                      new NaiveGraphConnectivityFactory<>(LfElement::getNum),
+                                                                                      false);
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), dcParameters.getNetworkParameters()).get(0);
+        return new DcLoadFlowContext(lfNetwork, dcParameters);
+    }
+
+    private Map<String, Double> runDcLoadFlow() {
+        LoadFlow.run(network, parameters);
+        return network.getBranchStream().collect(Collectors.toMap(Branch::getId, b -> b.getTerminal1().getP()));
+    }
+
+    @Test
+    void testPtdfAndLodf() {
+        try (DcLoadFlowContext context = createContext()) {
+            List<String> branchIds = context.getNetwork().getBranches().stream().map(LfBranch::getId).toList();
+            List<String> busIds = context.getNetwork().getBuses().stream().map(LfBus::getId).toList();
+            List<String> outageIds = List.of("L1-2-1", "L6-13-1", "L7-8-1");
+            Path file = tempDir.resolve("factors.bin");
+            DcDistributionFactors.compute(context, branchIds, busIds, outageIds, DcDistributionFactors.Precision.FLOAT64, file).close();
+            // values are read from the stored file
+            try (DcDistributionFactors factors = DcDistributionFactors.load(file)) {
+                assertEquals(branchIds, factors.getMonitoredBranchIds());
+                assertEquals(busIds, factors.getInjectionBusIds());
+                assertEquals(outageIds, factors.getOutageBranchIds());
+                Map<String, Double> preFlows = runDcLoadFlow();
+
+                // PTDF: 10 MW more load on bus 9 is compensated by the slack bus 1
+                int bus9 = busIds.indexOf("VL9_0");
+                network.getLoad("B9-L").setP0(network.getLoad("B9-L").getP0() + 10);
+                Map<String, Double> flows = runDcLoadFlow();
+                network.getLoad("B9-L").setP0(network.getLoad("B9-L").getP0() - 10);
+                double[] ptdfColumn = factors.getPtdfColumn(bus9);
+                for (int m = 0; m < branchIds.size(); m++) {
+                    String id = branchIds.get(m);
+                    assertEquals(flows.get(id), preFlows.get(id) - 10 * factors.getPtdf(m, bus9), DELTA_POWER, id);
+                    assertEquals(factors.getPtdf(m, bus9), ptdfColumn[m], 0);
+                }
+                // an injection at the slack bus has no effect
+                double[] slackColumn = factors.getPtdfColumn(busIds.indexOf("VL1_0"));
+                for (double ptdf : slackColumn) {
+                    assertEquals(0, ptdf, 0);
+                }
+
+                // LODF
+                for (int o = 0; o < 2; o++) {
+                    String outageId = outageIds.get(o);
+                    network.getBranch(outageId).getTerminal1().disconnect();
+                    network.getBranch(outageId).getTerminal2().disconnect();
+                    Map<String, Double> postFlows = runDcLoadFlow();
+                    network.getBranch(outageId).getTerminal1().connect();
+                    network.getBranch(outageId).getTerminal2().connect();
+                    for (int m = 0; m < branchIds.size(); m++) {
+                        String id = branchIds.get(m);
+                        double expected = id.equals(outageId) ? 0 : postFlows.get(id);
+                        assertEquals(expected, preFlows.get(id) + factors.getLodf(m, o) * preFlows.get(outageId), DELTA_POWER, id);
+                    }
+                }
+                // L7-8-1 is a bridge
+                double[] bridgeColumn = factors.getLodfColumn(2);
+                for (int m = 0; m < branchIds.size(); m++) {
+                    if (branchIds.get(m).equals("L7-8-1")) {
+                        assertEquals(-1, bridgeColumn[m], 0);
+                    } else {
+                        assertTrue(Double.isNaN(bridgeColumn[m]));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testFloat32() throws IOException {
+        try (DcLoadFlowContext context = createContext()) {
+            List<String> branchIds = context.getNetwork().getBranches().stream().map(LfBranch::getId).toList();
+            List<String> busIds = context.getNetwork().getBuses().stream().map(LfBus::getId).toList();
+            List<String> outageIds = List.of("L1-2-1", "L2-3-1", "L4-5-1");
+            try (DcDistributionFactors factors64 = DcDistributionFactors.compute(context, branchIds, busIds, outageIds,
+                                                                                 DcDistributionFactors.Precision.FLOAT64, tempDir.resolve("factors64.bin"));
+                 DcDistributionFactors factors32 = DcDistributionFactors.compute(context, branchIds, busIds, outageIds,
+                                                                                 DcDistributionFactors.Precision.FLOAT32, tempDir.resolve("factors32.bin"))) {
+                assertEquals(DcDistributionFactors.Precision.FLOAT32, factors32.getPrecision());
+                for (int m = 0; m < branchIds.size(); m++) {
+                    for (int k = 0; k < busIds.size(); k++) {
+                        assertEquals(factors64.getPtdf(m, k), factors32.getPtdf(m, k), 1e-6);
+                    }
+                    for (int o = 0; o < outageIds.size(); o++) {
+                        assertEquals(factors64.getLodf(m, o), factors32.getLodf(m, o), 1e-6);
+                    }
+                }
+            }
+            assertTrue(Files.size(tempDir.resolve("factors32.bin")) < Files.size(tempDir.resolve("factors64.bin")));
+        }
+    }
+
+    @Test
+    void testClose() throws IOException {
+        Path file = tempDir.resolve("factors.bin");
+        try (DcLoadFlowContext context = createContext()) {
+            DcDistributionFactors factors = DcDistributionFactors.compute(context, List.of("L1-2-1"), List.of("VL3_0"), List.of("L1-5-1"),
+                                                                          DcDistributionFactors.Precision.FLOAT64, file);
+            assertFalse(Double.isNaN(factors.getLodf(0, 0)));
+            factors.close();
+            IllegalStateException e = assertThrows(IllegalStateException.class, () -> factors.getLodf(0, 0));
+            assertEquals("Distribution factors are closed", e.getMessage());
+            factors.close();
+        }
+        Files.delete(file);
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void testStore() throws IOException {
+        Path directory = tempDir.resolve("store");
+        DcDistributionFactorsStore store = new DcDistributionFactorsStore(directory, DcDistributionFactors.Precision.FLOAT32);
+        List<String> branchIds = List.of("L1-2-1", "L2-3-1");
+        List<String> busIds = List.of("VL3_0", "VL4_0");
+        List<String> outageIds = List.of("L1-5-1");
+        try (DcLoadFlowContext context = createContext()) {
+            long fingerprint;
+            double lodf;
+            try (DcDistributionFactors factors = store.getOrCompute(context, branchIds, busIds, outageIds)) {
+                fingerprint = factors.getFingerprint();
+                lodf = factors.getLodf(0, 0);
+            }
+            Path file = store.getFile(fingerprint);
+            assertTrue(Files.exists(file));
+            Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+
+            // same topology and selection: stored file is reused
+            try (DcDistributionFactors factors = store.getOrCompute(context, branchIds, busIds, outageIds)) {
+                assertEquals(fingerprint, factors.getFingerprint());
+                assertEquals(lodf, factors.getLodf(0, 0), 0);
+            }
+            assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(file));
+
+            // another selection or another topology gives another fingerprint
+            assertNotEquals(fingerprint, DcDistributionFactors.computeFingerprint(context, branchIds, busIds, List.of("L2-4-1"),
+                                                                                  DcDistributionFactors.Precision.FLOAT32));
+            long topologyFingerprint = DcDistributionFactors.computeTopologyFingerprint(context);
+            context.getNetwork().getBranchById("L2-4-1").setDisabled(true);
+            assertNotEquals(topologyFingerprint, DcDistributionFactors.computeTopologyFingerprint(context));
+            context.getNetwork().getBranchById("L2-4-1").setDisabled(false);
+            assertEquals(topologyFingerprint, DcDistributionFactors.computeTopologyFingerprint(context));
+
+            try (var files = Files.list(directory)) {
+                assertEquals(List.of(file), files.toList());
+            }
+
+            PowsyblException e = assertThrows(PowsyblException.class, () -> store.getOrCompute(context, List.of("x"), busIds, outageIds));
+            assertEquals("Branch 'x' not found", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.dc.fastdc;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.math.matrix.Matrix;
+import com.powsybl.math.matrix.SparseMatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.dc.DcLoadFlowContext;
+import com.powsybl.openloadflow.dc.DcLoadFlowEngine;
+import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
+import com.powsybl.openloadflow.graph.NaiveGraphConnectivityFactory;
+import com.powsybl.openloadflow.network.EurostagFactory;
+import com.powsybl.openloadflow.network.LfElement;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.LfNetworkParameters;
+import com.powsybl.openloadflow.network.impl.LfNetworkLoaderImpl;
+import com.powsybl.openloadflow.network.util.UniformValueVoltageInitializer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class PartialStatesSolverTest {
+
+    @Test
+    void test() {
+        Network network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        LoadFlowParameters parameters = new LoadFlowParameters();
+        OpenLoadFlowParameters olfParameters = OpenLoadFlowParameters.create(parameters);
+        DcLoadFlowParameters dcParameters = OpenLoadFlowParameters.createDcParameters(parameters,
+                                                                                      olfParameters,
+                                                                                      new DenseMatrixFactory(),
+                                                                                      new NaiveGraphConnectivityFactory<>(LfElement::getNum),
+                                                                                      false);
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), new LfNetworkParameters()).get(0);
+        try (DcLoadFlowContext context = new DcLoadFlowContext(lfNetwork, dcParameters)) {
+            DcLoadFlowEngine.initStateVector(lfNetwork, context.getEquationSystem(), new UniformValueVoltageInitializer());
+            int equationCount = context.getEquationSystem().getIndex().getSortedEquationsToSolve().size();
+
+            // sparse right hand sides: a single injection per column and a +1/-1 between two buses, the last one
+            // being split in two elements of the same row
+            Matrix rhs = new SparseMatrixFactory().create(equationCount, 3, 5);
+            rhs.add(1, 0, 1d);
+            rhs.add(2, 1, 1d);
+            rhs.add(3, 2, -1d);
+            rhs.add(2, 2, 0.5d);
+            rhs.add(2, 2, 0.5d);
+            DenseMatrix fullStates = rhs.toDense();
+
+            context.getJacobianMatrix().solveTransposed(fullStates);
+            int[] rows = {1, 3};
+            DenseMatrix partialStates = new PartialStatesSolver(context.getJacobianMatrix(), equationCount, rows).solveTransposed(rhs);
+
+            for (int column = 0; column < 3; column++) {
+                for (int row : rows) {
+                    assertEquals(fullStates.get(row, column), partialStates.get(row, column), 1e-12);
+                }
+                // not required rows are left to zero
+                assertEquals(0d, partialStates.get(0, column), 0d);
+                assertEquals(0d, partialStates.get(2, column), 0d);
+            }
+        }
+    }
+}
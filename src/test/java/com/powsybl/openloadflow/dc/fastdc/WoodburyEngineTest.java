@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.dc.fastdc;
+
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.dc.DcLoadFlowContext;
+import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
+import com.powsybl.openloadflow.dc.equations.ClosedBranchSide1DcFlowEquationTerm;
+import com.powsybl.openloadflow.equations.StatesMatrix;
+import com.powsybl.openloadflow.graph.NaiveGraphConnectivityFactory;
+import com.powsybl.openloadflow.network.ElementType;
+import com.powsybl.openloadflow.network.LfElement;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.SlackBusSelectionMode;
+import com.powsybl.openloadflow.network.impl.LfNetworkLoaderImpl;
+import com.powsybl.openloadflow.util.PerUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.powsybl.openloadflow.util.LoadFlowAssert.DELTA_POWER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class WoodburyEngineTest {
+
+    @Test
+    void testMultiElementContingencyOnSeveralColumns() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        LoadFlowParameters parameters = new LoadFlowParameters()
+                .setDc(true)
+                .setDistributedSlack(false);
+        OpenLoadFlowParameters.create(parameters)
+                .setSlackBusSelectionMode(SlackBusSelectionMode.NAME)
+                .setSlackBusesIds(List.of("VL1"));
+        DcLoadFlowParameters dcParameters = OpenLoadFlowParameters.createDcParameters(network, parameters, OpenLoadFlowParameters.get(parameters),
+                                                                                      new DenseMatrixFactory(),
+                                                                                      new NaiveGraphConnectivityFactory<>(LfElement::getNum),
+                                                                                      false);
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), dcParameters.getNetworkParameters()).get(0);
+        List<String> outageIds = List.of("L1-2-1", "L2-3-1", "L4-5-1");
+        String monitoredId = "L2-4-1";
+
+        try (DcLoadFlowContext context = new DcLoadFlowContext(lfNetwork, dcParameters)) {
+            List<ComputedContingencyElement> elements = outageIds.stream()
+                    .map(id -> new ComputedContingencyElement(new BranchContingency(id), lfNetwork, context.getEquationSystem()))
+                    .toList();
+            ComputedElement.setComputedElementIndexes(elements);
+            DenseMatrix contingenciesStates = ComputedElement.calculateElementsStates(context, elements);
+            WoodburyEngine engine = new WoodburyEngine(dcParameters.getEquationSystemCreationParameters(), elements,
+                                                       StatesMatrix.of(contingenciesStates));
+
+            // pre-contingency states of the base case, the base case doubled and the base case again, last column
+            // being left unchanged
+            double[] target = context.getTargetVector().getArray();
+            DenseMatrix states = new DenseMatrix(target.length, 3);
+            for (int row = 0; row < target.length; row++) {
+                states.set(row, 0, target[row]);
+                states.set(row, 1, 2 * target[row]);
+                states.set(row, 2, target[row]);
+            }
+            context.getJacobianMatrix().solveTransposed(states);
+            ClosedBranchSide1DcFlowEquationTerm p1 = context.getEquationSystem()
+                    .getEquationTerm(ElementType.BRANCH, lfNetwork.getBranchById(monitoredId).getNum(),
+                                     ClosedBranchSide1DcFlowEquationTerm.class);
+            double preContingencyFlow = p1.calculateSensi(states, 2) * PerUnit.SB;
+            double[] postContingencyFlows = engine.calculatePostContingencyFlows(states, 0, List.of(p1), new double[] {p1.calculateSensi(states, 0)});
+
+            engine.toPostContingencyStates(states, new boolean[] {true, true, false});
+
+            for (String outageId : outageIds) {
+                network.getBranch(outageId).getTerminal1().disconnect();
+                network.getBranch(outageId).getTerminal2().disconnect();
+            }
+            LoadFlow.run(network, parameters);
+            double expectedFlow = network.getBranch(monitoredId).getTerminal1().getP();
+            assertEquals(expectedFlow, p1.calculateSensi(states, 0) * PerUnit.SB, DELTA_POWER);
+            assertEquals(2 * expectedFlow, p1.calculateSensi(states, 1) * PerUnit.SB, DELTA_POWER);
+            assertEquals(preContingencyFlow, p1.calculateSensi(states, 2) * PerUnit.SB, 0);
+            // same flow without computing post-contingency states
+            assertEquals(expectedFlow, postContingencyFlows[0] * PerUnit.SB, DELTA_POWER);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.equations;
+
+import com.powsybl.math.matrix.DenseMatrix;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class FloatStatesMatrixTest {
+
+    @Test
+    void test() {
+        DenseMatrix states = new DenseMatrix(4, 2);
+        for (int row = 0; row < 4; row++) {
+            states.set(row, 0, 1 + row / 3d);
+            states.set(row, 1, -row / 7d);
+        }
+        FloatStatesMatrix floatStates = new FloatStatesMatrix(4, 3);
+        assertEquals(4, floatStates.getRowCount());
+        assertEquals(3, floatStates.getColumnCount());
+        floatStates.setColumn(0, states, 1, new int[0]);
+        floatStates.setColumn(2, states, 0, new int[] {3, 1, 3});
+        for (int row = 0; row < 4; row++) {
+            assertEquals((float) states.get(row, 1), floatStates.get(row, 0), 0);
+            assertEquals(states.get(row, 1), floatStates.get(row, 0), 1e-7);
+            assertEquals(0, floatStates.get(row, 1), 0);
+        }
+        // rows 1 and 3 of third column are exact
+        assertEquals(states.get(0, 0), floatStates.get(0, 2), 1e-7);
+        assertNotEquals(states.get(1, 0), (float) states.get(1, 0));
+        assertEquals(states.get(1, 0), floatStates.get(1, 2), 0);
+        assertEquals((float) states.get(2, 0), floatStates.get(2, 2), 0);
+        assertEquals(states.get(3, 0), floatStates.get(3, 2), 0);
+
+        DenseMatrix otherStates = new DenseMatrix(3, 1);
+        assertThrows(IllegalArgumentException.class, () -> floatStates.setColumn(1, otherStates, 0, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> new FloatStatesMatrix(-1, 1));
+    }
+
+    @Test
+    void testOfDenseMatrix() {
+        DenseMatrix states = new DenseMatrix(2, 1, new double[] {0.1, 0.2});
+        StatesMatrix statesMatrix = StatesMatrix.of(states);
+        assertEquals(2, statesMatrix.getRowCount());
+        assertEquals(1, statesMatrix.getColumnCount());
+        assertEquals(0.2, statesMatrix.get(1, 0), 0);
+    }
+}
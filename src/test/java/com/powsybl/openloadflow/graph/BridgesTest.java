@@ -102,6 +102,17 @@ class BridgesTest {
         assertEquals(bridgesSetReference, set);
     }
 
+    @Test
+    void testEdgeCutDetector() {
+        EdgeCutDetector<LfBus, LfBranch> detector = lfNetwork.getEdgeCutDetector();
+        Set<String> bridges = lfNetwork.getBranches().stream()
+                .filter(b -> b.getBus1() != null && b.getBus2() != null)
+                .filter(detector::isBridge)
+                .map(LfBranch::getId)
+                .collect(Collectors.toSet());
+        assertEquals(bridgesSetReference, bridges);
+    }
+
     @Test
     void testBiconnectivityInspector() {
         org.jgrapht.Graph<String, String> graph = getJgraphTGraph(lfNetwork);
@@ -13,6 +13,8 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -492,16 +494,23 @@ class ConnectivityTest {
         // 1---2   3---4---5   6
     }
 
+    private static UnionFindGraphConnectivity<Integer, String> createUnionFindConnectivity() {
+        Map<String, Integer> edgeNums = new HashMap<>();
+        return new UnionFindGraphConnectivity<>(v -> v - 1, e -> edgeNums.computeIfAbsent(e, k -> edgeNums.size()));
+    }
+
     private static Stream<Arguments> provideNonRestrictedConnectivities() {
         return Stream.of(
                 Arguments.of(new NaiveGraphConnectivity<Integer, String>(v -> v - 1)),
-                Arguments.of(new MinimumSpanningTreeGraphConnectivity<>()));
+                Arguments.of(new MinimumSpanningTreeGraphConnectivity<>()),
+                Arguments.of(createUnionFindConnectivity()));
     }
 
     private static Stream<Arguments> provideAllConnectivities() {
         return Stream.of(
                 Arguments.of(new NaiveGraphConnectivity<Integer, String>(v -> v - 1)),
                 Arguments.of(new EvenShiloachGraphDecrementalConnectivity<>()),
-                Arguments.of(new MinimumSpanningTreeGraphConnectivity<>()));
+                Arguments.of(new MinimumSpanningTreeGraphConnectivity<>()),
+                Arguments.of(createUnionFindConnectivity()));
     }
 }
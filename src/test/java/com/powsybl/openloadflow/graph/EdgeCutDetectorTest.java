@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class EdgeCutDetectorTest {
+
+    private static EdgeCutDetector<Integer, Integer> createDetector(int vertexCount, List<int[]> edges) {
+        EdgeCutDetector<Integer, Integer> detector = new EdgeCutDetector<>(v -> v, e -> e);
+        for (int v = 0; v < vertexCount; v++) {
+            detector.addVertex(v);
+        }
+        for (int e = 0; e < edges.size(); e++) {
+            detector.addEdge(edges.get(e)[0], edges.get(e)[1], e);
+        }
+        return detector;
+    }
+
+    @Test
+    void testBridgesAndCutSets() {
+        // 0 - 1 - 2 - 3 - 0 square with 3 - 4 antenna and a doubled 4 - 5 edge
+        List<int[]> edges = List.of(new int[] {0, 1}, new int[] {1, 2}, new int[] {2, 3}, new int[] {3, 0},
+                                    new int[] {3, 4}, new int[] {4, 5}, new int[] {4, 5});
+        EdgeCutDetector<Integer, Integer> detector = createDetector(6, edges);
+        assertEquals(1, detector.getComponentCount());
+        assertFalse(detector.isBridge(0));
+        assertTrue(detector.isBridge(4));
+        assertFalse(detector.isBridge(5));
+        assertTrue(detector.isConnectivityPreserved(List.of(0)));
+        assertFalse(detector.isConnectivityPreserved(List.of(4)));
+        assertFalse(detector.isConnectivityPreserved(List.of(0, 2)));
+        assertTrue(detector.isConnectivityPreserved(List.of(0, 5)));
+        assertFalse(detector.isConnectivityPreserved(List.of(5, 6)));
+        // edge not in graph is ignored
+        assertTrue(detector.isConnectivityPreserved(List.of(0, 10)));
+        assertThrows(IllegalArgumentException.class, () -> detector.isBridge(10));
+
+        // adding an edge invalidates precomputation
+        detector.addEdge(5, 0, 7);
+        assertFalse(detector.isBridge(4));
+        assertTrue(detector.isConnectivityPreserved(List.of(4, 5)));
+    }
+
+    @Test
+    void testCompareWithConnectivity() {
+        for (int seed = 0; seed < 50; seed++) {
+            Random random = new Random(seed);
+            int vertexCount = 2 + random.nextInt(20);
+            List<int[]> edges = new ArrayList<>();
+            for (int i = 0; i < vertexCount + random.nextInt(2 * vertexCount); i++) {
+                edges.add(new int[] {random.nextInt(vertexCount), random.nextInt(vertexCount)});
+            }
+            EdgeCutDetector<Integer, Integer> detector = createDetector(vertexCount, edges);
+            GraphConnectivity<Integer, Integer> connectivity = new NaiveGraphConnectivity<>(v -> v);
+            for (int v = 0; v < vertexCount; v++) {
+                connectivity.addVertex(v);
+            }
+            for (int e = 0; e < edges.size(); e++) {
+                connectivity.addEdge(edges.get(e)[0], edges.get(e)[1], e);
+            }
+            connectivity.startTemporaryChanges();
+            assertEquals(connectivity.getNbConnectedComponents(), detector.getComponentCount());
+            connectivity.undoTemporaryChanges();
+            for (int i = 0; i < 50; i++) {
+                List<Integer> removedEdges = new ArrayList<>();
+                int removedEdgeCount = 1 + random.nextInt(3);
+                for (int j = 0; j < removedEdgeCount; j++) {
+                    int e = random.nextInt(edges.size());
+                    if (!removedEdges.contains(e)) {
+                        removedEdges.add(e);
+                    }
+                }
+                connectivity.startTemporaryChanges();
+                removedEdges.forEach(connectivity::removeEdge);
+                boolean preserved = connectivity.getNbConnectedComponents() == detector.getComponentCount();
+                connectivity.undoTemporaryChanges();
+                // exact with a very high probability
+                assertEquals(preserved, detector.isConnectivityPreserved(removedEdges));
+            }
+        }
+    }
+}
@@ -41,6 +41,7 @@ class NetworkConnectivityTest {
     void testConnectivity() {
         testConnectivity(new NaiveGraphConnectivity<>(LfBus::getNum));
         testConnectivity(new EvenShiloachGraphDecrementalConnectivity<>());
+        testConnectivity(new UnionFindGraphConnectivity<>(LfBus::getNum, LfBranch::getNum));
     }
 
     @Test
@@ -49,6 +50,7 @@ class NetworkConnectivityTest {
         // created connected component.
         testReducedMainComponent(new NaiveGraphConnectivity<>(LfBus::getNum));
         testReducedMainComponent(new EvenShiloachGraphDecrementalConnectivity<>());
+        testReducedMainComponent(new UnionFindGraphConnectivity<>(LfBus::getNum, LfBranch::getNum));
     }
 
     @Test
@@ -57,6 +59,7 @@ class NetworkConnectivityTest {
         testReaddEdge(new NaiveGraphConnectivity<>(LfBus::getNum), true);
         testReaddEdge(new EvenShiloachGraphDecrementalConnectivity<>(), false);
         testReaddEdge(new MinimumSpanningTreeGraphConnectivity<>(), true);
+        testReaddEdge(new UnionFindGraphConnectivity<>(LfBus::getNum, LfBranch::getNum), true);
     }
 
     @Test
@@ -87,6 +90,7 @@ class NetworkConnectivityTest {
         testConnectedComponents(new NaiveGraphConnectivity<>(LfBus::getNum));
         testConnectedComponents(new EvenShiloachGraphDecrementalConnectivity<>());
         testConnectedComponents(new MinimumSpanningTreeGraphConnectivity<>());
+        testConnectedComponents(new UnionFindGraphConnectivity<>(LfBus::getNum, LfBranch::getNum));
     }
 
     private void testConnectivity(GraphConnectivity<LfBus, LfBranch> connectivity) {
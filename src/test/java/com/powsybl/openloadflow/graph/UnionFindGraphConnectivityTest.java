@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.graph;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class UnionFindGraphConnectivityTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UnionFindGraphConnectivityTest.class);
+
+    private static final int GRID_SIZE = 30;
+
+    /**
+     * Square grid graph with a radial antenna on each corner, edges are numbered from 0.
+     */
+    private static List<int[]> createGridEdges() {
+        List<int[]> edges = new ArrayList<>();
+        for (int i = 0; i < GRID_SIZE; i++) {
+            for (int j = 0; j < GRID_SIZE; j++) {
+                int v = i * GRID_SIZE + j;
+                if (j + 1 < GRID_SIZE) {
+                    edges.add(new int[] {v, v + 1});
+                }
+                if (i + 1 < GRID_SIZE) {
+                    edges.add(new int[] {v, v + GRID_SIZE});
+                }
+            }
+        }
+        int antennaVertex = GRID_SIZE * GRID_SIZE;
+        for (int corner : new int[] {0, GRID_SIZE - 1, GRID_SIZE * (GRID_SIZE - 1), GRID_SIZE * GRID_SIZE - 1}) {
+            edges.add(new int[] {corner, antennaVertex});
+            edges.add(new int[] {antennaVertex, antennaVertex + 1});
+            antennaVertex += 2;
+        }
+        return edges;
+    }
+
+    private static GraphConnectivity<Integer, Integer> createConnectivity(Supplier<GraphConnectivity<Integer, Integer>> supplier,
+                                                                          List<int[]> edges, int vertexCount) {
+        GraphConnectivity<Integer, Integer> connectivity = supplier.get();
+        for (int v = 0; v < vertexCount; v++) {
+            connectivity.addVertex(v);
+        }
+        for (int e = 0; e < edges.size(); e++) {
+            connectivity.addEdge(edges.get(e)[0], edges.get(e)[1], e);
+        }
+        connectivity.setMainComponentVertex(0);
+        return connectivity;
+    }
+
+    private static void assertSameConnectivity(GraphConnectivity<Integer, Integer> expected, GraphConnectivity<Integer, Integer> actual,
+                                               int vertexCount) {
+        assertEquals(expected.getNbConnectedComponents(), actual.getNbConnectedComponents());
+        for (int v = 0; v < vertexCount; v++) {
+            assertEquals(expected.getConnectedComponent(v), actual.getConnectedComponent(v));
+        }
+        assertEquals(expected.getVerticesAddedToMainComponent(), actual.getVerticesAddedToMainComponent());
+        assertEquals(expected.getVerticesRemovedFromMainComponent(), actual.getVerticesRemovedFromMainComponent());
+        assertEquals(expected.getEdgesAddedToMainComponent(), actual.getEdgesAddedToMainComponent());
+        assertEquals(expected.getEdgesRemovedFromMainComponent(), actual.getEdgesRemovedFromMainComponent());
+    }
+
+    @Test
+    void testRandomTemporaryChanges() {
+        for (int seed = 0; seed < 50; seed++) {
+            Random random = new Random(seed);
+            int vertexCount = 2 + random.nextInt(15);
+            List<int[]> edges = new ArrayList<>();
+            for (int i = 0; i < 2 * vertexCount; i++) {
+                edges.add(new int[] {random.nextInt(vertexCount), random.nextInt(vertexCount)});
+            }
+            GraphConnectivity<Integer, Integer> naive = createConnectivity(() -> new NaiveGraphConnectivity<>(v -> v), edges, vertexCount);
+            GraphConnectivity<Integer, Integer> unionFind = createConnectivity(() -> new UnionFindGraphConnectivity<>(v -> v, e -> e), edges, vertexCount);
+            naive.startTemporaryChanges();
+            unionFind.startTemporaryChanges();
+            int depth = 1;
+            for (int step = 0; step < 50; step++) {
+                int e = random.nextInt(edges.size());
+                switch (random.nextInt(6)) {
+                    case 0 -> {
+                        naive.startTemporaryChanges();
+                        unionFind.startTemporaryChanges();
+                        depth++;
+                    }
+                    case 1 -> {
+                        if (depth > 1) {
+                            naive.undoTemporaryChanges();
+                            unionFind.undoTemporaryChanges();
+                            depth--;
+                        }
+                    }
+                    case 2, 3 -> {
+                        naive.addEdge(edges.get(e)[0], edges.get(e)[1], e);
+                        unionFind.addEdge(edges.get(e)[0], edges.get(e)[1], e);
+                    }
+                    default -> {
+                        naive.removeEdge(e);
+                        unionFind.removeEdge(e);
+                    }
+                }
+                assertSameConnectivity(naive, unionFind, vertexCount);
+            }
+        }
+    }
+
+    private static long runContingencies(GraphConnectivity<Integer, Integer> connectivity, int edgeCount, int vertexCount) {
+        Random random = new Random(0);
+        long checksum = 0;
+        for (int i = 0; i < 5000; i++) {
+            connectivity.startTemporaryChanges();
+            int removedEdgeCount = 1 + random.nextInt(3);
+            for (int j = 0; j < removedEdgeCount; j++) {
+                connectivity.removeEdge(random.nextInt(edgeCount));
+            }
+            checksum += connectivity.getNbConnectedComponents();
+            checksum += connectivity.getConnectedComponent(random.nextInt(vertexCount)).size();
+            checksum += connectivity.getVerticesRemovedFromMainComponent().size();
+            connectivity.undoTemporaryChanges();
+        }
+        return checksum;
+    }
+
+    @Test
+    void compareWithOtherImplementations() {
+        List<int[]> edges = createGridEdges();
+        int vertexCount = GRID_SIZE * GRID_SIZE + 8;
+        List<Supplier<GraphConnectivity<Integer, Integer>>> suppliers = List.of(
+                () -> new NaiveGraphConnectivity<>(v -> v),
+                EvenShiloachGraphDecrementalConnectivity::new,
+                MinimumSpanningTreeGraphConnectivity::new,
+                () -> new UnionFindGraphConnectivity<>(v -> v, e -> e));
+        List<Long> checksums = new ArrayList<>();
+        for (Supplier<GraphConnectivity<Integer, Integer>> supplier : suppliers) {
+            GraphConnectivity<Integer, Integer> connectivity = createConnectivity(supplier, edges, vertexCount);
+            long start = System.nanoTime();
+            long checksum = runContingencies(connectivity, edges.size(), vertexCount);
+            LOGGER.info("{}: 5000 contingencies on {} vertices in {} ms", connectivity.getClass().getSimpleName(), vertexCount,
+                    (System.nanoTime() - start) / 1_000_000);
+            checksums.add(checksum);
+        }
+        assertEquals(1, checksums.stream().distinct().count());
+    }
+
+    private static GraphConnectivity<Integer, Integer> createPath() {
+        // 0 - 1 - 2 - 3, edge i between vertex i and vertex i + 1
+        GraphConnectivity<Integer, Integer> connectivity = new UnionFindGraphConnectivity<>(v -> v, e -> e);
+        for (int v = 0; v < 4; v++) {
+            connectivity.addVertex(v);
+        }
+        for (int e = 0; e < 3; e++) {
+            connectivity.addEdge(e, e + 1, e);
+        }
+        return connectivity;
+    }
+
+    @Test
+    void testNestedUndoRestoresComponentMin() {
+        GraphConnectivity<Integer, Integer> connectivity = createPath();
+        connectivity.setMainComponentVertex(3);
+        connectivity.startTemporaryChanges();
+        connectivity.removeEdge(0);
+        connectivity.startTemporaryChanges();
+        connectivity.addEdge(0, 1, 0);
+        assertEquals(Set.of(3, 2, 1, 0), connectivity.getLargestConnectedComponent());
+        connectivity.undoTemporaryChanges();
+        assertEquals(Set.of(3, 2, 1), connectivity.getLargestConnectedComponent());
+        assertEquals(2, connectivity.getNbConnectedComponents());
+        assertEquals(Set.of(0), connectivity.getConnectedComponent(0));
+        connectivity.undoTemporaryChanges();
+
+        // 2 components of same size are ranked by min vertex, which is computed in the nested changes and must be
+        // forgotten when undoing them
+        connectivity = createPath();
+        connectivity.startTemporaryChanges();
+        connectivity.removeEdge(1);
+        connectivity.startTemporaryChanges();
+        connectivity.addEdge(2, 0, 3);
+        assertEquals(Set.of(0, 1, 2, 3), connectivity.getLargestConnectedComponent());
+        connectivity.undoTemporaryChanges();
+        assertEquals(2, connectivity.getNbConnectedComponents());
+        assertEquals(Set.of(0, 1), connectivity.getLargestConnectedComponent());
+        assertEquals(0, connectivity.getComponentNumber(0));
+        assertEquals(1, connectivity.getComponentNumber(3));
+        assertEquals(Set.of(2, 3), connectivity.getConnectedComponent(3));
+    }
+}
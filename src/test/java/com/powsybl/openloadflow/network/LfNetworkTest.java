@@ -21,6 +21,11 @@ import com.powsybl.loadflow.LoadFlowResult;
 import com.powsybl.math.matrix.DenseMatrixFactory;
 import com.powsybl.openloadflow.OpenLoadFlowParameters;
 import com.powsybl.openloadflow.OpenLoadFlowProvider;
+import com.powsybl.openloadflow.ac.AcLoadFlowContext;
+import com.powsybl.openloadflow.ac.AcLoadFlowParameters;
+import com.powsybl.openloadflow.ac.AcLoadFlowResult;
+import com.powsybl.openloadflow.ac.AcloadFlowEngine;
+import com.powsybl.openloadflow.graph.EvenShiloachGraphDecrementalConnectivityFactory;
 import com.powsybl.openloadflow.network.impl.Networks;
 import com.powsybl.openloadflow.sa.LimitReductionManager;
 import com.powsybl.openloadflow.util.Evaluable;
@@ -488,4 +493,100 @@ class LfNetworkTest extends AbstractSerDeTest {
         assertThrows(PowsyblException.class, first::updateSlackBusesAndReferenceBus,
             "No slack bus could be selected");
     }
+
+    @Test
+    void testStateStore() {
+        Network network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        LfNetworkParameters parameters = new LfNetworkParameters()
+                .setSlackBusSelector(new MostMeshedSlackBusSelector())
+                .setStateStore(true);
+        LfNetwork lfNetwork = Networks.load(network, parameters).get(0);
+        LfNetworkStateStore stateStore = lfNetwork.getStateStore();
+        assertNotNull(stateStore);
+        assertEquals(lfNetwork.getBuses().size(), stateStore.getBusV().length);
+        assertEquals(lfNetwork.getBranches().size(), stateStore.getBranchP1().length);
+
+        // bus state is delegated to the store
+        LfBus bus = lfNetwork.getBusById("VLLOAD_0");
+        assertEquals(network.getBusView().getBus("VLLOAD_0").getV() / bus.getNominalV(), bus.getV(), 1e-12);
+        bus.setV(0.95);
+        bus.setAngle(-0.1);
+        assertEquals(0.95, stateStore.getBusV()[bus.getNum()]);
+        assertEquals(-0.1, stateStore.getBusAngle()[bus.getNum()]);
+
+        // flows are copied from evaluables
+        LfBranch branch = lfNetwork.getBranchById("NHV1_NHV2_1");
+        branch.setP1(() -> 3.0);
+        stateStore.updateFlows();
+        assertEquals(3.0, stateStore.getBranchP1()[branch.getNum()]);
+        assertTrue(Double.isNaN(stateStore.getBranchQ1()[branch.getNum()]));
+
+        // bulk save and restore
+        NetworkState networkState = NetworkState.save(lfNetwork);
+        bus.setV(1.05);
+        branch.setP1(() -> 4.0);
+        stateStore.updateFlows();
+        networkState.restore();
+        assertEquals(0.95, bus.getV());
+        assertEquals(-0.1, bus.getAngle());
+        assertEquals(3.0, stateStore.getBranchP1()[branch.getNum()]);
+
+        // IIDM update is done from the store
+        lfNetwork.updateState(new LfNetworkStateUpdateParameters(false, false, false, false, false, false, false, false,
+                ReactivePowerDispatchMode.Q_EQUAL_PROPORTION, false, ReferenceBusSelectionMode.FIRST_SLACK, false));
+        assertEquals(0.95 * bus.getNominalV(), network.getBusView().getBus("VLLOAD_0").getV(), 1e-12);
+
+        LfBus otherBus = lfNetwork.getBus(0);
+        assertThrows(PowsyblException.class, () -> lfNetwork.addBus(otherBus));
+    }
+
+    @Test
+    void testStateStoreFlowsAfterLoadFlow() {
+        Network network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        LfNetwork lfNetwork = Networks.load(network, new LfNetworkParameters().setStateStore(true)).get(0);
+        LfNetworkStateStore stateStore = lfNetwork.getStateStore();
+        LfBranch branch = lfNetwork.getBranchById("NHV1_NHV2_1");
+        AcLoadFlowParameters acParameters = new AcLoadFlowParameters()
+                .setMatrixFactory(new DenseMatrixFactory());
+        try (var context = new AcLoadFlowContext(lfNetwork, acParameters)) {
+            AcLoadFlowResult result = new AcloadFlowEngine(context)
+                    .run();
+            assertTrue(result.isSuccess());
+            // stored flows are refreshed at the end of the load flow
+            assertEquals(branch.getP1().eval(), stateStore.getBranchP1()[branch.getNum()]);
+            assertEquals(branch.getQ2().eval(), stateStore.getBranchQ2()[branch.getNum()]);
+            double p1 = branch.getP1().eval();
+
+            // restored flows are consistent with restored voltages
+            NetworkState networkState = NetworkState.save(lfNetwork);
+            LfBus bus = lfNetwork.getBusById("VLHV2_0");
+            bus.setV(bus.getV() * 0.9);
+            stateStore.updateFlows();
+            assertNotEquals(p1, stateStore.getBranchP1()[branch.getNum()]);
+            networkState.restore();
+            assertEquals(p1, stateStore.getBranchP1()[branch.getNum()]);
+            assertEquals(p1, branch.getP1().eval(), 1e-12);
+        }
+    }
+
+    @Test
+    void testStateStoreParameter() {
+        Network network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        LoadFlowParameters parameters = new LoadFlowParameters();
+        OpenLoadFlowParameters.create(parameters)
+                .setStateStore(true);
+        LoadFlow.Runner loadFlowRunner = new LoadFlow.Runner(new OpenLoadFlowProvider(new DenseMatrixFactory()));
+        LoadFlowResult result = loadFlowRunner.run(network, parameters);
+        assertTrue(result.isFullyConverged());
+        Network otherNetwork = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        loadFlowRunner.run(otherNetwork, new LoadFlowParameters());
+        for (Line line : network.getLines()) {
+            Line otherLine = otherNetwork.getLine(line.getId());
+            assertEquals(otherLine.getTerminal1().getP(), line.getTerminal1().getP(), 1e-9);
+            assertEquals(otherLine.getTerminal2().getQ(), line.getTerminal2().getQ(), 1e-9);
+        }
+        assertTrue(OpenLoadFlowParameters.createAcParameters(network, parameters, OpenLoadFlowParameters.get(parameters),
+                new DenseMatrixFactory(), new EvenShiloachGraphDecrementalConnectivityFactory<>())
+                .getNetworkParameters().isStateStore());
+    }
 }
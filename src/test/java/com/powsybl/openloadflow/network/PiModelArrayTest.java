@@ -65,6 +65,31 @@ class PiModelArrayTest {
         assertEquals(1, piModelArray.getTapPosition());
     }
 
+    @Test
+    void testCachedValues() {
+        for (int tapPosition = 1; tapPosition <= 3; tapPosition++) {
+            piModelArray.setTapPosition(tapPosition);
+            PiModel piModel = piModelArray.getModel(tapPosition - 1);
+            assertEquals(piModel.getR(), piModelArray.getR(), 0);
+            assertEquals(piModel.getX(), piModelArray.getX(), 0);
+            assertEquals(piModel.getZ(), piModelArray.getZ(), 0);
+            assertEquals(piModel.getY(), piModelArray.getY(), 0);
+            assertEquals(piModel.getKsi(), piModelArray.getKsi(), 0);
+            assertEquals(piModel.getR1(), piModelArray.getR1(), 0);
+            assertEquals(piModel.getA1(), piModelArray.getA1(), 0);
+        }
+
+        // cached values are updated on impedance change
+        piModelArray.setX(3);
+        assertEquals(3, piModelArray.getX(), 0);
+        assertEquals(piModel3.getY(), piModelArray.getY(), 0);
+        assertTrue(piModelArray.setMinZ(10, LoadFlowModel.AC));
+        assertEquals(10, piModelArray.getZ(), 1e-12);
+        piModelArray.setTapPosition(1);
+        assertEquals(piModel1.getKsi(), piModelArray.getKsi(), 0);
+        assertEquals(10, piModelArray.getZ(), 1e-12);
+    }
+
     @Test
     void testShiftOneTapPositionToChangeA1() {
         assertTrue(piModelArray.shiftOneTapPositionToChangeA1(Direction.DECREASE));
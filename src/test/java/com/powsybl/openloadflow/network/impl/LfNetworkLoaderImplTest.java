@@ -15,6 +15,7 @@ import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import com.powsybl.iidm.network.test.ThreeWindingsTransformerNetworkFactory;
 import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.util.PerUnit;
+import com.powsybl.security.limitreduction.LimitReduction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -305,4 +306,64 @@ class LfNetworkLoaderImplTest extends AbstractLoadFlowNetworkFactory {
         assertEquals(LfGenerator.GeneratorControlType.OFF, generators.get(1).getGeneratorControlType());
         assertEquals(LfGenerator.GeneratorControlType.VOLTAGE, generators.get(2).getGeneratorControlType());
     }
+
+    private static void assertSameNetworks(List<LfNetwork> expected, List<LfNetwork> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            LfNetwork expectedNetwork = expected.get(i);
+            LfNetwork actualNetwork = actual.get(i);
+            assertEquals(expectedNetwork.getNumCC(), actualNetwork.getNumCC());
+            assertEquals(expectedNetwork.getNumSC(), actualNetwork.getNumSC());
+            assertEquals(expectedNetwork.getBuses().stream().map(LfBus::getId).toList(), actualNetwork.getBuses().stream().map(LfBus::getId).toList());
+            assertEquals(expectedNetwork.getBranches().stream().map(LfBranch::getId).toList(), actualNetwork.getBranches().stream().map(LfBranch::getId).toList());
+            assertEquals(expectedNetwork.getSlackBus().getId(), actualNetwork.getSlackBus().getId());
+        }
+    }
+
+    @Test
+    void testParallelLoading() {
+        network = HvdcNetworkFactory.createLccWithBiggerComponents();
+        LfNetworkParameters networkParameters = new LfNetworkParameters()
+                .setComputeMainConnectedComponentOnly(false);
+        List<LfNetwork> expected = Networks.load(network, networkParameters);
+        assertTrue(expected.size() > 1);
+
+        networkParameters.setLoadingThreadCount(4);
+        assertSameNetworks(expected, Networks.load(network, networkParameters));
+
+        // working variant of the caller has to be used by loading threads
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network.getVariantManager().allowVariantMultiThreadAccess(true);
+        try {
+            network.getVariantManager().setWorkingVariant("v");
+            assertSameNetworks(expected, Networks.load(network, networkParameters));
+        } finally {
+            network.getVariantManager().allowVariantMultiThreadAccess(false);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> networkParameters.setLoadingThreadCount(0));
+    }
+
+    @Test
+    void testPreloadLimits() {
+        network = EurostagFactory.fix(EurostagTutorialExample1Factory.createWithFixedCurrentLimits());
+        LimitReduction limitReduction = LimitReduction.builder(LimitType.CURRENT, 0.9).build();
+        LfNetworkParameters networkParameters = new LfNetworkParameters()
+                .setPreloadLimits(true)
+                .setLimitReductions(List.of(limitReduction));
+        LfNetwork lfNetwork = Networks.load(network, networkParameters).get(0);
+        LfBranch branch = lfNetwork.getBranchById("NHV1_NHV2_1");
+        List<LfBranch.LfLimit> limits = branch.getLimits2(LimitType.CURRENT, null);
+        assertFalse(limits.isEmpty());
+        LfBranch.LfLimit permanentLimit = limits.get(limits.size() - 1);
+        double permanentLimitValue = permanentLimit.getValue();
+        assertEquals(0.9, permanentLimit.getReduction());
+        assertEquals(permanentLimitValue * 0.9, permanentLimit.getReducedValue(), 1e-12);
+
+        // IIDM limits are not read anymore
+        network.getLine("NHV1_NHV2_1").newCurrentLimits2().setPermanentLimit(1).add();
+        assertSame(limits, branch.getLimits2(LimitType.CURRENT, null));
+        assertEquals(permanentLimitValue, branch.getLimits2(LimitType.CURRENT, null).get(limits.size() - 1).getValue());
+        assertTrue(branch.getLimits1(LimitType.ACTIVE_POWER, null).isEmpty());
+    }
 }
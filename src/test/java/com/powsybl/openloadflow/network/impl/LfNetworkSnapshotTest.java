@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.LimitType;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.extensions.HvdcAngleDroopActivePowerControlAdder;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.ac.AcLoadFlowContext;
+import com.powsybl.openloadflow.ac.AcLoadFlowParameters;
+import com.powsybl.openloadflow.ac.AcLoadFlowResult;
+import com.powsybl.openloadflow.ac.AcloadFlowEngine;
+import com.powsybl.openloadflow.graph.EvenShiloachGraphDecrementalConnectivityFactory;
+import com.powsybl.openloadflow.network.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class LfNetworkSnapshotTest {
+
+    private static final double DELTA = 1e-8;
+
+    @TempDir
+    Path tempDir;
+
+    private static AcLoadFlowParameters createAcParameters(Network network, OpenLoadFlowParameters parametersExt) {
+        return OpenLoadFlowParameters.createAcParameters(network, new LoadFlowParameters(), parametersExt,
+                                                         new DenseMatrixFactory(), new EvenShiloachGraphDecrementalConnectivityFactory<>());
+    }
+
+    private static AcLoadFlowResult runAc(LfNetwork lfNetwork, AcLoadFlowParameters acParameters) {
+        try (var context = new AcLoadFlowContext(lfNetwork, acParameters)) {
+            return new AcloadFlowEngine(context).run();
+        }
+    }
+
+    private void assertSnapshotEquivalent(Network network) {
+        assertSnapshotEquivalent(network, new OpenLoadFlowParameters());
+    }
+
+    private void assertSnapshotEquivalent(Network network, OpenLoadFlowParameters parametersExt) {
+        AcLoadFlowParameters acParameters = createAcParameters(network, parametersExt);
+        LfNetworkParameters networkParameters = acParameters.getNetworkParameters();
+        List<LfNetwork> lfNetworks = LfNetwork.load(network, new LfNetworkLoaderImpl(), networkParameters);
+
+        Path file = tempDir.resolve("network.bin");
+        LfNetworkSnapshotWriter.write(lfNetworks, networkParameters, file);
+        List<LfNetwork> snapshotLfNetworks = LfNetwork.load(file, new LfNetworkSnapshotLoader(), networkParameters);
+
+        assertEquals(lfNetworks.size(), snapshotLfNetworks.size());
+        for (int i = 0; i < lfNetworks.size(); i++) {
+            LfNetwork lfNetwork = lfNetworks.get(i);
+            LfNetwork snapshotLfNetwork = snapshotLfNetworks.get(i);
+            assertEquals(lfNetwork.getNumCC(), snapshotLfNetwork.getNumCC());
+            assertEquals(lfNetwork.getNumSC(), snapshotLfNetwork.getNumSC());
+            assertEquals(lfNetwork.getBuses().stream().map(LfBus::getId).toList(),
+                         snapshotLfNetwork.getBuses().stream().map(LfBus::getId).toList());
+            assertEquals(lfNetwork.getBranches().stream().map(LfBranch::getId).toList(),
+                         snapshotLfNetwork.getBranches().stream().map(LfBranch::getId).toList());
+            assertEquals(lfNetwork.getSlackBuses().stream().map(LfBus::getId).toList(),
+                         snapshotLfNetwork.getSlackBuses().stream().map(LfBus::getId).toList());
+            for (LfBranch branch : lfNetwork.getBranches()) {
+                LfBranch snapshotBranch = snapshotLfNetwork.getBranchById(branch.getId());
+                assertEquals(branch.getPiModel().getX(), snapshotBranch.getPiModel().getX(), 0);
+                assertEquals(branch.getPiModel().getR1(), snapshotBranch.getPiModel().getR1(), 0);
+                assertEquals(branch.getLimits1(LimitType.CURRENT, null).size(), snapshotBranch.getLimits1(LimitType.CURRENT, null).size());
+                assertEquals(branch.isVoltageControlEnabled(), snapshotBranch.isVoltageControlEnabled());
+            }
+            assertEquals(lfNetwork.getAreas().size(), snapshotLfNetwork.getAreas().size());
+            for (LfArea area : lfNetwork.getAreas()) {
+                LfArea snapshotArea = snapshotLfNetwork.getAreaById(area.getId());
+                assertEquals(area.getInterchangeTarget(), snapshotArea.getInterchangeTarget(), 0);
+                assertEquals(area.getBuses().stream().map(LfBus::getId).sorted().toList(),
+                             snapshotArea.getBuses().stream().map(LfBus::getId).sorted().toList());
+                assertEquals(area.getBoundaries().size(), snapshotArea.getBoundaries().size());
+            }
+            for (LfBus bus : lfNetwork.getBuses()) {
+                LfBus snapshotBus = snapshotLfNetwork.getBusById(bus.getId());
+                assertEquals(bus.getLoadTargetP(), snapshotBus.getLoadTargetP(), 0);
+                assertEquals(bus.getGenerationTargetQ(), snapshotBus.getGenerationTargetQ(), 0);
+                assertEquals(bus.isGeneratorVoltageControlEnabled(), snapshotBus.isGeneratorVoltageControlEnabled());
+            }
+
+            AcLoadFlowResult result = runAc(lfNetwork, acParameters);
+            AcLoadFlowResult snapshotResult = runAc(snapshotLfNetwork, acParameters);
+            assertEquals(result.getSolverStatus(), snapshotResult.getSolverStatus());
+            for (LfBus bus : lfNetwork.getBuses()) {
+                LfBus snapshotBus = snapshotLfNetwork.getBusById(bus.getId());
+                assertEquals(bus.getV(), snapshotBus.getV(), DELTA);
+                assertEquals(bus.getAngle(), snapshotBus.getAngle(), DELTA);
+            }
+            for (LfArea area : lfNetwork.getAreas()) {
+                assertEquals(area.getInterchange(), snapshotLfNetwork.getAreaById(area.getId()).getInterchange(), DELTA);
+            }
+        }
+    }
+
+    @Test
+    void testEurostag() {
+        assertSnapshotEquivalent(EurostagFactory.fix(EurostagTutorialExample1Factory.createWithFixedCurrentLimits()));
+    }
+
+    @Test
+    void testIeee14() {
+        assertSnapshotEquivalent(IeeeCdfNetworkFactory.create14());
+    }
+
+    @Test
+    void testAreas() {
+        assertSnapshotEquivalent(MultiAreaNetworkFactory.createTwoAreasWithXNode(), new OpenLoadFlowParameters().setAreaInterchangeControl(true));
+    }
+
+    @Test
+    void testDifferentLoadingParameters() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        LfNetworkParameters parameters = new LfNetworkParameters();
+        List<LfNetwork> lfNetworks = LfNetwork.load(network, new LfNetworkLoaderImpl(), parameters);
+        Path file = tempDir.resolve("network.bin");
+        LfNetworkSnapshotWriter.write(lfNetworks, parameters, file);
+
+        // parameters only used at loading time can be changed
+        LfNetworkParameters otherSlackBusSelectorParameters = new LfNetworkParameters().setSlackBusSelector(new MostMeshedSlackBusSelector());
+        assertEquals(1, LfNetwork.load(file, new LfNetworkSnapshotLoader(), otherSlackBusSelectorParameters).size());
+
+        LfNetworkParameters otherParameters = new LfNetworkParameters().setMinImpedance(true);
+        LfNetworkSnapshotLoader loader = new LfNetworkSnapshotLoader();
+        PowsyblException e = assertThrows(PowsyblException.class, () -> LfNetwork.load(file, loader, otherParameters));
+        assertEquals("Network snapshot file " + file + " has been written with parameter minImpedance=false, incompatible with minImpedance=true", e.getMessage());
+    }
+
+    @Test
+    void testUnsupportedHvdc() {
+        Network network = HvdcNetworkFactory.createWithHvdcInAcEmulation();
+        network.getHvdcLine("hvdc34").newExtension(HvdcAngleDroopActivePowerControlAdder.class)
+                .withDroop(180)
+                .withP0(0.f)
+                .withEnabled(true)
+                .add();
+        LfNetworkParameters parameters = new LfNetworkParameters().setSlackBusSelector(new MostMeshedSlackBusSelector());
+        List<LfNetwork> lfNetworks = Networks.load(network, parameters);
+        Path file = tempDir.resolve("network.bin");
+        PowsyblException e = assertThrows(PowsyblException.class, () -> LfNetworkSnapshotWriter.write(lfNetworks, parameters, file));
+        assertEquals("Network {CC0 SC0}: HVDC lines not supported by snapshot", e.getMessage());
+    }
+
+    @Test
+    void testInvalidFile() throws IOException {
+        Path file = tempDir.resolve("invalid.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+        LfNetworkSnapshotLoader loader = new LfNetworkSnapshotLoader();
+        LfNetworkParameters parameters = new LfNetworkParameters();
+        PowsyblException e = assertThrows(PowsyblException.class, () -> LfNetwork.load(file, loader, parameters));
+        assertEquals("Not a network snapshot file: " + file, e.getMessage());
+
+        List<LfNetwork> lfNetworks = Networks.load(EurostagFactory.fix(EurostagTutorialExample1Factory.create()), parameters);
+        Path truncatedFile = tempDir.resolve("truncated.bin");
+        LfNetworkSnapshotWriter.write(lfNetworks, parameters, truncatedFile);
+        byte[] bytes = Files.readAllBytes(truncatedFile);
+        Files.write(truncatedFile, Arrays.copyOf(bytes, bytes.length / 2));
+        e = assertThrows(PowsyblException.class, () -> LfNetwork.load(truncatedFile, loader, parameters));
+        assertEquals("Truncated network snapshot file: " + truncatedFile, e.getMessage());
+    }
+}
@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sa;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Line;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.openloadflow.network.PhaseControlFactory;
+import com.powsybl.openloadflow.util.LoadFlowAssert;
+import com.powsybl.security.LimitViolation;
+import com.powsybl.security.SecurityAnalysisParameters;
+import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.results.PostContingencyResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class DcNkContingencyScreeningTest extends AbstractOpenSecurityAnalysisTest {
+
+    private Network network;
+
+    private SecurityAnalysisParameters securityAnalysisParameters;
+
+    @BeforeEach
+    void setUpNetwork() {
+        network = IeeeCdfNetworkFactory.create14();
+        LoadFlowParameters lfParameters = new LoadFlowParameters()
+                .setDc(true);
+        securityAnalysisParameters = new SecurityAnalysisParameters();
+        securityAnalysisParameters.setLoadFlowParameters(lfParameters);
+        securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, new OpenSecurityAnalysisParameters()
+                .setDcFastMode(true));
+
+        // limits with a margin on pre-contingency flows, so that combinations can be pruned, except on L1-5-1 which is
+        // already violated
+        runLoadFlow(network, lfParameters);
+        for (Line line : network.getLines()) {
+            double p1 = Math.abs(line.getTerminal1().getP());
+            double limit = line.getId().equals("L1-5-1") ? 0.9 * p1 : 2 * p1 + 30;
+            line.newActivePowerLimits1().setPermanentLimit(limit).add();
+        }
+    }
+
+    private List<String> getBranchIds() {
+        return network.getBranchStream().map(Identifiable::getId).toList();
+    }
+
+    private DcNkContingencyScreening.Summary runScreening(List<String> outageBranchIds, int k, Map<String, List<LimitViolation>> violationsByCombination) {
+        return runScreening(outageBranchIds, k, violationsByCombination, new HashSet<>());
+    }
+
+    private DcNkContingencyScreening.Summary runScreening(List<String> outageBranchIds, int k, Map<String, List<LimitViolation>> violationsByCombination,
+                                                          Set<String> prunedCombinations) {
+        return new DcNkContingencyScreening(network, matrixFactory, ReportNode.NO_OP)
+                .run(outageBranchIds, k, securityAnalysisParameters, Collections.emptyList(),
+                    combination -> violationsByCombination.put(String.join("+", combination.outageBranchIds()), combination.limitViolations()),
+                    ids -> prunedCombinations.add(String.join("+", ids)));
+    }
+
+    private static List<Contingency> createN2Contingencies(List<String> branchIds) {
+        List<Contingency> contingencies = new ArrayList<>();
+        for (int i = 0; i < branchIds.size(); i++) {
+            for (int j = i + 1; j < branchIds.size(); j++) {
+                contingencies.add(new Contingency(branchIds.get(i) + "+" + branchIds.get(j),
+                                                  new BranchContingency(branchIds.get(i)), new BranchContingency(branchIds.get(j))));
+            }
+        }
+        return contingencies;
+    }
+
+    /**
+     * Check that the screening found the same violations as a security analysis on the same contingencies, and returns
+     * the number of violating contingencies.
+     */
+    private int assertSameViolationsAsSecurityAnalysis(List<Contingency> contingencies, DcNkContingencyScreening.Summary summary,
+                                                       Map<String, List<LimitViolation>> violationsByCombination) {
+        SecurityAnalysisResult result = runSecurityAnalysis(network, contingencies, Collections.emptyList(), securityAnalysisParameters);
+        int connectivityBreakingCount = 0;
+        int violatingCount = 0;
+        for (PostContingencyResult postContingencyResult : result.getPostContingencyResults()) {
+            String contingencyId = postContingencyResult.getContingency().getId();
+            if (postContingencyResult.getConnectivityResult().getCreatedSynchronousComponentCount() > 0) {
+                connectivityBreakingCount++;
+                assertFalse(violationsByCombination.containsKey(contingencyId));
+                continue;
+            }
+            List<LimitViolation> expectedViolations = postContingencyResult.getLimitViolationsResult().getLimitViolations();
+            List<LimitViolation> violations = violationsByCombination.getOrDefault(contingencyId, Collections.emptyList());
+            assertEquals(expectedViolations.size(), violations.size(), contingencyId);
+            for (int i = 0; i < violations.size(); i++) {
+                assertEquals(expectedViolations.get(i).getSubjectId(), violations.get(i).getSubjectId(), contingencyId);
+                assertEquals(expectedViolations.get(i).getValue(), violations.get(i).getValue(), LoadFlowAssert.DELTA_POWER, contingencyId);
+            }
+            if (!violations.isEmpty()) {
+                violatingCount++;
+            }
+        }
+
+        assertEquals(contingencies.size(), summary.combinationCount());
+        assertEquals(connectivityBreakingCount, summary.connectivityBreakingCombinationCount());
+        assertEquals(violatingCount, summary.violatingCombinationCount());
+        assertEquals(violatingCount, violationsByCombination.size());
+        return violatingCount;
+    }
+
+    @Test
+    void testN2() {
+        List<String> branchIds = getBranchIds();
+        Map<String, List<LimitViolation>> violationsByCombination = new HashMap<>();
+        Set<String> prunedCombinations = new HashSet<>();
+        DcNkContingencyScreening.Summary summary = runScreening(branchIds, 2, violationsByCombination, prunedCombinations);
+
+        // same violations as a security analysis on all the N-2 contingencies
+        int violatingCount = assertSameViolationsAsSecurityAnalysis(createN2Contingencies(branchIds), summary, violationsByCombination);
+        assertTrue(violatingCount > 0);
+        assertTrue(summary.prunedCombinationCount() > 0);
+        assertEquals(summary.prunedCombinationCount(), prunedCombinations.size());
+        // pruned combinations only violate the limit of the branch already violated in the pre-contingency state,
+        // violations being the same as the ones of the security analysis
+        for (String prunedCombination : prunedCombinations) {
+            for (LimitViolation violation : violationsByCombination.getOrDefault(prunedCombination, Collections.emptyList())) {
+                assertEquals("L1-5-1", violation.getSubjectId(), prunedCombination);
+            }
+        }
+    }
+
+    @Test
+    void testPhaseShifterOutages() {
+        network = PhaseControlFactory.createNetworkWithT2wt();
+        network.newLine().setId("L3")
+                .setConnectableBus1("B1")
+                .setBus1("B1")
+                .setConnectableBus2("B2")
+                .setBus2("B2")
+                .setR(4.0)
+                .setX(200.0)
+                .add();
+        network.newLine().setId("L4")
+                .setConnectableBus1("B3")
+                .setBus1("B3")
+                .setConnectableBus2("B2")
+                .setBus2("B2")
+                .setR(4.0)
+                .setX(200.0)
+                .add();
+        // a non zero phase shift, which has to be removed when PS1 is lost
+        network.getTwoWindingsTransformer("PS1").getPhaseTapChanger().setTapPosition(2);
+        runLoadFlow(network, securityAnalysisParameters.getLoadFlowParameters());
+        for (Branch<?> branch : network.getBranches()) {
+            branch.newActivePowerLimits1().setPermanentLimit(1.1 * Math.abs(branch.getTerminal1().getP()) + 1).add();
+        }
+
+        List<String> branchIds = getBranchIds();
+        List<Contingency> contingencies = branchIds.stream()
+                .map(id -> new Contingency(id, new BranchContingency(id)))
+                .toList();
+        Map<String, List<LimitViolation>> violationsByCombination = new HashMap<>();
+        DcNkContingencyScreening.Summary summary = runScreening(branchIds, 1, violationsByCombination);
+        assertSameViolationsAsSecurityAnalysis(contingencies, summary, violationsByCombination);
+        assertTrue(violationsByCombination.containsKey("PS1"));
+
+        violationsByCombination.clear();
+        summary = runScreening(branchIds, 2, violationsByCombination);
+        assertSameViolationsAsSecurityAnalysis(createN2Contingencies(branchIds), summary, violationsByCombination);
+        assertTrue(violationsByCombination.keySet().stream().anyMatch(id -> id.contains("PS1")));
+    }
+
+    @Test
+    void testN1AndN3() {
+        List<String> branchIds = getBranchIds();
+        DcNkContingencyScreening.Summary summary = runScreening(branchIds, 1, new HashMap<>());
+        assertEquals(branchIds.size(), summary.combinationCount());
+        // L7-8-1 is a bridge
+        assertEquals(1, summary.connectivityBreakingCombinationCount());
+
+        // bus 3 is isolated when L2-3-1 and L3-4-1 are lost
+        summary = runScreening(List.of("L1-2-1", "L2-3-1", "L3-4-1", "L4-5-1", "L2-4-1"), 3, new HashMap<>());
+        assertEquals(10, summary.combinationCount());
+        assertEquals(3, summary.connectivityBreakingCombinationCount());
+    }
+
+    @Test
+    void testErrors() {
+        Map<String, List<LimitViolation>> violationsByCombination = new HashMap<>();
+        List<String> outageBranchIds = List.of("L1-2-1", "L2-3-1");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> runScreening(outageBranchIds, 3, violationsByCombination));
+        assertEquals("Invalid combination order 3 for 2 outage candidates", e.getMessage());
+        network.getBranch("L2-3-1").getTerminal2().disconnect();
+        PowsyblException e2 = assertThrows(PowsyblException.class, () -> runScreening(outageBranchIds, 2, violationsByCombination));
+        assertEquals("Branch 'L2-3-1' not found or not connected on both sides", e2.getMessage());
+    }
+}
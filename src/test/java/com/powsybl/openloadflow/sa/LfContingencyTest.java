@@ -14,6 +14,7 @@ import com.powsybl.commons.test.ComparisonUtils;
 import com.powsybl.contingency.*;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.test.BatteryNetworkFactory;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
 import com.powsybl.math.matrix.DenseMatrixFactory;
 import com.powsybl.openloadflow.graph.EvenShiloachGraphDecrementalConnectivityFactory;
@@ -39,8 +40,7 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static com.powsybl.openloadflow.network.impl.PropagatedContingency.createList;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Florian Dupuy {@literal <florian.dupuy at rte-france.com>}
@@ -155,4 +155,31 @@ class LfContingencyTest extends AbstractSerDeTest {
                             lfNetwork.getBranchById("T3wT_leg_3"), DisabledBranchStatus.BOTH_SIDES),
                 lfContingency.getDisabledNetwork().getBranchesStatus());
     }
+
+    @Test
+    void testContingencyAfterPermanentBranchOpening() {
+        Network network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        LfNetwork lfNetwork = Networks.load(network, new MostMeshedSlackBusSelector()).get(0);
+        Contingency contingency = Contingency.line("NHV1_NHV2_2");
+        PropagatedContingency propagatedContingency = createList(network, List.of(contingency), new LfTopoConfig(), new PropagatedContingencyCreationParameters()).get(0);
+        assertTrue(propagatedContingency.toLfContingency(lfNetwork).orElseThrow().getDisabledNetwork().getBuses().isEmpty());
+
+        // parallel line is permanently opened, as done by automation systems
+        LfBranch line1 = lfNetwork.getBranchById("NHV1_NHV2_1");
+        LfBranch line2 = lfNetwork.getBranchById("NHV1_NHV2_2");
+        lfNetwork.getConnectivity().removeEdge(line1);
+        lfNetwork.onConnectivityBranchRemoved(line1);
+        // initial graph based detector is not aware of it
+        assertTrue(lfNetwork.getEdgeCutDetector().isConnectivityPreserved(List.of(line2)));
+        assertFalse(lfNetwork.isConnectivityPreserved(List.of(line2)));
+
+        LfContingency lfContingency = propagatedContingency.toLfContingency(lfNetwork).orElseThrow();
+        assertFalse(lfContingency.getDisabledNetwork().getBuses().isEmpty());
+
+        // closed back, contingency does not break connectivity anymore
+        lfNetwork.getConnectivity().addEdge(line1.getBus1(), line1.getBus2(), line1);
+        lfNetwork.onConnectivityBranchAdded(line1);
+        assertTrue(lfNetwork.isConnectivityPreserved(List.of(line2)));
+        assertTrue(propagatedContingency.toLfContingency(lfNetwork).orElseThrow().getDisabledNetwork().getBuses().isEmpty());
+    }
 }
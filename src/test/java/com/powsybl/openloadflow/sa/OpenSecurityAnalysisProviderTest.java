@@ -46,7 +46,8 @@ class OpenSecurityAnalysisProviderTest extends AbstractSerDeTest {
 
     @Test
     void specificParametersNamesTest() {
-        assertEquals(List.of("createResultExtension", "contingencyPropagation", "threadCount", "dcFastMode", "contingencyActivePowerLossDistribution"), provider.getSpecificParametersNames());
+        assertEquals(List.of("createResultExtension", "contingencyPropagation", "threadCount", "dcFastMode", "contingencyActivePowerLossDistribution", "preloadLimits", "dcFastModeMonitoredBranchesOnly",
+                             "dcFastModeFloatContingencyStates", "dcFastModeDistributionFactorsDirectory"), provider.getSpecificParametersNames());
     }
 
     @Test
@@ -63,6 +64,18 @@ class OpenSecurityAnalysisProviderTest extends AbstractSerDeTest {
         assertFalse(parametersExt.isDcFastMode());
         parametersExt.setDcFastMode(true);
         assertTrue(parametersExt.isDcFastMode());
+        assertFalse(parametersExt.isPreloadLimits());
+        parametersExt.setPreloadLimits(true);
+        assertTrue(parametersExt.isPreloadLimits());
+        assertFalse(parametersExt.isDcFastModeMonitoredBranchesOnly());
+        parametersExt.setDcFastModeMonitoredBranchesOnly(true);
+        assertTrue(parametersExt.isDcFastModeMonitoredBranchesOnly());
+        assertFalse(parametersExt.isDcFastModeFloatContingencyStates());
+        parametersExt.setDcFastModeFloatContingencyStates(true);
+        assertTrue(parametersExt.isDcFastModeFloatContingencyStates());
+        assertNull(parametersExt.getDcFastModeDistributionFactorsDirectory());
+        parametersExt.setDcFastModeDistributionFactorsDirectory("/tmp/factors");
+        assertEquals("/tmp/factors", parametersExt.getDcFastModeDistributionFactorsDirectory());
     }
 
     @Test
@@ -88,11 +101,17 @@ class OpenSecurityAnalysisProviderTest extends AbstractSerDeTest {
 
     @Test
     void specificParametersFromPropertiesTest() {
-        Map<String, String> properties = Map.of("createResultExtension", "true", "contingencyPropagation", "false", "dcFastMode", "true");
+        Map<String, String> properties = Map.of("createResultExtension", "true", "contingencyPropagation", "false", "dcFastMode", "true", "preloadLimits", "true",
+                                                "dcFastModeMonitoredBranchesOnly", "true", "dcFastModeFloatContingencyStates", "true",
+                                                "dcFastModeDistributionFactorsDirectory", "/tmp/factors");
         OpenSecurityAnalysisParameters parametersExt = (OpenSecurityAnalysisParameters) provider.loadSpecificParameters(properties).orElseThrow();
         assertTrue(parametersExt.isCreateResultExtension());
         assertFalse(parametersExt.isContingencyPropagation());
         assertTrue(parametersExt.isDcFastMode());
+        assertTrue(parametersExt.isPreloadLimits());
+        assertTrue(parametersExt.isDcFastModeMonitoredBranchesOnly());
+        assertTrue(parametersExt.isDcFastModeFloatContingencyStates());
+        assertEquals("/tmp/factors", parametersExt.getDcFastModeDistributionFactorsDirectory());
     }
 
     @Test
@@ -10,6 +10,7 @@ package com.powsybl.openloadflow.sa;
 import com.google.common.collect.ImmutableList;
 import com.powsybl.action.Action;
 import com.powsybl.action.LoadActionBuilder;
+import com.powsybl.action.PhaseTapChangerTapPositionAction;
 import com.powsybl.action.TerminalsConnectionAction;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.report.ReportNode;
@@ -50,11 +51,14 @@ import com.powsybl.security.monitor.StateMonitor;
 import com.powsybl.security.results.*;
 import com.powsybl.security.strategy.OperatorStrategy;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
@@ -1721,6 +1725,211 @@ class OpenSecurityAnalysisTest extends AbstractOpenSecurityAnalysisTest {
         assertEquals(4, result.getPostContingencyResults().get(4).getLimitViolationsResult().getLimitViolations().size());
     }
 
+    @Test
+    void testDcFastModeMonitoredBranchesOnly() {
+        Network network = FourBusNetworkFactory.create();
+        network.getLine("l14").newCurrentLimits1().setPermanentLimit(60.0)
+                .beginTemporaryLimit().setName("60").setAcceptableDuration(60).setValue(200.0).endTemporaryLimit().add();
+        network.getLine("l12").newCurrentLimits1().setPermanentLimit(120.0).add();
+        network.getLine("l23").newActivePowerLimits2().setPermanentLimit(1.0).add();
+        network.getLine("l34").newCurrentLimits1().setPermanentLimit(90.0).add();
+        network.getLine("l13").newActivePowerLimits1().setPermanentLimit(1.5).add();
+        List<Contingency> contingencies = new ArrayList<>(createAllBranchesContingencies(network));
+        contingencies.add(new Contingency("l14+l23", new BranchContingency("l14"), new BranchContingency("l23")));
+        contingencies.add(new Contingency("g4", new GeneratorContingency("g4")));
+
+        List<SecurityAnalysisResult> results = new ArrayList<>();
+        for (boolean monitoredBranchesOnly : new boolean[] {false, true}) {
+            SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+            LoadFlowParameters lfParameters = new LoadFlowParameters()
+                    .setDc(true);
+            setSlackBusId(lfParameters, "b1_vl");
+            securityAnalysisParameters.setLoadFlowParameters(lfParameters);
+            OpenSecurityAnalysisParameters openSecurityAnalysisParameters = new OpenSecurityAnalysisParameters()
+                    .setDcFastMode(true)
+                    .setDcFastModeMonitoredBranchesOnly(monitoredBranchesOnly);
+            securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, openSecurityAnalysisParameters);
+            results.add(runSecurityAnalysis(network, contingencies, Collections.emptyList(), securityAnalysisParameters));
+        }
+
+        SecurityAnalysisResult result = results.get(0);
+        SecurityAnalysisResult monitoredBranchesOnlyResult = results.get(1);
+        assertEquals(contingencies.size(), monitoredBranchesOnlyResult.getPostContingencyResults().size());
+        for (PostContingencyResult postContingencyResult : result.getPostContingencyResults()) {
+            String contingencyId = postContingencyResult.getContingency().getId();
+            List<LimitViolation> violations = postContingencyResult.getLimitViolationsResult().getLimitViolations();
+            List<LimitViolation> monitoredBranchesOnlyViolations = getPostContingencyResult(monitoredBranchesOnlyResult, contingencyId)
+                    .getLimitViolationsResult().getLimitViolations();
+            assertEquals(violations.size(), monitoredBranchesOnlyViolations.size(), contingencyId);
+            for (int i = 0; i < violations.size(); i++) {
+                assertEquals(violations.get(i).getSubjectId(), monitoredBranchesOnlyViolations.get(i).getSubjectId());
+                assertEquals(violations.get(i).getLimitType(), monitoredBranchesOnlyViolations.get(i).getLimitType());
+                assertEquals(violations.get(i).getLimitName(), monitoredBranchesOnlyViolations.get(i).getLimitName());
+                assertEquals(violations.get(i).getValue(), monitoredBranchesOnlyViolations.get(i).getValue(), LoadFlowAssert.DELTA_POWER);
+            }
+        }
+        assertFalse(getPostContingencyResult(monitoredBranchesOnlyResult, "l13").getLimitViolationsResult().getLimitViolations().isEmpty());
+    }
+
+    @Test
+    void testDcFastModeMonitoredBranchesOnlyWithDistributionFactors(@TempDir Path tempDir) throws IOException {
+        Network network = FourBusNetworkFactory.create();
+        network.getLine("l14").newCurrentLimits1().setPermanentLimit(60.0).add();
+        network.getLine("l12").newCurrentLimits1().setPermanentLimit(120.0).add();
+        network.getLine("l23").newActivePowerLimits2().setPermanentLimit(1.0).add();
+        network.getLine("l13").newActivePowerLimits1().setPermanentLimit(1.5).add();
+        List<Contingency> contingencies = new ArrayList<>(createAllBranchesContingencies(network));
+        contingencies.add(new Contingency("l14+l23", new BranchContingency("l14"), new BranchContingency("l23")));
+
+        Path directory = tempDir.resolve("factors");
+        List<SecurityAnalysisResult> results = new ArrayList<>();
+        // without distribution factors, then computing them, then reading them from the directory
+        for (String distributionFactorsDirectory : Arrays.asList(null, directory.toString(), directory.toString())) {
+            SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+            LoadFlowParameters lfParameters = new LoadFlowParameters()
+                    .setDc(true);
+            setSlackBusId(lfParameters, "b1_vl");
+            securityAnalysisParameters.setLoadFlowParameters(lfParameters);
+            OpenSecurityAnalysisParameters openSecurityAnalysisParameters = new OpenSecurityAnalysisParameters()
+                    .setDcFastMode(true)
+                    .setDcFastModeMonitoredBranchesOnly(true)
+                    .setDcFastModeDistributionFactorsDirectory(distributionFactorsDirectory);
+            securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, openSecurityAnalysisParameters);
+            results.add(runSecurityAnalysis(network, contingencies, Collections.emptyList(), securityAnalysisParameters));
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+
+        for (SecurityAnalysisResult result : results.subList(1, 3)) {
+            assertEquals(contingencies.size(), result.getPostContingencyResults().size());
+            for (int i = 0; i < contingencies.size(); i++) {
+                LimitViolationsResult expected = results.get(0).getPostContingencyResults().get(i).getLimitViolationsResult();
+                List<LimitViolation> violations = expected.getLimitViolations();
+                List<LimitViolation> otherViolations = result.getPostContingencyResults().get(i).getLimitViolationsResult().getLimitViolations();
+                assertEquals(violations.size(), otherViolations.size());
+                for (int j = 0; j < violations.size(); j++) {
+                    assertEquals(violations.get(j).getSubjectId(), otherViolations.get(j).getSubjectId());
+                    assertEquals(violations.get(j).getValue(), otherViolations.get(j).getValue(), LoadFlowAssert.DELTA_POWER);
+                }
+            }
+        }
+        assertTrue(results.get(1).getPostContingencyResults().stream()
+                .anyMatch(postContingencyResult -> !postContingencyResult.getLimitViolationsResult().getLimitViolations().isEmpty()));
+    }
+
+    @Test
+    void testDcFastModeMonitoredBranchesOnlyMultiThreads() {
+        Network network = PhaseControlFactory.createNetworkWithT2wt();
+        network.newLine().setId("L3")
+                .setConnectableBus1("B1")
+                .setBus1("B1")
+                .setConnectableBus2("B2")
+                .setBus2("B2")
+                .setR(4.0)
+                .setX(200.0)
+                .add();
+        network.newLine().setId("L4")
+                .setConnectableBus1("B3")
+                .setBus1("B3")
+                .setConnectableBus2("B2")
+                .setBus2("B2")
+                .setR(4.0)
+                .setX(200.0)
+                .add();
+        network.getTwoWindingsTransformer("PS1").getPhaseTapChanger().setTapPosition(2);
+        network.getLine("L1").newActivePowerLimits1().setPermanentLimit(40.0).add();
+        network.getLine("L2").newActivePowerLimits1().setPermanentLimit(20.0).add();
+        network.getLine("L4").newCurrentLimits1().setPermanentLimit(50.0).add();
+        List<Contingency> contingencies = new ArrayList<>(createAllBranchesContingencies(network));
+        contingencies.add(new Contingency("L1+L4", new BranchContingency("L1"), new BranchContingency("L4")));
+        contingencies.add(new Contingency("LD2", new LoadContingency("LD2")));
+        // contingencies whose simulation modifies the network: connectivity break, lost phase shifter and operator strategy
+        contingencies.add(new Contingency("PS1+L2+L4", new BranchContingency("PS1"), new BranchContingency("L2"), new BranchContingency("L4")));
+        List<Action> actions = List.of(new PhaseTapChangerTapPositionAction("tapPs1", "PS1", false, 0));
+        List<OperatorStrategy> operatorStrategies = List.of(new OperatorStrategy("strategyL3", ContingencyContext.specificContingency("L3"),
+                new TrueCondition(), List.of("tapPs1")));
+
+        List<SecurityAnalysisResult> results = new ArrayList<>();
+        for (int threadCount : new int[] {1, 3}) {
+            SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+            LoadFlowParameters lfParameters = new LoadFlowParameters()
+                    .setDc(true);
+            securityAnalysisParameters.setLoadFlowParameters(lfParameters);
+            OpenSecurityAnalysisParameters openSecurityAnalysisParameters = new OpenSecurityAnalysisParameters()
+                    .setDcFastMode(true)
+                    .setDcFastModeMonitoredBranchesOnly(true)
+                    .setThreadCount(threadCount);
+            securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, openSecurityAnalysisParameters);
+            results.add(runSecurityAnalysis(network, contingencies, Collections.emptyList(), securityAnalysisParameters,
+                    operatorStrategies, actions, ReportNode.NO_OP));
+        }
+
+        List<PostContingencyResult> postContingencyResults = results.get(0).getPostContingencyResults();
+        assertTrue(postContingencyResults.stream().anyMatch(result -> !result.getLimitViolationsResult().getLimitViolations().isEmpty()));
+        List<PostContingencyResult> multiThreadsPostContingencyResults = results.get(1).getPostContingencyResults();
+        assertEquals(contingencies.size(), multiThreadsPostContingencyResults.size());
+        for (int i = 0; i < postContingencyResults.size(); i++) {
+            // same results in the same order
+            assertEquals(postContingencyResults.get(i).getContingency().getId(), multiThreadsPostContingencyResults.get(i).getContingency().getId());
+            assertEquals(postContingencyResults.get(i).getStatus(), multiThreadsPostContingencyResults.get(i).getStatus());
+            assertSameViolations(postContingencyResults.get(i).getLimitViolationsResult(), multiThreadsPostContingencyResults.get(i).getLimitViolationsResult());
+        }
+        assertEquals(1, results.get(1).getOperatorStrategyResults().size());
+        assertSameViolations(getOperatorStrategyResult(results.get(0), "strategyL3").getLimitViolationsResult(),
+                getOperatorStrategyResult(results.get(1), "strategyL3").getLimitViolationsResult());
+    }
+
+    private static void assertSameViolations(LimitViolationsResult expected, LimitViolationsResult actual) {
+        List<LimitViolation> violations = expected.getLimitViolations();
+        List<LimitViolation> otherViolations = actual.getLimitViolations();
+        assertEquals(violations.size(), otherViolations.size());
+        for (int j = 0; j < violations.size(); j++) {
+            assertEquals(violations.get(j).getSubjectId(), otherViolations.get(j).getSubjectId());
+            assertEquals(violations.get(j).getValue(), otherViolations.get(j).getValue(), 0);
+        }
+    }
+
+    @Test
+    void testDcFastModeFloatContingencyStates() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        // all N-1, including the L7-8-1 bridge, and N-2 with or without connectivity break
+        List<Contingency> contingencies = new ArrayList<>(createAllBranchesContingencies(network));
+        contingencies.add(new Contingency("L2-3-1+L2-4-1", new BranchContingency("L2-3-1"), new BranchContingency("L2-4-1")));
+        contingencies.add(new Contingency("L6-13-1+L12-13-1", new BranchContingency("L6-13-1"), new BranchContingency("L12-13-1")));
+        List<StateMonitor> monitors = createNetworkMonitors(network);
+
+        List<SecurityAnalysisResult> results = new ArrayList<>();
+        for (boolean floatContingencyStates : new boolean[] {false, true}) {
+            SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+            LoadFlowParameters lfParameters = new LoadFlowParameters()
+                    .setDc(true);
+            securityAnalysisParameters.setLoadFlowParameters(lfParameters);
+            OpenSecurityAnalysisParameters openSecurityAnalysisParameters = new OpenSecurityAnalysisParameters()
+                    .setDcFastMode(true)
+                    .setDcFastModeFloatContingencyStates(floatContingencyStates);
+            securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, openSecurityAnalysisParameters);
+            results.add(runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters));
+        }
+
+        // single precision contingency states only affect post-contingency flows, below the power tolerance
+        List<PostContingencyResult> postContingencyResults = results.get(0).getPostContingencyResults();
+        List<PostContingencyResult> floatPostContingencyResults = results.get(1).getPostContingencyResults();
+        assertEquals(contingencies.size(), floatPostContingencyResults.size());
+        for (int i = 0; i < postContingencyResults.size(); i++) {
+            PostContingencyResult postContingencyResult = postContingencyResults.get(i);
+            PostContingencyResult floatPostContingencyResult = floatPostContingencyResults.get(i);
+            assertEquals(postContingencyResult.getContingency().getId(), floatPostContingencyResult.getContingency().getId());
+            List<BranchResult> branchResults = postContingencyResult.getNetworkResult().getBranchResults();
+            assertEquals(branchResults.size(), floatPostContingencyResult.getNetworkResult().getBranchResults().size());
+            for (BranchResult branchResult : branchResults) {
+                BranchResult floatBranchResult = floatPostContingencyResult.getNetworkResult().getBranchResult(branchResult.getBranchId());
+                assertEquals(branchResult.getP1(), floatBranchResult.getP1(), DELTA_POWER);
+                assertEquals(branchResult.getP2(), floatBranchResult.getP2(), DELTA_POWER);
+            }
+        }
+    }
+
     @Test
     void testThreeWindingsTransformerContingency() {
         Network network = VoltageControlNetworkFactory.createNetworkWithT3wt();
@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.openloadflow.network.FourBusNetworkFactory;
+import com.powsybl.sensitivity.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class BinarySensitivityResultWriterTest extends AbstractSensitivityAnalysisTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testWriteAndRead() {
+        Path file = tempDir.resolve("sensi.bin");
+        try (BinarySensitivityResultWriter writer = new BinarySensitivityResultWriter(file, 2)) {
+            writer.writeSensitivityValue(0, -1, 1.5, 10);
+            writer.writeSensitivityValue(1, -1, 2.5, 20);
+            writer.writeSensitivityValue(0, 0, 3.5, 30);
+            writer.writeSensitivityValue(1, 0, 4.5, 40);
+            writer.writeSensitivityValue(0, 1, 5.5, 50);
+            writer.writeContingencyStatus(0, SensitivityAnalysisResult.Status.SUCCESS);
+            writer.writeContingencyStatus(1, SensitivityAnalysisResult.Status.NO_IMPACT);
+            assertEquals(5, writer.getValueCount());
+        }
+
+        try (BinarySensitivityResultReader reader = new BinarySensitivityResultReader(file)) {
+            assertEquals(5, reader.getValueCount());
+            assertEquals(1, reader.getFactorIndex(3));
+            assertEquals(0, reader.getContingencyIndex(3));
+            assertEquals(4.5, reader.getValue(3));
+            assertEquals(40, reader.getFunctionReference(3));
+            assertEquals(2.5, reader.findValue(1, -1).orElseThrow());
+            assertEquals(5.5, reader.findValue(0, 1).orElseThrow());
+            assertTrue(reader.findValue(1, 1).isEmpty());
+            assertEquals(4, reader.findPosition(0, 1));
+            assertEquals(SensitivityAnalysisResult.Status.NO_IMPACT, reader.getContingencyStatuses().get(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.getValue(5));
+        }
+    }
+
+    @Test
+    void testFileSizeAndClose() throws IOException {
+        Path file = tempDir.resolve("sensi.bin");
+        try (BinarySensitivityResultWriter writer = new BinarySensitivityResultWriter(file, 4)) {
+            for (int i = 0; i < 5; i++) {
+                writer.writeSensitivityValue(i, -1, i, 0);
+            }
+            writer.writeContingencyStatus(0, SensitivityAnalysisResult.Status.SUCCESS);
+        }
+        // values are followed by the status and the single run of the trailer
+        assertEquals(BinarySensitivityResultWriter.HEADER_SIZE + 5L * BinarySensitivityResultWriter.VALUE_SIZE + 3 * Integer.BYTES
+                     + Long.BYTES + BinarySensitivityResultWriter.RUN_SIZE,
+                     Files.size(file));
+
+        BinarySensitivityResultReader reader = new BinarySensitivityResultReader(file);
+        assertEquals(4, reader.getValue(4));
+        reader.close();
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> reader.getValue(4));
+        assertEquals("Reader is closed", e.getMessage());
+        Files.delete(file);
+    }
+
+    @Test
+    void testDuplicateValues() {
+        Path file = tempDir.resolve("sensi.bin");
+        try (BinarySensitivityResultWriter writer = new BinarySensitivityResultWriter(file)) {
+            writer.writeSensitivityValue(0, -1, 1, 0);
+            writer.writeSensitivityValue(3, 2, 1, 0);
+            writer.writeSensitivityValue(3, 2, 2, 0);
+        }
+        try (BinarySensitivityResultReader reader = new BinarySensitivityResultReader(file)) {
+            assertEquals(1, reader.findValue(0, -1).orElseThrow());
+            PowsyblException e = assertThrows(PowsyblException.class, () -> reader.findValue(3, 2));
+            assertEquals("Several values for factor 3 and contingency 2", e.getMessage());
+        }
+    }
+
+    @Test
+    void testValuesNotInFactorOrder() {
+        Path file = tempDir.resolve("sensi.bin");
+        try (BinarySensitivityResultWriter writer = new BinarySensitivityResultWriter(file, 1)) {
+            writer.writeSensitivityValue(2, 0, 2, 0);
+            writer.writeSensitivityValue(5, 0, 5, 0);
+            writer.writeSensitivityValue(0, -1, 0, 0);
+            writer.writeSensitivityValue(1, 0, 1, 0);
+            writer.writeSensitivityValue(3, 0, 3, 0);
+            writer.writeSensitivityValue(4, 1, 4, 0);
+        }
+        try (BinarySensitivityResultReader reader = new BinarySensitivityResultReader(file)) {
+            for (int factorIndex : new int[] {1, 2, 3, 5}) {
+                assertEquals(factorIndex, reader.findValue(factorIndex, 0).orElseThrow());
+            }
+            assertEquals(0, reader.findValue(0, -1).orElseThrow());
+            assertEquals(4, reader.findValue(4, 1).orElseThrow());
+            assertEquals(5, reader.findPosition(4, 1));
+            assertTrue(reader.findValue(0, 0).isEmpty());
+            assertTrue(reader.findValue(4, 0).isEmpty());
+            assertTrue(reader.findValue(6, 0).isEmpty());
+            assertTrue(reader.findValue(4, 2).isEmpty());
+        }
+    }
+
+    @Test
+    void testEmpty() {
+        Path file = tempDir.resolve("empty.bin");
+        new BinarySensitivityResultWriter(file).close();
+        try (BinarySensitivityResultReader reader = new BinarySensitivityResultReader(file)) {
+            assertEquals(0, reader.getValueCount());
+            assertTrue(reader.getContingencyStatuses().isEmpty());
+            assertTrue(reader.findValue(0, -1).isEmpty());
+        }
+    }
+
+    @Test
+    void testWithSensitivityAnalysis() {
+        Network network = FourBusNetworkFactory.create();
+        SensitivityAnalysisParameters sensiParameters = createParameters(true, "b1_vl_0", true);
+        List<Contingency> contingencies = List.of(new Contingency("l23", new BranchContingency("l23")));
+        List<SensitivityFactor> factors = createFactorMatrix(List.of(network.getGenerator("g2")),
+                                                             network.getBranchStream().collect(Collectors.toList()));
+
+        SensitivityResultModelWriter modelWriter = new SensitivityResultModelWriter(contingencies);
+        sensiProvider.run(network, VariantManagerConstants.INITIAL_VARIANT_ID, new SensitivityFactorModelReader(factors, network), modelWriter,
+                          contingencies, Collections.emptyList(), sensiParameters, LocalComputationManager.getDefault(), ReportNode.NO_OP)
+                .join();
+
+        Path file = tempDir.resolve("sensi.bin");
+        try (BinarySensitivityResultWriter binaryWriter = new BinarySensitivityResultWriter(file, 3)) {
+            sensiProvider.run(network, VariantManagerConstants.INITIAL_VARIANT_ID, new SensitivityFactorModelReader(factors, network), binaryWriter,
+                              contingencies, Collections.emptyList(), sensiParameters, LocalComputationManager.getDefault(), ReportNode.NO_OP)
+                    .join();
+        }
+
+        SensitivityResultModelWriter replayWriter = new SensitivityResultModelWriter(contingencies);
+        try (BinarySensitivityResultReader reader = new BinarySensitivityResultReader(file)) {
+            assertEquals(modelWriter.getValues().size(), reader.getValueCount());
+            reader.read(replayWriter);
+            for (SensitivityValue value : modelWriter.getValues()) {
+                assertEquals(value.getValue(), reader.findValue(value.getFactorIndex(), value.getContingencyIndex()).orElseThrow(), 0d);
+            }
+        }
+        assertEquals(modelWriter.getValues().size(), replayWriter.getValues().size());
+        for (int i = 0; i < modelWriter.getValues().size(); i++) {
+            SensitivityValue expected = modelWriter.getValues().get(i);
+            SensitivityValue actual = replayWriter.getValues().get(i);
+            assertEquals(expected.getFactorIndex(), actual.getFactorIndex());
+            assertEquals(expected.getContingencyIndex(), actual.getContingencyIndex());
+            assertEquals(expected.getValue(), actual.getValue(), 0d);
+            assertEquals(expected.getFunctionReference(), actual.getFunctionReference(), 0d);
+        }
+        assertEquals(modelWriter.getContingencyStatuses().size(), replayWriter.getContingencyStatuses().size());
+    }
+}
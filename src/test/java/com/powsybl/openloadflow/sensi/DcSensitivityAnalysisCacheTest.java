@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.openloadflow.graph.EvenShiloachGraphDecrementalConnectivityFactory;
+import com.powsybl.openloadflow.network.FourBusNetworkFactory;
+import com.powsybl.sensitivity.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class DcSensitivityAnalysisCacheTest extends AbstractSensitivityAnalysisTest {
+
+    private Network network;
+
+    private List<Contingency> contingencies;
+
+    private List<SensitivityFactor> factors;
+
+    @BeforeEach
+    void setUpNetwork() {
+        DcSensitivityAnalysisCache.INSTANCE.clear();
+        network = FourBusNetworkFactory.create();
+        contingencies = List.of(new Contingency("l23", new BranchContingency("l23")),
+                                new Contingency("l14", new BranchContingency("l14")));
+        factors = List.of(createBranchFlowPerInjectionIncrease("l12", "g2"),
+                          createBranchFlowPerInjectionIncrease("l34", "g4"),
+                          createBranchFlowPerLinearGlsk("l13", "glsk"));
+    }
+
+    @AfterEach
+    void tearDownCache() {
+        DcSensitivityAnalysisCache.INSTANCE.clear();
+    }
+
+    private static List<SensitivityVariableSet> createVariableSets(float g1Weight) {
+        return List.of(new SensitivityVariableSet("glsk",
+                List.of(new WeightedSensitivityVariable("g1", g1Weight),
+                        new WeightedSensitivityVariable("g4", 1f))));
+    }
+
+    private SensitivityAnalysisResult run(List<SensitivityVariableSet> variableSets, boolean cacheEnabled) {
+        return run(variableSets, cacheEnabled, false);
+    }
+
+    private SensitivityAnalysisResult run(List<SensitivityVariableSet> variableSets, boolean cacheEnabled, boolean floatContingencyStates) {
+        SensitivityAnalysisParameters sensiParameters = createParameters(true, "b1_vl_0", true);
+        sensiParameters.addExtension(OpenSensitivityAnalysisParameters.class, new OpenSensitivityAnalysisParameters()
+                .setCacheEnabled(cacheEnabled)
+                .setFloatContingencyStatesEnabled(floatContingencyStates));
+        return sensiRunner.run(network, network.getVariantManager().getWorkingVariantId(), factors, contingencies, variableSets, sensiParameters);
+    }
+
+    private DcSensitivityAnalysisCache.Entry acquire(boolean floatContingencyStates) {
+        return DcSensitivityAnalysisCache.INSTANCE.acquire(network, createParameters(true, "b1_vl_0", true).getLoadFlowParameters(),
+                                                           new OpenSensitivityAnalysisParameters().setFloatContingencyStatesEnabled(floatContingencyStates),
+                                                           matrixFactory, new EvenShiloachGraphDecrementalConnectivityFactory<>())
+                .orElseThrow();
+    }
+
+    private static void assertSameValues(SensitivityAnalysisResult expected, SensitivityAnalysisResult actual) {
+        assertEquals(expected.getValues().size(), actual.getValues().size());
+        for (int i = 0; i < expected.getValues().size(); i++) {
+            SensitivityValue expectedValue = expected.getValues().get(i);
+            SensitivityValue actualValue = actual.getValues().get(i);
+            assertEquals(expectedValue.getFactorIndex(), actualValue.getFactorIndex());
+            assertEquals(expectedValue.getContingencyIndex(), actualValue.getContingencyIndex());
+            assertEquals(expectedValue.getValue(), actualValue.getValue(), 1e-12);
+            assertEquals(expectedValue.getFunctionReference(), actualValue.getFunctionReference(), 1e-9);
+        }
+    }
+
+    @Test
+    void testReuse() {
+        List<SensitivityVariableSet> variableSets = createVariableSets(1f);
+        SensitivityAnalysisResult expected = run(variableSets, false);
+        assertEquals(0, DcSensitivityAnalysisCache.INSTANCE.getEntryCount());
+
+        SensitivityAnalysisResult result1 = run(variableSets, true);
+        assertEquals(1, DcSensitivityAnalysisCache.INSTANCE.getEntryCount());
+        DcSensitivityAnalysisCache.Entry entry = acquire(false);
+        try {
+            assertNotNull(entry.getLoadFlowContext());
+            assertNotNull(entry.getBaseFlowStates());
+            assertEquals(3, entry.getFactorStatesCache().size());
+            assertEquals(2, entry.getContingencyStatesCache().size());
+        } finally {
+            DcSensitivityAnalysisCache.INSTANCE.release(entry);
+        }
+
+        SensitivityAnalysisResult result2 = run(variableSets, true);
+        assertEquals(1, DcSensitivityAnalysisCache.INSTANCE.getEntryCount());
+        assertSameValues(expected, result1);
+        assertSameValues(expected, result2);
+
+        // same variable set id but other weights, the cached state of the variable set must not be reused
+        List<SensitivityVariableSet> otherVariableSets = createVariableSets(3f);
+        assertSameValues(run(otherVariableSets, false), run(otherVariableSets, true));
+    }
+
+    @Test
+    void testSensitivityParametersChange() {
+        List<SensitivityVariableSet> variableSets = createVariableSets(1f);
+        run(variableSets, true);
+        assertEquals(1, DcSensitivityAnalysisCache.INSTANCE.getEntryCount());
+
+        // contingency states are not stored the same way, the entry is replaced by a new one
+        DcSensitivityAnalysisCache.Entry entry = acquire(true);
+        try {
+            assertNull(entry.getLoadFlowContext());
+            assertEquals(0, entry.getContingencyStatesCache().size());
+        } finally {
+            DcSensitivityAnalysisCache.INSTANCE.release(entry);
+        }
+        assertEquals(1, DcSensitivityAnalysisCache.INSTANCE.getEntryCount());
+
+        SensitivityAnalysisResult result = run(variableSets, true, true);
+        assertEquals(1, DcSensitivityAnalysisCache.INSTANCE.getEntryCount());
+        assertSameValues(run(variableSets, false, true), result);
+    }
+
+    @Test
+    void testInvalidation() {
+        List<SensitivityVariableSet> variableSets = createVariableSets(1f);
+        run(variableSets, true);
+        assertEquals(1, DcSensitivityAnalysisCache.INSTANCE.getEntryCount());
+
+        // state variables update does not invalidate the cache
+        network.getLine("l12").getTerminal1().setP(10);
+        assertEquals(1, DcSensitivityAnalysisCache.INSTANCE.getEntryCount());
+
+        // any other update invalidates the cache
+        network.getGenerator("g2").setTargetP(3);
+        assertEquals(0, DcSensitivityAnalysisCache.INSTANCE.getEntryCount());
+        SensitivityAnalysisResult result = run(variableSets, true);
+        assertSameValues(run(variableSets, false), result);
+
+        // other variant is cached in another entry
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network.getVariantManager().setWorkingVariant("v");
+        run(variableSets, true);
+        assertEquals(2, DcSensitivityAnalysisCache.INSTANCE.getEntryCount());
+        network.getVariantManager().removeVariant("v");
+        assertEquals(1, DcSensitivityAnalysisCache.INSTANCE.getEntryCount());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        int maxEntryCount = DcSensitivityAnalysisCache.INSTANCE.getMaxEntryCount();
+        try {
+            DcSensitivityAnalysisCache.INSTANCE.setMaxEntryCount(1);
+            List<SensitivityVariableSet> variableSets = createVariableSets(1f);
+            run(variableSets, true);
+            Network otherNetwork = network;
+            network = FourBusNetworkFactory.create();
+            run(variableSets, true);
+            assertEquals(1, DcSensitivityAnalysisCache.INSTANCE.getEntryCount());
+            assertNotSame(otherNetwork, network);
+            assertThrows(IllegalArgumentException.class, () -> DcSensitivityAnalysisCache.INSTANCE.setMaxEntryCount(0));
+        } finally {
+            DcSensitivityAnalysisCache.INSTANCE.setMaxEntryCount(maxEntryCount);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openloadflow.dc.equations.DcEquationType;
+import com.powsybl.openloadflow.dc.equations.DcVariableType;
+import com.powsybl.openloadflow.network.FourBusNetworkFactory;
+import com.powsybl.openloadflow.network.LfBus;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.LfNetworkParameters;
+import com.powsybl.openloadflow.network.VoltageControlNetworkFactory;
+import com.powsybl.openloadflow.network.impl.LfLegBranch;
+import com.powsybl.openloadflow.network.impl.LfNetworkLoaderImpl;
+import com.powsybl.openloadflow.sensi.AbstractSensitivityAnalysis.LfSensitivityFactor;
+import com.powsybl.openloadflow.sensi.AbstractSensitivityAnalysis.SingleVariableLfSensitivityFactor;
+import com.powsybl.sensitivity.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class DcSensitivityAnalysisCompactFactorsTest extends AbstractSensitivityAnalysisTest {
+
+    private SensitivityAnalysisResult run(Network network, List<SensitivityFactor> factors, List<Contingency> contingencies,
+                                          List<SensitivityVariableSet> variableSets, boolean compactFactorStorageEnabled) {
+        SensitivityAnalysisParameters sensiParameters = createParameters(true, "b1_vl_0", true);
+        sensiParameters.addExtension(OpenSensitivityAnalysisParameters.class, new OpenSensitivityAnalysisParameters()
+                .setCompactFactorStorageEnabled(compactFactorStorageEnabled));
+        return sensiRunner.run(network, factors, contingencies, variableSets, sensiParameters);
+    }
+
+    private static List<SensitivityValue> sortValues(SensitivityAnalysisResult result) {
+        return result.getValues().stream()
+                .sorted(Comparator.comparingInt(SensitivityValue::getContingencyIndex).thenComparingInt(SensitivityValue::getFactorIndex))
+                .toList();
+    }
+
+    @Test
+    void testSameResultsAsFullFactors() {
+        Network network = FourBusNetworkFactory.create();
+        List<Contingency> contingencies = List.of(new Contingency("l23", new BranchContingency("l23")),
+                                                  new Contingency("l14", new BranchContingency("l14")),
+                                                  new Contingency("l12", new BranchContingency("l12")));
+        List<SensitivityVariableSet> variableSets = List.of(new SensitivityVariableSet("glsk",
+                List.of(new WeightedSensitivityVariable("g1", 2f),
+                        new WeightedSensitivityVariable("g4", 1f))));
+
+        // factors for all contingencies, for pre-contingency only and for specific contingencies
+        List<SensitivityFactor> factors = new ArrayList<>(createFactorMatrix(network.getGeneratorStream().collect(Collectors.toList()),
+                                                                             network.getBranchStream().collect(Collectors.toList())));
+        factors.add(createBranchFlowPerLinearGlsk("l34", "glsk", ContingencyContext.none()));
+        factors.add(createBranchFlowPerLinearGlsk("l13", "glsk", ContingencyContext.all()));
+        factors.add(createBranchFlowPerInjectionIncrease("l34", "g2", "l14"));
+        factors.add(createBranchFlowPerInjectionIncrease("l13", "d3", "l23"));
+
+        SensitivityAnalysisResult expected = run(network, factors, contingencies, variableSets, false);
+        SensitivityAnalysisResult actual = run(network, factors, contingencies, variableSets, true);
+
+        List<SensitivityValue> expectedValues = sortValues(expected);
+        List<SensitivityValue> actualValues = sortValues(actual);
+        assertEquals(expectedValues.size(), actualValues.size());
+        for (int i = 0; i < expectedValues.size(); i++) {
+            SensitivityValue expectedValue = expectedValues.get(i);
+            SensitivityValue actualValue = actualValues.get(i);
+            assertEquals(expectedValue.getFactorIndex(), actualValue.getFactorIndex());
+            assertEquals(expectedValue.getContingencyIndex(), actualValue.getContingencyIndex());
+            assertEquals(expectedValue.getValue(), actualValue.getValue(), 0d);
+            assertEquals(expectedValue.getFunctionReference(), actualValue.getFunctionReference(), 0d);
+        }
+        assertEquals(expected.getContingencyStatuses().size(), actual.getContingencyStatuses().size());
+    }
+
+    @Test
+    void testThreeWindingsTransformerLegFactors() {
+        Network network = VoltageControlNetworkFactory.createNetworkWithT3wt();
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), new LfNetworkParameters()).get(0);
+        LfBus bus = lfNetwork.getBus(0);
+        CompactSensitivityFactorHolder<DcVariableType, DcEquationType> holder = new CompactSensitivityFactorHolder<>(lfNetwork);
+        List<SensitivityFunctionType> functionTypes = List.of(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1,
+                                                              SensitivityFunctionType.BRANCH_ACTIVE_POWER_2,
+                                                              SensitivityFunctionType.BRANCH_ACTIVE_POWER_3);
+        for (int leg = 1; leg <= 3; leg++) {
+            holder.addFactor(new SingleVariableLfSensitivityFactor<>(leg - 1, "LOAD_3", "T3wT", lfNetwork.getBranchById(LfLegBranch.getId("T3wT", leg)),
+                                                                     functionTypes.get(leg - 1), bus, SensitivityVariableType.INJECTION_ACTIVE_POWER,
+                                                                     ContingencyContext.all()));
+        }
+
+        List<LfSensitivityFactor<DcVariableType, DcEquationType>> factors = holder.getAllFactors();
+        assertEquals(3, factors.size());
+        for (int leg = 1; leg <= 3; leg++) {
+            LfSensitivityFactor<DcVariableType, DcEquationType> factor = factors.get(leg - 1);
+            // same function id and side as the factor read from the IIDM network
+            assertEquals("T3wT", factor.getFunctionId());
+            assertEquals(functionTypes.get(leg - 1), factor.getFunctionType());
+            assertEquals(LfLegBranch.getId("T3wT", leg), factor.getFunctionElement().getId());
+            // factors are kept by the list, so that their state is not lost
+            factor.setStatus(LfSensitivityFactor.Status.VALID_ONLY_FOR_FUNCTION);
+            assertSame(factor, factors.get(leg - 1));
+            assertEquals(LfSensitivityFactor.Status.VALID_ONLY_FOR_FUNCTION, factors.get(leg - 1).getStatus());
+        }
+    }
+
+    @Test
+    void testUnsupportedFactor() {
+        Network network = FourBusNetworkFactory.create();
+        List<SensitivityFactor> factors = List.of(createBranchIntensityPerInjectionIncrease("l12", "g2"));
+        List<Contingency> contingencies = List.of();
+        List<SensitivityVariableSet> variableSets = List.of();
+        CompletionException e = assertThrows(CompletionException.class, () -> run(network, factors, contingencies, variableSets, true));
+        assertTrue(e.getCause().getMessage().startsWith("Only variables of type TRANSFORMER_PHASE"));
+    }
+}
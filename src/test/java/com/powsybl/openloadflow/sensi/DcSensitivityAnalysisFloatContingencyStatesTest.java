@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.sensitivity.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class DcSensitivityAnalysisFloatContingencyStatesTest extends AbstractSensitivityAnalysisTest {
+
+    private static final double SENSITIVITY_VALUE_ERROR = 1e-5;
+
+    private static final double FUNCTION_REFERENCE_ERROR = 1e-2;
+
+    private SensitivityAnalysisResult run(Network network, List<SensitivityFactor> factors, List<Contingency> contingencies,
+                                          boolean floatContingencyStatesEnabled) {
+        SensitivityAnalysisParameters sensiParameters = createParameters(true, "VL1_0", true);
+        sensiParameters.addExtension(OpenSensitivityAnalysisParameters.class, new OpenSensitivityAnalysisParameters()
+                .setFloatContingencyStatesEnabled(floatContingencyStatesEnabled));
+        return sensiRunner.run(network, factors, contingencies, List.of(), sensiParameters);
+    }
+
+    private static List<SensitivityValue> sortValues(SensitivityAnalysisResult result) {
+        return result.getValues().stream()
+                .sorted(Comparator.comparingInt(SensitivityValue::getContingencyIndex).thenComparingInt(SensitivityValue::getFactorIndex))
+                .toList();
+    }
+
+    @Test
+    void testErrorBound() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        // all N-1, including the L7-8-1 bridge, and N-2 with or without connectivity break
+        List<Contingency> contingencies = new ArrayList<>(network.getBranchStream()
+                .map(branch -> new Contingency(branch.getId(), new BranchContingency(branch.getId())))
+                .toList());
+        contingencies.add(new Contingency("L2-3-1+L2-4-1", new BranchContingency("L2-3-1"), new BranchContingency("L2-4-1")));
+        contingencies.add(new Contingency("L6-13-1+L12-13-1", new BranchContingency("L6-13-1"), new BranchContingency("L12-13-1")));
+        contingencies.add(new Contingency("T4-9-1+T5-6-1", new BranchContingency("T4-9-1"), new BranchContingency("T5-6-1")));
+        List<SensitivityFactor> factors = createFactorMatrix(network.getGeneratorStream().collect(Collectors.toList()),
+                                                             network.getBranchStream().collect(Collectors.toList()));
+
+        List<SensitivityValue> expectedValues = sortValues(run(network, factors, contingencies, false));
+        List<SensitivityValue> actualValues = sortValues(run(network, factors, contingencies, true));
+        assertEquals(expectedValues.size(), actualValues.size());
+        for (int i = 0; i < expectedValues.size(); i++) {
+            SensitivityValue expectedValue = expectedValues.get(i);
+            SensitivityValue actualValue = actualValues.get(i);
+            assertEquals(expectedValue.getFactorIndex(), actualValue.getFactorIndex());
+            assertEquals(expectedValue.getContingencyIndex(), actualValue.getContingencyIndex());
+            assertEquals(expectedValue.getValue(), actualValue.getValue(), SENSITIVITY_VALUE_ERROR);
+            assertEquals(expectedValue.getFunctionReference(), actualValue.getFunctionReference(), FUNCTION_REFERENCE_ERROR);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.openloadflow.network.FourBusNetworkFactory;
+import com.powsybl.sensitivity.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class DcSensitivityAnalysisPruningTest extends AbstractSensitivityAnalysisTest {
+
+    private SensitivityAnalysisResult run(Network network, List<SensitivityFactor> factors, List<Contingency> contingencies,
+                                          double flowFlowThreshold, boolean thresholdPruningEnabled) {
+        return run(network, factors, contingencies, flowFlowThreshold, thresholdPruningEnabled, ReportNode.NO_OP);
+    }
+
+    private SensitivityAnalysisResult run(Network network, List<SensitivityFactor> factors, List<Contingency> contingencies,
+                                          double flowFlowThreshold, boolean thresholdPruningEnabled, ReportNode reportNode) {
+        SensitivityAnalysisParameters sensiParameters = createParameters(true, "b1_vl_0", true);
+        sensiParameters.setFlowFlowSensitivityValueThreshold(flowFlowThreshold);
+        sensiParameters.addExtension(OpenSensitivityAnalysisParameters.class, new OpenSensitivityAnalysisParameters()
+                .setThresholdPruningEnabled(thresholdPruningEnabled));
+        return sensiRunner.run(network, VariantManagerConstants.INITIAL_VARIANT_ID, factors, contingencies, Collections.emptyList(),
+                               sensiParameters, LocalComputationManager.getDefault(), reportNode);
+    }
+
+    private static Optional<ReportNode> findReportNode(ReportNode reportNode, String messageKey) {
+        if (messageKey.equals(reportNode.getMessageKey())) {
+            return Optional.of(reportNode);
+        }
+        return reportNode.getChildren().stream()
+                .map(child -> findReportNode(child, messageKey))
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    private static long countPostContingencyValues(SensitivityAnalysisResult result) {
+        return result.getValues().stream().filter(value -> value.getContingencyIndex() != -1).count();
+    }
+
+    private static void assertSameValues(SensitivityAnalysisResult expected, SensitivityAnalysisResult actual) {
+        assertEquals(expected.getValues().size(), actual.getValues().size());
+        for (int i = 0; i < expected.getValues().size(); i++) {
+            SensitivityValue expectedValue = expected.getValues().get(i);
+            SensitivityValue actualValue = actual.getValues().get(i);
+            assertEquals(expectedValue.getFactorIndex(), actualValue.getFactorIndex());
+            assertEquals(expectedValue.getContingencyIndex(), actualValue.getContingencyIndex());
+            assertEquals(expectedValue.getValue(), actualValue.getValue(), 0d);
+            assertEquals(expectedValue.getFunctionReference(), actualValue.getFunctionReference(), 0d);
+        }
+        assertEquals(expected.getContingencyStatuses().size(), actual.getContingencyStatuses().size());
+    }
+
+    @Test
+    void testSameResultsAsWithoutPruning() {
+        Network network = FourBusNetworkFactory.create();
+        List<Contingency> contingencies = network.getBranchStream()
+                .map(branch -> new Contingency(branch.getId(), new BranchContingency(branch.getId())))
+                .collect(Collectors.toList());
+        List<SensitivityFactor> factors = createFactorMatrix(network.getGeneratorStream().collect(Collectors.toList()),
+                                                             network.getBranchStream().collect(Collectors.toList()));
+
+        SensitivityAnalysisResult allValues = run(network, factors, contingencies, 0, false);
+        for (double threshold : new double[] {0.1, 0.3, 0.5, 1}) {
+            SensitivityAnalysisResult expected = run(network, factors, contingencies, threshold, false);
+            ReportNode reportNode = ReportNode.newRootReportNode()
+                    .withMessageTemplate("testPruning", "Test pruning")
+                    .build();
+            SensitivityAnalysisResult actual = run(network, factors, contingencies, threshold, true, reportNode);
+            assertSameValues(expected, actual);
+            // some values have actually been filtered out
+            assertTrue(actual.getValues().size() < allValues.getValues().size());
+
+            // pruned values are part of the post-contingency values filtered out by the threshold
+            int prunedValueCount = ((Number) findReportNode(reportNode, "sensitivityValuesPruned").orElseThrow()
+                    .getValue("prunedValueCount").orElseThrow().getValue()).intValue();
+            assertTrue(prunedValueCount > 0);
+            assertTrue(prunedValueCount <= countPostContingencyValues(allValues) - countPostContingencyValues(actual));
+        }
+    }
+
+    @Test
+    void testNoThreshold() {
+        Network network = FourBusNetworkFactory.create();
+        List<Contingency> contingencies = List.of(new Contingency("l23", new BranchContingency("l23")));
+        List<SensitivityFactor> factors = createFactorMatrix(network.getGeneratorStream().collect(Collectors.toList()),
+                                                             network.getBranchStream().collect(Collectors.toList()));
+        ReportNode reportNode = ReportNode.newRootReportNode()
+                .withMessageTemplate("testPruning", "Test pruning")
+                .build();
+        assertSameValues(run(network, factors, contingencies, 0, false), run(network, factors, contingencies, 0, true, reportNode));
+        // pruning is disabled without threshold
+        assertTrue(findReportNode(reportNode, "sensitivityValuesPruned").isEmpty());
+    }
+}
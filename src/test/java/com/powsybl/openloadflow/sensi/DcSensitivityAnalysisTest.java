@@ -12,6 +12,7 @@ import com.powsybl.contingency.BranchContingency;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.contingency.ContingencyContext;
 import com.powsybl.contingency.DanglingLineContingency;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import com.powsybl.iidm.network.test.PhaseShifterTestCaseFactory;
@@ -1149,4 +1150,32 @@ class DcSensitivityAnalysisTest extends AbstractSensitivityAnalysisTest {
         assertEquals(5.245, result.getBranchFlow1SensitivityValue("PS1", "L1", SensitivityVariableType.TRANSFORMER_PHASE_2), LoadFlowAssert.DELTA_POWER);
         //Sensitivity value at phase 3 is filtered because it is 0
     }
+
+    @Test
+    void testFactorStatesOnRequiredRowsOnly() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        SensitivityAnalysisParameters sensiParameters = createParameters(true, "VL1_0", true);
+        List<Contingency> contingencies = List.of(new Contingency("L2-3-1", new BranchContingency("L2-3-1")),
+                                                  new Contingency("L4-5-1", new BranchContingency("L4-5-1")));
+        List<Load> loads = network.getLoadStream().collect(Collectors.toList());
+
+        // a single monitored branch and 2 contingencies: fewer state rows are read than there are load factor groups,
+        // so factor states are only computed on these rows
+        List<SensitivityFactor> factors = createFactorMatrix(loads, List.of(network.getBranch("L1-2-1")));
+        SensitivityAnalysisResult result = sensiRunner.run(network, factors, contingencies, Collections.emptyList(), sensiParameters);
+
+        // all the branches are monitored: all the state rows are read, so they are fully computed
+        List<SensitivityFactor> allFactors = createFactorMatrix(loads, network.getBranchStream().collect(Collectors.toList()));
+        SensitivityAnalysisResult expected = sensiRunner.run(network, allFactors, contingencies, Collections.emptyList(), sensiParameters);
+
+        assertEquals(loads.size() * (1 + contingencies.size()), result.getValues().size());
+        for (SensitivityValue value : result.getValues()) {
+            SensitivityFactor factor = factors.get(value.getFactorIndex());
+            String contingencyId = value.getContingencyIndex() != -1 ? contingencies.get(value.getContingencyIndex()).getId() : null;
+            assertEquals(expected.getSensitivityValue(contingencyId, factor.getVariableId(), factor.getFunctionId(), factor.getFunctionType(), factor.getVariableType()),
+                         value.getValue(), 1e-12);
+            assertEquals(expected.getFunctionReferenceValue(contingencyId, factor.getFunctionId(), factor.getFunctionType()),
+                         value.getFunctionReference(), 1e-12);
+        }
+    }
 }
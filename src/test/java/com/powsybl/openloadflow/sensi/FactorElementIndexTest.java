@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openloadflow.network.FourBusNetworkFactory;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.LfNetworkParameters;
+import com.powsybl.openloadflow.network.VoltageControlNetworkFactory;
+import com.powsybl.openloadflow.network.impl.LfLegBranch;
+import com.powsybl.openloadflow.network.impl.Networks;
+import com.powsybl.sensitivity.SensitivityFunctionType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class FactorElementIndexTest {
+
+    @Test
+    void testBranchesAndInjections() {
+        Network network = FourBusNetworkFactory.create();
+        LfNetwork lfNetwork = Networks.load(network, new LfNetworkParameters()).get(0);
+        AbstractSensitivityAnalysis.FactorElementIndex index = new AbstractSensitivityAnalysis.FactorElementIndex(network, lfNetwork, false);
+
+        assertSame(lfNetwork.getBranchById("l12"), index.getConnectedBranchOrLeg("l12", SensitivityFunctionType.BRANCH_ACTIVE_POWER_1));
+        assertSame(lfNetwork.getBranchById("l12"), index.getConnectedBranchOrLeg("l12", SensitivityFunctionType.BRANCH_ACTIVE_POWER_2));
+        assertSame(lfNetwork.getBusById("b2_vl_0"), index.getInjectionLfBus("g2"));
+
+        // disconnected branch is not a valid function
+        network.getLine("l12").getTerminal1().disconnect();
+        LfNetwork lfNetwork2 = Networks.load(network, new LfNetworkParameters()).get(0);
+        AbstractSensitivityAnalysis.FactorElementIndex index2 = new AbstractSensitivityAnalysis.FactorElementIndex(network, lfNetwork2, false);
+        assertNull(index2.getConnectedBranchOrLeg("l12", SensitivityFunctionType.BRANCH_ACTIVE_POWER_1));
+
+        PowsyblException e = assertThrows(PowsyblException.class, () -> index2.getConnectedBranchOrLeg("unknown", SensitivityFunctionType.BRANCH_ACTIVE_POWER_1));
+        assertEquals("Branch, tie line, dangling line or leg of 'unknown' not found", e.getMessage());
+        e = assertThrows(PowsyblException.class, () -> index2.checkBus("unknown"));
+        assertEquals("Bus 'unknown' not found", e.getMessage());
+        assertDoesNotThrow(() -> index2.checkBus("b1_vl_0"));
+    }
+
+    @Test
+    void testThreeWindingsTransformerLegs() {
+        Network network = VoltageControlNetworkFactory.createNetworkWithT3wt();
+        LfNetwork lfNetwork = Networks.load(network, new LfNetworkParameters()).get(0);
+        AbstractSensitivityAnalysis.FactorElementIndex index = new AbstractSensitivityAnalysis.FactorElementIndex(network, lfNetwork, false);
+        assertSame(lfNetwork.getBranchById(LfLegBranch.getId("T3wT", 1)), index.getConnectedBranchOrLeg("T3wT", SensitivityFunctionType.BRANCH_ACTIVE_POWER_1));
+        assertSame(lfNetwork.getBranchById(LfLegBranch.getId("T3wT", 2)), index.getConnectedBranchOrLeg("T3wT", SensitivityFunctionType.BRANCH_ACTIVE_POWER_2));
+        assertSame(lfNetwork.getBranchById(LfLegBranch.getId("T3wT", 3)), index.getConnectedBranchOrLeg("T3wT", SensitivityFunctionType.BRANCH_ACTIVE_POWER_3));
+    }
+}
@@ -35,6 +35,10 @@ class OpenSensitivityAnalysisParametersTest {
 
         MapModuleConfig lfModuleConfig = platformConfig.createModuleConfig("open-sensitivityanalysis-default-parameters");
         lfModuleConfig.setStringProperty("debugDir", "/debugDir");
+        lfModuleConfig.setStringProperty("cacheEnabled", "true");
+        lfModuleConfig.setStringProperty("thresholdPruningEnabled", "true");
+        lfModuleConfig.setStringProperty("compactFactorStorageEnabled", "true");
+        lfModuleConfig.setStringProperty("floatContingencyStatesEnabled", "true");
     }
 
     @AfterEach
@@ -46,5 +50,9 @@ class OpenSensitivityAnalysisParametersTest {
     void test() {
         OpenSensitivityAnalysisParameters parameters = OpenSensitivityAnalysisParameters.load(platformConfig);
         Assertions.assertEquals("/debugDir", parameters.getDebugDir());
+        Assertions.assertTrue(parameters.isCacheEnabled());
+        Assertions.assertTrue(parameters.isThresholdPruningEnabled());
+        Assertions.assertTrue(parameters.isCompactFactorStorageEnabled());
+        Assertions.assertTrue(parameters.isFloatContingencyStatesEnabled());
     }
 }
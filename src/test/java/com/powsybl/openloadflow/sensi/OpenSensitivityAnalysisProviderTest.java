@@ -17,7 +17,9 @@ import java.util.Collections;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -35,7 +37,7 @@ class OpenSensitivityAnalysisProviderTest extends AbstractSensitivityAnalysisTes
     @Test
     void specificParametersTest() {
         var provider = new OpenSensitivityAnalysisProvider();
-        assertEquals(1, provider.getSpecificParametersNames().size());
+        assertEquals(5, provider.getSpecificParametersNames().size());
         SensitivityAnalysisParameters parameters = new SensitivityAnalysisParameters();
 
         provider.loadSpecificParameters(Collections.emptyMap())
@@ -45,5 +47,10 @@ class OpenSensitivityAnalysisProviderTest extends AbstractSensitivityAnalysisTes
         provider.loadSpecificParameters(Map.of(OpenSensitivityAnalysisParameters.DEBUG_DIR_PARAM_NAME, ""))
                 .ifPresent(parametersExt -> parameters.addExtension((Class) parametersExt.getClass(), parametersExt));
         assertEquals("", parameters.getExtension(OpenSensitivityAnalysisParameters.class).getDebugDir());
+        assertFalse(parameters.getExtension(OpenSensitivityAnalysisParameters.class).isCacheEnabled());
+
+        provider.loadSpecificParameters(Map.of(OpenSensitivityAnalysisParameters.CACHE_ENABLED_PARAM_NAME, "true"))
+                .ifPresent(parametersExt -> parameters.addExtension((Class) parametersExt.getClass(), parametersExt));
+        assertTrue(parameters.getExtension(OpenSensitivityAnalysisParameters.class).isCacheEnabled());
     }
 }
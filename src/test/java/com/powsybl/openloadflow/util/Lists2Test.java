@@ -42,4 +42,19 @@ class Lists2Test {
         var e = assertThrows(IllegalArgumentException.class, () -> Lists2.partition(ls2, 0));
         assertEquals("Partition count should be > 0", e.getMessage());
     }
+
+    @Test
+    void testParallelMap() {
+        List<String> list = createList(20);
+        List<Integer> expected = list.stream().map(String::length).toList();
+        assertEquals(expected, Lists2.parallelMap(list, String::length, 1));
+        assertEquals(expected, Lists2.parallelMap(list, String::length, 4));
+        assertEquals(List.of(), Lists2.parallelMap(List.<String>of(), String::length, 4));
+        var e = assertThrows(IllegalStateException.class, () -> Lists2.parallelMap(list, s -> {
+            throw new IllegalStateException(s);
+        }, 4));
+        assertEquals("s0", e.getMessage());
+        var e2 = assertThrows(IllegalArgumentException.class, () -> Lists2.parallelMap(list, String::length, 0));
+        assertEquals("Thread count should be > 0", e2.getMessage());
+    }
 }